@@ -5,17 +5,64 @@ import com.yotilla.poker.card.CardSuit;
 import com.yotilla.poker.card.CardValue;
 import com.yotilla.poker.error.PokerParseException;
 
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
 
 /**
  * Description: Parses string input into Card objects.
  * <br>
+ * Card codes are looked up character by character in two tables of all ASCII characters, one for the values and one
+ * for the suits, so parsing creates no intermediate strings. Besides lists of canonical {@link Card}s, cards can be
+ * parsed into their indices straight from a CharSequence or a range of ASCII bytes, creating nothing at all.
+ * <br>
  * Date: 22.03.2026
  *
  * @author Manuel
  */
 public class CardParser {
+    private static final int ASCII_RANGE = 128;
+    private static final char SEPARATOR = ' ';
+
+    // value and suit ordinals by code character, -1 for characters that are no code
+    private static final byte[] VALUES = new byte[ASCII_RANGE];
+    private static final byte[] SUITS = new byte[ASCII_RANGE];
+
+    static {
+        Arrays.fill(VALUES, (byte) -1);
+        Arrays.fill(SUITS, (byte) -1);
+
+        for (CardValue value : CardValue.values()) {
+            register(VALUES, value.getCode(), value.ordinal());
+        }
+
+        for (CardSuit suit : CardSuit.values()) {
+            register(SUITS, suit.getCode(), suit.ordinal());
+        }
+    }
+
+    private static void register(final byte[] table, final String code, final int ordinal) {
+        // case-insensitive, like the code lookups of the enums
+        table[Character.toUpperCase(code.charAt(0))] = (byte) ordinal;
+        table[Character.toLowerCase(code.charAt(0))] = (byte) ordinal;
+    }
+
+    /**
+     * @param value character of the card value, e.g. 'A'
+     * @param suit  character of the card suit, e.g. 'S'
+     * @return index of the card, see {@link Card#index()}, or -1 if the characters name no card
+     */
+    public static int cardIndex(final char value, final char suit) {
+        if (value >= ASCII_RANGE || suit >= ASCII_RANGE) {
+            return -1;
+        }
+
+        int valueOrdinal = VALUES[value];
+        int suitOrdinal = SUITS[suit];
+        return valueOrdinal < 0 || suitOrdinal < 0 ? -1 : suitOrdinal * Card.SUIT_SIZE + valueOrdinal;
+    }
 
     /**
      * @param input space-separated card codes, e.g. "2D 9C AS"
@@ -27,15 +74,46 @@ public class CardParser {
             throw new PokerParseException("Could not parse poker hand: empty input.");
         }
 
-        List<Card> cards = new ArrayList<>();
+        int[] indices = new int[(input.length() + 1) / 3 + 1];
+        int amount = parse(input, null, 0, input.length(), indices);
+        List<Card> cards = new ArrayList<>(amount);
 
-        for (String cardString : input.split(" ")) {
-            cards.add(parseCard(cardString));
+        for (int i = 0; i < amount; i++) {
+            cards.add(Card.ofIndex(indices[i]));
         }
 
         return cards;
     }
 
+    /**
+     * Parse card codes into card indices, without creating any objects.
+     *
+     * @param input   space-separated card codes, e.g. "2D 9C AS"
+     * @param indices receives the index of each card, see {@link Card#index()}, in the order given
+     * @return amount of cards parsed
+     * @throws PokerParseException if input is empty, contains unrecognized card codes, or more cards than fit
+     */
+    public int parseCards(final CharSequence input, final int[] indices) throws PokerParseException {
+        Objects.requireNonNull(input, "Input must not be null.");
+        return parse(input, null, 0, input.length(), indices);
+    }
+
+    /**
+     * Parse card codes from a range of ASCII bytes into card indices, without creating any objects.
+     *
+     * @param input   bytes holding space-separated card codes, e.g. a line read from a file
+     * @param from    first byte of the range
+     * @param to      end of the range, exclusive
+     * @param indices receives the index of each card, see {@link Card#index()}, in the order given
+     * @return amount of cards parsed
+     * @throws PokerParseException if the range is empty, contains unrecognized card codes, or more cards than fit
+     */
+    public int parseCards(final byte[] input, final int from, final int to, final int[] indices)
+            throws PokerParseException {
+        Objects.checkFromToIndex(from, to, input.length);
+        return parse(null, input, from, to, indices);
+    }
+
     /**
      * @param input two-character card code, e.g. "AS" for ace of spades
      * @return parsed card
@@ -43,16 +121,81 @@ public class CardParser {
      */
     public Card parseCard(final String input) throws PokerParseException {
         if (input == null || input.length() != 2) {
-            throw new PokerParseException(String.format(
-                    "Parse error: A card must consist of two characters for suit and value. Faulty input: %s", input));
+            throw unrecognized(input, true);
+        }
+
+        int index = cardIndex(input.charAt(0), input.charAt(1));
+
+        if (index < 0) {
+            throw unrecognized(input, false);
         }
 
-        try {
-            CardValue value = CardValue.getByCode(input.substring(0, 1));
-            CardSuit suit = CardSuit.getByCode(input.substring(1, 2));
-            return new Card(suit, value);
-        } catch (IllegalArgumentException e) {
-            throw new PokerParseException(String.format("Parse error: Card not recognized: %s", input), e);
+        return Card.ofIndex(index);
+    }
+
+    /**
+     * Reads from either the characters or the bytes. Cards are separated by single spaces, trailing spaces are
+     * ignored, like {@link String#split(String)} would.
+     */
+    private static int parse(final CharSequence chars, final byte[] bytes, final int from, final int to,
+                             final int[] indices) throws PokerParseException {
+        Objects.requireNonNull(indices, "Indices must not be null.");
+
+        int end = to;
+
+        while (end > from && charAt(chars, bytes, end - 1) == SEPARATOR) {
+            end--;
+        }
+
+        if (end == from) {
+            throw new PokerParseException("Could not parse poker hand: empty input.");
+        }
+
+        int amount = 0;
+        int position = from;
+
+        while (true) {
+            int separator = position;
+
+            while (separator < end && charAt(chars, bytes, separator) != SEPARATOR) {
+                separator++;
+            }
+
+            int index = separator - position != 2 ? -1
+                    : cardIndex(charAt(chars, bytes, position), charAt(chars, bytes, position + 1));
+
+            if (index < 0) {
+                throw unrecognized(token(chars, bytes, position, separator), separator - position != 2);
+            }
+
+            if (amount == indices.length) {
+                throw new PokerParseException(String.format("Parse error: More than %d cards in input: %s",
+                        indices.length, token(chars, bytes, from, end)));
+            }
+
+            indices[amount++] = index;
+
+            if (separator == end) {
+                return amount;
+            }
+
+            position = separator + 1;
         }
     }
+
+    private static char charAt(final CharSequence chars, final byte[] bytes, final int position) {
+        return chars != null ? chars.charAt(position) : (char) (bytes[position] & 0xFF);
+    }
+
+    private static String token(final CharSequence chars, final byte[] bytes, final int from, final int to) {
+        return chars != null ? chars.subSequence(from, to).toString()
+                : new String(bytes, from, to - from, StandardCharsets.ISO_8859_1);
+    }
+
+    private static PokerParseException unrecognized(final String input, final boolean wrongLength) {
+        return new PokerParseException(wrongLength
+                ? String.format("Parse error: A card must consist of two characters for suit and value. "
+                + "Faulty input: %s", input)
+                : String.format("Parse error: Card not recognized: %s", input));
+    }
 }
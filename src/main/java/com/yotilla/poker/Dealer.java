@@ -6,10 +6,16 @@ import com.yotilla.poker.card.HandOfCards;
 import com.yotilla.poker.error.DeckException;
 import com.yotilla.poker.error.HandExceededException;
 import com.yotilla.poker.error.PokerParseException;
+import com.yotilla.poker.history.HandHistoryWriter;
 import com.yotilla.poker.result.GameResult;
+import com.yotilla.poker.result.GameStatistics;
 import com.yotilla.poker.result.PokerHand;
+import com.yotilla.poker.result.evaluator.OmahaEvaluator;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
+import java.util.Objects;
 
 /**
  * Description: Deals cards from the deck to players and evaluates their hands.
@@ -22,12 +28,54 @@ public class Dealer {
     private final DeckOfCards deck;
     private final CardParser cardParser;
     private final HandEvaluationService handEvaluationService;
+    private final GameVariant variant;
+    private final GameStatistics statistics;
+    private final HandHistoryWriter history;
+    private HandOfCards communityCards;
+
+    // Omaha combinations of the community cards, prepared once for every player at the table
+    private OmahaEvaluator.Combinations omahaCommunityCards;
+
+    // cards drawn ahead by reserveCards, as a mask of card indices, each dealt once it is named
+    private long reserved;
 
     /**
      * @param deck deck of cards to deal from. Will be shuffled on construction.
      */
     public Dealer(final DeckOfCards deck) {
+        this(deck, GameVariant.FIVE_CARD);
+    }
+
+    /**
+     * @param deck    deck of cards to deal from. Will be shuffled on construction.
+     * @param variant poker variant to deal
+     */
+    public Dealer(final DeckOfCards deck, final GameVariant variant) {
+        this(deck, variant, null);
+    }
+
+    /**
+     * @param deck       deck of cards to deal from. Will be shuffled on construction.
+     * @param variant    poker variant to deal
+     * @param statistics statistics to record every game result into, or null. May be shared by many dealers.
+     */
+    public Dealer(final DeckOfCards deck, final GameVariant variant, final GameStatistics statistics) {
+        this(deck, variant, statistics, null);
+    }
+
+    /**
+     * @param deck       deck of cards to deal from. Will be shuffled on construction.
+     * @param variant    poker variant to deal
+     * @param statistics statistics to record every game result into, or null. May be shared by many dealers.
+     * @param history    hand history to record every game into, along with the seed of the deck, or null. May be
+     *                   shared by many dealers.
+     */
+    public Dealer(final DeckOfCards deck, final GameVariant variant, final GameStatistics statistics,
+                  final HandHistoryWriter history) {
         this.deck = deck;
+        this.variant = Objects.requireNonNull(variant, "Game variant must not be null.");
+        this.statistics = statistics;
+        this.history = history;
         this.cardParser = new CardParser();
         this.handEvaluationService = new HandEvaluationService();
         deck.shuffleDeck();
@@ -46,19 +94,187 @@ public class Dealer {
             throw new PokerParseException("Cannot deal a hand to a null player.");
         }
 
+        player.dealHand(parseInputAndDraw(handInput, variant.getHoleCards()));
+    }
+
+    /**
+     * Deal a hand of already parsed cards, e.g. read in bulk by the {@link CardParser}.
+     *
+     * @param cards  card indices, see {@link Card#index()}
+     * @param from   first card of the hand within the indices
+     * @param to     end of the hand within the indices, exclusive. Equal to from for a random hand.
+     * @param player player who shall receive the hand
+     * @throws HandExceededException if the hand exceeds the card limit
+     * @throws DeckException         if a card was already drawn
+     */
+    public void dealHand(final int[] cards, final int from, final int to, final Player player)
+            throws HandExceededException, DeckException {
+        Objects.requireNonNull(player, "Cannot deal a hand to a null player.");
+        player.dealHand(draw(cards, from, to, variant.getHoleCards()));
+    }
+
+    /**
+     * Draw the cards named anywhere in a game ahead of dealing it, so no random card filling up an earlier hand or the
+     * board can be one of them. The reserved cards are dealt as soon as a hand or the board names them.
+     *
+     * @param cards card indices, see {@link Card#index()}
+     * @param from  first card named in the game within the indices
+     * @param to    end of the cards named in the game, exclusive
+     * @throws DeckException if a card was already drawn, e.g. as it is named twice
+     */
+    public void reserveCards(final int[] cards, final int from, final int to) throws DeckException {
+        Objects.checkFromToIndex(from, to, cards.length);
+
+        for (int i = from; i < to; i++) {
+            deck.drawCard(Card.ofIndex(cards[i]));
+            reserved |= 1L << cards[i];
+        }
+    }
+
+    /**
+     * Parse cards named in a game and draw them ahead, see {@link #reserveCards(int[], int, int)}, e.g. the board given
+     * on the command line, before any hand is filled up at random.
+     *
+     * @param input space-separated card codes, or null/empty for none
+     * @throws PokerParseException if input is invalid
+     * @throws DeckException       if a card was already drawn, e.g. as it is named twice
+     */
+    public void parseInputAndReserveCards(final String input) throws PokerParseException, DeckException {
+        if (input == null || input.isEmpty()) {
+            return;
+        }
+
+        for (Card card : cardParser.parseCards(input)) {
+            deck.drawCard(card);
+            reserved |= 1L << card.index();
+        }
+    }
+
+    /**
+     * Deal the community cards to the board. Only variants with community cards have a board.
+     *
+     * @param boardInput space-separated card codes, or null/empty for a random board
+     * @throws PokerParseException   if input is invalid
+     * @throws HandExceededException if the input exceeds the amount of community cards
+     * @throws DeckException         if a card was already drawn
+     */
+    public void parseInputAndDealCommunityCards(final String boardInput)
+            throws PokerParseException, HandExceededException, DeckException {
+        if (!variant.hasCommunityCards()) {
+            throw new IllegalStateException(String.format("%s is played without community cards.", variant));
+        }
+
+        if (communityCards != null) {
+            throw new IllegalStateException("The community cards were already dealt.");
+        }
+
+        communityCards = parseInputAndDraw(boardInput, variant.getCommunityCards());
+    }
+
+    /**
+     * Deal already parsed community cards to the board, see {@link #dealHand(int[], int, int, Player)}.
+     *
+     * @param cards card indices, see {@link Card#index()}
+     * @param from  first card of the board within the indices
+     * @param to    end of the board within the indices, exclusive. Equal to from for a random board.
+     * @throws HandExceededException if the cards exceed the amount of community cards
+     * @throws DeckException         if a card was already drawn
+     */
+    public void dealCommunityCards(final int[] cards, final int from, final int to)
+            throws HandExceededException, DeckException {
+        if (!variant.hasCommunityCards()) {
+            throw new IllegalStateException(String.format("%s is played without community cards.", variant));
+        }
+
+        if (communityCards != null) {
+            throw new IllegalStateException("The community cards were already dealt.");
+        }
+
+        communityCards = draw(cards, from, to, variant.getCommunityCards());
+    }
+
+    /**
+     * Draw the cards stated in the input from the deck, then fill up with the next cards from the deck.
+     *
+     * @param input  space-separated card codes, or null/empty for random cards
+     * @param amount amount of cards to draw
+     * @return hand holding the drawn cards
+     */
+    private HandOfCards parseInputAndDraw(final String input, final int amount)
+            throws PokerParseException, HandExceededException, DeckException {
         HandOfCards hand = new HandOfCards();
 
-        if (handInput != null && !handInput.isEmpty()) {
-            for (Card card : cardParser.parseCards(handInput)) {
-                hand.addCard(deck.drawCard(card));
+        if (input != null && !input.isEmpty()) {
+            List<Card> cards = cardParser.parseCards(input);
+
+            if (cards.size() > amount) {
+                throw new HandExceededException(
+                        String.format("%s deals no more than %d cards here, got: %s", variant, amount, input));
+            }
+
+            for (Card card : cards) {
+                hand.addCard(take(card));
             }
         }
 
-        while (hand.getAmountOfCards() < HandOfCards.HAND_SIZE) {
+        return fillUp(hand, amount);
+    }
+
+    /**
+     * Draw the given cards from the deck, then fill up with the next cards from the deck.
+     */
+    private HandOfCards draw(final int[] cards, final int from, final int to, final int amount)
+            throws HandExceededException, DeckException {
+        Objects.checkFromToIndex(from, to, cards.length);
+
+        if (to - from > amount) {
+            throw new HandExceededException(
+                    String.format("%s deals no more than %d cards here, got: %d", variant, amount, to - from));
+        }
+
+        HandOfCards hand = new HandOfCards();
+
+        for (int i = from; i < to; i++) {
+            hand.addCard(take(Card.ofIndex(cards[i])));
+        }
+
+        return fillUp(hand, amount);
+    }
+
+    /**
+     * Take a reserved card, or draw it from the deck.
+     */
+    private Card take(final Card card) throws DeckException {
+        long mask = 1L << card.index();
+
+        if ((reserved & mask) != 0) {
+            reserved &= ~mask;
+            return card;
+        }
+
+        return deck.drawCard(card);
+    }
+
+    private HandOfCards fillUp(final HandOfCards hand, final int amount) throws HandExceededException, DeckException {
+        while (hand.getAmountOfCards() < amount) {
             hand.addCard(deck.drawNextCard());
         }
 
-        player.dealHand(hand);
+        return hand;
+    }
+
+    /**
+     * @return the variant this dealer deals
+     */
+    public GameVariant getVariant() {
+        return variant;
+    }
+
+    /**
+     * @return the community cards, or null if none were dealt yet
+     */
+    public HandOfCards getCommunityCards() {
+        return communityCards;
     }
 
     /**
@@ -71,7 +287,17 @@ public class Dealer {
                     String.format("Hand recognition error: Player is either null or doesn't hold a hand: %s", player));
         }
 
-        PokerHand result = handEvaluationService.evaluate(player.getHand());
+        if (variant.hasCommunityCards() && communityCards == null) {
+            throw new PokerParseException(
+                    String.format("Hand recognition error: %s requires the community cards to be dealt first.", variant));
+        }
+
+        PokerHand result = switch (variant) {
+            case FIVE_CARD -> handEvaluationService.evaluate(player.getHand());
+            case TEXAS_HOLDEM -> handEvaluationService.evaluate(player.getHand(), communityCards);
+            case OMAHA -> handEvaluationService.evaluateOmaha(player.getHand(), omahaCommunityCards());
+        };
+
         player.setPokerHand(result);
 
         if (player.getPokerHand() == null) {
@@ -79,9 +305,20 @@ public class Dealer {
         }
     }
 
+    private OmahaEvaluator.Combinations omahaCommunityCards() {
+        if (omahaCommunityCards == null) {
+            omahaCommunityCards = handEvaluationService.prepareOmahaCommunityCards(communityCards);
+        }
+
+        return omahaCommunityCards;
+    }
+
     /**
-     * @param players players with an evaluated poker hand each
+     * Determine the game result, and record it into the dealer's statistics and hand history, if any.
+     *
+     * @param players players with an evaluated poker hand each, or without a hand if they were skipped
      * @return game result with players sorted by rank
+     * @throws UncheckedIOException if the hand history cannot be written
      */
     public GameResult determineGameResult(final List<Player> players) {
         if (players == null) {
@@ -91,6 +328,18 @@ public class Dealer {
         GameResult result = new GameResult();
         players.forEach(result::addToRanks);
 
+        if (statistics != null) {
+            statistics.record(result);
+        }
+
+        if (history != null) {
+            try {
+                history.append(deck.getSeed(), variant, communityCards, players);
+            } catch (IOException e) {
+                throw new UncheckedIOException("The game could not be recorded.", e);
+            }
+        }
+
         return result;
     }
 }
@@ -0,0 +1,49 @@
+package com.yotilla.poker;
+
+/**
+ * Description: The poker variants the dealer knows how to deal, along with the amount of cards
+ * each player holds privately and the amount of community cards on the board.
+ * <br>
+ * Date: 19.10.2026
+ *
+ * @author Manuel
+ *
+ */
+public enum GameVariant {
+    FIVE_CARD(5, 0),
+    TEXAS_HOLDEM(2, 5),
+    OMAHA(4, 5);
+
+    private final int holeCards;
+    private final int communityCards;
+
+    /**
+     * @param holeCards      cards dealt to each player
+     * @param communityCards cards dealt to the board
+     */
+    private GameVariant(int holeCards, int communityCards) {
+        this.holeCards = holeCards;
+        this.communityCards = communityCards;
+    }
+
+    /**
+     * @return the amount of cards dealt to each player
+     */
+    public int getHoleCards() {
+        return holeCards;
+    }
+
+    /**
+     * @return the amount of cards dealt to the board, shared by all players
+     */
+    public int getCommunityCards() {
+        return communityCards;
+    }
+
+    /**
+     * @return true if this variant deals community cards
+     */
+    public boolean hasCommunityCards() {
+        return communityCards > 0;
+    }
+}
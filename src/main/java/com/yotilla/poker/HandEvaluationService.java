@@ -10,6 +10,10 @@ import java.util.Objects;
 /**
  * Description: Determines the best poker hand from a hand of cards
  * by running the evaluator chain from strongest to weakest.
+ * Hands that combine hole cards with community cards take the card mask evaluator instead,
+ * or the Omaha evaluator where exactly two hole cards and three community cards must be used.
+ * All of them hand out the shared poker hand instances of the {@link com.yotilla.poker.result.HandClassTable}.
+ * The service keeps no state between calls, so one instance may be shared by many threads.
  * <br>
  * Date: 22.03.2026
  *
@@ -30,15 +34,82 @@ public class HandEvaluationService {
             new HighCardEvaluator()
     );
 
+    private final CardMaskEvaluator cardMaskEvaluator = new CardMaskEvaluator();
+    private final OmahaEvaluator omahaEvaluator = new OmahaEvaluator(cardMaskEvaluator);
+
     /**
      * @param hand hand of cards to evaluate
-     * @return the best matching PokerHand, or null if hand is null
+     * @return the best matching PokerHand, shared with all equal hands, or null if hand is null
      */
     public PokerHand evaluate(final HandOfCards hand) {
         return evaluators.stream()
                 .map(evaluator -> evaluator.evaluate(hand))
                 .filter(Objects::nonNull)
                 .findFirst()
+                .map(PokerHand::intern)
                 .orElse(null);
     }
+
+    /**
+     * Determines the best five-card poker hand out of a player's hole cards and the community cards,
+     * e.g. the best five of seven cards in Texas Hold'em.
+     *
+     * @param holeCards      cards held by the player
+     * @param communityCards cards on the board
+     * @return the best PokerHand, or null if either hand is null
+     * @throws IllegalArgumentException if both hands hold less than five cards together
+     */
+    public PokerHand evaluate(final HandOfCards holeCards, final HandOfCards communityCards) {
+        if (holeCards == null || communityCards == null) {
+            return null;
+        }
+
+        long cardMask = CardMaskEvaluator.toMask(holeCards) | CardMaskEvaluator.toMask(communityCards);
+        return cardMaskEvaluator.evaluate(cardMask);
+    }
+
+    /**
+     * Determines the best Omaha hand out of exactly two hole cards and exactly three community cards.
+     * The board is prepared on every call, see {@link #prepareOmahaCommunityCards(HandOfCards)} to share it.
+     *
+     * @param holeCards      cards held by the player
+     * @param communityCards cards on the board
+     * @return the best PokerHand, or null if either hand is null
+     * @throws IllegalArgumentException if there are less than two hole cards or three community cards
+     */
+    public PokerHand evaluateOmaha(final HandOfCards holeCards, final HandOfCards communityCards) {
+        if (holeCards == null || communityCards == null) {
+            return null;
+        }
+
+        return evaluateOmaha(holeCards, prepareOmahaCommunityCards(communityCards));
+    }
+
+    /**
+     * Prepares the Omaha combinations of a board once, to be shared by every player at the table.
+     *
+     * @param communityCards cards on the board
+     * @return all combinations of three community cards
+     * @throws IllegalArgumentException if there are less than three community cards
+     */
+    public OmahaEvaluator.Combinations prepareOmahaCommunityCards(final HandOfCards communityCards) {
+        return omahaEvaluator.prepareCommunityCards(CardMaskEvaluator.toMask(communityCards));
+    }
+
+    /**
+     * Determines the best Omaha hand out of exactly two hole cards and exactly three of a prepared board.
+     *
+     * @param holeCards      cards held by the player
+     * @param communityCards board, as prepared by {@link #prepareOmahaCommunityCards(HandOfCards)}
+     * @return the best PokerHand, or null if either is null
+     * @throws IllegalArgumentException if there are less than two hole cards
+     */
+    public PokerHand evaluateOmaha(final HandOfCards holeCards, final OmahaEvaluator.Combinations communityCards) {
+        if (holeCards == null || communityCards == null) {
+            return null;
+        }
+
+        int strength = omahaEvaluator.evaluateStrength(CardMaskEvaluator.toMask(holeCards), communityCards);
+        return PokerHand.ofStrength(strength);
+    }
 }
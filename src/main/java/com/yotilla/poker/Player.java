@@ -30,6 +30,14 @@ public class Player {
         this.hand = hand;
     }
 
+    /**
+     * Give back the hand along with its evaluation at the end of a game, so the player can be dealt the next one.
+     */
+    public void muckHand() {
+        this.hand = null;
+        this.pokerHand = null;
+    }
+
     public HandOfCards getHand() {
         return hand;
     }
@@ -1,19 +1,43 @@
 package com.yotilla.poker;
 
 import com.yotilla.poker.card.DeckOfCards;
+import com.yotilla.poker.card.HandOfCards;
 import com.yotilla.poker.error.DeckException;
 import com.yotilla.poker.error.HandExceededException;
 import com.yotilla.poker.error.PokerParseException;
+import com.yotilla.poker.history.HandHistoryWriter;
+import com.yotilla.poker.ingest.GameIngest;
+import com.yotilla.poker.ingest.IngestSummary;
+import com.yotilla.poker.result.CsvResultSink;
 import com.yotilla.poker.result.GameResult;
+import com.yotilla.poker.result.GameResultSink;
+import com.yotilla.poker.result.NdjsonResultSink;
+import com.yotilla.poker.result.PrecomputedTables;
+import com.yotilla.poker.util.ConsoleSink;
 import com.yotilla.poker.util.LogPrinter;
 import com.yotilla.poker.util.PureLogFormatter;
 
+import java.io.BufferedWriter;
+import java.io.FileDescriptor;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.logging.ConsoleHandler;
 import java.util.logging.Handler;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
 /**
  * Description:
@@ -25,6 +49,19 @@ import java.util.logging.Logger;
  *
  */
 public class PokerTable {
+    static final String HOLDEM_OPTION = "--holdem";
+    static final String OMAHA_OPTION = "--omaha";
+    static final String BOARD_OPTION = "--board=";
+    static final String FILE_OPTION = "--file=";
+    static final String PIPE_OPTION = "--pipe";
+    static final String FORMAT_OPTION = "--format=";
+    static final String THREADS_OPTION = "--threads=";
+    static final String CSV_FORMAT = "csv";
+    static final String NDJSON_FORMAT = "ndjson";
+    static final String BUILD_TABLES_OPTION = "--build-tables=";
+    static final String VERIFY_TABLES_OPTION = "--verify-tables=";
+    static final String HISTORY_OPTION = "--history=";
+
     private final Dealer dealer;
     private final LogPrinter printer;
 
@@ -36,18 +73,305 @@ public class PokerTable {
     /**
      * Starting point of this poker simulator.
      *
-     * @param hands Poker hands in String form. For example: <br>
-     *              "2D 9C AS AH AC" "3D 6D 7D TD QD" "2C 5C 7C 8S QH"
+     * @param args Poker hands in String form. For example: <br>
+     *             "2D 9C AS AH AC" "3D 6D 7D TD QD" "2C 5C 7C 8S QH" <br>
+     *             {@value #HOLDEM_OPTION} switches to Texas Hold'em, where each hand holds two hole cards.
+     *             {@value #OMAHA_OPTION} switches to Omaha, where each hand holds four hole cards.
+     *             {@value #BOARD_OPTION} followed by card codes sets the community cards, e.g. "--board=2C 7H KD".
+     *             {@value #FILE_OPTION} followed by a path plays every game of that file instead, one per line, see
+     *             {@link GameIngest}. {@value #PIPE_OPTION} plays the games read from standard in until it ends,
+     *             writing the results to standard out as they come. {@value #FORMAT_OPTION} followed by
+     *             {@value #CSV_FORMAT} or {@value #NDJSON_FORMAT} writes their results as records of that format.
+     *             {@value #THREADS_OPTION} followed by a number plays the text results of a file on that many threads.
+     *             {@value #BUILD_TABLES_OPTION} followed by a path saves the lookup tables there, see
+     *             {@link PrecomputedTables}, {@value #VERIFY_TABLES_OPTION} checks such a file.
+     *             {@value #HISTORY_OPTION} followed by a directory records every game dealt into the hand history
+     *             there, see {@link HandHistoryWriter}.
      */
-    public static void main(String[] hands) {
+    public static void main(String[] args) {
         Logger logger = Logger.getGlobal();
         Handler consoleHandler = new ConsoleHandler();
         consoleHandler.setFormatter(new PureLogFormatter());
         logger.addHandler(consoleHandler);
         logger.setUseParentHandlers(false);
 
-        Dealer dealer = new Dealer(new DeckOfCards());
-        new PokerTable(new LogPrinter(logger), dealer).playPoker(hands);
+        GameVariant variant = GameVariant.FIVE_CARD;
+        String communityCards = null;
+        String file = null;
+        String format = null;
+        String threads = null;
+        String history = null;
+        boolean pipe = false;
+        List<String> hands = new ArrayList<>();
+
+        for (String arg : args) {
+            if (HOLDEM_OPTION.equals(arg)) {
+                variant = GameVariant.TEXAS_HOLDEM;
+            } else if (OMAHA_OPTION.equals(arg)) {
+                variant = GameVariant.OMAHA;
+            } else if (arg != null && arg.startsWith(BOARD_OPTION)) {
+                communityCards = arg.substring(BOARD_OPTION.length());
+            } else if (arg != null && arg.startsWith(FILE_OPTION)) {
+                file = arg.substring(FILE_OPTION.length());
+            } else if (PIPE_OPTION.equals(arg)) {
+                pipe = true;
+            } else if (arg != null && arg.startsWith(FORMAT_OPTION)) {
+                format = arg.substring(FORMAT_OPTION.length());
+            } else if (arg != null && arg.startsWith(THREADS_OPTION)) {
+                threads = arg.substring(THREADS_OPTION.length());
+            } else if (arg != null && arg.startsWith(HISTORY_OPTION)) {
+                history = arg.substring(HISTORY_OPTION.length());
+            } else if (arg != null && arg.startsWith(BUILD_TABLES_OPTION)) {
+                buildTables(new LogPrinter(logger), Path.of(arg.substring(BUILD_TABLES_OPTION.length())));
+                return;
+            } else if (arg != null && arg.startsWith(VERIFY_TABLES_OPTION)) {
+                verifyTables(new LogPrinter(logger), Path.of(arg.substring(VERIFY_TABLES_OPTION.length())));
+                return;
+            } else {
+                hands.add(arg);
+            }
+        }
+
+        if (!areCompatible(new LogPrinter(logger), file, pipe, threads, format, communityCards, !hands.isEmpty())) {
+            return;
+        }
+
+        HandHistoryWriter historyWriter;
+
+        try {
+            historyWriter = history != null ? new HandHistoryWriter(Path.of(history)) : null;
+        } catch (IOException e) {
+            logger.log(Level.SEVERE, String.format("Could not open the hand history %s: %s", history,
+                    e.getMessage()), e);
+            return;
+        }
+
+        // closing the history writes the games still queued
+        try (historyWriter) {
+            if (file != null) {
+                try {
+                    playFile(new LogPrinter(logger), variant, Path.of(file), format,
+                            threads != null ? Integer.parseInt(threads) : 1, historyWriter);
+                } catch (NumberFormatException e) {
+                    logger.log(Level.SEVERE, String.format("Invalid amount of threads: %s", threads));
+                }
+                return;
+            }
+
+            if (pipe) {
+                // the channels block, so a slow consumer holds up the games instead of filling the memory
+                playPipe(new LogPrinter(logger), variant, format, new FileInputStream(FileDescriptor.in).getChannel(),
+                        new FileOutputStream(FileDescriptor.out).getChannel(), historyWriter);
+                return;
+            }
+
+            Dealer dealer = new Dealer(new DeckOfCards(), variant, null, historyWriter);
+            new PokerTable(new LogPrinter(logger), dealer).playPoker(hands.toArray(new String[0]), communityCards);
+        } catch (IOException e) {
+            logger.log(Level.SEVERE, String.format("Could not write the hand history %s: %s", history,
+                    e.getMessage()), e);
+        }
+    }
+
+    /**
+     * Play every game of a file, writing the results to standard out.
+     *
+     * @param printer printer for the summary and errors
+     * @param variant game played on every line
+     * @param file    file holding one game per line
+     * @param format  {@value #CSV_FORMAT} or {@value #NDJSON_FORMAT} for records of that format, null for text
+     */
+    static void playFile(final LogPrinter printer, final GameVariant variant, final Path file, final String format) {
+        playFile(printer, variant, file, format, 1);
+    }
+
+    /**
+     * Play every game of a file, writing the results to standard out, on several threads if asked to.
+     *
+     * @param printer printer for the summary and errors
+     * @param variant game played on every line
+     * @param file    file holding one game per line
+     * @param format  {@value #CSV_FORMAT} or {@value #NDJSON_FORMAT} for records of that format, null for text
+     * @param threads amount of threads playing the file, more than one for text results only
+     */
+    static void playFile(final LogPrinter printer, final GameVariant variant, final Path file, final String format,
+                         final int threads) {
+        playFile(printer, variant, file, format, threads, null);
+    }
+
+    /**
+     * Play every game of a file, writing the results to standard out, on several threads if asked to.
+     *
+     * @param printer printer for the summary and errors
+     * @param variant game played on every line
+     * @param file    file holding one game per line
+     * @param format  {@value #CSV_FORMAT} or {@value #NDJSON_FORMAT} for records of that format, null for text
+     * @param threads amount of threads playing the file, more than one for text results only
+     * @param history hand history to record every game into, or null
+     */
+    static void playFile(final LogPrinter printer, final GameVariant variant, final Path file, final String format,
+                         final int threads, final HandHistoryWriter history) {
+        if (!isKnownFormat(printer, format)) {
+            return;
+        }
+
+        if (threads < 1 || threads > 1 && format != null) {
+            printer.getLogger().log(Level.SEVERE, String.format("Cannot play %s on %d threads: Text results only, "
+                    + "on at least one thread.", file, threads));
+            return;
+        }
+
+        if (threads > 1) {
+            try (ConsoleSink out = new ConsoleSink()) {
+                printer.print(new GameIngest(variant, GameIngest.DEFAULT_DELIMITER, null, history)
+                        .ingest(file, out, threads).toString());
+            } catch (IOException e) {
+                printer.getLogger().log(Level.SEVERE, String.format("Could not play the games of %s: %s", file,
+                        e.getMessage()), e);
+            }
+            return;
+        }
+
+        try (ReadableByteChannel in = FileChannel.open(file, StandardOpenOption.READ);
+             ConsoleSink out = new ConsoleSink()) {
+            printer.print(play(variant, format, in, out, history).toString());
+        } catch (IOException e) {
+            printer.getLogger().log(Level.SEVERE, String.format("Could not play the games of %s: %s", file,
+                    e.getMessage()), e);
+        }
+    }
+
+    /**
+     * Play games as they are read, until the input ends, e.g. as part of a shell pipeline. One table serves every game,
+     * and the results are flushed in batches as soon as the input runs dry, so consumers see them without delay. The
+     * output channel is closed in the end.
+     *
+     * @param printer printer for the summary and errors, which should not write to the output channel
+     * @param variant game played on every line
+     * @param format  {@value #CSV_FORMAT} or {@value #NDJSON_FORMAT} for records of that format, null for text
+     * @param in      input holding one game per line
+     * @param out     output for the results. A blocking channel holds up the games while the consumer is busy.
+     */
+    static void playPipe(final LogPrinter printer, final GameVariant variant, final String format,
+                         final ReadableByteChannel in, final WritableByteChannel out) {
+        playPipe(printer, variant, format, in, out, null);
+    }
+
+    /**
+     * Play games as they are read, until the input ends, see
+     * {@link #playPipe(LogPrinter, GameVariant, String, ReadableByteChannel, WritableByteChannel)}.
+     *
+     * @param printer printer for the summary and errors, which should not write to the output channel
+     * @param variant game played on every line
+     * @param format  {@value #CSV_FORMAT} or {@value #NDJSON_FORMAT} for records of that format, null for text
+     * @param in      input holding one game per line
+     * @param out     output for the results. A blocking channel holds up the games while the consumer is busy.
+     * @param history hand history to record every game into, or null
+     */
+    static void playPipe(final LogPrinter printer, final GameVariant variant, final String format,
+                         final ReadableByteChannel in, final WritableByteChannel out,
+                         final HandHistoryWriter history) {
+        if (!isKnownFormat(printer, format)) {
+            return;
+        }
+
+        try (Writer writer = new BufferedWriter(Channels.newWriter(out, StandardCharsets.UTF_8),
+                ConsoleSink.DEFAULT_BUFFER_SIZE)) {
+            printer.print(play(variant, format, in, writer, history).toString());
+        } catch (IOException e) {
+            // a consumer quitting early, e.g. head, closes the pipe
+            printer.getLogger().log(Level.SEVERE, String.format("Could not play the games piped in: %s",
+                    e.getMessage()), e);
+        }
+    }
+
+    /**
+     * Build the lookup tables and save them, to be mapped by later runs.
+     *
+     * @param printer printer for the outcome
+     * @param file    file to write
+     */
+    static void buildTables(final LogPrinter printer, final Path file) {
+        long start = System.nanoTime();
+
+        try {
+            PrecomputedTables.build(file);
+            printer.print(String.format("Saved the lookup tables to %s in %d ms. Pass -D%s=%s to use them.", file,
+                    (System.nanoTime() - start) / 1_000_000, PrecomputedTables.FILE_PROPERTY, file));
+        } catch (IOException e) {
+            printer.getLogger().log(Level.SEVERE, String.format("Could not save the lookup tables to %s: %s", file,
+                    e.getMessage()), e);
+        }
+    }
+
+    /**
+     * Check the header and the checksum of saved lookup tables.
+     *
+     * @param printer printer for the outcome
+     * @param file    file to check
+     */
+    static void verifyTables(final LogPrinter printer, final Path file) {
+        try {
+            PrecomputedTables.open(file).verify();
+            printer.print(String.format("The lookup tables of %s are intact.", file));
+        } catch (IOException e) {
+            printer.getLogger().log(Level.SEVERE, String.format("Invalid lookup tables: %s", e.getMessage()), e);
+        }
+    }
+
+    /**
+     * Check that no option is given that has no effect along with the others.
+     *
+     * @return false, with the conflict logged, if an option has no effect
+     */
+    static boolean areCompatible(final LogPrinter printer, final String file, final boolean pipe, final String threads,
+                                 final String format, final String communityCards, final boolean hands) {
+        String conflict = null;
+
+        if (file != null && pipe) {
+            conflict = String.format("%s and %s exclude each other.", FILE_OPTION, PIPE_OPTION);
+        } else if (threads != null && file == null) {
+            conflict = String.format("%s works with %s only.", THREADS_OPTION, FILE_OPTION);
+        } else if (format != null && file == null && !pipe) {
+            conflict = String.format("%s works with %s or %s only.", FORMAT_OPTION, FILE_OPTION, PIPE_OPTION);
+        } else if ((communityCards != null || hands) && (file != null || pipe)) {
+            conflict = String.format("Hands and %s are read from the input with %s or %s.", BOARD_OPTION, FILE_OPTION,
+                    PIPE_OPTION);
+        }
+
+        if (conflict != null) {
+            printer.getLogger().log(Level.SEVERE, String.format("Conflicting options: %s", conflict));
+            return false;
+        }
+
+        return true;
+    }
+
+    private static boolean isKnownFormat(final LogPrinter printer, final String format) {
+        if (format != null && !CSV_FORMAT.equals(format) && !NDJSON_FORMAT.equals(format)) {
+            printer.getLogger().log(Level.SEVERE, String.format("Unknown format: %s", format));
+            return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Play the games read, writing the results in the format given. The output is closed in the end.
+     */
+    private static IngestSummary play(final GameVariant variant, final String format, final ReadableByteChannel in,
+                                      final Writer out, final HandHistoryWriter history) throws IOException {
+        GameIngest ingest = new GameIngest(variant, GameIngest.DEFAULT_DELIMITER, null, history);
+
+        if (format == null) {
+            try (out) {
+                return ingest.ingest(in, out);
+            }
+        }
+
+        try (GameResultSink sink = CSV_FORMAT.equals(format) ? new CsvResultSink(out) : new NdjsonResultSink(out)) {
+            return ingest.ingest(in, sink);
+        }
     }
 
     /**
@@ -56,6 +380,16 @@ public class PokerTable {
      * @param hands Strings of hands to be dealt.
      */
     void playPoker(final String[] hands) {
+        playPoker(hands, null);
+    }
+
+    /**
+     * Play a game of Poker
+     *
+     * @param hands          Strings of hands to be dealt.
+     * @param communityCards String of community cards, if the dealer's variant has any. Null or empty for random cards.
+     */
+    void playPoker(final String[] hands, final String communityCards) {
         if (hands == null) {
             printer.print("No hands have been dealt. Quitting.");
             return;
@@ -67,6 +401,17 @@ public class PokerTable {
         List<Player> players = createPlayers(amountOfPlayers);
         printer.print(amountOfPlayers + " Players at the table.\n");
 
+        // Keep the cards named on the board out of the hands filled up at random.
+        if (dealer.getVariant().hasCommunityCards()) {
+            try {
+                dealer.parseInputAndReserveCards(communityCards);
+            } catch (PokerParseException | DeckException e) {
+                printer.getLogger().log(Level.SEVERE,
+                        String.format("Error while dealing the community cards: %s", e.getMessage()), e);
+                return;
+            }
+        }
+
         // Deal the cards to the players
         for (int i = 0; i < hands.length; i++) {
             String handInput = hands[i];
@@ -74,9 +419,6 @@ public class PokerTable {
 
             try {
                 dealer.parseInputAndDealHand(handInput, player);
-
-                // Evaluate each player's hand, tell them what they hold.
-                dealer.evaluatePlayerHand(player);
             } catch (PokerParseException e) {
                 printer.getLogger().log(Level.WARNING,
                         String.format("Invalid hand input for %s: %s — skipping.", player.getName(), e.getMessage()));
@@ -87,13 +429,58 @@ public class PokerTable {
             }
         }
 
+        // Deal the board, once every player holds their cards.
+        if (dealer.getVariant().hasCommunityCards()) {
+            try {
+                dealer.parseInputAndDealCommunityCards(communityCards);
+                printer.print("Board:\t" + printCards(dealer.getCommunityCards()) + "\n");
+            } catch (PokerParseException | HandExceededException | DeckException e) {
+                printer.getLogger().log(Level.SEVERE,
+                        String.format("Error while dealing the community cards: %s", e.getMessage()), e);
+                return;
+            }
+        }
+
+        // Evaluate each player's hand, tell them what they hold.
+        for (Player player : players) {
+            if (player.getHand() == null) {
+                continue;
+            }
+
+            try {
+                dealer.evaluatePlayerHand(player);
+            } catch (PokerParseException e) {
+                printer.getLogger().log(Level.WARNING,
+                        String.format("Invalid hand input for %s: %s — skipping.", player.getName(), e.getMessage()));
+            }
+        }
+
         // determine and print result
-        GameResult result = dealer.determineGameResult(players);
+        GameResult result;
+
+        try {
+            result = dealer.determineGameResult(players);
+        } catch (UncheckedIOException e) {
+            printer.getLogger().log(Level.SEVERE,
+                    String.format("Could not record the game: %s", e.getCause().getMessage()), e);
+            return;
+        }
+
         if (result != null) {
             printer.print("Ranking:\n" + result.printRanks() + "\n" + result.printFinalResult() + "\n");
         }
     }
 
+    /**
+     * @param hand hand of cards
+     * @return card codes, separated by a space
+     */
+    private static String printCards(final HandOfCards hand) {
+        return hand.getCards().stream()
+                .map(card -> card.cardValue().getCode() + card.cardSuit().getCode())
+                .collect(Collectors.joining(" "));
+    }
+
     /**
      * Create players and give them names
      *
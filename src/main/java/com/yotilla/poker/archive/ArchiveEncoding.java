@@ -0,0 +1,128 @@
+package com.yotilla.poker.archive;
+
+import com.yotilla.poker.GameVariant;
+import com.yotilla.poker.card.Card;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Description: How the cards of a game are stored in a game archive. Either way, a record starts with one byte for the
+ * amount of players, followed by the board, if the variant has one, and the hands of the players.
+ * <br>
+ * Date: 19.10.2026
+ *
+ * @author Manuel
+ *
+ */
+public enum ArchiveEncoding {
+    /**
+     * Every hand, and the board, as a card mask of eight bytes, as used by the
+     * {@link com.yotilla.poker.result.evaluator.CardMaskEvaluator}. Fast to read, no decoding at all.
+     */
+    MASK,
+
+    /**
+     * Every card as its index in six bits, packed without gaps, the board first. About a third of the size of masks
+     * for five-card hands.
+     */
+    PACKED;
+
+    /**
+     * Bits taken by one card in {@link #PACKED} records.
+     */
+    public static final int BITS_PER_CARD = 6;
+
+    private static final int CARD_MASK = (1 << BITS_PER_CARD) - 1;
+
+    /**
+     * @param variant game stored
+     * @param players amount of players of the game
+     * @return size of a record in bytes
+     */
+    public int recordSize(final GameVariant variant, final int players) {
+        return switch (this) {
+            case MASK -> 1 + (players + (variant.hasCommunityCards() ? 1 : 0)) * Long.BYTES;
+            case PACKED -> 1 + ((variant.getCommunityCards() + players * variant.getHoleCards()) * BITS_PER_CARD
+                    + Byte.SIZE - 1) / Byte.SIZE;
+        };
+    }
+
+    /**
+     * Put the indices of all cards, six bits each, from the highest bit of each byte on, the board first. The last
+     * byte is filled up with zeros.
+     *
+     * @param buffer    buffer to put the cards into, at its position
+     * @param boardMask cards on the board, 0 if the variant has none
+     * @param handMasks cards of each player
+     * @param players   amount of players, i.e. hands used
+     */
+    public static void pack(final ByteBuffer buffer, final long boardMask, final long[] handMasks, final int players) {
+        long bits = 0L;
+        int pending = 0;
+
+        for (int hand = -1; hand < players; hand++) {
+            for (long cards = hand < 0 ? boardMask : handMasks[hand]; cards != 0; cards &= cards - 1) {
+                bits = bits << BITS_PER_CARD | Long.numberOfTrailingZeros(cards);
+                pending += BITS_PER_CARD;
+
+                while (pending >= Byte.SIZE) {
+                    pending -= Byte.SIZE;
+                    buffer.put((byte) (bits >>> pending));
+                }
+            }
+        }
+
+        if (pending > 0) {
+            buffer.put((byte) (bits << Byte.SIZE - pending));
+        }
+    }
+
+    /**
+     * Read cards put by {@link #pack(ByteBuffer, long, long[], int)}.
+     *
+     * @param buffer    buffer holding the cards, at its position
+     * @param variant   game stored, telling the amount of cards of the board and each hand
+     * @param handMasks array to put the cards of each player into
+     * @param players   amount of players
+     * @return cards on the board, 0 if the variant has none
+     */
+    public static long unpack(final ByteBuffer buffer, final GameVariant variant, final long[] handMasks,
+                              final int players) {
+        long boardMask = 0L;
+        long bits = 0L;
+        int available = 0;
+
+        for (int hand = -1; hand < players; hand++) {
+            long mask = 0L;
+            int cards = hand < 0 ? variant.getCommunityCards() : variant.getHoleCards();
+
+            for (int card = 0; card < cards; card++) {
+                if (available < BITS_PER_CARD) {
+                    bits = bits << Byte.SIZE | buffer.get() & 0xFF;
+                    available += Byte.SIZE;
+                }
+
+                available -= BITS_PER_CARD;
+                mask |= 1L << (bits >>> available & CARD_MASK);
+            }
+
+            if (hand < 0) {
+                boardMask = mask;
+            } else {
+                handMasks[hand] = mask;
+            }
+        }
+
+        return boardMask;
+    }
+
+    /**
+     * @param mask   cards of the board or of a hand
+     * @param amount cards it must hold
+     * @param dealt  cards of the game dealt before
+     * @return true if the mask holds exactly that amount of cards, all of the deck, and none dealt before
+     */
+    static boolean areValidCards(final long mask, final int amount, final long dealt) {
+        return Long.bitCount(mask) == amount && mask >>> Card.INDEX_RANGE == 0 && (mask & dealt) == 0;
+    }
+}
@@ -0,0 +1,68 @@
+package com.yotilla.poker.archive;
+
+import com.yotilla.poker.GameVariant;
+import com.yotilla.poker.card.Card;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * Description: The first {@value #SIZE} bytes of a game archive: A magic number, the format version, the game and the
+ * encoding of the records, and the amount of records.
+ * <br>
+ * Date: 19.10.2026
+ *
+ * @param variant  game stored in every record
+ * @param encoding encoding of the records
+ * @param games    amount of records
+ * @author Manuel
+ */
+record ArchiveHeader(GameVariant variant, ArchiveEncoding encoding, long games) {
+    static final int SIZE = 16;
+
+    // "PKRG"
+    private static final int MAGIC = 0x504B5247;
+    private static final short VERSION = 1;
+
+    /**
+     * @return most players a game of the variant can have
+     */
+    int maxPlayers() {
+        return (Card.INDEX_RANGE - variant.getCommunityCards()) / variant.getHoleCards();
+    }
+
+    /**
+     * @param buffer buffer to put the header into, at its position
+     */
+    void writeTo(final ByteBuffer buffer) {
+        buffer.putInt(MAGIC)
+                .putShort(VERSION)
+                .put((byte) variant.ordinal())
+                .put((byte) encoding.ordinal())
+                .putLong(games);
+    }
+
+    /**
+     * @param buffer buffer holding a header, at its position
+     * @return header read
+     * @throws IOException if the buffer holds no header of a known version
+     */
+    static ArchiveHeader readFrom(final ByteBuffer buffer) throws IOException {
+        if (buffer.remaining() < SIZE || buffer.getInt() != MAGIC) {
+            throw new IOException("Not a game archive.");
+        }
+
+        short version = buffer.getShort();
+        int variant = buffer.get();
+        int encoding = buffer.get();
+        long games = buffer.getLong();
+
+        if (version != VERSION || variant < 0 || variant >= GameVariant.values().length || encoding < 0
+                || encoding >= ArchiveEncoding.values().length || games < 0) {
+            throw new IOException(String.format("Unsupported game archive: version %d, variant %d, encoding %d, "
+                    + "%d games.", version, variant, encoding, games));
+        }
+
+        return new ArchiveHeader(GameVariant.values()[variant], ArchiveEncoding.values()[encoding], games);
+    }
+}
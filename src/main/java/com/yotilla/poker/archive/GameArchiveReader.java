@@ -0,0 +1,225 @@
+package com.yotilla.poker.archive;
+
+import com.yotilla.poker.GameVariant;
+import com.yotilla.poker.result.PokerHand;
+import com.yotilla.poker.result.evaluator.CardMaskEvaluator;
+import com.yotilla.poker.result.evaluator.OmahaEvaluator;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Description:
+ * Reads a game archive written by the {@link GameArchiveWriter}, one game after the other, straight from the file
+ * mapped into memory. Nothing is parsed: After {@link #next()}, the card masks of the board and each hand are read
+ * off the mapped bytes, ready for the {@link CardMaskEvaluator}, and {@link #strength(int)} evaluates them right away.
+ * <br>
+ * The file is mapped in windows of up to {@value #WINDOW_SIZE} bytes, moved on as the games are read, so archives of
+ * any size can be read. A reader is not thread-safe.
+ * <br>
+ * Date: 19.10.2026
+ *
+ * @author Manuel
+ *
+ */
+public class GameArchiveReader implements Closeable {
+    /**
+     * Bytes of the file mapped at once.
+     */
+    static final int WINDOW_SIZE = 1 << 30;
+
+    private final FileChannel channel;
+    private final ArchiveHeader header;
+    private final int windowSize;
+    private final long fileSize;
+    private final long[] handMasks;
+    private final CardMaskEvaluator cardMaskEvaluator = new CardMaskEvaluator();
+    private final OmahaEvaluator omahaEvaluator = new OmahaEvaluator(cardMaskEvaluator);
+
+    private MappedByteBuffer window;
+    private long windowStart;
+    private long gamesRead;
+    private int players;
+    private long boardMask;
+    private OmahaEvaluator.Combinations board;
+
+    /**
+     * @param file archive to read
+     * @throws IOException if the file cannot be read, or is no game archive
+     */
+    public GameArchiveReader(final Path file) throws IOException {
+        this(file, WINDOW_SIZE);
+    }
+
+    /**
+     * @param file       archive to read
+     * @param windowSize bytes of the file mapped at once, at least enough for the largest record
+     * @throws IOException if the file cannot be read, or is no game archive
+     */
+    GameArchiveReader(final Path file, final int windowSize) throws IOException {
+        this.channel = FileChannel.open(file, StandardOpenOption.READ);
+
+        try {
+            this.fileSize = channel.size();
+            this.windowSize = windowSize;
+            map(0);
+            this.header = ArchiveHeader.readFrom(window);
+            this.handMasks = new long[header.maxPlayers()];
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * @return game stored in every record
+     */
+    public GameVariant getVariant() {
+        return header.variant();
+    }
+
+    /**
+     * @return encoding of the records
+     */
+    public ArchiveEncoding getEncoding() {
+        return header.encoding();
+    }
+
+    /**
+     * @return amount of games in the archive
+     */
+    public long getGames() {
+        return header.games();
+    }
+
+    /**
+     * Move on to the next game.
+     *
+     * @return true if there is another game, false at the end of the archive
+     * @throws IOException if the archive ends early or holds an invalid record
+     */
+    public boolean next() throws IOException {
+        if (gamesRead == header.games()) {
+            return false;
+        }
+
+        GameVariant variant = header.variant();
+        long offset = windowStart + window.position();
+        ensure(offset, 1);
+        players = window.get(window.position());
+
+        if (players < 1 || players > handMasks.length) {
+            throw new IOException(String.format("Invalid record at byte %d: %d players.", offset, players));
+        }
+
+        ensure(offset, header.encoding().recordSize(variant, players));
+
+        // the amount of players, read already
+        window.get();
+
+        if (header.encoding() == ArchiveEncoding.MASK) {
+            boardMask = variant.hasCommunityCards() ? window.getLong() : 0L;
+
+            for (int player = 0; player < players; player++) {
+                handMasks[player] = window.getLong();
+            }
+        } else {
+            boardMask = ArchiveEncoding.unpack(window, variant, handMasks, players);
+        }
+
+        long dealt = checkCards(offset, boardMask, variant.getCommunityCards(), 0L);
+
+        for (int player = 0; player < players; player++) {
+            dealt = checkCards(offset, handMasks[player], variant.getHoleCards(), dealt);
+        }
+
+        board = null;
+        gamesRead++;
+        return true;
+    }
+
+    /**
+     * @return the cards dealt so far, including the ones checked
+     * @throws IOException if the cards are not as many as the variant deals, not of the deck, or dealt twice
+     */
+    private long checkCards(final long offset, final long mask, final int amount, final long dealt)
+            throws IOException {
+        if (!ArchiveEncoding.areValidCards(mask, amount, dealt)) {
+            throw new IOException(String.format("Invalid record at byte %d: %s expects %d distinct cards here, got: "
+                    + "%x", offset, header.variant(), amount, mask));
+        }
+
+        return dealt | mask;
+    }
+
+    /**
+     * Make sure the window holds the record starting at the offset, moving the window there if not.
+     */
+    private void ensure(final long offset, final int bytes) throws IOException {
+        if (offset + bytes > fileSize) {
+            throw new IOException(String.format("The archive ends within the record at byte %d.", offset));
+        }
+
+        if (offset + bytes > windowStart + window.limit()) {
+            map(offset);
+        }
+
+        window.position((int) (offset - windowStart));
+    }
+
+    private void map(final long offset) throws IOException {
+        windowStart = offset;
+        window = channel.map(FileChannel.MapMode.READ_ONLY, offset, Math.min(windowSize, fileSize - offset));
+    }
+
+    /**
+     * @return amount of players of the current game
+     */
+    public int players() {
+        return players;
+    }
+
+    /**
+     * @return cards on the board of the current game, 0 if the variant has none
+     */
+    public long boardMask() {
+        return boardMask;
+    }
+
+    /**
+     * @param player player of the current game, counted from 0
+     * @return cards dealt to the player
+     */
+    public long handMask(final int player) {
+        return handMasks[player];
+    }
+
+    /**
+     * Evaluate a player's hand of the current game, together with the board.
+     *
+     * @param player player of the current game, counted from 0
+     * @return strength of their best poker hand, as defined by {@link PokerHand#strength()}
+     */
+    public int strength(final int player) {
+        return switch (header.variant()) {
+            case FIVE_CARD -> cardMaskEvaluator.evaluateStrength(handMasks[player]);
+            case TEXAS_HOLDEM -> cardMaskEvaluator.evaluateStrength(handMasks[player] | boardMask);
+            case OMAHA -> {
+                if (board == null) {
+                    board = omahaEvaluator.prepareCommunityCards(boardMask);
+                }
+
+                yield omahaEvaluator.evaluateStrength(handMasks[player], board);
+            }
+        };
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
@@ -0,0 +1,151 @@
+package com.yotilla.poker.archive;
+
+import com.yotilla.poker.GameVariant;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+
+/**
+ * Description:
+ * Writes games into a binary game archive, to be read back by the {@link GameArchiveReader}. Each game is stored by
+ * its card masks, as used by the {@link com.yotilla.poker.result.evaluator.CardMaskEvaluator}, in the
+ * {@link ArchiveEncoding} chosen. Records are collected in a buffer and written in large blocks. The amount of games
+ * in the header is filled in on closing, so an archive is complete only once its writer is closed.
+ * <br>
+ * Date: 19.10.2026
+ *
+ * @author Manuel
+ *
+ */
+public class GameArchiveWriter implements Closeable {
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final FileChannel channel;
+    private final GameVariant variant;
+    private final ArchiveEncoding encoding;
+    private final int maxPlayers;
+    private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+    private long games;
+
+    /**
+     * Create an archive, replacing the file if it exists.
+     *
+     * @param file     file to write
+     * @param variant  game stored in every record
+     * @param encoding encoding of the records
+     * @throws IOException if the file cannot be written
+     */
+    public GameArchiveWriter(final Path file, final GameVariant variant, final ArchiveEncoding encoding)
+            throws IOException {
+        this.variant = Objects.requireNonNull(variant, "Game variant must not be null.");
+        this.encoding = Objects.requireNonNull(encoding, "Encoding must not be null.");
+        this.maxPlayers = new ArchiveHeader(variant, encoding, 0).maxPlayers();
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+
+        // the amount of games follows on closing
+        buffer.position(ArchiveHeader.SIZE);
+    }
+
+    /**
+     * Append a game.
+     *
+     * @param boardMask cards on the board, 0 if the variant has none
+     * @param handMasks cards of each player
+     * @param players   amount of players, i.e. hands used
+     * @throws IOException              if the file cannot be written
+     * @throws IllegalArgumentException if the amount of players or cards does not fit the variant, or a card is held
+     *                                  twice
+     */
+    public void write(final long boardMask, final long[] handMasks, final int players) throws IOException {
+        Objects.checkFromToIndex(0, players, handMasks.length);
+
+        if (players < 1 || players > maxPlayers) {
+            throw new IllegalArgumentException(String.format("%s is played by 1 to %d players, got: %d", variant,
+                    maxPlayers, players));
+        }
+
+        long dealt = checkCards(boardMask, variant.getCommunityCards(), 0L);
+
+        for (int player = 0; player < players; player++) {
+            dealt = checkCards(handMasks[player], variant.getHoleCards(), dealt);
+        }
+
+        int size = encoding.recordSize(variant, players);
+
+        if (buffer.remaining() < size) {
+            flush();
+        }
+
+        buffer.put((byte) players);
+
+        if (encoding == ArchiveEncoding.MASK) {
+            if (variant.hasCommunityCards()) {
+                buffer.putLong(boardMask);
+            }
+
+            for (int player = 0; player < players; player++) {
+                buffer.putLong(handMasks[player]);
+            }
+        } else {
+            ArchiveEncoding.pack(buffer, boardMask, handMasks, players);
+        }
+
+        games++;
+    }
+
+    private long checkCards(final long mask, final int amount, final long dealt) {
+        if (!ArchiveEncoding.areValidCards(mask, amount, dealt)) {
+            throw new IllegalArgumentException(String.format("%s expects %d distinct cards here, got: %x", variant,
+                    amount, mask));
+        }
+
+        return dealt | mask;
+    }
+
+    /**
+     * @return games written so far
+     */
+    public long getGames() {
+        return games;
+    }
+
+    private void flush() throws IOException {
+        buffer.flip();
+
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+
+        buffer.clear();
+    }
+
+    /**
+     * Write the remaining records, then the header along with the amount of games.
+     *
+     * @throws IOException if the file cannot be written
+     */
+    @Override
+    public void close() throws IOException {
+        if (!channel.isOpen()) {
+            return;
+        }
+
+        try (channel) {
+            flush();
+
+            ByteBuffer header = ByteBuffer.allocate(ArchiveHeader.SIZE);
+            new ArchiveHeader(variant, encoding, games).writeTo(header);
+            header.flip();
+
+            while (header.hasRemaining()) {
+                channel.write(header, header.position());
+            }
+        }
+    }
+}
@@ -13,6 +13,52 @@ import java.util.Objects;
  */
 public record Card(CardSuit cardSuit, CardValue cardValue) implements Comparable<Card> {
 
+    /**
+     * Amount of cards per suit.
+     */
+    public static final int SUIT_SIZE = CardValue.values().length;
+
+    /**
+     * Amount of distinct cards, i.e. the range of {@link #index()}.
+     */
+    public static final int INDEX_RANGE = CardSuit.values().length * SUIT_SIZE;
+
+    // canonical instances, looked up by index
+    private static final Card[] BY_INDEX = new Card[INDEX_RANGE];
+
+    static {
+        for (CardSuit suit : CardSuit.values()) {
+            for (CardValue value : CardValue.values()) {
+                Card card = new Card(suit, value);
+                BY_INDEX[card.index()] = card;
+            }
+        }
+    }
+
+    /**
+     * Dense index of this card within the French deck, from 0 to 51. Cards of a suit occupy
+     * a block of thirteen indices, ordered from two to ace.
+     *
+     * @return index
+     * @throws NullPointerException if suit or value are null
+     */
+    public int index() {
+        return cardSuit.ordinal() * SUIT_SIZE + cardValue.ordinal();
+    }
+
+    /**
+     * @param index dense card index, as returned by {@link #index()}
+     * @return the canonical card for this index
+     * @throws IllegalArgumentException if the index is out of range
+     */
+    public static Card ofIndex(final int index) {
+        if (index < 0 || index >= INDEX_RANGE) {
+            throw new IllegalArgumentException(String.format("No card found for index: %d", index));
+        }
+
+        return BY_INDEX[index];
+    }
+
     /**
      * Compares two cards by numerical value. Suit is irrelevant for ordering.
      *
@@ -4,6 +4,7 @@ import com.yotilla.poker.error.DeckException;
 import com.yotilla.poker.error.DeckExceptionCause;
 
 import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * Description: A French deck of cards, holding 52 pieces. <br>
@@ -19,10 +20,26 @@ public class DeckOfCards {
     // Collection of cards, mapped by their hash code
     private final Deque<Card> cards;
 
+    // seed of the shuffles, so a deal can be repeated
+    private final long seed;
+    private final Random random;
+
     /**
-     * Create a new deck of 52 unique cards.
+     * Create a new deck of 52 unique cards, shuffled by a random seed.
      */
     public DeckOfCards() {
+        this(ThreadLocalRandom.current().nextLong());
+    }
+
+    /**
+     * Create a new deck of 52 unique cards. Decks of the same seed shuffle the same way, so dealing the same hands
+     * from them deals the same cards.
+     *
+     * @param seed seed of the shuffles
+     */
+    public DeckOfCards(final long seed) {
+        this.seed = seed;
+        this.random = new Random(seed);
         cards = new ArrayDeque<>(DECK_SIZE);
 
         for (CardSuit suit : CardSuit.values()) {
@@ -101,9 +118,21 @@ public class DeckOfCards {
         return cards.pop();
     }
 
+    /**
+     * returns the seed the deck is shuffled by.
+     *
+     * @return long
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Shuffle the cards left in the deck, in the order the seed gives.
+     */
     public void shuffleDeck() {
         List<Card> cardList = new ArrayList<>(cards);
-        Collections.shuffle(cardList);
+        Collections.shuffle(cardList, random);
         cards.clear();
         cards.addAll(cardList);
     }
@@ -36,6 +36,21 @@ public class HandOfCards {
         return cards != null ? new ArrayList<>(cards) : new ArrayList<>();
     }
 
+    /**
+     * Look at one card without copying the hand.
+     *
+     * @param index position of the card, in the order it was added
+     * @return the card
+     * @throws IndexOutOfBoundsException if there is no card at this position
+     */
+    public Card getCard(final int index) {
+        if (cards == null) {
+            throw new IndexOutOfBoundsException(index);
+        }
+
+        return cards.get(index);
+    }
+
     /**
      * get the amount of cards in this hand.
      *
@@ -0,0 +1,303 @@
+package com.yotilla.poker.draw;
+
+import com.yotilla.poker.card.Card;
+import com.yotilla.poker.card.HandOfCards;
+import com.yotilla.poker.result.HandStrengthTable;
+import com.yotilla.poker.result.PokerHand;
+import com.yotilla.poker.result.PokerHandRanking;
+import com.yotilla.poker.result.evaluator.CardMaskEvaluator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+import java.util.function.IntToDoubleFunction;
+
+/**
+ * Description: Finds the best discard in five-card draw. Each of the 32 ways to discard from a hand is rated by the
+ * expected payoff of the final hand, over all replacement cards that may come from the rest of the deck.
+ * <br>
+ * Where there are few enough replacement draws, every one of them is evaluated. Otherwise, a fixed amount of them is
+ * sampled. The outcome of a kept subset depends only on the kept cards and on the cards that cannot be drawn, and not
+ * on the suits' names, so outcomes are cached under a suit-independent key and shared between equivalent hands.
+ * <br>
+ * The optimizer holds a random number generator and a cache, so it is not thread-safe. Use one per thread.
+ * <br>
+ * Date: 19.10.2026
+ *
+ * @author Manuel
+ *
+ */
+public class DiscardOptimizer {
+    /**
+     * Amount of ways to discard from a hand: Each card is either kept or thrown away.
+     */
+    public static final int DISCARD_CHOICES = 1 << HandOfCards.HAND_SIZE;
+
+    /**
+     * Replacement draws are enumerated up to this amount, sampled beyond it.
+     */
+    public static final int DEFAULT_ENUMERATION_LIMIT = 2_000;
+
+    /**
+     * Amount of sampled replacement draws per discard choice.
+     */
+    public static final int DEFAULT_SAMPLES = 1_000;
+
+    /**
+     * Amount of kept subsets to remember.
+     */
+    public static final int DEFAULT_CACHE_SIZE = 50_000;
+
+    private static final int SUITS = 4;
+    private static final int SUIT_MASK = (1 << Card.SUIT_SIZE) - 1;
+    private static final int RANKING_SLOTS = PokerHandRanking.ROYAL_FLUSH.getScore() + 1;
+
+    private final CardMaskEvaluator cardMaskEvaluator;
+    private final IntToDoubleFunction payoff;
+    private final int enumerationLimit;
+    private final int samples;
+    private final Random random;
+    private final Map<SubsetKey, Distribution> cache;
+
+    // cards left to draw from, reused between calls
+    private final int[] deck = new int[Card.INDEX_RANGE];
+
+    /**
+     * Create an optimizer with the default limits. The payoff of a final hand is its chance to beat a single
+     * random five-card hand, see {@link HandStrengthTable#percentile(int)}.
+     *
+     * @param cardMaskEvaluator evaluator for the final hands
+     */
+    public DiscardOptimizer(final CardMaskEvaluator cardMaskEvaluator) {
+        this(cardMaskEvaluator, HandStrengthTable.getInstance()::percentile, DEFAULT_ENUMERATION_LIMIT,
+                DEFAULT_SAMPLES, DEFAULT_CACHE_SIZE, new Random());
+    }
+
+    /**
+     * Create an optimizer.
+     *
+     * @param cardMaskEvaluator evaluator for the final hands
+     * @param payoff            payoff of a final hand by its strength, as defined by {@link PokerHand#strength()}
+     * @param enumerationLimit  enumerate all replacement draws up to this amount, sample beyond it
+     * @param samples           amount of sampled replacement draws per discard choice
+     * @param cacheSize         amount of kept subsets to remember, 0 to disable caching
+     * @param random            source for sampling
+     * @throws IllegalArgumentException if a limit is out of range
+     */
+    public DiscardOptimizer(final CardMaskEvaluator cardMaskEvaluator, final IntToDoubleFunction payoff,
+                            final int enumerationLimit, final int samples, final int cacheSize,
+                            final Random random) {
+        if (enumerationLimit < 1 || samples < 1 || cacheSize < 0) {
+            throw new IllegalArgumentException(String.format(
+                    "Invalid limits: enumerate %d, sample %d, cache %d.", enumerationLimit, samples, cacheSize));
+        }
+
+        this.cardMaskEvaluator = Objects.requireNonNull(cardMaskEvaluator, "Evaluator must not be null.");
+        this.payoff = Objects.requireNonNull(payoff, "Payoff must not be null.");
+        this.random = Objects.requireNonNull(random, "Random must not be null.");
+        this.enumerationLimit = enumerationLimit;
+        this.samples = samples;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<SubsetKey, Distribution> eldest) {
+                return size() > cacheSize;
+            }
+        };
+    }
+
+    /**
+     * Find the discard with the highest expected value. Among equal choices, the one discarding fewer cards wins.
+     *
+     * @param hand      five cards held
+     * @param deadCards cards known to be out of the deck, e.g. seen at other players. May be empty.
+     * @return best discard choice
+     * @throws IllegalArgumentException if the hand does not hold five cards
+     */
+    public DrawOutcome optimize(final HandOfCards hand, final Collection<Card> deadCards) {
+        DrawOutcome best = null;
+
+        for (DrawOutcome outcome : evaluateAll(hand, deadCards)) {
+            if (best == null || outcome.getExpectedValue() > best.getExpectedValue()
+                    || outcome.getExpectedValue() == best.getExpectedValue()
+                    && outcome.getDiscards().size() < best.getDiscards().size()) {
+                best = outcome;
+            }
+        }
+
+        return best;
+    }
+
+    /**
+     * Rate every discard choice. Bit i of the position within the result stands for discarding the i-th card of
+     * {@link HandOfCards#getCards()}, so the first outcome discards nothing and the last one discards everything.
+     *
+     * @param hand      five cards held
+     * @param deadCards cards known to be out of the deck, e.g. seen at other players. May be empty.
+     * @return outcomes of all {@value #DISCARD_CHOICES} discard choices
+     * @throws IllegalArgumentException if the hand does not hold five cards
+     */
+    public List<DrawOutcome> evaluateAll(final HandOfCards hand, final Collection<Card> deadCards) {
+        Objects.requireNonNull(hand, "Hand must not be null.");
+        Objects.requireNonNull(deadCards, "Dead cards must not be null.");
+
+        List<Card> cards = hand.getCards();
+        long handMask = CardMaskEvaluator.toMask(cards);
+
+        if (Long.bitCount(handMask) != HandOfCards.HAND_SIZE) {
+            throw new IllegalArgumentException(
+                    String.format("A hand of %d distinct cards is required: %s", HandOfCards.HAND_SIZE, cards));
+        }
+
+        long unavailable = handMask | CardMaskEvaluator.toMask(deadCards);
+        List<DrawOutcome> outcomes = new ArrayList<>(DISCARD_CHOICES);
+
+        for (int choice = 0; choice < DISCARD_CHOICES; choice++) {
+            List<Card> discards = new ArrayList<>();
+            List<Card> kept = new ArrayList<>();
+
+            for (int i = 0; i < cards.size(); i++) {
+                ((choice & (1 << i)) != 0 ? discards : kept).add(cards.get(i));
+            }
+
+            outcomes.add(new DrawOutcome(discards, kept,
+                    distribution(CardMaskEvaluator.toMask(kept), unavailable, discards.size())));
+        }
+
+        return outcomes;
+    }
+
+    private Distribution distribution(final long keptMask, final long unavailable, final int missing) {
+        SubsetKey key = SubsetKey.of(keptMask, unavailable);
+        Distribution distribution = cache.get(key);
+
+        if (distribution == null) {
+            distribution = draw(keptMask, unavailable, missing);
+            cache.put(key, distribution);
+        }
+
+        return distribution;
+    }
+
+    private Distribution draw(final long keptMask, final long unavailable, final int missing) {
+        int available = 0;
+
+        for (long bits = ~unavailable & ((1L << Card.INDEX_RANGE) - 1); bits != 0; bits &= bits - 1) {
+            deck[available++] = Long.numberOfTrailingZeros(bits);
+        }
+
+        if (available < missing) {
+            throw new IllegalArgumentException(String.format(
+                    "Only %d cards left in the deck, %d are needed.", available, missing));
+        }
+
+        Tally tally = new Tally();
+
+        if (binomial(available, missing) <= enumerationLimit) {
+            enumerate(keptMask, 0, available, missing, tally);
+            return tally.toDistribution(true);
+        }
+
+        for (int sample = 0; sample < samples; sample++) {
+            long cards = keptMask;
+
+            // partial Fisher-Yates shuffle: the first cards of the deck are a uniform random draw.
+            for (int i = 0; i < missing; i++) {
+                int pick = i + random.nextInt(available - i);
+                int card = deck[pick];
+                deck[pick] = deck[i];
+                deck[i] = card;
+                cards |= 1L << card;
+            }
+
+            tally.add(cardMaskEvaluator.evaluateStrength(cards));
+        }
+
+        return tally.toDistribution(false);
+    }
+
+    private void enumerate(final long cards, final int from, final int available, final int missing,
+                           final Tally tally) {
+        if (missing == 0) {
+            tally.add(cardMaskEvaluator.evaluateStrength(cards));
+            return;
+        }
+
+        for (int i = from; i <= available - missing; i++) {
+            enumerate(cards | (1L << deck[i]), i + 1, available, missing - 1, tally);
+        }
+    }
+
+    private static long binomial(final int n, final int k) {
+        long result = 1;
+
+        for (int i = 1; i <= k; i++) {
+            result = result * (n - k + i) / i;
+        }
+
+        return result;
+    }
+
+    /**
+     * Counts final hands per ranking and sums up their payoff.
+     */
+    private final class Tally {
+        private final int[] rankingCounts = new int[RANKING_SLOTS];
+        private double payoffSum;
+        private int trials;
+
+        void add(final int strength) {
+            rankingCounts[PokerHand.scoreOf(strength)]++;
+            payoffSum += payoff.applyAsDouble(strength);
+            trials++;
+        }
+
+        Distribution toDistribution(final boolean exact) {
+            return new Distribution(rankingCounts, payoffSum, trials, exact);
+        }
+    }
+
+    /**
+     * Final hands after drawing to one kept subset.
+     *
+     * @param rankingCounts amount of final hands per ranking score
+     * @param payoff        summed up payoff of all final hands
+     * @param trials        amount of final hands
+     * @param exact         true if all replacement draws were evaluated
+     */
+    record Distribution(int[] rankingCounts, double payoff, int trials, boolean exact) {
+    }
+
+    /**
+     * Kept cards and cards out of the deck, with the suits sorted by their content. Subsets that only differ by
+     * renaming the suits share a key.
+     */
+    private record SubsetKey(long keptMask, long unavailable) {
+        static SubsetKey of(final long keptMask, final long unavailable) {
+            long[] suits = new long[SUITS];
+
+            for (int suit = 0; suit < SUITS; suit++) {
+                int shift = suit * Card.SUIT_SIZE;
+                suits[suit] = ((keptMask >>> shift) & SUIT_MASK) << Card.SUIT_SIZE
+                        | ((unavailable >>> shift) & SUIT_MASK);
+            }
+
+            Arrays.sort(suits);
+
+            long kept = 0L;
+            long out = 0L;
+
+            for (int suit = 0; suit < SUITS; suit++) {
+                int shift = suit * Card.SUIT_SIZE;
+                kept |= (suits[suit] >>> Card.SUIT_SIZE) << shift;
+                out |= (suits[suit] & SUIT_MASK) << shift;
+            }
+
+            return new SubsetKey(kept, out);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.yotilla.poker.draw;
+
+import com.yotilla.poker.card.Card;
+import com.yotilla.poker.result.PokerHandRanking;
+
+import java.util.List;
+
+/**
+ * Description: The result of one discard choice in five-card draw: Which cards go, how likely each final ranking
+ * is after the draw, and the expected value of the final hand.
+ * <br>
+ * Date: 19.10.2026
+ *
+ * @author Manuel
+ *
+ */
+public final class DrawOutcome {
+    private final List<Card> discards;
+    private final List<Card> keptCards;
+    private final DiscardOptimizer.Distribution distribution;
+
+    DrawOutcome(final List<Card> discards, final List<Card> keptCards,
+                final DiscardOptimizer.Distribution distribution) {
+        this.discards = List.copyOf(discards);
+        this.keptCards = List.copyOf(keptCards);
+        this.distribution = distribution;
+    }
+
+    /**
+     * @return cards to throw away
+     */
+    public List<Card> getDiscards() {
+        return discards;
+    }
+
+    /**
+     * @return cards to keep
+     */
+    public List<Card> getKeptCards() {
+        return keptCards;
+    }
+
+    /**
+     * @return expected payoff of the final hand
+     */
+    public double getExpectedValue() {
+        return distribution.payoff() / distribution.trials();
+    }
+
+    /**
+     * @param ranking ranking in question
+     * @return chance to end up with exactly this ranking after the draw
+     */
+    public double getProbability(final PokerHandRanking ranking) {
+        return (double) distribution.rankingCounts()[ranking.getScore()] / distribution.trials();
+    }
+
+    /**
+     * @return amount of replacement draws the outcome is based on
+     */
+    public int getTrials() {
+        return distribution.trials();
+    }
+
+    /**
+     * @return true if every possible replacement draw was evaluated, false if they were sampled
+     */
+    public boolean isExact() {
+        return distribution.exact();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Discard %s: expected value %.4f over %d %s draws.", discards, getExpectedValue(),
+                getTrials(), isExact() ? "enumerated" : "sampled");
+    }
+}
@@ -0,0 +1,86 @@
+package com.yotilla.poker.history;
+
+import com.yotilla.poker.GameVariant;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Description: A game as kept in the hand history: Its id and time, the seed its cards were dealt from, the cards of
+ * the board and each player as card masks, and the class id each player's hand was evaluated to.
+ * <br>
+ * Date: 19.10.2026
+ *
+ * @param id        id of the game, counted from 1 in the order the games were recorded
+ * @param timestamp time the game was recorded, in milliseconds since the epoch
+ * @param seed      seed the cards were dealt from, see {@link com.yotilla.poker.card.DeckOfCards#getSeed()}
+ * @param variant   game played
+ * @param boardMask cards on the board, 0 if the variant has none
+ * @param handMasks cards of each player, 0 for a player skipped, e.g. for an invalid hand
+ * @param classIds  class id of each player's hand, see {@link com.yotilla.poker.result.PokerHand#classId()}, 0 for
+ *                  none, as for a player skipped
+ * @author Manuel
+ */
+public record HandHistory(long id, long timestamp, long seed, GameVariant variant, long boardMask, long[] handMasks,
+                          int[] classIds) {
+
+    /**
+     * @return amount of players
+     */
+    public int players() {
+        return handMasks.length;
+    }
+
+    /**
+     * @param player player, counted from 0
+     * @return true if the player was skipped, e.g. for an invalid hand, and holds no cards
+     */
+    public boolean isSkipped(final int player) {
+        return handMasks[player] == 0L;
+    }
+
+    /**
+     * @param player player, counted from 0
+     * @return true if the player's hand is the strongest, or shares that rank
+     */
+    public boolean isWinner(final int player) {
+        return isWinner(classIds, player);
+    }
+
+    /**
+     * @return true if the player's class id is the lowest, or shares it
+     */
+    static boolean isWinner(final int[] classIds, final int player) {
+        if (classIds[player] == 0) {
+            return false;
+        }
+
+        for (int classId : classIds) {
+            if (classId != 0 && classId < classIds[player]) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        return other instanceof HandHistory that && id == that.id && timestamp == that.timestamp && seed == that.seed
+                && variant == that.variant && boardMask == that.boardMask && Arrays.equals(handMasks, that.handMasks)
+                && Arrays.equals(classIds, that.classIds);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, timestamp, seed, variant, boardMask, Arrays.hashCode(handMasks),
+                Arrays.hashCode(classIds));
+    }
+
+    @Override
+    public String toString() {
+        return String.format("HandHistory[id=%d, timestamp=%d, seed=%d, variant=%s, boardMask=%x, handMasks=%s, "
+                + "classIds=%s]", id, timestamp, seed, variant, boardMask, Arrays.toString(handMasks),
+                Arrays.toString(classIds));
+    }
+}
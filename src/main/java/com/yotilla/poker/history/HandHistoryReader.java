@@ -0,0 +1,316 @@
+package com.yotilla.poker.history;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Description:
+ * Looks up games in a hand history written by the {@link HandHistoryWriter}, by id or by time, without scanning the
+ * history: The segment of an id is found by its base id, the record within the segment through the sparse index. The
+ * writer records ids in order and times that never decrease, so both searches are binary.
+ * <br>
+ * The segments are mapped into memory when the reader is created, so the reader sees the games written up to then.
+ * A record cut off by a crash ends its segment, and a last segment cut off within its header holds no games.
+ * Lookups do not change the reader, so threads may share it.
+ * <br>
+ * Date: 19.10.2026
+ *
+ * @author Manuel
+ *
+ */
+public class HandHistoryReader {
+    private final Segment[] segments;
+
+    /**
+     * @param directory directory of the hand history
+     * @throws IOException if the directory cannot be read, or holds a broken segment
+     */
+    public HandHistoryReader(final Path directory) throws IOException {
+        List<Long> baseIds = new ArrayList<>();
+
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                long baseId = HistorySegment.baseIdOf(file);
+
+                if (baseId > 0) {
+                    baseIds.add(baseId);
+                }
+            }
+        }
+
+        List<Segment> loaded = new ArrayList<>();
+
+        List<Long> sorted = baseIds.stream().sorted().toList();
+
+        for (long baseId : sorted) {
+            Segment segment = Segment.load(directory, baseId, baseId == sorted.getLast());
+
+            if (segment != null) {
+                loaded.add(segment);
+            }
+        }
+
+        this.segments = loaded.toArray(new Segment[0]);
+    }
+
+    /**
+     * @return id of the first game, 0 if there is none
+     */
+    public long getFirstId() {
+        return segments.length > 0 ? segments[0].baseId : 0L;
+    }
+
+    /**
+     * @return id of the last game, 0 if there is none
+     */
+    public long getLastId() {
+        return segments.length > 0 ? segments[segments.length - 1].lastId : 0L;
+    }
+
+    /**
+     * @return time of the last game in milliseconds since the epoch, {@link Long#MIN_VALUE} if there is none
+     */
+    long getLastTimestamp() {
+        return segments.length > 0 ? segments[segments.length - 1].lastTimestamp : Long.MIN_VALUE;
+    }
+
+    /**
+     * @param id id of the game
+     * @return game of the id, null if the history holds none
+     * @throws IOException if the record of the game is invalid
+     */
+    public HandHistory get(final long id) throws IOException {
+        List<HandHistory> found = new ArrayList<>(1);
+        forEach(id, id, found::add);
+        return found.isEmpty() ? null : found.get(0);
+    }
+
+    /**
+     * Read the games of a range of ids, in order.
+     *
+     * @param fromId first id, inclusive
+     * @param toId   last id, inclusive
+     * @param action action to take for each game
+     * @throws IOException if a record is invalid
+     */
+    public void forEach(final long fromId, final long toId, final Consumer<? super HandHistory> action)
+            throws IOException {
+        Objects.requireNonNull(action, "Action must not be null.");
+
+        for (int i = Math.max(0, segmentOf(fromId)); i < segments.length && segments[i].baseId <= toId; i++) {
+            Segment segment = segments[i];
+            int entry = Math.max(0, Segment.floor(segment.ids, segment.entries, fromId));
+            long id = segment.ids[entry];
+            int offset = segment.offsets[entry];
+
+            for (int size; id <= toId && (size = HistorySegment.recordSizeAt(segment.data, offset)) > 0; id++) {
+                if (id >= fromId) {
+                    action.accept(HistorySegment.readRecord(segment.data, offset, id));
+                }
+
+                offset += size;
+            }
+        }
+    }
+
+    /**
+     * Read the games of a span of time, in order.
+     *
+     * @param from first time, inclusive
+     * @param to   last time, inclusive
+     * @param action action to take for each game
+     * @throws IOException if a record is invalid
+     */
+    public void forEach(final Instant from, final Instant to, final Consumer<? super HandHistory> action)
+            throws IOException {
+        Objects.requireNonNull(action, "Action must not be null.");
+        long fromMillis = from.toEpochMilli();
+        long toMillis = to.toEpochMilli();
+
+        for (Segment segment : segments) {
+            if (segment.lastTimestamp < fromMillis) {
+                continue;
+            }
+
+            if (segment.timestamps[0] > toMillis) {
+                return;
+            }
+
+            // games of the same time may precede the entry found, so start at the one before
+            int entry = Math.max(0, Segment.floor(segment.timestamps, segment.entries, fromMillis - 1));
+            long id = segment.ids[entry];
+            int offset = segment.offsets[entry];
+
+            for (int size; (size = HistorySegment.recordSizeAt(segment.data, offset)) > 0; id++) {
+                long timestamp = HistorySegment.timestampAt(segment.data, offset);
+
+                if (timestamp > toMillis) {
+                    return;
+                }
+
+                if (timestamp >= fromMillis) {
+                    action.accept(HistorySegment.readRecord(segment.data, offset, id));
+                }
+
+                offset += size;
+            }
+        }
+    }
+
+    /**
+     * @param from first time, inclusive
+     * @param to   last time, inclusive
+     * @return games of the span of time, in order
+     * @throws IOException if a record is invalid
+     */
+    public List<HandHistory> findByTime(final Instant from, final Instant to) throws IOException {
+        List<HandHistory> found = new ArrayList<>();
+        forEach(from, to, found::add);
+        return found;
+    }
+
+    /**
+     * @return position of the last segment starting at or before the id, -1 if there is none
+     */
+    private int segmentOf(final long id) {
+        int low = 0;
+        int high = segments.length - 1;
+
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+
+            if (segments[middle].baseId <= id) {
+                low = middle + 1;
+            } else {
+                high = middle - 1;
+            }
+        }
+
+        return high;
+    }
+
+    /**
+     * A segment mapped into memory, along with its index.
+     */
+    private static final class Segment {
+        private final long baseId;
+        private final MappedByteBuffer data;
+        private final long[] ids;
+        private final long[] timestamps;
+        private final int[] offsets;
+        private final int entries;
+        private long lastId;
+        private long lastTimestamp;
+
+        private Segment(final long baseId, final MappedByteBuffer data, final ByteBuffer index) {
+            this.baseId = baseId;
+            this.data = data;
+
+            int capacity = index.remaining() / HistorySegment.INDEX_ENTRY_SIZE + 1;
+            this.ids = new long[capacity];
+            this.timestamps = new long[capacity];
+            this.offsets = new int[capacity];
+
+            // the first record is always indexed, even if the index file was lost
+            ids[0] = baseId;
+            timestamps[0] = HistorySegment.timestampAt(data, HistorySegment.HEADER_SIZE);
+            offsets[0] = HistorySegment.HEADER_SIZE;
+            int count = 1;
+
+            while (index.remaining() >= HistorySegment.INDEX_ENTRY_SIZE) {
+                long id = index.getLong();
+                long timestamp = index.getLong();
+                int offset = index.getInt();
+
+                // entries written ahead of their records, e.g. by a crash, are left out
+                if (offset > offsets[count - 1] && id > ids[count - 1]
+                        && HistorySegment.recordSizeAt(data, offset) > 0) {
+                    ids[count] = id;
+                    timestamps[count] = timestamp;
+                    offsets[count] = offset;
+                    count++;
+                }
+            }
+
+            this.entries = count;
+            findEnd();
+        }
+
+        /**
+         * @param last true for the last segment, which a crash may have cut off even within its header
+         * @return segment of the base id, null if it holds no complete record
+         */
+        static Segment load(final Path directory, final long baseId, final boolean last) throws IOException {
+            MappedByteBuffer data;
+
+            try (FileChannel channel = FileChannel.open(HistorySegment.dataFile(directory, baseId),
+                    StandardOpenOption.READ)) {
+                data = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            }
+
+            if (last && data.capacity() < HistorySegment.HEADER_SIZE) {
+                return null;
+            }
+
+            HistorySegment.readHeader(data.duplicate(), baseId);
+
+            if (HistorySegment.recordSizeAt(data, HistorySegment.HEADER_SIZE) == 0) {
+                return null;
+            }
+
+            ByteBuffer index;
+
+            try {
+                index = ByteBuffer.wrap(Files.readAllBytes(HistorySegment.indexFile(directory, baseId)));
+            } catch (NoSuchFileException e) {
+                index = ByteBuffer.allocate(0);
+            }
+
+            return new Segment(baseId, data, index);
+        }
+
+        /**
+         * Scan from the last entry to the last complete record.
+         */
+        private void findEnd() {
+            long id = ids[entries - 1];
+            int offset = offsets[entries - 1];
+
+            for (int size; (size = HistorySegment.recordSizeAt(data, offset)) > 0; offset += size, id++) {
+                lastId = id;
+                lastTimestamp = HistorySegment.timestampAt(data, offset);
+            }
+        }
+
+        /**
+         * @return position of the last of the sorted values at or below the key, -1 if there is none
+         */
+        static int floor(final long[] values, final int length, final long key) {
+            int position = Arrays.binarySearch(values, 0, length, key);
+
+            if (position >= 0) {
+                // the last of equal values
+                while (position + 1 < length && values[position + 1] == key) {
+                    position++;
+                }
+
+                return position;
+            }
+
+            return -position - 2;
+        }
+    }
+}
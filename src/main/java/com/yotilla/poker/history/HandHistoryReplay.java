@@ -0,0 +1,176 @@
+package com.yotilla.poker.history;
+
+import com.yotilla.poker.GameVariant;
+import com.yotilla.poker.HandEvaluationService;
+import com.yotilla.poker.card.Card;
+import com.yotilla.poker.card.HandOfCards;
+import com.yotilla.poker.error.HandExceededException;
+import com.yotilla.poker.result.PokerHand;
+import com.yotilla.poker.result.evaluator.OmahaEvaluator;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+/**
+ * Description: Evaluates the games of a hand history once more, and reports every game whose hands come out
+ * differently than they were stored, e.g. to check a faster {@link HandEvaluationService} against the games played
+ * in production before it is put to use.
+ * <br>
+ * The ids of the history are cut into chunks of {@value #CHUNK_SIZE} games, replayed on a pool of threads straight
+ * from the mapped segments. Each thread evaluates through a service of its own, so a service under test need not be
+ * thread-safe. The mismatches of all chunks are reported in the order of their ids.
+ * <br>
+ * Date: 19.10.2026
+ *
+ * @author Manuel
+ *
+ */
+public class HandHistoryReplay {
+    /**
+     * Games replayed by one task.
+     */
+    static final int CHUNK_SIZE = 1 << 12;
+
+    private final int threads;
+    private final Supplier<? extends HandEvaluationService> services;
+
+    /**
+     * Replay on all cores with the hand evaluation service in use.
+     */
+    public HandHistoryReplay() {
+        this(Runtime.getRuntime().availableProcessors(), HandEvaluationService::new);
+    }
+
+    /**
+     * @param threads  amount of chunks replayed at once
+     * @param services creates the service to evaluate through, once per thread, e.g. a subclass under test
+     */
+    public HandHistoryReplay(final int threads, final Supplier<? extends HandEvaluationService> services) {
+        if (threads < 1) {
+            throw new IllegalArgumentException(String.format("At least one thread is required, got: %d", threads));
+        }
+
+        this.threads = threads;
+        this.services = Objects.requireNonNull(services, "Hand evaluation services must not be null.");
+    }
+
+    /**
+     * Replay every game of a hand history.
+     *
+     * @param history hand history to replay
+     * @return the games evaluated differently
+     * @throws IOException if a record of the history is invalid
+     */
+    public ReplayReport replay(final HandHistoryReader history) throws IOException {
+        Objects.requireNonNull(history, "Hand history must not be null.");
+
+        long start = System.nanoTime();
+        long first = history.getFirstId();
+        long last = history.getLastId();
+        ThreadLocal<HandEvaluationService> service = ThreadLocal.withInitial(services);
+        List<Callable<Chunk>> chunks = new ArrayList<>();
+
+        for (long from = first; first > 0 && from <= last; from += CHUNK_SIZE) {
+            long chunkStart = from;
+            long chunkEnd = Math.min(last, from + CHUNK_SIZE - 1);
+            chunks.add(() -> replay(history, chunkStart, chunkEnd, service.get()));
+        }
+
+        long games = 0;
+        List<ReplayMismatch> mismatches = new ArrayList<>();
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            for (Future<Chunk> chunk : executor.invokeAll(chunks)) {
+                Chunk replayed = chunk.get();
+                games += replayed.games;
+                mismatches.addAll(replayed.mismatches);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("The replay was interrupted.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException cause) {
+                throw cause;
+            }
+
+            throw new IllegalStateException("A chunk could not be replayed.", e.getCause());
+        }
+
+        return new ReplayReport(games, mismatches, Duration.ofNanos(System.nanoTime() - start));
+    }
+
+    private static Chunk replay(final HandHistoryReader history, final long from, final long to,
+                                final HandEvaluationService service) throws IOException {
+        Chunk chunk = new Chunk();
+
+        history.forEach(from, to, game -> {
+            int[] classIds = evaluate(game, service);
+            chunk.games++;
+
+            if (!Arrays.equals(classIds, game.classIds())) {
+                chunk.mismatches.add(new ReplayMismatch(game, classIds));
+            }
+        });
+
+        return chunk;
+    }
+
+    /**
+     * @return class id of each player's hand, as evaluated by the service
+     */
+    static int[] evaluate(final HandHistory game, final HandEvaluationService service) {
+        HandOfCards board = game.variant().hasCommunityCards() ? handOf(game.boardMask()) : null;
+        OmahaEvaluator.Combinations omahaBoard = game.variant() == GameVariant.OMAHA
+                ? service.prepareOmahaCommunityCards(board) : null;
+        int[] classIds = new int[game.players()];
+
+        for (int player = 0; player < classIds.length; player++) {
+            if (game.isSkipped(player)) {
+                continue;
+            }
+
+            HandOfCards hand = handOf(game.handMasks()[player]);
+            PokerHand pokerHand = switch (game.variant()) {
+                case FIVE_CARD -> service.evaluate(hand);
+                case TEXAS_HOLDEM -> service.evaluate(hand, board);
+                case OMAHA -> service.evaluateOmaha(hand, omahaBoard);
+            };
+
+            classIds[player] = pokerHand != null ? pokerHand.classId() : 0;
+        }
+
+        return classIds;
+    }
+
+    private static HandOfCards handOf(final long mask) {
+        HandOfCards hand = new HandOfCards();
+
+        try {
+            for (long cards = mask; cards != 0; cards &= cards - 1) {
+                hand.addCard(Card.ofIndex(Long.numberOfTrailingZeros(cards)));
+            }
+        } catch (HandExceededException e) {
+            throw new IllegalStateException("A stored hand holds more cards than a hand can — this is a bug.", e);
+        }
+
+        return hand;
+    }
+
+    /**
+     * What one task found.
+     */
+    private static final class Chunk {
+        private long games;
+        private final List<ReplayMismatch> mismatches = new ArrayList<>();
+    }
+}
@@ -0,0 +1,474 @@
+package com.yotilla.poker.history;
+
+import com.yotilla.poker.GameVariant;
+import com.yotilla.poker.Player;
+import com.yotilla.poker.card.Card;
+import com.yotilla.poker.card.HandOfCards;
+import com.yotilla.poker.result.HandClassTable;
+import com.yotilla.poker.result.PokerHand;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Description:
+ * Records every game dealt into an append-only hand history: A directory of segments, each a data file holding the
+ * games in a compact binary encoding and a sparse index, see {@link HistorySegment}. Segments roll over once they
+ * reach their size, and are never written again, so a new writer on the same directory carries on in a new one. Only
+ * one writer may use a directory at a time.
+ * <br>
+ * Appending only assigns the id and time of the game and queues it. One thread of the writer takes the queued games
+ * in batches of up to {@value #BATCH_SIZE}, encodes them into large buffers, and writes those at once, so recording
+ * costs the dealing threads next to nothing. At most {@value #QUEUE_SIZE} games wait to be written; beyond that,
+ * appending waits for the writer to catch up.
+ * <br>
+ * Date: 19.10.2026
+ *
+ * @author Manuel
+ *
+ */
+public class HandHistoryWriter implements Closeable {
+    /**
+     * Bytes of a segment before the next one is started.
+     */
+    public static final long DEFAULT_SEGMENT_SIZE = 1L << 26;
+
+    /**
+     * Games written at once.
+     */
+    static final int BATCH_SIZE = 1024;
+
+    /**
+     * Games waiting to be written at most.
+     */
+    static final int QUEUE_SIZE = 16 * BATCH_SIZE;
+
+    // how long the writing thread waits for more games before it writes the ones it has
+    private static final long LINGER_MILLIS = 1;
+
+    // queued by closing, after the last game
+    private static final HandHistory END = new HandHistory(0, 0, 0, GameVariant.FIVE_CARD, 0, new long[0], new int[0]);
+
+    private final Path directory;
+    private final long segmentSize;
+    private final Clock clock;
+    private final BlockingQueue<HandHistory> queue = new ArrayBlockingQueue<>(QUEUE_SIZE);
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+    private final Future<?> writing;
+
+    // guarded by this
+    private long nextId;
+    private long lastTimestamp;
+    private boolean closed;
+
+    // guarded by progress, though the failure is read without it
+    private final Object progress = new Object();
+    private long writtenId;
+    private volatile IOException failure;
+
+    // set by flushing, cleared by the writing thread
+    private volatile boolean flushRequested;
+
+    /**
+     * Open a hand history, carrying on after the games recorded in the directory before, if any.
+     *
+     * @param directory directory of the hand history, created if need be
+     * @throws IOException if the directory cannot be read or created
+     */
+    public HandHistoryWriter(final Path directory) throws IOException {
+        this(directory, DEFAULT_SEGMENT_SIZE, Clock.systemUTC());
+    }
+
+    /**
+     * @param directory   directory of the hand history, created if need be
+     * @param segmentSize bytes of a segment before the next one is started
+     * @param clock       clock telling the time of each game
+     * @throws IOException if the directory cannot be read or created
+     */
+    HandHistoryWriter(final Path directory, final long segmentSize, final Clock clock) throws IOException {
+        if (segmentSize <= HistorySegment.HEADER_SIZE || segmentSize > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException(String.format("Segments hold %d to %d bytes, got: %d",
+                    HistorySegment.HEADER_SIZE + 1, Integer.MAX_VALUE, segmentSize));
+        }
+
+        this.directory = Files.createDirectories(Objects.requireNonNull(directory, "Directory must not be null."));
+        this.segmentSize = segmentSize;
+        this.clock = Objects.requireNonNull(clock, "Clock must not be null.");
+
+        HandHistoryReader recorded = new HandHistoryReader(directory);
+        this.nextId = recorded.getLastId() + 1;
+        this.lastTimestamp = recorded.getLastTimestamp();
+        this.writtenId = recorded.getLastId();
+        this.writing = executor.submit(this::write);
+    }
+
+    /**
+     * Record the game the players just played.
+     *
+     * @param seed    seed the cards were dealt from
+     * @param variant game played
+     * @param board   community cards, null if the variant has none
+     * @param players players holding their evaluated hands, or no hand if they were skipped
+     * @return id of the game
+     * @throws IOException              if the writer is closed or failed
+     * @throws IllegalArgumentException if the cards do not fit the variant
+     */
+    public long append(final long seed, final GameVariant variant, final HandOfCards board,
+                       final List<Player> players) throws IOException {
+        long[] handMasks = new long[players.size()];
+        int[] classIds = new int[players.size()];
+
+        for (int i = 0; i < handMasks.length; i++) {
+            Player player = players.get(i);
+            PokerHand hand = player.getPokerHand();
+            handMasks[i] = maskOf(player.getHand());
+            classIds[i] = hand != null ? hand.classId() : 0;
+        }
+
+        return append(seed, variant, maskOf(board), handMasks, classIds, handMasks.length);
+    }
+
+    private static long maskOf(final HandOfCards hand) {
+        long mask = 0L;
+
+        for (int i = 0; hand != null && i < hand.getAmountOfCards(); i++) {
+            mask |= 1L << hand.getCard(i).index();
+        }
+
+        return mask;
+    }
+
+    /**
+     * Record a game. The arrays are copied, so they may be reused right away.
+     *
+     * @param seed      seed the cards were dealt from
+     * @param variant   game played
+     * @param boardMask cards on the board, 0 if the variant has none
+     * @param handMasks cards of each player, 0 for a player skipped
+     * @param classIds  class id of each player's hand, 0 for none, as for a player skipped
+     * @param players   amount of players, i.e. hands used
+     * @return id of the game
+     * @throws IOException              if the writer is closed or failed
+     * @throws IllegalArgumentException if the amount of players or cards does not fit the variant, a card is held
+     *                                  twice, or a class id is out of range or given to a player skipped
+     */
+    public long append(final long seed, final GameVariant variant, final long boardMask, final long[] handMasks,
+                       final int[] classIds, final int players) throws IOException {
+        Objects.requireNonNull(variant, "Game variant must not be null.");
+        Objects.checkFromToIndex(0, players, handMasks.length);
+        Objects.checkFromToIndex(0, players, classIds.length);
+        int maxPlayers = (Card.INDEX_RANGE - variant.getCommunityCards()) / variant.getHoleCards();
+
+        if (players < 1 || players > maxPlayers) {
+            throw new IllegalArgumentException(String.format("%s is played by 1 to %d players, got: %d", variant,
+                    maxPlayers, players));
+        }
+
+        long dealt = checkCards(variant, boardMask, variant.getCommunityCards(), 0L);
+
+        for (int player = 0; player < players; player++) {
+            boolean skipped = handMasks[player] == 0L;
+            dealt = skipped ? dealt : checkCards(variant, handMasks[player], variant.getHoleCards(), dealt);
+
+            if (classIds[player] < 0 || classIds[player] > HandClassTable.HAND_CLASSES
+                    || skipped && classIds[player] != 0) {
+                throw new IllegalArgumentException(String.format("Invalid class id: %d", classIds[player]));
+            }
+        }
+
+        long[] hands = Arrays.copyOf(handMasks, players);
+        int[] classes = Arrays.copyOf(classIds, players);
+
+        synchronized (this) {
+            checkOpen();
+
+            // times never decrease, even if the clock does, so games are found by time
+            long timestamp = Math.max(lastTimestamp, clock.millis());
+            HandHistory game = new HandHistory(nextId, timestamp, seed, variant, boardMask, hands, classes);
+
+            try {
+                queue.put(game);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted while waiting to record a game.", e);
+            }
+
+            lastTimestamp = timestamp;
+            return nextId++;
+        }
+    }
+
+    private static long checkCards(final GameVariant variant, final long mask, final int amount, final long dealt) {
+        if (Long.bitCount(mask) != amount || mask >>> Card.INDEX_RANGE != 0 || (mask & dealt) != 0) {
+            throw new IllegalArgumentException(String.format("%s expects %d distinct cards here, got: %x", variant,
+                    amount, mask));
+        }
+
+        return dealt | mask;
+    }
+
+    private void checkOpen() throws IOException {
+        if (closed) {
+            throw new IOException("The hand history is closed.");
+        }
+
+        if (failure != null) {
+            throw new IOException("The hand history could not be written.", failure);
+        }
+    }
+
+    /**
+     * Wait until every game appended so far is written to the segment files.
+     *
+     * @throws IOException if the writer is closed or failed
+     */
+    public void flush() throws IOException {
+        long lastId;
+
+        synchronized (this) {
+            checkOpen();
+            lastId = nextId - 1;
+        }
+
+        flushRequested = true;
+
+        synchronized (progress) {
+            try {
+                while (writtenId < lastId && failure == null) {
+                    progress.wait();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted while waiting for the hand history.", e);
+            }
+        }
+
+        checkOpen();
+    }
+
+    /**
+     * Write the games still queued, and close the segment files.
+     *
+     * @throws IOException if the games cannot be written
+     */
+    @Override
+    public void close() throws IOException {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+
+            closed = true;
+        }
+
+        try {
+            queue.put(END);
+            writing.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while closing the hand history.", e);
+        } catch (ExecutionException e) {
+            throw new IOException("The hand history could not be written.", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+
+        synchronized (progress) {
+            if (failure != null) {
+                throw new IOException("The hand history could not be written.", failure);
+            }
+        }
+    }
+
+    /**
+     * The writing thread: Take the queued games in batches and encode them, until the writer is closed. The encoded
+     * games go to the files once the buffers are full, once no more games follow for a moment, or once a flush asks
+     * for them. After a failure, the games are taken, but dropped, so nobody waits forever.
+     */
+    private Void write() throws IOException, InterruptedException {
+        List<HandHistory> batch = new ArrayList<>(BATCH_SIZE);
+
+        try (Output out = new Output()) {
+            while (true) {
+                if (queue.drainTo(batch, BATCH_SIZE) == 0) {
+                    HandHistory next = queue.poll(LINGER_MILLIS, TimeUnit.MILLISECONDS);
+
+                    if (next == null) {
+                        out.writeOut();
+                        next = queue.take();
+                    }
+
+                    batch.add(next);
+                }
+
+                for (HandHistory game : batch) {
+                    if (game == END) {
+                        out.writeOut();
+                        return null;
+                    }
+
+                    out.append(game);
+                }
+
+                batch.clear();
+
+                if (flushRequested) {
+                    out.writeOut();
+                }
+            }
+        }
+    }
+
+    private void written(final long lastId, final IOException error) {
+        synchronized (progress) {
+            writtenId = Math.max(writtenId, lastId);
+
+            if (failure == null) {
+                failure = error;
+            }
+
+            progress.notifyAll();
+        }
+    }
+
+    /**
+     * The segment being written, along with its buffers. Only used by the writing thread.
+     */
+    private final class Output implements Closeable {
+        private final ByteBuffer data = ByteBuffer.allocate(1 << 16);
+        private final ByteBuffer index = ByteBuffer.allocate(HistorySegment.INDEX_ENTRY_SIZE * 256);
+        private FileChannel dataChannel;
+        private FileChannel indexChannel;
+        private long size;
+        private long lastIndexed;
+        private long lastId;
+        private IOException error;
+
+        /**
+         * Encode a game into the buffers, unless writing failed before.
+         */
+        void append(final HandHistory game) {
+            lastId = game.id();
+
+            if (error != null) {
+                return;
+            }
+
+            try {
+                int recordSize = HistorySegment.recordSize(game);
+
+                if (dataChannel == null || size + recordSize > segmentSize && size > HistorySegment.HEADER_SIZE) {
+                    roll(game.id());
+                }
+
+                if (data.remaining() < recordSize) {
+                    flushData();
+                }
+
+                if (size == HistorySegment.HEADER_SIZE || size - lastIndexed >= HistorySegment.INDEX_INTERVAL) {
+                    if (!index.hasRemaining()) {
+                        flushData();
+                        flushIndex();
+                    }
+
+                    index.putLong(game.id()).putLong(game.timestamp()).putInt((int) size);
+                    lastIndexed = size;
+                }
+
+                HistorySegment.writeRecord(data, game);
+                size += recordSize;
+            } catch (IOException e) {
+                error = e;
+            }
+        }
+
+        /**
+         * Hand the buffered games to the files, and tell those waiting.
+         */
+        void writeOut() {
+            flushRequested = false;
+
+            if (error == null && dataChannel != null) {
+                try {
+                    // index entries follow their records, so none points past the data
+                    flushData();
+                    flushIndex();
+                } catch (IOException e) {
+                    error = e;
+                }
+            }
+
+            written(lastId, error);
+        }
+
+        private void roll(final long baseId) throws IOException {
+            close();
+            // a segment of the id exists only if it holds no complete record, e.g. after a crash
+            dataChannel = FileChannel.open(HistorySegment.dataFile(directory, baseId), StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+            indexChannel = FileChannel.open(HistorySegment.indexFile(directory, baseId), StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+            // the header goes to the file right away, so the segment is never left without one
+            HistorySegment.writeHeader(data, baseId);
+            flushData();
+            dataChannel.force(false);
+            size = HistorySegment.HEADER_SIZE;
+            lastIndexed = size;
+        }
+
+        private void flushData() throws IOException {
+            flush(data, dataChannel);
+        }
+
+        private void flushIndex() throws IOException {
+            flush(index, indexChannel);
+        }
+
+        private static void flush(final ByteBuffer buffer, final FileChannel channel) throws IOException {
+            buffer.flip();
+
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+
+            buffer.clear();
+        }
+
+        /**
+         * Close the segment being written, if any.
+         */
+        @Override
+        public void close() throws IOException {
+            if (dataChannel == null) {
+                return;
+            }
+
+            try (FileChannel dataFile = dataChannel; FileChannel indexFile = indexChannel) {
+                flushData();
+                flushIndex();
+                dataFile.force(false);
+                indexFile.force(false);
+            } finally {
+                dataChannel = null;
+                indexChannel = null;
+            }
+        }
+    }
+}
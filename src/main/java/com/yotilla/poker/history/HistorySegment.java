@@ -0,0 +1,225 @@
+package com.yotilla.poker.history;
+
+import com.yotilla.poker.GameVariant;
+import com.yotilla.poker.archive.ArchiveEncoding;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+
+/**
+ * Description:
+ * The files of one segment of the hand history, and how games are encoded into them. A segment holds the games from
+ * its base id on, in a data file and a sparse index file, both named after the base id.
+ * <br>
+ * The data file starts with a header of {@value #HEADER_SIZE} bytes: A magic number, the format version, two bytes
+ * reserved, and the base id. One record per game follows, the id of each implied by its place: The size of the record
+ * in two bytes, the timestamp and the seed in eight bytes each, the variant and the amount of players in one byte
+ * each, the cards packed as in {@link ArchiveEncoding#PACKED}, and the class id of each player in two bytes. A player
+ * skipped, e.g. for an invalid hand, holds no cards among the packed ones, and {@value #SKIPPED} as class id.
+ * <br>
+ * The index file holds an entry for the first record, and for every record starting {@value #INDEX_INTERVAL} bytes or
+ * more after the last record indexed: Its id and timestamp in eight bytes each, and its offset in four bytes. Finding
+ * a game thus takes a binary search over the entries and a scan of a few kilobytes.
+ * <br>
+ * Date: 19.10.2026
+ *
+ * @author Manuel
+ *
+ */
+final class HistorySegment {
+    static final int HEADER_SIZE = 16;
+    static final int INDEX_ENTRY_SIZE = 20;
+    static final int INDEX_INTERVAL = 1 << 12;
+
+    // size, timestamp, seed, variant, players
+    static final int RECORD_HEAD_SIZE = 2 + 8 + 8 + 1 + 1;
+
+    // class id of a player skipped, out of the range of the hand classes
+    static final int SKIPPED = 0xFFFF;
+
+    private static final String DATA_SUFFIX = ".seg";
+    private static final String INDEX_SUFFIX = ".idx";
+
+    // "PKRH"
+    private static final int MAGIC = 0x504B5248;
+    private static final short VERSION = 1;
+
+    private HistorySegment() {
+    }
+
+    /**
+     * @return data file of the segment starting with the id
+     */
+    static Path dataFile(final Path directory, final long baseId) {
+        return directory.resolve(String.format("%020d%s", baseId, DATA_SUFFIX));
+    }
+
+    /**
+     * @return index file of the segment starting with the id
+     */
+    static Path indexFile(final Path directory, final long baseId) {
+        return directory.resolve(String.format("%020d%s", baseId, INDEX_SUFFIX));
+    }
+
+    /**
+     * @return base id of the segment, if the file is the data file of one, or -1
+     */
+    static long baseIdOf(final Path file) {
+        String name = file.getFileName().toString();
+
+        if (!name.endsWith(DATA_SUFFIX) || name.length() != 20 + DATA_SUFFIX.length()) {
+            return -1;
+        }
+
+        try {
+            return Long.parseLong(name, 0, 20, 10);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    static void writeHeader(final ByteBuffer buffer, final long baseId) {
+        buffer.putInt(MAGIC)
+                .putShort(VERSION)
+                .putShort((short) 0)
+                .putLong(baseId);
+    }
+
+    /**
+     * @param buffer buffer holding a header, at its position
+     * @param baseId base id named by the file
+     * @throws IOException if the buffer holds no header of a known version, or of another segment
+     */
+    static void readHeader(final ByteBuffer buffer, final long baseId) throws IOException {
+        if (buffer.remaining() < HEADER_SIZE || buffer.getInt() != MAGIC) {
+            throw new IOException(String.format("Segment %d is no hand history.", baseId));
+        }
+
+        short version = buffer.getShort();
+        buffer.getShort();
+        long storedId = buffer.getLong();
+
+        if (version != VERSION || storedId != baseId) {
+            throw new IOException(String.format("Unsupported hand history segment %d: version %d, base id %d.",
+                    baseId, version, storedId));
+        }
+    }
+
+    /**
+     * @return size of the record of the game in bytes
+     */
+    static int recordSize(final HandHistory game) {
+        int hands = 0;
+
+        for (int player = 0; player < game.players(); player++) {
+            hands += game.isSkipped(player) ? 0 : 1;
+        }
+
+        return recordSize(game.variant(), game.players(), hands);
+    }
+
+    /**
+     * @param variant game played
+     * @param players amount of players
+     * @param hands   amount of players holding cards, i.e. not skipped
+     * @return size of the record of a game in bytes
+     */
+    static int recordSize(final GameVariant variant, final int players, final int hands) {
+        // the packed encoding counts one byte for the amount of players, like the record head
+        return RECORD_HEAD_SIZE - 1 + ArchiveEncoding.PACKED.recordSize(variant, hands) + players * Short.BYTES;
+    }
+
+    static void writeRecord(final ByteBuffer buffer, final HandHistory game) {
+        int players = game.players();
+
+        buffer.putShort((short) recordSize(game))
+                .putLong(game.timestamp())
+                .putLong(game.seed())
+                .put((byte) game.variant().ordinal())
+                .put((byte) players);
+        // the hands skipped hold no cards, so they add none
+        ArchiveEncoding.pack(buffer, game.boardMask(), game.handMasks(), players);
+
+        for (int player = 0; player < players; player++) {
+            buffer.putShort((short) (game.isSkipped(player) ? SKIPPED : game.classIds()[player]));
+        }
+    }
+
+    /**
+     * @param buffer buffer holding a record at the offset
+     * @param offset offset of the record
+     * @return size of the record, or 0 if no complete record starts there, e.g. at the end of the data or behind a
+     * record cut off by a crash
+     */
+    static int recordSizeAt(final ByteBuffer buffer, final int offset) {
+        if (buffer.limit() - offset < RECORD_HEAD_SIZE) {
+            return 0;
+        }
+
+        int size = Short.toUnsignedInt(buffer.getShort(offset));
+        return size >= RECORD_HEAD_SIZE && size <= buffer.limit() - offset ? size : 0;
+    }
+
+    /**
+     * @param buffer buffer holding a complete record at the offset
+     * @param offset offset of the record
+     * @return time the game was recorded
+     */
+    static long timestampAt(final ByteBuffer buffer, final int offset) {
+        return buffer.getLong(offset + Short.BYTES);
+    }
+
+    /**
+     * @param buffer buffer holding a complete record at the offset
+     * @param offset offset of the record
+     * @param id     id of the game
+     * @return game read
+     * @throws IOException if the record is invalid
+     */
+    static HandHistory readRecord(final ByteBuffer buffer, final int offset, final long id) throws IOException {
+        ByteBuffer record = buffer.duplicate().position(offset);
+        int size = Short.toUnsignedInt(record.getShort());
+        long timestamp = record.getLong();
+        long seed = record.getLong();
+        int variant = record.get();
+        int players = record.get();
+
+        if (variant < 0 || variant >= GameVariant.values().length || players < 1
+                || recordSize(GameVariant.values()[variant], players, 0) > size) {
+            throw new IOException(String.format("Invalid record of game %d: variant %d, %d players, %d bytes.", id,
+                    variant, players, size));
+        }
+
+        // the class ids end the record, and tell which players hold cards
+        GameVariant gameVariant = GameVariant.values()[variant];
+        int classIdsOffset = offset + size - players * Short.BYTES;
+        int[] classIds = new int[players];
+        boolean[] skipped = new boolean[players];
+        int hands = 0;
+
+        for (int player = 0; player < players; player++) {
+            int classId = Short.toUnsignedInt(buffer.getShort(classIdsOffset + player * Short.BYTES));
+            skipped[player] = classId == SKIPPED;
+            classIds[player] = skipped[player] ? 0 : classId;
+            hands += skipped[player] ? 0 : 1;
+        }
+
+        if (recordSize(gameVariant, players, hands) != size) {
+            throw new IOException(String.format("Invalid record of game %d: %s, %d players, %d of them skipped, %d "
+                    + "bytes.", id, gameVariant, players, players - hands, size));
+        }
+
+        long[] dealt = new long[hands];
+        long boardMask = ArchiveEncoding.unpack(record, gameVariant, dealt, hands);
+        long[] handMasks = new long[players];
+
+        for (int player = 0, hand = 0; player < players; player++) {
+            if (!skipped[player]) {
+                handMasks[player] = dealt[hand++];
+            }
+        }
+
+        return new HandHistory(id, timestamp, seed, gameVariant, boardMask, handMasks, classIds);
+    }
+}
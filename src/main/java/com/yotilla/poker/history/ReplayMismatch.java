@@ -0,0 +1,44 @@
+package com.yotilla.poker.history;
+
+import java.util.Arrays;
+
+/**
+ * Description: A stored game whose hands were evaluated differently on replay.
+ * <br>
+ * Date: 19.10.2026
+ *
+ * @param game     game as stored, along with the class ids it was evaluated to back then
+ * @param classIds class id of each player's hand on replay, 0 for none
+ * @author Manuel
+ */
+public record ReplayMismatch(HandHistory game, int[] classIds) {
+
+    /**
+     * @return true if other players win on replay than did back then
+     */
+    public boolean winnerChanged() {
+        for (int player = 0; player < classIds.length; player++) {
+            if (game.isWinner(player) != HandHistory.isWinner(classIds, player)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        return other instanceof ReplayMismatch that && game.equals(that.game) && Arrays.equals(classIds, that.classIds);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * game.hashCode() + Arrays.hashCode(classIds);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Game %d: class ids %s, replayed %s%s", game.id(), Arrays.toString(game.classIds()),
+                Arrays.toString(classIds), winnerChanged() ? ", winner changed" : "");
+    }
+}
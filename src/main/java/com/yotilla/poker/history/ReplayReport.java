@@ -0,0 +1,35 @@
+package com.yotilla.poker.history;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Description: What a replay of a hand history found: The games replayed, and those whose hands were evaluated
+ * differently, in the order of their ids.
+ * <br>
+ * Date: 19.10.2026
+ *
+ * @param games      games replayed
+ * @param mismatches games evaluated differently than stored
+ * @param elapsed    wall clock time of the replay
+ * @author Manuel
+ */
+public record ReplayReport(long games, List<ReplayMismatch> mismatches, Duration elapsed) {
+
+    public ReplayReport {
+        mismatches = List.copyOf(mismatches);
+    }
+
+    /**
+     * @return amount of games won by other players on replay
+     */
+    public long winnersChanged() {
+        return mismatches.stream().filter(ReplayMismatch::winnerChanged).count();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d games replayed, %d evaluated differently, %d won by others, %d ms.", games,
+                mismatches.size(), winnersChanged(), elapsed.toMillis());
+    }
+}
@@ -0,0 +1,761 @@
+package com.yotilla.poker.ingest;
+
+import com.yotilla.poker.CardParser;
+import com.yotilla.poker.Dealer;
+import com.yotilla.poker.GameVariant;
+import com.yotilla.poker.Player;
+import com.yotilla.poker.card.Card;
+import com.yotilla.poker.card.DeckOfCards;
+import com.yotilla.poker.card.HandOfCards;
+import com.yotilla.poker.error.DeckException;
+import com.yotilla.poker.error.HandExceededException;
+import com.yotilla.poker.error.PokerParseException;
+import com.yotilla.poker.history.HandHistoryWriter;
+import com.yotilla.poker.result.GameResult;
+import com.yotilla.poker.result.GameResultSink;
+import com.yotilla.poker.result.GameStatistics;
+
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Description:
+ * Plays games read from a file, or any other channel, one game per line, and writes the result of each.
+ * <br>
+ * A line holds the hands of one game, separated by a delimiter, e.g. "2D 9C AS AH AC | 3D 6D 7D TD QD". In variants
+ * with community cards, the board comes first, e.g. "2C 7H KD | AS AH | 9C 9D". Missing cards are dealt at random, so
+ * an empty hand is a random one. Blank lines are ignored, and invalid lines are skipped with a note in the output.
+ * <br>
+ * Reading and playing run as a pipeline: One thread reads the lines through a {@link LineReader} and parses them
+ * straight from its buffer into card indices, in batches of up to {@value #BATCH_SIZE} games. The calling thread deals,
+ * evaluates and writes them meanwhile. Only {@value #BATCHES} batches exist, handed back and forth between the two
+ * threads, so memory stays the same regardless of the size of the file, and the reader waits whenever it is too far
+ * ahead.
+ * <br>
+ * This also serves endless input, e.g. from a pipe: A batch is handed on as soon as the reader would have to wait for
+ * more input, and the output is flushed whenever no more batches are waiting to be played. A slow consumer of the
+ * output holds up the writes, so the batches are handed back later and the reader stops reading, passing the
+ * backpressure on to the producer of the input.
+ * <br>
+ * Large files may also be played in parallel, see {@link #ingest(Path, Appendable, int)}: The file is split into
+ * ranges of about {@value #CHUNK_SIZE} bytes, each starting right after a line break, and each range is read, parsed
+ * and played by a task of its own. The results of each range are kept until those of all ranges before are written.
+ * <br>
+ * Results are either written as text, each line starting with the number of the line read, followed by a tab and the
+ * final result of the game, or as records into a {@link GameResultSink}.
+ * <br>
+ * Date: 19.10.2026
+ *
+ * @author Manuel
+ *
+ */
+public class GameIngest {
+    /**
+     * Delimiter between the hands of a line, unless stated otherwise.
+     */
+    public static final char DEFAULT_DELIMITER = '|';
+
+    /**
+     * Games parsed before they are handed on to be played.
+     */
+    static final int BATCH_SIZE = 256;
+
+    /**
+     * Batches in use at once.
+     */
+    static final int BATCHES = 4;
+
+    /**
+     * Bytes of a file played by one task, unless the last line of the range reaches further.
+     */
+    static final long CHUNK_SIZE = 1L << 22;
+
+    /**
+     * Ranges in work at once per thread, including the ones waiting to be written.
+     */
+    static final int CHUNKS_PER_THREAD = 2;
+
+    // bytes read at once while looking for the next line break
+    private static final int BOUNDARY_SCAN_SIZE = 1 << 12;
+
+    // handed on by the reader once it is done, in whichever way
+    private static final Batch END = new Batch(0);
+
+    private final GameVariant variant;
+    private final byte delimiter;
+    private final GameStatistics statistics;
+    private final HandHistoryWriter history;
+    private final CardParser cardParser = new CardParser();
+
+    // most hands in one line, including the board
+    private final int maxFields;
+    private final String[] playerNames;
+
+    /**
+     * @param variant game played on every line
+     */
+    public GameIngest(final GameVariant variant) {
+        this(variant, DEFAULT_DELIMITER, null);
+    }
+
+    /**
+     * @param variant    game played on every line
+     * @param delimiter  ASCII character between the hands of a line, neither a space nor part of a card code
+     * @param statistics statistics to record every game result into, or null
+     */
+    public GameIngest(final GameVariant variant, final char delimiter, final GameStatistics statistics) {
+        this(variant, delimiter, statistics, null);
+    }
+
+    /**
+     * @param variant    game played on every line
+     * @param delimiter  ASCII character between the hands of a line, neither a space nor part of a card code
+     * @param statistics statistics to record every game result into, or null
+     * @param history    hand history to record every game into, or null
+     */
+    public GameIngest(final GameVariant variant, final char delimiter, final GameStatistics statistics,
+                      final HandHistoryWriter history) {
+        this.variant = Objects.requireNonNull(variant, "Game variant must not be null.");
+
+        if (delimiter >= 128 || delimiter <= ' ' || Character.isLetterOrDigit(delimiter)) {
+            throw new IllegalArgumentException(String.format("Invalid delimiter: '%s'", delimiter));
+        }
+
+        this.delimiter = (byte) delimiter;
+        this.statistics = statistics;
+        this.history = history;
+
+        int maxPlayers = (Card.INDEX_RANGE - variant.getCommunityCards()) / variant.getHoleCards();
+        this.maxFields = maxPlayers + (variant.hasCommunityCards() ? 1 : 0);
+        this.playerNames = new String[maxPlayers];
+
+        for (int i = 0; i < maxPlayers; i++) {
+            playerNames[i] = "Player " + (i + 1);
+        }
+    }
+
+    /**
+     * Play all games of a file.
+     *
+     * @param file file holding one game per line
+     * @param out  destination of the results
+     * @return summary of the run
+     * @throws IOException if the file cannot be read, or the destination fails
+     */
+    public IngestSummary ingest(final Path file, final Appendable out) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return ingest(channel, out);
+        }
+    }
+
+    /**
+     * Play all games read from a channel.
+     *
+     * @param in  channel delivering one game per line. Not closed.
+     * @param out destination of the results
+     * @return summary of the run
+     * @throws IOException if the channel fails or holds a line too long to read, or the destination fails
+     */
+    public IngestSummary ingest(final ReadableByteChannel in, final Appendable out) throws IOException {
+        Objects.requireNonNull(out, "Output must not be null.");
+
+        return ingest(in, new Output() {
+            @Override
+            public void played(final long line, final HandOfCards communityCards, final GameResult result)
+                    throws IOException {
+                out.append(Long.toString(line)).append('\t');
+                result.writeFinalResult(out);
+                out.append('\n');
+            }
+
+            @Override
+            public void skipped(final long line, final String reason) throws IOException {
+                out.append(Long.toString(line)).append("\tSkipped: ").append(reason).append('\n');
+            }
+
+            @Override
+            public void flush() throws IOException {
+                if (out instanceof Flushable flushable) {
+                    flushable.flush();
+                }
+            }
+        });
+    }
+
+    /**
+     * Play all games of a file, writing one record per game into a sink, e.g. a
+     * {@link com.yotilla.poker.result.CsvResultSink}. Each game is numbered by its line. Invalid lines are only
+     * counted.
+     *
+     * @param file file holding one game per line
+     * @param sink destination of the results. Flushed, but not closed.
+     * @return summary of the run
+     * @throws IOException if the file cannot be read, or the sink fails
+     */
+    public IngestSummary ingest(final Path file, final GameResultSink sink) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return ingest(channel, sink);
+        }
+    }
+
+    /**
+     * Play all games read from a channel, writing one record per game into a sink, see
+     * {@link #ingest(Path, GameResultSink)}.
+     *
+     * @param in   channel delivering one game per line. Not closed.
+     * @param sink destination of the results. Flushed, but not closed.
+     * @return summary of the run
+     * @throws IOException if the channel fails or holds a line too long to read, or the sink fails
+     */
+    public IngestSummary ingest(final ReadableByteChannel in, final GameResultSink sink) throws IOException {
+        Objects.requireNonNull(sink, "Sink must not be null.");
+
+        IngestSummary summary = ingest(in, new Output() {
+            @Override
+            public void played(final long line, final HandOfCards communityCards, final GameResult result)
+                    throws IOException {
+                sink.write(line, communityCards, result);
+            }
+
+            @Override
+            public void skipped(final long line, final String reason) {
+                // counted only
+            }
+
+            @Override
+            public void flush() throws IOException {
+                sink.flush();
+            }
+        });
+
+        sink.flush();
+        return summary;
+    }
+
+    /**
+     * Play all games of a file on several threads, writing the results as text in the order of the lines, just like
+     * {@link #ingest(Path, Appendable)}. Each thread reads and plays ranges of the file on its own, so reading is
+     * spread over the threads as well.
+     *
+     * @param file    file holding one game per line
+     * @param out     destination of the results, written by the calling thread only
+     * @param threads amount of ranges played at once
+     * @return summary of the run
+     * @throws IOException if the file cannot be read, or the destination fails
+     */
+    public IngestSummary ingest(final Path file, final Appendable out, final int threads) throws IOException {
+        return ingest(file, out, threads, CHUNK_SIZE);
+    }
+
+    /**
+     * @param chunkSize bytes of the file played by one task, see {@value #CHUNK_SIZE}
+     */
+    IngestSummary ingest(final Path file, final Appendable out, final int threads, final long chunkSize)
+            throws IOException {
+        Objects.requireNonNull(out, "Output must not be null.");
+
+        if (threads < 1) {
+            throw new IllegalArgumentException(String.format("At least one thread is required, got: %d", threads));
+        }
+
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException(String.format("A chunk must hold at least one byte, got: %d",
+                    chunkSize));
+        }
+
+        long start = System.nanoTime();
+        long games = 0;
+        long skipped = 0;
+        Deque<Future<Chunk>> pending = new ArrayDeque<>();
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+             ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            long size = channel.size();
+            long from = 0;
+            // lines of the ranges written so far
+            long lines = 0;
+
+            try {
+                while (from < size || !pending.isEmpty()) {
+                    // ranges are cut ahead only so far, as their results stay in memory until written
+                    while (from < size && pending.size() < threads * CHUNKS_PER_THREAD) {
+                        long chunkStart = from;
+                        long chunkEnd = lineStartFrom(channel, Math.min(size, from + chunkSize), size);
+                        pending.add(executor.submit(() -> play(channel, chunkStart, chunkEnd)));
+                        from = chunkEnd;
+                    }
+
+                    Chunk chunk = await(pending.poll(), "A range of the file could not be played.");
+                    chunk.writeTo(out, lines);
+                    lines += chunk.lines;
+                    games += chunk.counts[0];
+                    skipped += chunk.counts[1];
+                }
+            } finally {
+                for (Future<Chunk> chunk : pending) {
+                    chunk.cancel(true);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("The ingest was interrupted.", e);
+        }
+
+        if (out instanceof Flushable flushable) {
+            flushable.flush();
+        }
+
+        return new IngestSummary(games, skipped, Duration.ofNanos(System.nanoTime() - start));
+    }
+
+    /**
+     * @return first line start at or after the offset, the size of the file if no line starts there
+     */
+    private static long lineStartFrom(final FileChannel channel, final long offset, final long size)
+            throws IOException {
+        if (offset == 0 || offset >= size) {
+            return offset;
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(BOUNDARY_SCAN_SIZE);
+
+        // a line starts at the offset if the byte before ends one
+        for (long position = offset - 1; position < size; ) {
+            buffer.clear();
+            int read = channel.read(buffer, position);
+
+            if (read < 0) {
+                break;
+            }
+
+            for (int i = 0; i < read; i++) {
+                if (buffer.get(i) == '\n') {
+                    return position + i + 1;
+                }
+            }
+
+            position += read;
+        }
+
+        return size;
+    }
+
+    /**
+     * Read, parse and play the lines of a range of the file, which starts with a line and ends after one.
+     */
+    private Chunk play(final FileChannel channel, final long from, final long to) throws IOException {
+        Chunk chunk = new Chunk();
+        LineReader lines = new LineReader(new RangeChannel(channel, from, to));
+        Batch batch = new Batch(maxFields);
+        int[] scratch = new int[Card.INDEX_RANGE];
+        List<Player> players = new ArrayList<>(playerNames.length);
+
+        while (lines.nextLine()) {
+            parse(lines, batch, scratch);
+
+            if (batch.games == BATCH_SIZE) {
+                play(batch, players, chunk, chunk.counts);
+            }
+        }
+
+        play(batch, players, chunk, chunk.counts);
+        chunk.lines = lines.lineNumber();
+        return chunk;
+    }
+
+    private IngestSummary ingest(final ReadableByteChannel in, final Output out) throws IOException {
+        Objects.requireNonNull(in, "Input must not be null.");
+
+        long start = System.nanoTime();
+        BlockingQueue<Batch> free = new ArrayBlockingQueue<>(BATCHES);
+        BlockingQueue<Batch> filled = new ArrayBlockingQueue<>(BATCHES + 1);
+
+        for (int i = 0; i < BATCHES; i++) {
+            free.add(new Batch(maxFields));
+        }
+
+        try (ExecutorService executor = Executors.newSingleThreadExecutor()) {
+            Future<Void> reading = executor.submit(() -> {
+                read(in, free, filled);
+                return null;
+            });
+
+            try {
+                long[] counts = play(free, filled, out);
+                await(reading, "The input could not be read.");
+                return new IngestSummary(counts[0], counts[1], Duration.ofNanos(System.nanoTime() - start));
+            } finally {
+                reading.cancel(true);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("The ingest was interrupted.", e);
+        }
+    }
+
+    /**
+     * The reading stage: Parse lines into free batches and hand them on, until the input ends or fails.
+     */
+    private void read(final ReadableByteChannel in, final BlockingQueue<Batch> free,
+                      final BlockingQueue<Batch> filled) throws IOException, InterruptedException {
+        // never closed, the channel belongs to the caller
+        LineReader lines = new LineReader(in);
+        int[] scratch = new int[Card.INDEX_RANGE];
+
+        try {
+            Batch batch = free.take();
+
+            while (lines.nextLine()) {
+                parse(lines, batch, scratch);
+
+                // a full batch goes on, and so does any batch before waiting for more input, e.g. from a pipe
+                if (batch.games == BATCH_SIZE || batch.games > 0 && !lines.hasBufferedLine()) {
+                    filled.put(batch);
+                    batch = free.take();
+                }
+            }
+
+            if (batch.games > 0) {
+                filled.put(batch);
+            }
+        } finally {
+            // there is always room for the end
+            filled.offer(END);
+        }
+    }
+
+    /**
+     * Parse a line into the next game of the batch. Blank lines are no games.
+     */
+    private void parse(final LineReader lines, final Batch batch, final int[] scratch) {
+        byte[] bytes = lines.bytes();
+        int game = batch.games;
+        int cardsStart = game * Card.INDEX_RANGE;
+        int fieldsStart = game * maxFields;
+        int cards = 0;
+        int fields = 0;
+        int position = lines.start();
+        int end = lines.end();
+
+        while (position < end && bytes[position] == ' ') {
+            position++;
+        }
+
+        if (position == end) {
+            return;
+        }
+
+        batch.lineNumbers[game] = lines.lineNumber();
+        batch.errors[game] = null;
+
+        try {
+            while (position <= end) {
+                int fieldEnd = position;
+
+                while (fieldEnd < end && bytes[fieldEnd] != delimiter) {
+                    fieldEnd++;
+                }
+
+                int from = position;
+                int to = fieldEnd;
+
+                while (from < to && bytes[from] == ' ') {
+                    from++;
+                }
+
+                while (to > from && bytes[to - 1] == ' ') {
+                    to--;
+                }
+
+                if (fields == maxFields) {
+                    throw new PokerParseException(String.format("%s deals to no more than %d hands here.", variant,
+                            maxFields));
+                }
+
+                if (from < to) {
+                    int amount = cardParser.parseCards(bytes, from, to, scratch);
+
+                    if (cards + amount > Card.INDEX_RANGE) {
+                        throw new PokerParseException(String.format("More than %d cards in one game.",
+                                Card.INDEX_RANGE));
+                    }
+
+                    System.arraycopy(scratch, 0, batch.cards, cardsStart + cards, amount);
+                    cards += amount;
+                }
+
+                batch.fieldEnds[fieldsStart + fields++] = cardsStart + cards;
+                position = fieldEnd + 1;
+            }
+
+            if (fields == (variant.hasCommunityCards() ? 1 : 0)) {
+                throw new PokerParseException("No hands in this game.");
+            }
+        } catch (PokerParseException e) {
+            batch.errors[game] = e.getMessage();
+        }
+
+        batch.fieldCounts[game] = fields;
+        batch.games++;
+    }
+
+    /**
+     * The playing stage: Deal, evaluate and write the games of each filled batch, and hand it back.
+     *
+     * @return amount of games played and lines skipped
+     */
+    private long[] play(final BlockingQueue<Batch> free, final BlockingQueue<Batch> filled, final Output out)
+            throws IOException, InterruptedException {
+        long[] counts = new long[2];
+        List<Player> players = new ArrayList<>(playerNames.length);
+
+        for (Batch batch = filled.take(); batch != END; batch = filled.take()) {
+            play(batch, players, out, counts);
+            free.put(batch);
+
+            // flush in batches, unless more are waiting already
+            if (filled.isEmpty()) {
+                out.flush();
+            }
+        }
+
+        return counts;
+    }
+
+    /**
+     * Deal, evaluate and write the games of a batch, and empty it.
+     *
+     * @param counts amount of games played and lines skipped, counted on
+     */
+    private void play(final Batch batch, final List<Player> players, final Output out, final long[] counts)
+            throws IOException {
+        for (int game = 0; game < batch.games; game++) {
+            String error = batch.errors[game];
+
+            if (error == null) {
+                error = play(batch, game, players, out);
+            }
+
+            if (error != null) {
+                out.skipped(batch.lineNumbers[game], error);
+                counts[1]++;
+            } else {
+                counts[0]++;
+            }
+        }
+
+        batch.games = 0;
+    }
+
+    /**
+     * @return null if the game was played, why not otherwise
+     */
+    private String play(final Batch batch, final int game, final List<Player> players, final Output out)
+            throws IOException {
+        Dealer dealer = new Dealer(new DeckOfCards(), variant, statistics, history);
+        int fieldsStart = game * maxFields;
+        int fieldsEnd = fieldsStart + batch.fieldCounts[game];
+        int from = game * Card.INDEX_RANGE;
+        int field = fieldsStart;
+
+        players.clear();
+
+        try {
+            // named cards first, so random ones are drawn from the rest
+            dealer.reserveCards(batch.cards, from, batch.fieldEnds[fieldsEnd - 1]);
+
+            if (variant.hasCommunityCards()) {
+                dealer.dealCommunityCards(batch.cards, from, batch.fieldEnds[field]);
+                from = batch.fieldEnds[field++];
+            }
+
+            for (; field < fieldsEnd; field++) {
+                Player player = new Player(playerNames[players.size()]);
+                dealer.dealHand(batch.cards, from, batch.fieldEnds[field], player);
+                dealer.evaluatePlayerHand(player);
+                players.add(player);
+                from = batch.fieldEnds[field];
+            }
+        } catch (PokerParseException | HandExceededException | DeckException e) {
+            return e.getMessage();
+        }
+
+        GameResult result;
+
+        try {
+            result = dealer.determineGameResult(players);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        out.played(batch.lineNumbers[game], dealer.getCommunityCards(), result);
+        return null;
+    }
+
+    /**
+     * @param failure what went wrong if the task failed otherwise than with an {@link IOException}
+     */
+    private static <T> T await(final Future<T> task, final String failure) throws IOException, InterruptedException {
+        try {
+            return task.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException ioException) {
+                throw ioException;
+            }
+
+            throw new IllegalStateException(failure, e.getCause());
+        }
+    }
+
+    /**
+     * Where the results go.
+     */
+    private interface Output {
+        void played(long line, HandOfCards communityCards, GameResult result) throws IOException;
+
+        void skipped(long line, String reason) throws IOException;
+
+        void flush() throws IOException;
+    }
+
+    /**
+     * The results of a range of the file, kept as text without the line numbers, which are only known once the lines
+     * of all ranges before are counted.
+     */
+    private static final class Chunk implements Output {
+        private final long[] counts = new long[2];
+        private final StringBuilder text = new StringBuilder();
+        // line number within the range, and end of the text of each result
+        private long[] lineNumbers = new long[BATCH_SIZE];
+        private int[] ends = new int[BATCH_SIZE];
+        private int results;
+        private long lines;
+
+        @Override
+        public void played(final long line, final HandOfCards communityCards, final GameResult result)
+                throws IOException {
+            result.writeFinalResult(text);
+            add(line);
+        }
+
+        @Override
+        public void skipped(final long line, final String reason) {
+            text.append("Skipped: ").append(reason);
+            add(line);
+        }
+
+        @Override
+        public void flush() {
+            // written in order by the caller
+        }
+
+        private void add(final long line) {
+            if (results == ends.length) {
+                lineNumbers = Arrays.copyOf(lineNumbers, results * 2);
+                ends = Arrays.copyOf(ends, results * 2);
+            }
+
+            lineNumbers[results] = line;
+            ends[results++] = text.length();
+        }
+
+        /**
+         * @param firstLine lines of the file before the range
+         */
+        private void writeTo(final Appendable out, final long firstLine) throws IOException {
+            int start = 0;
+
+            for (int i = 0; i < results; i++) {
+                out.append(Long.toString(firstLine + lineNumbers[i])).append('\t').append(text, start, ends[i])
+                        .append('\n');
+                start = ends[i];
+            }
+        }
+    }
+
+    /**
+     * A range of a file, read from its start without moving the position of the file channel, so ranges of one channel
+     * are read by several threads at once.
+     */
+    private static final class RangeChannel implements ReadableByteChannel {
+        private final FileChannel channel;
+        private final long end;
+        private long position;
+
+        private RangeChannel(final FileChannel channel, final long start, final long end) {
+            this.channel = channel;
+            this.position = start;
+            this.end = end;
+        }
+
+        @Override
+        public int read(final ByteBuffer destination) throws IOException {
+            if (position >= end) {
+                return -1;
+            }
+
+            int limit = destination.limit();
+            destination.limit((int) Math.min(limit, destination.position() + end - position));
+
+            try {
+                int read = channel.read(destination, position);
+
+                if (read > 0) {
+                    position += read;
+                }
+
+                return read;
+            } finally {
+                destination.limit(limit);
+            }
+        }
+
+        @Override
+        public boolean isOpen() {
+            return channel.isOpen();
+        }
+
+        @Override
+        public void close() {
+            // the channel is shared by all ranges
+        }
+    }
+
+    /**
+     * Parsed games, all arrays laid out with a fixed stretch per game.
+     */
+    private static final class Batch {
+        private final long[] lineNumbers = new long[BATCH_SIZE];
+        private final String[] errors = new String[BATCH_SIZE];
+        private final int[] fieldCounts = new int[BATCH_SIZE];
+
+        // end of each hand within the cards, the board first
+        private final int[] fieldEnds;
+        private final int[] cards;
+        private int games;
+
+        private Batch(final int maxFields) {
+            this.fieldEnds = new int[BATCH_SIZE * maxFields];
+            this.cards = new int[maxFields > 0 ? BATCH_SIZE * Card.INDEX_RANGE : 0];
+        }
+    }
+}
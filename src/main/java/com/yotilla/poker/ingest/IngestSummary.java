@@ -0,0 +1,21 @@
+package com.yotilla.poker.ingest;
+
+import java.time.Duration;
+
+/**
+ * Description: What an ingest run got through: The games played, the lines skipped as invalid, and how long it took.
+ * <br>
+ * Date: 19.10.2026
+ *
+ * @param games   games dealt, evaluated and written
+ * @param skipped lines that did not describe a valid game
+ * @param elapsed wall clock time of the run
+ * @author Manuel
+ */
+public record IngestSummary(long games, long skipped, Duration elapsed) {
+
+    @Override
+    public String toString() {
+        return String.format("%d games played, %d lines skipped, %d ms.", games, skipped, elapsed.toMillis());
+    }
+}
@@ -0,0 +1,174 @@
+package com.yotilla.poker.ingest;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.util.Objects;
+
+/**
+ * Description:
+ * Reads lines of bytes from a channel through one buffer of fixed size, so a file of any size is read with the same
+ * memory. Lines are not decoded into strings: After {@link #nextLine()}, the current line is the range from
+ * {@link #start()} to {@link #end()} of {@link #bytes()}, which stays valid until the next line is read.
+ * <br>
+ * Lines end with a line feed, optionally preceded by a carriage return, or at the end of the input. A line must fit
+ * into the buffer.
+ * <br>
+ * Date: 19.10.2026
+ *
+ * @author Manuel
+ *
+ */
+public class LineReader implements Closeable {
+    /**
+     * Bytes read from the channel at once, and the longest line possible.
+     */
+    public static final int DEFAULT_BUFFER_SIZE = 1 << 16;
+
+    private final ReadableByteChannel channel;
+    private final ByteBuffer buffer;
+    private final byte[] bytes;
+
+    // read bytes lie between position and limit, the ones up to scanned hold no line feed
+    private int position;
+    private int scanned;
+    private int limit;
+    private boolean endOfInput;
+
+    private int start;
+    private int end;
+    private long lineNumber;
+
+    /**
+     * @param channel channel to read from, closed along with the reader
+     */
+    public LineReader(final ReadableByteChannel channel) {
+        this(channel, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * @param channel    channel to read from, closed along with the reader
+     * @param bufferSize bytes read at once, and the longest line possible
+     */
+    public LineReader(final ReadableByteChannel channel, final int bufferSize) {
+        if (bufferSize < 1) {
+            throw new IllegalArgumentException(String.format("The buffer must hold at least one byte, got: %d",
+                    bufferSize));
+        }
+
+        this.channel = Objects.requireNonNull(channel, "Channel must not be null.");
+        this.bytes = new byte[bufferSize];
+        this.buffer = ByteBuffer.wrap(bytes);
+    }
+
+    /**
+     * Move on to the next line.
+     *
+     * @return true if there is another line, false at the end of the input
+     * @throws IOException if the channel fails, or a line does not fit into the buffer
+     */
+    public boolean nextLine() throws IOException {
+        while (true) {
+            for (int i = scanned; i < limit; i++) {
+                if (bytes[i] == '\n') {
+                    select(i);
+                    position = i + 1;
+                    scanned = position;
+                    return true;
+                }
+            }
+
+            scanned = limit;
+
+            if (endOfInput) {
+                if (position == limit) {
+                    return false;
+                }
+
+                select(limit);
+                position = limit;
+                return true;
+            }
+
+            fill();
+        }
+    }
+
+    private void select(final int lineFeed) {
+        start = position;
+        end = lineFeed > start && bytes[lineFeed - 1] == '\r' ? lineFeed - 1 : lineFeed;
+        lineNumber++;
+    }
+
+    /**
+     * Move the unfinished line to the front of the buffer, and read more bytes behind it.
+     */
+    private void fill() throws IOException {
+        if (position == 0 && limit == bytes.length) {
+            throw new IOException(String.format("Line %d exceeds %d bytes.", lineNumber + 1, bytes.length));
+        }
+
+        System.arraycopy(bytes, position, bytes, 0, limit - position);
+        limit -= position;
+        scanned -= position;
+        position = 0;
+
+        buffer.clear().position(limit);
+        int read = channel.read(buffer);
+
+        if (read < 0) {
+            endOfInput = true;
+        } else {
+            limit += read;
+        }
+    }
+
+    /**
+     * @return true if the next line waits in the buffer already, false if reading it needs the channel to deliver
+     * more, which may mean waiting for it
+     */
+    public boolean hasBufferedLine() {
+        for (int i = scanned; i < limit; i++) {
+            if (bytes[i] == '\n') {
+                return true;
+            }
+        }
+
+        scanned = limit;
+        return endOfInput && position < limit;
+    }
+
+    /**
+     * @return buffer holding the current line. Its content changes with the next line read.
+     */
+    public byte[] bytes() {
+        return bytes;
+    }
+
+    /**
+     * @return first byte of the current line
+     */
+    public int start() {
+        return start;
+    }
+
+    /**
+     * @return end of the current line, exclusive, without the line break
+     */
+    public int end() {
+        return end;
+    }
+
+    /**
+     * @return number of the current line, counted from 1
+     */
+    public long lineNumber() {
+        return lineNumber;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
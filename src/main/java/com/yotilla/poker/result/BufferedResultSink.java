@@ -0,0 +1,110 @@
+package com.yotilla.poker.result;
+
+import com.yotilla.poker.Player;
+import com.yotilla.poker.card.Card;
+import com.yotilla.poker.card.HandOfCards;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * Description:
+ * Base of the sinks writing text records into a large buffer, which is handed on to the channel in blocks. Numbers
+ * and cards are written character by character, so a record takes no formatting beyond what its format needs.
+ * <br>
+ * Date: 19.10.2026
+ *
+ * @author Manuel
+ *
+ */
+abstract class BufferedResultSink implements GameResultSink {
+    /**
+     * Characters collected before they are handed on.
+     */
+    static final int BUFFER_SIZE = 1 << 16;
+
+    private final Writer out;
+    private final char[] digits = new char[20];
+
+    /**
+     * @param channel destination, encoded in UTF-8 and closed along with the sink
+     */
+    BufferedResultSink(final WritableByteChannel channel) {
+        this(new BufferedWriter(Channels.newWriter(Objects.requireNonNull(channel, "Channel must not be null."),
+                StandardCharsets.UTF_8), BUFFER_SIZE));
+    }
+
+    /**
+     * @param out destination, closed along with the sink. Should be buffered, e.g. a ConsoleSink.
+     */
+    BufferedResultSink(final Writer out) {
+        this.out = Objects.requireNonNull(out, "Output must not be null.");
+    }
+
+    /**
+     * @return the buffered destination
+     */
+    final Writer out() {
+        return out;
+    }
+
+    /**
+     * Write a number without creating a string for it.
+     */
+    final void writeNumber(final long number) throws IOException {
+        if (number < 0) {
+            out.write(Long.toString(number));
+            return;
+        }
+
+        int start = digits.length;
+        long rest = number;
+
+        do {
+            digits[--start] = (char) ('0' + rest % 10);
+            rest /= 10;
+        } while (rest > 0);
+
+        out.write(digits, start, digits.length - start);
+    }
+
+    /**
+     * Write the codes of the cards dealt to a player, separated by spaces, e.g. "2D 9C AS".
+     */
+    static void writeCards(final Player player, final Writer out) throws IOException {
+        writeCards(player.getHand(), out);
+    }
+
+    /**
+     * Write the codes of the cards of a hand, separated by spaces, nothing if there is no hand.
+     */
+    static void writeCards(final HandOfCards hand, final Writer out) throws IOException {
+        int amount = hand != null ? hand.getAmountOfCards() : 0;
+
+        for (int i = 0; i < amount; i++) {
+            Card card = hand.getCard(i);
+
+            if (i > 0) {
+                out.write(' ');
+            }
+
+            out.write(card.cardValue().getCode().charAt(0));
+            out.write(card.cardSuit().getCode().charAt(0));
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+}
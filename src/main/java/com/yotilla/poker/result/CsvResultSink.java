@@ -0,0 +1,176 @@
+package com.yotilla.poker.result;
+
+import com.yotilla.poker.card.HandOfCards;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * Description:
+ * Writes one CSV row per game, after a header row: The number of the game, then the players' names, their cards, the
+ * community cards, the players' poker hand rankings and class ids, and the names of the winners. A game has as many
+ * players as it has, so the cells of the players hold one entry per player each, separated by {@value #LIST_SEPARATOR},
+ * in the order the players were added. The board is empty for games without community cards. E.g.:
+ * <br>
+ * 1,Player 1;Player 2,2D 9C AS AH AC;3D 6D 7D TD QD,,THREE_OF_A_KIND;FLUSH,1654;1266,Player 2
+ * <br>
+ * Within a cell, a separator or backslash of a name is escaped by a backslash. A cell holding a comma, quote or line
+ * break is quoted as a whole, its quotes doubled, so the rows are valid CSV and the names split up again, e.g.
+ * "Doe, Jane;John" for the players Doe, Jane and John.
+ * <br>
+ * Date: 19.10.2026
+ *
+ * @author Manuel
+ *
+ */
+public class CsvResultSink extends BufferedResultSink {
+    /**
+     * First row of the file.
+     */
+    public static final String HEADER = "game,players,hands,board,rankings,class_ids,winners";
+
+    /**
+     * Separates the entries of the players within a cell.
+     */
+    public static final char LIST_SEPARATOR = ';';
+
+    private final StringBuilder cell = new StringBuilder();
+    private boolean headerWritten;
+
+    /**
+     * @param channel destination, encoded in UTF-8 and closed along with the sink
+     */
+    public CsvResultSink(final WritableByteChannel channel) {
+        super(channel);
+    }
+
+    /**
+     * @param out destination, closed along with the sink. Should be buffered, e.g. a ConsoleSink.
+     */
+    public CsvResultSink(final Writer out) {
+        super(out);
+    }
+
+    @Override
+    public void write(final long game, final HandOfCards communityCards, final GameResult result)
+            throws IOException {
+        Writer out = out();
+        writeHeader();
+        writeNumber(game);
+
+        out.write(',');
+        cell.setLength(0);
+        for (int i = 0; i < result.size(); i++) {
+            appendName(i, result.playerAt(i).getName());
+        }
+        writeCell();
+
+        out.write(',');
+        for (int i = 0; i < result.size(); i++) {
+            separate(i);
+            writeCards(result.playerAt(i), out);
+        }
+
+        out.write(',');
+        writeCards(communityCards, out);
+
+        out.write(',');
+        for (int i = 0; i < result.size(); i++) {
+            separate(i);
+            out.write(result.handAt(i).ranking().name());
+        }
+
+        out.write(',');
+        for (int i = 0; i < result.size(); i++) {
+            separate(i);
+            writeNumber(result.handAt(i).classId());
+        }
+
+        out.write(',');
+        cell.setLength(0);
+        for (int i = 0; i < result.winners(); i++) {
+            appendName(i, result.playerAt(result.winnerPosition(i)).getName());
+        }
+        writeCell();
+
+        out.write('\n');
+    }
+
+    private void writeHeader() throws IOException {
+        if (!headerWritten) {
+            out().write(HEADER);
+            out().write('\n');
+            headerWritten = true;
+        }
+    }
+
+    private void separate(final int index) throws IOException {
+        if (index > 0) {
+            out().write(LIST_SEPARATOR);
+        }
+    }
+
+    /**
+     * Add a name to the cell, escaping separators and backslashes.
+     */
+    private void appendName(final int index, final String name) {
+        if (index > 0) {
+            cell.append(LIST_SEPARATOR);
+        }
+
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+
+            if (c == LIST_SEPARATOR || c == '\\') {
+                cell.append('\\');
+            }
+
+            cell.append(c);
+        }
+    }
+
+    /**
+     * Write the cell, quoted as a whole if it holds a comma, quote or line break.
+     */
+    private void writeCell() throws IOException {
+        Writer out = out();
+        boolean quoted = false;
+
+        for (int i = 0; i < cell.length() && !quoted; i++) {
+            char c = cell.charAt(i);
+            quoted = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+
+        if (!quoted) {
+            out.append(cell);
+            return;
+        }
+
+        out.write('"');
+
+        for (int i = 0; i < cell.length(); i++) {
+            char c = cell.charAt(i);
+
+            if (c == '"') {
+                out.write('"');
+            }
+
+            out.write(c);
+        }
+
+        out.write('"');
+    }
+
+    /**
+     * Write the header, if no game was written, and whatever is buffered.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            writeHeader();
+        } finally {
+            super.close();
+        }
+    }
+}
@@ -2,36 +2,77 @@ package com.yotilla.poker.result;
 
 import com.yotilla.poker.Player;
 import com.yotilla.poker.card.Card;
+import com.yotilla.poker.card.HandOfCards;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.*;
 
 /**
  * Description:
  * The result of a poker game.
  * <br>
+ * Players are ranked by the strength of their poker hands, see {@link PokerHand#strength()}. Each player is kept
+ * as a single long, the inverted strength above the player's position, so one sort of a primitive array ranks all
+ * players, strongest first and in order of addition among equals. Winners, split pots and ranks then follow from a
+ * linear scan. Hands whose strength does not describe them completely are ranked by the {@link PokerHandComparator}
+ * instead.
+ * <br>
+ * Most callers only want to know who won. The winners are therefore tracked while players are added, in one pass
+ * that keeps only the best hand so far and the players tied with it. Winner, pot split and final result are read from
+ * there, and the full ranking is only sorted out once a caller asks for the ranks or for the pots to be distributed.
+ * <br>
  * Date: 30.12.2020
  *
  * @author Manuel
  *
  */
 public class GameResult {
-    private final SortedMap<PokerHand, List<Player>> ranking;
+    // the lower half of an entry holds the player's position
+    private static final int POSITION_BITS = Integer.SIZE;
+    private static final long POSITION_MASK = (1L << POSITION_BITS) - 1;
+    private static final int INITIAL_CAPACITY = 10;
+
+    private final PokerHandComparator pokerHandComparator = new PokerHandComparator();
+
+    // players in order of addition
+    private final List<Player> players = new ArrayList<>();
+    private final List<PokerHand> hands = new ArrayList<>();
+
+    // one entry per player: inverted strength, then position
+    private long[] entries = new long[INITIAL_CAPACITY];
+    private boolean exactStrengths = true;
+
+    // positions of the players holding the best hand so far, in order of addition
+    private int[] winnerPositions = new int[INITIAL_CAPACITY];
+    private int winners;
+    private PokerHand bestHand;
+    private int bestStrength;
+    private boolean bestExact;
+
+    // derived on demand: positions ordered by rank, and where each rank starts within them
+    private int[] rankedPositions;
+    private int[] rankStarts;
+    private int ranks;
+
+    // built on first request, then kept up to date as players are added
+    private SortedMap<PokerHand, List<Player>> ranking;
 
     /**
      * Default constructor.
-     * Automatically creates the ranking map with a reversed poker hand comparator.
-     * Reversed for highest scores first.
      */
     public GameResult() {
-        PokerHandComparator pokerHandComparator = new PokerHandComparator();
-        ranking = new TreeMap<>(pokerHandComparator.reversed());
+        // ranks are derived on demand
     }
 
     private List<Player> resolveWinners() {
-        if (ranking.isEmpty()) {
-            return Collections.emptyList();
+        List<Player> currentWinners = new ArrayList<>(winners);
+
+        for (int i = 0; i < winners; i++) {
+            currentWinners.add(players.get(winnerPositions[i]));
         }
-        return ranking.get(ranking.firstKey());
+
+        return currentWinners;
     }
 
     public Player getWinner() {
@@ -56,9 +97,26 @@ public class GameResult {
     }
 
     /**
+     * The ranking as a map from each poker hand to the players holding it, highest first.
+     * Equal hands share one entry, keyed by the hand of the player added first.
+     * <br>
+     * The map is built on the first call and returned by every later one. Players added later are added to it, too.
+     * Changes made to the map by callers do not affect the winners or the ranks of the result.
+     *
      * @return the ranking
      */
     public SortedMap<PokerHand, List<Player>> getRanking() {
+        if (ranking != null) {
+            return ranking;
+        }
+
+        rank();
+        ranking = new TreeMap<>(pokerHandComparator.reversed());
+
+        for (int rank = 0; rank < ranks; rank++) {
+            ranking.put(hands.get(rankedPositions[rankStarts[rank]]), playersOnRank(rank));
+        }
+
         return ranking;
     }
 
@@ -71,11 +129,305 @@ public class GameResult {
     public void addToRanks(final Player player) {
         if (player != null && player.getPokerHand() != null) {
             PokerHand playerHand = player.getPokerHand();
+            int position = players.size();
+            int strength = playerHand.strength();
+            boolean exact = playerHand.hasExactStrength();
+
+            if (position == entries.length) {
+                entries = Arrays.copyOf(entries, position * 2);
+            }
 
-            ranking.computeIfAbsent(playerHand, hand -> new ArrayList<>()).add(player);
+            // inverted, so an ascending sort puts the strongest hand first
+            entries[position] = (long) (Integer.MAX_VALUE - strength) << POSITION_BITS | position;
+            exactStrengths &= exact;
+            players.add(player);
+            hands.add(playerHand);
+            rankedPositions = null;
+            trackWinners(playerHand, strength, exact, position);
+
+            if (ranking != null) {
+                ranking.computeIfAbsent(playerHand, hand -> new ArrayList<>()).add(player);
+            }
         }
     }
 
+    /**
+     * Keep the best hand so far and the players tied with it.
+     */
+    private void trackWinners(final PokerHand playerHand, final int strength, final boolean exact,
+                              final int position) {
+        int comparison;
+
+        if (bestHand == null) {
+            comparison = 1;
+        } else if (playerHand == bestHand) {
+            // evaluators share one instance per poker hand
+            comparison = 0;
+        } else if (exact && bestExact) {
+            comparison = Integer.compare(strength, bestStrength);
+        } else {
+            comparison = pokerHandComparator.compare(playerHand, bestHand);
+        }
+
+        if (comparison > 0) {
+            bestHand = playerHand;
+            bestStrength = strength;
+            bestExact = exact;
+            winners = 0;
+        } else if (comparison < 0) {
+            return;
+        }
+
+        if (winners == winnerPositions.length) {
+            winnerPositions = Arrays.copyOf(winnerPositions, winners * 2);
+        }
+
+        winnerPositions[winners++] = position;
+    }
+
+    /**
+     * Order all players by rank, unless that happened since the last player was added.
+     */
+    private void rank() {
+        if (rankedPositions != null) {
+            return;
+        }
+
+        int size = players.size();
+        rankedPositions = new int[size];
+        rankStarts = new int[size + 1];
+        ranks = 0;
+
+        if (exactStrengths) {
+            long[] sorted = Arrays.copyOf(entries, size);
+            Arrays.sort(sorted);
+
+            for (int i = 0; i < size; i++) {
+                rankedPositions[i] = (int) (sorted[i] & POSITION_MASK);
+
+                if (i == 0 || sorted[i] >>> POSITION_BITS != sorted[i - 1] >>> POSITION_BITS) {
+                    rankStarts[ranks++] = i;
+                }
+            }
+        } else {
+            // stable, so equal hands keep their order of addition
+            Integer[] positions = new Integer[size];
+
+            for (int i = 0; i < size; i++) {
+                positions[i] = i;
+            }
+
+            Comparator<Integer> byHand = Comparator.comparing(hands::get, pokerHandComparator.reversed());
+            Arrays.sort(positions, byHand);
+
+            for (int i = 0; i < size; i++) {
+                rankedPositions[i] = positions[i];
+
+                if (i == 0 || byHand.compare(positions[i], positions[i - 1]) != 0) {
+                    rankStarts[ranks++] = i;
+                }
+            }
+        }
+
+        rankStarts[ranks] = size;
+    }
+
+    /**
+     * @return amount of players added
+     */
+    int size() {
+        return players.size();
+    }
+
+    /**
+     * @param position position of a player, in order of addition
+     * @return that player
+     */
+    Player playerAt(final int position) {
+        return players.get(position);
+    }
+
+    /**
+     * @param position position of a player, in order of addition
+     * @return that player's poker hand
+     */
+    PokerHand handAt(final int position) {
+        return hands.get(position);
+    }
+
+    /**
+     * @return amount of players holding the best hand
+     */
+    int winners() {
+        return winners;
+    }
+
+    /**
+     * @param index index among the winners
+     * @return position of that winner, in order of addition
+     */
+    int winnerPosition(final int index) {
+        return winnerPositions[index];
+    }
+
+    private List<Player> playersOnRank(final int rank) {
+        List<Player> playersOnRank = new ArrayList<>(rankStarts[rank + 1] - rankStarts[rank]);
+
+        for (int i = rankStarts[rank]; i < rankStarts[rank + 1]; i++) {
+            playersOnRank.add(players.get(rankedPositions[i]));
+        }
+
+        return playersOnRank;
+    }
+
+    /**
+     * Distribute the pot among the players by the chips each of them put in, see
+     * {@link #distributePots(int[], int[], int)}. Nobody folded, and pots are split down to single chips.
+     *
+     * @param contributions chips put in by each player, in order of addition
+     * @return chips won by each player, in order of addition
+     */
+    public long[] distributePots(final int[] contributions) {
+        return distributePots(contributions, new int[0], 1);
+    }
+
+    /**
+     * Distribute the pot, split into side pots, among the players by the chips each of them put in.
+     * <br>
+     * A player all-in for less than the others only plays for the main pot: Up to their own contribution from each
+     * player. What the others put in beyond that forms side pots, each contested by the players who paid into it in
+     * full. Each pot goes to the best hand among its contestants and is split evenly on a tie. Shares are paid in whole
+     * chip units. Odd units go one each to the tied players in order of addition, i.e. by seat, starting left of the
+     * button. Folded players' chips don't make pots of their own, and chips that no player still in the hand contests
+     * go to the next lower pot.
+     * <br>
+     * The players are ranked once, by the same sort that ranks the game, and their contributions are sorted once.
+     * Going from the highest contribution down, each pot has the contestants of the pot above plus the players who
+     * put in just enough for this one. So the best hands among them are only ever beaten or joined, and each pot is
+     * resolved in constant time, plus one step per player splitting it.
+     *
+     * @param contributions       chips put in by each player, in order of addition
+     * @param foldedContributions chips put in by players who folded. They feed the pots, but win nothing.
+     * @param chipUnit            smallest chip the pots are split into
+     * @return chips won by each player, in order of addition
+     * @throws IllegalArgumentException if there is not one contribution per player, a contribution is negative, the
+     *                                  chip unit is not positive, or chips were put in but nobody is left to win them
+     */
+    public long[] distributePots(final int[] contributions, final int[] foldedContributions, final int chipUnit) {
+        Objects.requireNonNull(contributions, "Contributions must not be null.");
+        Objects.requireNonNull(foldedContributions, "Folded contributions must not be null.");
+
+        int size = players.size();
+
+        if (contributions.length != size) {
+            throw new IllegalArgumentException(
+                    String.format("Expected one contribution per player, %d in total, got: %d", size,
+                            contributions.length));
+        }
+
+        if (chipUnit <= 0) {
+            throw new IllegalArgumentException(String.format("The chip unit must be positive, got: %d", chipUnit));
+        }
+
+        rank();
+
+        int[] rankOf = new int[size];
+
+        for (int rank = 0; rank < ranks; rank++) {
+            for (int i = rankStarts[rank]; i < rankStarts[rank + 1]; i++) {
+                rankOf[rankedPositions[i]] = rank;
+            }
+        }
+
+        // contribution above the index, folded players are indexed after the players
+        long[] levels = new long[size + foldedContributions.length];
+
+        for (int i = 0; i < levels.length; i++) {
+            int contribution = i < size ? contributions[i] : foldedContributions[i - size];
+
+            if (contribution < 0) {
+                throw new IllegalArgumentException(
+                        String.format("Contributions must not be negative, got: %d", contribution));
+            }
+
+            levels[i] = (long) contribution << POSITION_BITS | i;
+        }
+
+        Arrays.sort(levels);
+
+        long[] payouts = new long[size];
+        int[] contestants = new int[size];
+        int bestContestants = 0;
+        int bestRank = Integer.MAX_VALUE;
+        // chips of the pot being collected, contested by the players from here up
+        long pot = 0;
+        long contestedLevel = Long.MAX_VALUE;
+
+        for (int i = levels.length - 1; i >= 0; i--) {
+            int index = (int) (levels[i] & POSITION_MASK);
+            long level = levels[i] >>> POSITION_BITS;
+
+            if (index < size) {
+                // a player who put in less than the contestants so far starts the next pot down
+                if (level < contestedLevel && bestContestants > 0) {
+                    splitPot(pot, contestants, bestContestants, chipUnit, payouts);
+                    pot = 0;
+                }
+
+                contestedLevel = level;
+
+                if (rankOf[index] <= bestRank) {
+                    if (rankOf[index] < bestRank) {
+                        bestRank = rankOf[index];
+                        bestContestants = 0;
+                    }
+
+                    contestants[bestContestants++] = index;
+                }
+            }
+
+            // everyone from here up paid the difference to the next lower contribution
+            long below = i > 0 ? levels[i - 1] >>> POSITION_BITS : 0;
+            pot += (level - below) * (levels.length - i);
+        }
+
+        if (pot > 0) {
+            if (bestContestants == 0) {
+                throw new IllegalArgumentException("Chips were put in, but no player is left to win them.");
+            }
+
+            splitPot(pot, contestants, bestContestants, chipUnit, payouts);
+        }
+
+        return payouts;
+    }
+
+    /**
+     * Split one pot evenly in whole chip units, odd units going to the first winners by seat.
+     */
+    private static void splitPot(final long pot, final int[] winners, final int amount, final int chipUnit,
+                                 final long[] payouts) {
+        if (pot == 0) {
+            return;
+        }
+
+        long units = pot / chipUnit;
+        long share = units / amount * chipUnit;
+        long oddUnits = units % amount;
+        long oddChips = pot % chipUnit;
+
+        if (amount > 1 && (oddUnits > 0 || oddChips > 0)) {
+            // the winners have no order among each other otherwise, so they can be sorted by seat in place
+            Arrays.sort(winners, 0, amount);
+        }
+
+        for (int i = 0; i < amount; i++) {
+            payouts[winners[i]] += share + (i < oddUnits ? chipUnit : 0);
+        }
+
+        payouts[winners[0]] += oddChips;
+    }
+
     /**
      * return a printable String representation of the player ranks.
      *
@@ -83,55 +435,70 @@ public class GameResult {
      */
     public String printRanks() {
         StringBuilder builder = new StringBuilder();
+        render(() -> writeRanks(builder));
+        return builder.toString();
+    }
 
-        int rankCounter = 0;
+    /**
+     * Write the player ranks as by {@link #printRanks()}, straight into the given destination.
+     *
+     * @param out destination, e.g. a buffered writer
+     * @throws IOException if the destination fails
+     */
+    public void writeRanks(final Appendable out) throws IOException {
+        rank();
 
-        for (List<Player> playersOnThisRank : ranking.values()) {
-            if (playersOnThisRank != null && !playersOnThisRank.isEmpty()) {
-                rankCounter++;
-                for (Player player : playersOnThisRank) {
-                    builder.append(printPlayerAndHand(rankCounter, player));
-                    builder.append("\n");
-                }
+        for (int rank = 0; rank < ranks; rank++) {
+            for (int i = rankStarts[rank]; i < rankStarts[rank + 1]; i++) {
+                writePlayerAndHand(rank + 1, players.get(rankedPositions[i]), out);
+                out.append('\n');
             }
         }
+    }
 
+    public String printPlayerAndHand(final int rank, final Player player) {
+        StringBuilder builder = new StringBuilder();
+        render(() -> writePlayerAndHand(rank, player, builder));
         return builder.toString();
     }
 
-    public String printPlayerAndHand(final int rank, final Player player) {
+    /**
+     * Write one player's rank, name, cards and poker hand as by {@link #printPlayerAndHand(int, Player)}, straight
+     * into the given destination.
+     *
+     * @param rank   rank of the player
+     * @param player player to write
+     * @param out    destination
+     * @throws IOException if the destination fails
+     */
+    public void writePlayerAndHand(final int rank, final Player player, final Appendable out) throws IOException {
         if (!isPlayerPrintable(player)) {
-            return "";
+            return;
         }
 
-        PokerHand playerHand = player.getPokerHand();
-
-        StringBuilder builder = new StringBuilder(rank + "\t" + player.getName() + "\t");
+        HandOfCards hand = player.getHand();
 
-        Iterator<Card> cardIterator = player.getHand().getCards().iterator();
+        out.append(Integer.toString(rank)).append('\t').append(player.getName()).append('\t');
 
-        while (cardIterator.hasNext()) {
-            Card card = cardIterator.next();
-            builder.append(card.cardValue().getCode())
-                    .append(card.cardSuit().getCode());
+        for (int i = 0; i < hand.getAmountOfCards(); i++) {
+            Card card = hand.getCard(i);
 
-            if (cardIterator.hasNext()) {
-                builder.append(" ");
+            if (i > 0) {
+                out.append(' ');
             }
-        }
 
-        builder.append("\t")
-                .append(playerHand.toString());
+            out.append(card.cardValue().getCode()).append(card.cardSuit().getCode());
+        }
 
-        return builder.toString();
+        out.append('\t');
+        player.getPokerHand().appendTo(out);
     }
 
     private boolean isPlayerPrintable(Player player) {
         return player != null
                 && player.getPokerHand() != null
                 && player.getPokerHand().ranking() != null
-                && player.getHand() != null
-                && player.getHand().getCards() != null;
+                && player.getHand() != null;
     }
 
     /**
@@ -140,17 +507,54 @@ public class GameResult {
      * @return String
      */
     public String printFinalResult() {
-        List<Player> winners = resolveWinners();
+        StringBuilder builder = new StringBuilder();
+        render(() -> writeFinalResult(builder));
+        return builder.toString();
+    }
 
-        if (winners.size() == 1) {
-            return winners.getFirst().getName() + " wins.";
+    /**
+     * Write the winner or the players splitting the pot as by {@link #printFinalResult()}, straight into the given
+     * destination.
+     *
+     * @param out destination
+     * @throws IOException if the destination fails
+     */
+    public void writeFinalResult(final Appendable out) throws IOException {
+        if (winners == 0) {
+            return;
         }
 
-        if (winners.size() > 1) {
-            List<String> names = winners.stream().map(Player::getName).toList();
-            return "Players " + String.join(", ", names) + " split the pot.";
+        if (winners == 1) {
+            out.append(players.get(winnerPositions[0]).getName()).append(" wins.");
+            return;
         }
 
-        return "";
+        out.append("Players ");
+
+        for (int i = 0; i < winners; i++) {
+            if (i > 0) {
+                out.append(", ");
+            }
+
+            out.append(players.get(winnerPositions[i]).getName());
+        }
+
+        out.append(" split the pot.");
+    }
+
+    /**
+     * Render into a StringBuilder, which never fails.
+     */
+    private static void render(final Rendering rendering) {
+        try {
+            rendering.run();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface Rendering {
+        void run() throws IOException;
     }
 }
@@ -0,0 +1,39 @@
+package com.yotilla.poker.result;
+
+import com.yotilla.poker.card.HandOfCards;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+
+/**
+ * Description: A destination for the results of many games, one record per game, e.g. a file for later analysis.
+ * <br>
+ * Date: 19.10.2026
+ *
+ * @author Manuel
+ *
+ */
+public interface GameResultSink extends Closeable, Flushable {
+
+    /**
+     * Write the record of one game without community cards.
+     *
+     * @param game   number of the game, e.g. the line it was read from
+     * @param result result of the game
+     * @throws IOException if the destination fails
+     */
+    default void write(long game, GameResult result) throws IOException {
+        write(game, null, result);
+    }
+
+    /**
+     * Write the record of one game.
+     *
+     * @param game           number of the game, e.g. the line it was read from
+     * @param communityCards cards on the board, or null for a game without community cards
+     * @param result         result of the game
+     * @throws IOException if the destination fails
+     */
+    void write(long game, HandOfCards communityCards, GameResult result) throws IOException;
+}
@@ -0,0 +1,213 @@
+package com.yotilla.poker.result;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Description:
+ * Aggregate statistics over many games: How often each seat wins or splits the pot, how often each poker hand
+ * and each hand class shows up, and which poker hands win. Seats are numbered by the order in which players were added
+ * to the result.
+ * <br>
+ * All counters are {@link LongAdder}s, which spread concurrent updates over several cells instead of fighting over
+ * one, so any amount of simulation threads may record into the same instance without locking. Threads may just as
+ * well keep statistics of their own and {@link #merge} them at the end. Counts read while games are still being
+ * recorded are not a consistent snapshot.
+ * <br>
+ * All counts only ever add up, so statistics of separate runs merge in any order and grouping, e.g. through the
+ * {@link StatisticsSnapshot}s of several processes.
+ * <br>
+ * Date: 19.10.2026
+ *
+ * @author Manuel
+ *
+ */
+public class GameStatistics {
+    /**
+     * Most players one deck can seat: 23 players of Texas Hold'em hold 46 cards, with five left for the board.
+     */
+    public static final int MAX_SEATS = 23;
+
+    private static final int RANKINGS = PokerHandRanking.values().length;
+
+    private final LongAdder games = new LongAdder();
+    private final LongAdder[] wins;
+    private final LongAdder[] ties;
+    private final LongAdder[] hands = adders(RANKINGS);
+    private final LongAdder[] winningHands = adders(RANKINGS);
+    private final LongAdder[] classes = adders(HandClassTable.HAND_CLASSES);
+
+    /**
+     * Statistics for up to {@value #MAX_SEATS} seats.
+     */
+    public GameStatistics() {
+        this(MAX_SEATS);
+    }
+
+    /**
+     * @param seats most players per game
+     */
+    public GameStatistics(final int seats) {
+        if (seats <= 0) {
+            throw new IllegalArgumentException(String.format("At least one seat is required, got: %d", seats));
+        }
+
+        this.wins = adders(seats);
+        this.ties = adders(seats);
+    }
+
+    private static LongAdder[] adders(final int amount) {
+        LongAdder[] adders = new LongAdder[amount];
+
+        for (int i = 0; i < amount; i++) {
+            adders[i] = new LongAdder();
+        }
+
+        return adders;
+    }
+
+    /**
+     * Record one game. Safe to call from many threads at once.
+     *
+     * @param result result of the game, holding all its players
+     */
+    public void record(final GameResult result) {
+        Objects.requireNonNull(result, "Game result must not be null.");
+
+        int players = result.size();
+
+        if (players > wins.length) {
+            throw new IllegalArgumentException(
+                    String.format("%d players exceed the %d seats recorded.", players, wins.length));
+        }
+
+        games.increment();
+
+        for (int position = 0; position < players; position++) {
+            PokerHand hand = result.handAt(position);
+            count(hands, hand);
+
+            // incomplete hands belong to no class
+            int classId = hand.ranking() != null ? hand.classId() : 0;
+
+            if (classId > 0) {
+                classes[classId - 1].increment();
+            }
+        }
+
+        int winners = result.winners();
+
+        if (winners == 0) {
+            return;
+        }
+
+        LongAdder[] seats = winners == 1 ? wins : ties;
+
+        for (int i = 0; i < winners; i++) {
+            seats[result.winnerPosition(i)].increment();
+        }
+
+        count(winningHands, result.handAt(result.winnerPosition(0)));
+    }
+
+    private static void count(final LongAdder[] counters, final PokerHand hand) {
+        if (hand.ranking() != null) {
+            counters[hand.ranking().ordinal()].increment();
+        }
+    }
+
+    /**
+     * Add the counts of other statistics to these, e.g. those kept by another thread.
+     *
+     * @param other statistics to add, with no more seats than these
+     */
+    public void merge(final GameStatistics other) {
+        Objects.requireNonNull(other, "Statistics to merge must not be null.");
+
+        if (other.wins.length > wins.length) {
+            throw new IllegalArgumentException(
+                    String.format("Cannot merge %d seats into %d.", other.wins.length, wins.length));
+        }
+
+        games.add(other.games.sum());
+        add(wins, other.wins);
+        add(ties, other.ties);
+        add(hands, other.hands);
+        add(winningHands, other.winningHands);
+        add(classes, other.classes);
+    }
+
+    private static void add(final LongAdder[] counters, final LongAdder[] others) {
+        for (int i = 0; i < others.length; i++) {
+            counters[i].add(others[i].sum());
+        }
+    }
+
+    /**
+     * @return all counters, in the order of a {@link StatisticsSnapshot}: The games, the wins and the ties of each
+     * seat, the frequency and the winning frequency of each poker hand, and the frequency of each hand class
+     */
+    LongAdder[][] counters() {
+        return new LongAdder[][]{{games}, wins, ties, hands, winningHands, classes};
+    }
+
+    /**
+     * @return amount of games recorded
+     */
+    public long getGames() {
+        return games.sum();
+    }
+
+    /**
+     * @return amount of seats recorded
+     */
+    public int getSeats() {
+        return wins.length;
+    }
+
+    /**
+     * @param seat seat, starting at zero
+     * @return amount of games won by this seat alone
+     */
+    public long getWins(final int seat) {
+        return wins[seat].sum();
+    }
+
+    /**
+     * @param seat seat, starting at zero
+     * @return amount of games in which this seat split the pot
+     */
+    public long getTies(final int seat) {
+        return ties[seat].sum();
+    }
+
+    /**
+     * @param ranking poker hand
+     * @return how often any player held this poker hand
+     */
+    public long getFrequency(final PokerHandRanking ranking) {
+        return hands[ranking.ordinal()].sum();
+    }
+
+    /**
+     * @param ranking poker hand
+     * @return amount of games won or split with this poker hand
+     */
+    public long getWinningFrequency(final PokerHandRanking ranking) {
+        return winningHands[ranking.ordinal()].sum();
+    }
+
+    /**
+     * @param classId class id, see {@link PokerHand#classId()}
+     * @return how often any player held a hand of this class
+     * @throws IllegalArgumentException if the class id is out of range
+     */
+    public long getClassFrequency(final int classId) {
+        if (classId < 1 || classId > HandClassTable.HAND_CLASSES) {
+            throw new IllegalArgumentException(String.format("Class ids range from 1 to %d, got: %d",
+                    HandClassTable.HAND_CLASSES, classId));
+        }
+
+        return classes[classId - 1].sum();
+    }
+}
@@ -0,0 +1,224 @@
+package com.yotilla.poker.result;
+
+import com.yotilla.poker.card.Card;
+import com.yotilla.poker.result.evaluator.CardMaskEvaluator;
+
+import java.util.Arrays;
+
+/**
+ * Description: The 7462 equivalence classes of five-card poker hands: Their strengths, as defined by
+ * {@link PokerHand#strength()}, a dense class id for each, and one shared, immutable {@link PokerHand} per class.
+ * <br>
+ * Evaluators hand out these shared instances instead of allocating a new poker hand with two lists per call, so equal
+ * five-card hands are usually the very same object and compare by identity.
+ * <br>
+ * The table is built once, on first use. Instead of dealing all 2,598,960 five-card hands, it only evaluates one
+ * hand per class: Every combination of five card values, plus a flush for every five distinct values. If
+ * {@link PrecomputedTables} are configured, their strengths are taken instead.
+ * <br>
+ * Date: 19.10.2026
+ *
+ * @author Manuel
+ *
+ */
+public final class HandClassTable {
+    /**
+     * Amount of distinct five-card poker hands, and thus the highest class id.
+     */
+    public static final int HAND_CLASSES = 7462;
+
+    private static final int HAND_SIZE = 5;
+
+    // strengths are grouped into buckets by everything above their last three card values
+    private static final int BUCKET_SHIFT = 12;
+
+    // distinct strengths in ascending order
+    private final int[] strengths;
+
+    // shared poker hand of each strength, at the same position
+    private final PokerHand[] hands;
+
+    // first position of each bucket of strengths sharing their ranking and their first two card values
+    private final int[] bucketStart;
+
+    /**
+     * @param strengths all distinct strengths in ascending order
+     */
+    HandClassTable(final int[] strengths) {
+        this.strengths = strengths;
+        hands = new PokerHand[HAND_CLASSES];
+
+        for (int i = 0; i < HAND_CLASSES; i++) {
+            hands[i] = PokerHand.unpack(strengths[i]);
+        }
+
+        bucketStart = new int[(strengths[HAND_CLASSES - 1] >>> BUCKET_SHIFT) + 2];
+
+        for (int bucket = 0, i = 0; bucket < bucketStart.length; bucket++) {
+            while (i < HAND_CLASSES && strengths[i] >>> BUCKET_SHIFT < bucket) {
+                i++;
+            }
+
+            bucketStart[bucket] = i;
+        }
+    }
+
+    /**
+     * Evaluate one hand per class.
+     *
+     * @return all distinct strengths in ascending order
+     */
+    static int[] enumerate() {
+        CardMaskEvaluator evaluator = new CardMaskEvaluator();
+        int[] found = new int[HAND_CLASSES];
+        int[] values = new int[HAND_SIZE];
+        int amount = 0;
+
+        // card values in descending order, each at most four times
+        for (values[0] = Card.SUIT_SIZE - 1; values[0] >= 0; values[0]--) {
+            for (values[1] = values[0]; values[1] >= 0; values[1]--) {
+                for (values[2] = values[1]; values[2] >= 0; values[2]--) {
+                    for (values[3] = values[2]; values[3] >= 0; values[3]--) {
+                        for (values[4] = values[3]; values[4] >= 0; values[4]--) {
+                            if (values[0] == values[4]) {
+                                continue;
+                            }
+
+                            found[amount++] = evaluator.evaluateStrength(mask(values, false));
+
+                            if (distinct(values)) {
+                                found[amount++] = evaluator.evaluateStrength(mask(values, true));
+                            }
+                        }
+                    }
+                }
+            }
+        }
+
+        Arrays.sort(found);
+        return found;
+    }
+
+    /**
+     * Cards of the given values: All of one suit for a flush, otherwise each repeated value in another suit, and
+     * never five of one suit.
+     */
+    private static long mask(final int[] values, final boolean flush) {
+        long mask = 0L;
+
+        for (int i = 0; i < HAND_SIZE; i++) {
+            int suit = 0;
+
+            if (!flush) {
+                while ((mask & (1L << (suit * Card.SUIT_SIZE + values[i]))) != 0) {
+                    suit++;
+                }
+
+                if (i == HAND_SIZE - 1 && distinct(values)) {
+                    suit = 1;
+                }
+            }
+
+            mask |= 1L << (suit * Card.SUIT_SIZE + values[i]);
+        }
+
+        return mask;
+    }
+
+    private static boolean distinct(final int[] values) {
+        for (int i = 1; i < HAND_SIZE; i++) {
+            if (values[i] == values[i - 1]) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * @return the table, built on first access
+     */
+    public static HandClassTable getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * Dense class id of a strength: 1 for the strongest five-card hand, {@value #HAND_CLASSES} for the weakest.
+     * Lower ids are stronger.
+     *
+     * @param strength strength, as produced by {@link PokerHand#strength()}
+     * @return class id, 0 if no five-card hand has this strength
+     */
+    public int classIdOf(final int strength) {
+        int position = find(strength);
+        return position >= 0 ? HAND_CLASSES - position : 0;
+    }
+
+    /**
+     * @param classId class id, see {@link #classIdOf(int)}
+     * @return strength of that class, as produced by {@link PokerHand#strength()}
+     * @throws IllegalArgumentException if the class id is out of range
+     */
+    public int strengthOf(final int classId) {
+        return strengths[positionOf(classId)];
+    }
+
+    /**
+     * @param classId class id, see {@link #classIdOf(int)}
+     * @return the shared poker hand of that class
+     * @throws IllegalArgumentException if the class id is out of range
+     */
+    public PokerHand handOf(final int classId) {
+        return hands[positionOf(classId)];
+    }
+
+    /**
+     * @param strength strength, as produced by {@link PokerHand#strength()}
+     * @return the shared poker hand of this strength, or null if no five-card hand has it
+     */
+    public PokerHand handOfStrength(final int strength) {
+        int position = find(strength);
+        return position >= 0 ? hands[position] : null;
+    }
+
+    private int positionOf(final int classId) {
+        if (classId < 1 || classId > HAND_CLASSES) {
+            throw new IllegalArgumentException(
+                    String.format("Class ids range from 1 to %d, got: %d", HAND_CLASSES, classId));
+        }
+
+        return HAND_CLASSES - classId;
+    }
+
+    /**
+     * @return all distinct strengths in ascending order, shared, not to be modified
+     */
+    int[] strengths() {
+        return strengths;
+    }
+
+    /**
+     * Binary search within the bucket of the strength only, which keeps the lookup short and cache-friendly.
+     *
+     * @return position of the strength, or (-(insertion point) - 1) as by {@link Arrays#binarySearch(int[], int)}
+     */
+    int find(final int strength) {
+        int bucket = strength >>> BUCKET_SHIFT;
+
+        if (bucket >= bucketStart.length - 1) {
+            return -HAND_CLASSES - 1;
+        }
+
+        return Arrays.binarySearch(strengths, bucketStart[bucket], bucketStart[bucket + 1], strength);
+    }
+
+    private static final class Holder {
+        private static final HandClassTable INSTANCE = load();
+
+        private static HandClassTable load() {
+            PrecomputedTables tables = PrecomputedTables.configured();
+            boolean intact = tables != null && tables.isIntact(PrecomputedTables.STRENGTHS);
+            return new HandClassTable(intact ? tables.strengths() : enumerate());
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.yotilla.poker.result;
+
+import com.yotilla.poker.card.Card;
+import com.yotilla.poker.result.evaluator.CardMaskEvaluator;
+
+import java.nio.IntBuffer;
+
+/**
+ * Description: All distinct strengths of five-card poker hands, as defined by {@link PokerHand#strength()},
+ * along with how many of the 2,598,960 possible five-card hands reach each of them.<br>
+ * The table is built once, on first use, by evaluating every five-card hand, unless {@link PrecomputedTables} are
+ * configured: Then the counts are read straight from the mapped file. The strengths themselves are those of the
+ * {@link HandClassTable}.
+ * <br>
+ * Date: 19.10.2026
+ *
+ * @author Manuel
+ *
+ */
+public final class HandStrengthTable {
+    /**
+     * Amount of distinct five-card hands: 52 choose 5.
+     */
+    public static final int FIVE_CARD_HANDS = 2_598_960;
+
+    private final HandClassTable classes;
+
+    // distinct strengths in ascending order
+    private final int[] strengths;
+
+    // amount of hands strictly weaker than the strength at the same position
+    private final IntBuffer weaker;
+
+    // amount of hands of exactly the strength at the same position
+    private final IntBuffer occurrences;
+
+    /**
+     * @param classes     classes of the strengths
+     * @param occurrences amount of hands of exactly the strength at the same position
+     * @param weaker      amount of hands strictly weaker than the strength at the same position
+     */
+    private HandStrengthTable(final HandClassTable classes, final IntBuffer occurrences, final IntBuffer weaker) {
+        this.classes = classes;
+        this.strengths = classes.strengths();
+        this.occurrences = occurrences;
+        this.weaker = weaker;
+    }
+
+    /**
+     * Count the hands of each strength by evaluating every five-card hand.
+     *
+     * @param classes classes of the strengths
+     * @return table of the counts
+     */
+    static HandStrengthTable compute(final HandClassTable classes) {
+        CardMaskEvaluator evaluator = new CardMaskEvaluator();
+        int[] strengths = classes.strengths();
+        int[] weaker = new int[strengths.length];
+        int[] occurrences = new int[strengths.length];
+
+        for (int a = 0; a < Card.INDEX_RANGE; a++) {
+            for (int b = a + 1; b < Card.INDEX_RANGE; b++) {
+                for (int c = b + 1; c < Card.INDEX_RANGE; c++) {
+                    for (int d = c + 1; d < Card.INDEX_RANGE; d++) {
+                        long fourCards = (1L << a) | (1L << b) | (1L << c) | (1L << d);
+
+                        for (int e = d + 1; e < Card.INDEX_RANGE; e++) {
+                            occurrences[classes.find(evaluator.evaluateStrength(fourCards | (1L << e)))]++;
+                        }
+                    }
+                }
+            }
+        }
+
+        for (int i = 1; i < strengths.length; i++) {
+            weaker[i] = weaker[i - 1] + occurrences[i - 1];
+        }
+
+        return new HandStrengthTable(classes, IntBuffer.wrap(occurrences), IntBuffer.wrap(weaker));
+    }
+
+    /**
+     * Take the counts of precomputed tables.
+     *
+     * @param classes classes of the strengths
+     * @param tables  tables holding the counts of these strengths
+     * @return table of the counts, sharing the tables
+     */
+    static HandStrengthTable of(final HandClassTable classes, final PrecomputedTables tables) {
+        return new HandStrengthTable(classes, tables.occurrences(), tables.weaker());
+    }
+
+    /**
+     * @return the table, built on first access
+     */
+    public static HandStrengthTable getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * @return amount of distinct strengths of five-card hands
+     */
+    public int size() {
+        return strengths.length;
+    }
+
+    /**
+     * How many five-card hands reach exactly this strength.
+     *
+     * @param strength strength, as produced by {@link PokerHand#strength()}
+     * @return amount of hands, 0 if no five-card hand has this strength
+     */
+    public int getOccurrences(final int strength) {
+        int position = classes.find(strength);
+        return position >= 0 ? occurrences.get(position) : 0;
+    }
+
+    /**
+     * The share of all five-card hands this strength beats, with ties counting half.
+     * That is the chance to win against a single random five-card hand.
+     *
+     * @param strength strength, as produced by {@link PokerHand#strength()}
+     * @return value between 0 and 1
+     */
+    public double percentile(final int strength) {
+        int position = classes.find(strength);
+
+        if (position >= 0) {
+            return (weaker.get(position) + occurrences.get(position) / 2.0) / FIVE_CARD_HANDS;
+        }
+
+        // Not a five-card strength: It beats everything below its insertion point.
+        int insertion = -position - 1;
+        return insertion < strengths.length ? (double) weaker.get(insertion) / FIVE_CARD_HANDS : 1.0;
+    }
+
+    /**
+     * @return amount of hands of exactly the strength at each position, shared, not to be modified
+     */
+    IntBuffer occurrences() {
+        return occurrences;
+    }
+
+    /**
+     * @return amount of hands strictly weaker than the strength at each position, shared, not to be modified
+     */
+    IntBuffer weaker() {
+        return weaker;
+    }
+
+    private static final class Holder {
+        private static final HandStrengthTable INSTANCE = load();
+
+        private static HandStrengthTable load() {
+            PrecomputedTables tables = PrecomputedTables.configured();
+            HandClassTable classes = HandClassTable.getInstance();
+
+            return tables != null && tables.isIntact(PrecomputedTables.OCCURRENCES, PrecomputedTables.WEAKER)
+                    ? of(classes, tables) : compute(classes);
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package com.yotilla.poker.result;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Description:
+ * Every hand of a list against every other: Which one wins each head-to-head, and how many hands each of them beats,
+ * ties and loses to.
+ * <br>
+ * Instead of comparing all N² pairs, the hands are sorted once by strength and numbered by their level: Equal hands
+ * share a level, stronger hands have higher ones. Any single head-to-head then compares two levels, and the counts
+ * per hand follow from how many hands sit below and on each level. The full matrix is only built on request.
+ * Like the {@link GameResult}, hands whose strength does not describe them completely are sorted by the
+ * {@link PokerHandComparator} instead.
+ * <br>
+ * Date: 19.10.2026
+ *
+ * @author Manuel
+ *
+ */
+public class HeadToHeadMatrix {
+    private static final int INDEX_BITS = Integer.SIZE;
+    private static final long INDEX_MASK = (1L << INDEX_BITS) - 1;
+
+    // level of each hand, in the order given: equal hands share one, stronger hands have higher ones
+    private final int[] levels;
+
+    // amount of hands below each level, and on it
+    private final int[] below;
+    private final int[] on;
+
+    /**
+     * @param hands evaluated hands, none of them null
+     */
+    public HeadToHeadMatrix(final List<PokerHand> hands) {
+        Objects.requireNonNull(hands, "Hands must not be null.");
+
+        boolean exactStrengths = true;
+
+        for (PokerHand hand : hands) {
+            Objects.requireNonNull(hand, "Hands must not contain null.");
+            exactStrengths &= hand.hasExactStrength();
+        }
+
+        levels = new int[hands.size()];
+        int[] levelStarts = new int[hands.size() + 1];
+        int amount = exactStrengths ? levelByStrength(hands, levelStarts) : levelByComparator(hands, levelStarts);
+
+        levelStarts[amount] = hands.size();
+        below = Arrays.copyOf(levelStarts, amount);
+        on = new int[amount];
+
+        for (int level = 0; level < amount; level++) {
+            on[level] = levelStarts[level + 1] - levelStarts[level];
+        }
+    }
+
+    /**
+     * Sort the hands by strength, weakest first, by one sort of a primitive array, and number their levels.
+     *
+     * @return amount of levels
+     */
+    private int levelByStrength(final List<PokerHand> hands, final int[] levelStarts) {
+        long[] entries = new long[hands.size()];
+
+        for (int i = 0; i < entries.length; i++) {
+            entries[i] = (long) hands.get(i).strength() << INDEX_BITS | i;
+        }
+
+        Arrays.sort(entries);
+
+        int amount = 0;
+
+        for (int i = 0; i < entries.length; i++) {
+            if (i == 0 || entries[i] >>> INDEX_BITS != entries[i - 1] >>> INDEX_BITS) {
+                levelStarts[amount++] = i;
+            }
+
+            levels[(int) (entries[i] & INDEX_MASK)] = amount - 1;
+        }
+
+        return amount;
+    }
+
+    /**
+     * Sort the hands by the comparator, weakest first, and number their levels.
+     *
+     * @return amount of levels
+     */
+    private int levelByComparator(final List<PokerHand> hands, final int[] levelStarts) {
+        Integer[] indices = new Integer[hands.size()];
+
+        for (int i = 0; i < indices.length; i++) {
+            indices[i] = i;
+        }
+
+        Comparator<Integer> byHand = Comparator.comparing(hands::get, new PokerHandComparator());
+        Arrays.sort(indices, byHand);
+
+        int amount = 0;
+
+        for (int i = 0; i < indices.length; i++) {
+            if (i == 0 || byHand.compare(indices[i], indices[i - 1]) != 0) {
+                levelStarts[amount++] = i;
+            }
+
+            levels[indices[i]] = amount - 1;
+        }
+
+        return amount;
+    }
+
+    /**
+     * @return amount of hands
+     */
+    public int size() {
+        return levels.length;
+    }
+
+    /**
+     * The head-to-head of two hands.
+     *
+     * @param hand  index of a hand
+     * @param other index of the other hand
+     * @return 1 if the hand wins, -1 if it loses, 0 on a tie
+     */
+    public int outcome(final int hand, final int other) {
+        return Integer.signum(levels[hand] - levels[other]);
+    }
+
+    /**
+     * @param hand index of a hand
+     * @return amount of other hands this hand beats
+     */
+    public int getWins(final int hand) {
+        return below[levels[hand]];
+    }
+
+    /**
+     * @param hand index of a hand
+     * @return amount of other hands this hand ties with
+     */
+    public int getTies(final int hand) {
+        return on[levels[hand]] - 1;
+    }
+
+    /**
+     * @param hand index of a hand
+     * @return amount of other hands this hand loses to
+     */
+    public int getLosses(final int hand) {
+        return levels.length - below[levels[hand]] - on[levels[hand]];
+    }
+
+    /**
+     * Build the full matrix, see {@link #outcome(int, int)}.
+     *
+     * @return outcome of each hand, by row, against each other hand, by column
+     */
+    public byte[][] toMatrix() {
+        byte[][] matrix = new byte[levels.length][levels.length];
+
+        for (int hand = 0; hand < levels.length; hand++) {
+            for (int other = 0; other < levels.length; other++) {
+                matrix[hand][other] = (byte) outcome(hand, other);
+            }
+        }
+
+        return matrix;
+    }
+}
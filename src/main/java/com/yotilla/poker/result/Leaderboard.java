@@ -0,0 +1,207 @@
+package com.yotilla.poker.result;
+
+import com.yotilla.poker.Player;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Description:
+ * The ranks of a live table, kept up to date as players come and go: Players are added one at a time, updated when
+ * their hand improves and removed when they fold, without ranking the whole table again.
+ * <br>
+ * Ranks are counted like those of the {@link GameResult}: Equal hands share a rank, and the next better hand is one
+ * rank above. Each hand is filed under its class id, see {@link PokerHand#classId()}, and a Fenwick tree over all
+ * {@value HandClassTable#HAND_CLASSES} class ids counts which of them are held. Adding, updating and removing a player,
+ * finding the leaders and any player's rank each take O(log n) steps for the number of hand classes.
+ * <br>
+ * A leaderboard is meant to follow one table and is not thread-safe.
+ * <br>
+ * Date: 19.10.2026
+ *
+ * @author Manuel
+ *
+ */
+public class Leaderboard {
+    private static final int CLASSES = HandClassTable.HAND_CLASSES;
+
+    // players holding each class, and the class of each player, in order of addition
+    private final Map<Integer, Set<Player>> playersByClass = new HashMap<>();
+    private final Map<Player, Integer> classByPlayer = new LinkedHashMap<>();
+
+    // Fenwick tree over the class ids, counting 1 for each class held by anyone
+    private final int[] heldClasses = new int[CLASSES + 1];
+
+    /**
+     * Add a player along with their evaluated poker hand.
+     *
+     * @param player player to add
+     * @throws IllegalArgumentException if the player is on the leaderboard already, or holds no complete five-card hand
+     */
+    public void add(final Player player) {
+        Objects.requireNonNull(player, "Player must not be null.");
+
+        if (classByPlayer.containsKey(player)) {
+            throw new IllegalArgumentException(
+                    String.format("Player %s is on the leaderboard already.", player.getName()));
+        }
+
+        file(player, classIdOf(player));
+    }
+
+    /**
+     * @return class id of the player's poker hand
+     * @throws IllegalArgumentException if the player holds no complete five-card hand
+     */
+    private static int classIdOf(final Player player) {
+        PokerHand hand = player.getPokerHand();
+        int classId = hand != null ? hand.classId() : 0;
+
+        if (classId == 0) {
+            throw new IllegalArgumentException(
+                    String.format("Player %s holds no complete five-card hand: %s", player.getName(), hand));
+        }
+
+        return classId;
+    }
+
+    private void file(final Player player, final int classId) {
+        classByPlayer.put(player, classId);
+        Set<Player> holders = playersByClass.computeIfAbsent(classId, id -> new LinkedHashSet<>());
+        holders.add(player);
+
+        if (holders.size() == 1) {
+            markHeld(classId, 1);
+        }
+    }
+
+    /**
+     * Remove a player, e.g. when they fold.
+     *
+     * @param player player to remove
+     * @return true if the player was on the leaderboard
+     */
+    public boolean remove(final Player player) {
+        Integer classId = classByPlayer.remove(player);
+
+        if (classId == null) {
+            return false;
+        }
+
+        Set<Player> holders = playersByClass.get(classId);
+        holders.remove(player);
+
+        if (holders.isEmpty()) {
+            playersByClass.remove(classId);
+            markHeld(classId, -1);
+        }
+
+        return true;
+    }
+
+    /**
+     * File a player again under their current poker hand, e.g. after another community card was dealt.
+     * The player counts as added last among equal hands.
+     *
+     * @param player player whose poker hand changed
+     * @throws IllegalArgumentException if the player holds no complete five-card hand. The leaderboard is left as it
+     *                                  was then.
+     */
+    public void update(final Player player) {
+        Objects.requireNonNull(player, "Player must not be null.");
+        int classId = classIdOf(player);
+
+        remove(player);
+        file(player, classId);
+    }
+
+    /**
+     * @return amount of players on the leaderboard
+     */
+    public int size() {
+        return classByPlayer.size();
+    }
+
+    /**
+     * @return the players holding the best hand, in order of addition. Empty if nobody is on the leaderboard.
+     */
+    public List<Player> getLeaders() {
+        int classId = firstHeld();
+        return classId > CLASSES ? List.of() : List.copyOf(playersByClass.get(classId));
+    }
+
+    /**
+     * @return the player holding the best hand, or null if nobody or more than one player does
+     */
+    public Player getLeader() {
+        int classId = firstHeld();
+
+        if (classId > CLASSES || playersByClass.get(classId).size() > 1) {
+            return null;
+        }
+
+        return playersByClass.get(classId).iterator().next();
+    }
+
+    /**
+     * @param player player to look up
+     * @return rank of the player, 1 for the leaders, 0 if the player is not on the leaderboard
+     */
+    public int getRank(final Player player) {
+        Integer classId = classByPlayer.get(player);
+
+        // every class held by anyone up to and including the player's own
+        return classId != null ? heldUpTo(classId) : 0;
+    }
+
+    /**
+     * @return a game result of all players on the leaderboard, e.g. for printing the ranks
+     */
+    public GameResult toGameResult() {
+        GameResult result = new GameResult();
+
+        for (Player player : classByPlayer.keySet()) {
+            result.addToRanks(player);
+        }
+
+        return result;
+    }
+
+    private void markHeld(final int classId, final int change) {
+        for (int i = classId; i <= CLASSES; i += i & -i) {
+            heldClasses[i] += change;
+        }
+    }
+
+    private int heldUpTo(final int classId) {
+        int held = 0;
+
+        for (int i = classId; i > 0; i -= i & -i) {
+            held += heldClasses[i];
+        }
+
+        return held;
+    }
+
+    /**
+     * Descend the tree to the lowest class id held, the strongest hand.
+     *
+     * @return class id, or more than {@value HandClassTable#HAND_CLASSES} if none is held
+     */
+    private int firstHeld() {
+        int position = 0;
+
+        for (int step = Integer.highestOneBit(CLASSES); step > 0; step >>= 1) {
+            if (position + step <= CLASSES && heldClasses[position + step] == 0) {
+                position += step;
+            }
+        }
+
+        return position + 1;
+    }
+}
@@ -0,0 +1,102 @@
+package com.yotilla.poker.result;
+
+import com.yotilla.poker.card.HandOfCards;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * Description:
+ * Writes one JSON object per game and line (newline-delimited JSON): The number of the game, the community cards,
+ * each player with their name, cards, poker hand ranking and class id, in the order the players were added, and the
+ * names of the winners. The board is empty for games without community cards. E.g.:
+ * <br>
+ * {"game":1,"board":"","players":[{"name":"Player 1","hand":"2D 9C AS AH AC","ranking":"THREE_OF_A_KIND",
+ * "classId":1654},{"name":"Player 2","hand":"3D 6D 7D TD QD","ranking":"FLUSH","classId":1266}],
+ * "winners":["Player 2"]}
+ * <br>
+ * Date: 19.10.2026
+ *
+ * @author Manuel
+ *
+ */
+public class NdjsonResultSink extends BufferedResultSink {
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    /**
+     * @param channel destination, encoded in UTF-8 and closed along with the sink
+     */
+    public NdjsonResultSink(final WritableByteChannel channel) {
+        super(channel);
+    }
+
+    /**
+     * @param out destination, closed along with the sink. Should be buffered, e.g. a ConsoleSink.
+     */
+    public NdjsonResultSink(final Writer out) {
+        super(out);
+    }
+
+    @Override
+    public void write(final long game, final HandOfCards communityCards, final GameResult result)
+            throws IOException {
+        Writer out = out();
+        out.write("{\"game\":");
+        writeNumber(game);
+        out.write(",\"board\":\"");
+        writeCards(communityCards, out);
+        out.write("\",\"players\":[");
+
+        for (int i = 0; i < result.size(); i++) {
+            PokerHand hand = result.handAt(i);
+
+            out.write(i > 0 ? ",{\"name\":" : "{\"name\":");
+            writeString(result.playerAt(i).getName());
+            out.write(",\"hand\":\"");
+            writeCards(result.playerAt(i), out);
+            out.write("\",\"ranking\":\"");
+            out.write(hand.ranking().name());
+            out.write("\",\"classId\":");
+            writeNumber(hand.classId());
+            out.write('}');
+        }
+
+        out.write("],\"winners\":[");
+
+        for (int i = 0; i < result.winners(); i++) {
+            if (i > 0) {
+                out.write(',');
+            }
+
+            writeString(result.playerAt(result.winnerPosition(i)).getName());
+        }
+
+        out.write("]}\n");
+    }
+
+    /**
+     * Write a JSON string, escaping quotes, backslashes and control characters.
+     */
+    private void writeString(final String text) throws IOException {
+        Writer out = out();
+        out.write('"');
+
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+
+            if (c == '"' || c == '\\') {
+                out.write('\\');
+                out.write(c);
+            } else if (c < ' ') {
+                out.write("\\u00");
+                out.write(HEX_DIGITS[c >> 4]);
+                out.write(HEX_DIGITS[c & 0xF]);
+            } else {
+                out.write(c);
+            }
+        }
+
+        out.write('"');
+    }
+}
@@ -3,6 +3,9 @@ package com.yotilla.poker.result;
 import com.yotilla.poker.card.CardValue;
 import org.apache.commons.collections4.CollectionUtils;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -24,27 +27,204 @@ import java.util.List;
  * * @param kickerCards Kicker cards in descending order. A
  */
 public record PokerHand(PokerHandRanking ranking, List<CardValue> rankCards, List<CardValue> kickerCards) {
-    
 
-    @Override
-    public String toString() {
-        StringBuilder sb = new StringBuilder(ranking().name());
+    /**
+     * The ranking score sits above the five card value nibbles of a strength.
+     */
+    private static final int RANKING_SHIFT = 20;
 
-        if (!CollectionUtils.isEmpty(rankCards())) {
-            sb.append(", ");
+    private static final int VALUE_BITS = 4;
+    private static final int VALUE_MASK = 0xF;
+    private static final int MAX_VALUES = 5;
+
+    /**
+     * Packs this poker hand into a single integer: The ranking score, followed by the numerical values
+     * of the rank cards and then the kicker cards, four bits each.<br>
+     * Two well-formed poker hands compare by their strength exactly as they do by the {@link PokerHandComparator},
+     * so the strength can stand in for the hand wherever hands are sorted or compared in bulk.
+     *
+     * @return the strength of this hand, higher is better. 0 if there is no ranking.
+     */
+    public int strength() {
+        if (ranking == null) {
+            return 0;
+        }
+
+        int strength = ranking.getScore();
+        int packed = 0;
+
+        for (CardValue value : rankCards != null ? rankCards : List.<CardValue>of()) {
+            if (packed < MAX_VALUES) {
+                strength = strength << VALUE_BITS | numericalValueOf(value);
+                packed++;
+            }
+        }
+
+        for (CardValue value : kickerCards != null ? kickerCards : List.<CardValue>of()) {
+            if (packed < MAX_VALUES) {
+                strength = strength << VALUE_BITS | numericalValueOf(value);
+                packed++;
+            }
+        }
+
+        // left-align the values, so missing trailing cards count as the lowest possible value.
+        return strength << VALUE_BITS * (MAX_VALUES - packed);
+    }
+
+    /**
+     * Whether {@link #strength()} captures this hand completely: A ranking along with exactly as many rank cards and
+     * kicker cards as it calls for, none of them null. Hands put together by the evaluators always are.
+     * Only then do two hands compare by their strengths exactly as they do by the {@link PokerHandComparator}.
+     *
+     * @return true if the strength stands in for this hand
+     */
+    boolean hasExactStrength() {
+        return ranking != null && rankCards != null && kickerCards != null
+                && rankCards.size() == ranking.getRankCardCount()
+                && kickerCards.size() == ranking.getKickerCardCount()
+                && noneNull(rankCards) && noneNull(kickerCards);
+    }
 
-            List<String> rankCardNames = rankCards().stream().map(CardValue::name).toList();
-            sb.append(String.join(", ", rankCardNames));
+    private static boolean noneNull(final List<CardValue> values) {
+        for (CardValue value : values) {
+            if (value == null) {
+                return false;
+            }
         }
 
-        sb.append(".");
+        return true;
+    }
+
+    private static int numericalValueOf(final CardValue value) {
+        return value != null ? value.getNumericalValue() : 0;
+    }
+
+    /**
+     * Unpacks a strength, as produced by {@link #strength()}, back into a poker hand.
+     * Five-card strengths yield the shared instance of their class, see {@link HandClassTable}.
+     *
+     * @param strength strength to unpack
+     * @return poker hand
+     * @throws IllegalArgumentException if the strength does not describe a poker hand
+     */
+    public static PokerHand ofStrength(final int strength) {
+        PokerHand shared = HandClassTable.getInstance().handOfStrength(strength);
+        return shared != null ? shared : unpack(strength);
+    }
+
+    /**
+     * The shared instance equal to this poker hand, if it is a five-card hand put together completely.
+     *
+     * @param hand poker hand, may be null
+     * @return the shared instance of the hand's class, or the hand itself
+     */
+    public static PokerHand intern(final PokerHand hand) {
+        if (hand == null || !hand.hasExactStrength()) {
+            return hand;
+        }
+
+        PokerHand shared = HandClassTable.getInstance().handOfStrength(hand.strength());
+        return shared != null ? shared : hand;
+    }
+
+    /**
+     * Unpacks a strength into a new poker hand.
+     */
+    static PokerHand unpack(final int strength) {
+        PokerHandRanking ranking = PokerHandRanking.getByScore(strength >>> RANKING_SHIFT);
+
+        List<CardValue> rankCards = new ArrayList<>(ranking.getRankCardCount());
+        List<CardValue> kickerCards = new ArrayList<>(ranking.getKickerCardCount());
+        int shift = RANKING_SHIFT;
+
+        for (int i = 0; i < ranking.getRankCardCount(); i++) {
+            shift -= VALUE_BITS;
+            rankCards.add(CardValue.getByNumericalValue((strength >>> shift) & VALUE_MASK));
+        }
+
+        for (int i = 0; i < ranking.getKickerCardCount(); i++) {
+            shift -= VALUE_BITS;
+            kickerCards.add(CardValue.getByNumericalValue((strength >>> shift) & VALUE_MASK));
+        }
+
+        return new PokerHand(ranking, List.copyOf(rankCards), List.copyOf(kickerCards));
+    }
+
+    /**
+     * Dense id of this hand's equivalence class among all five-card hands, from 1 for a royal flush to
+     * {@value HandClassTable#HAND_CLASSES} for seven high. Lower ids are stronger, so two hands compare by a single
+     * int, and the id can index plain arrays.
+     *
+     * @return class id, 0 if no five-card hand is equivalent to this one
+     * @see HandClassTable#classIdOf(int)
+     */
+    public int classId() {
+        return HandClassTable.getInstance().classIdOf(strength());
+    }
+
+    /**
+     * Looks up the canonical poker hand of a class id.
+     *
+     * @param classId class id, see {@link #classId()}
+     * @return poker hand, shared by all callers
+     * @throws IllegalArgumentException if the class id is out of range
+     */
+    public static PokerHand ofClassId(final int classId) {
+        return HandClassTable.getInstance().handOf(classId);
+    }
+
+    /**
+     * Reads the ranking score from a strength without unpacking the whole hand.
+     *
+     * @param strength strength, as produced by {@link #strength()}
+     * @return score of the ranking, see {@link PokerHandRanking#getScore()}
+     */
+    public static int scoreOf(final int strength) {
+        return strength >>> RANKING_SHIFT;
+    }
+
+    /**
+     * Write this poker hand as by {@link #toString()}, straight into the given destination.
+     *
+     * @param out destination
+     * @throws IOException if the destination fails
+     */
+    public void appendTo(final Appendable out) throws IOException {
+        out.append(ranking().name());
+
+        if (!CollectionUtils.isEmpty(rankCards())) {
+            out.append(", ");
+            appendNames(rankCards(), out);
+        }
+
+        out.append('.');
 
         if (kickerCards() != null && !kickerCards().isEmpty()) {
-            sb.append(" Kickers: ");
+            out.append(" Kickers: ");
+            appendNames(kickerCards(), out);
+            out.append('.');
+        }
+    }
+
+    private static void appendNames(final List<CardValue> values, final Appendable out) throws IOException {
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                out.append(", ");
+            }
+
+            out.append(values.get(i).name());
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
 
-            List<String> kickerCardNames = kickerCards().stream().map(CardValue::name).toList();
-            sb.append(String.join(", ", kickerCardNames));
-            sb.append(".");
+        try {
+            appendTo(sb);
+        } catch (IOException e) {
+            // a StringBuilder does not fail.
+            throw new UncheckedIOException(e);
         }
 
         return sb.toString();
@@ -3,30 +3,39 @@ package com.yotilla.poker.result;
 /**
  * Description: The possible poker hands, along with a numerical score for
  * comparison. <br>
+ * Each ranking also knows how many rank cards and kicker cards describe it completely,
+ * e.g. two pairs are described by two rank cards and one kicker card.
+ * <br>
  * Date: 27.12.2020
  *
  * @author Manuel
  *
  */
 public enum PokerHandRanking {
-    HIGH_CARD(1),
-    ONE_PAIR(2),
-    TWO_PAIRS(3),
-    THREE_OF_A_KIND(4),
-    STRAIGHT(5),
-    FLUSH(6),
-    FULL_HOUSE(7),
-    FOUR_OF_A_KIND(8),
-    STRAIGHT_FLUSH(9),
-    ROYAL_FLUSH(10);
+    HIGH_CARD(1, 5, 0),
+    ONE_PAIR(2, 1, 3),
+    TWO_PAIRS(3, 2, 1),
+    THREE_OF_A_KIND(4, 1, 2),
+    STRAIGHT(5, 1, 0),
+    FLUSH(6, 5, 0),
+    FULL_HOUSE(7, 2, 0),
+    FOUR_OF_A_KIND(8, 1, 1),
+    STRAIGHT_FLUSH(9, 1, 0),
+    ROYAL_FLUSH(10, 0, 0);
 
     private final int score;
+    private final int rankCardCount;
+    private final int kickerCardCount;
 
     /**
-     * @param score
+     * @param score           numerical score, higher is better
+     * @param rankCardCount   amount of rank cards describing this ranking
+     * @param kickerCardCount amount of kicker cards describing this ranking
      */
-    private PokerHandRanking(int score) {
+    private PokerHandRanking(int score, int rankCardCount, int kickerCardCount) {
         this.score = score;
+        this.rankCardCount = rankCardCount;
+        this.kickerCardCount = kickerCardCount;
     }
 
     /**
@@ -35,4 +44,33 @@ public enum PokerHandRanking {
     public int getScore() {
         return score;
     }
+
+    /**
+     * @return the amount of rank cards describing this ranking
+     */
+    public int getRankCardCount() {
+        return rankCardCount;
+    }
+
+    /**
+     * @return the amount of kicker cards describing this ranking
+     */
+    public int getKickerCardCount() {
+        return kickerCardCount;
+    }
+
+    /**
+     * Returns the ranking with this score, if one exists.
+     *
+     * @param scoreToMatch score to match
+     * @return poker hand ranking
+     * @throws IllegalArgumentException if no ranking has this score
+     */
+    public static PokerHandRanking getByScore(final int scoreToMatch) {
+        if (scoreToMatch < 1 || scoreToMatch > values().length) {
+            throw new IllegalArgumentException(String.format("No poker hand ranking found for score: %d", scoreToMatch));
+        }
+
+        return values()[scoreToMatch - 1];
+    }
 }
@@ -0,0 +1,267 @@
+package com.yotilla.poker.result;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.zip.CRC32C;
+
+/**
+ * Description:
+ * The lookup tables of the {@link HandClassTable} and the {@link HandStrengthTable}, built once and saved into a file,
+ * so a JVM maps the file instead of evaluating millions of hands on every start. The file is mapped read-only, so all
+ * JVMs on a machine share one copy through the page cache.
+ * <br>
+ * The file starts with a header of {@value #HEADER_SIZE} bytes: A magic number, the format version, two bytes
+ * reserved, the amount of hand classes, and a CRC-32C checksum of each table. The tables follow as ints, one per hand
+ * class each: The strengths in ascending order, the amount of five-card hands of each strength, and the amount of
+ * hands weaker than each.
+ * <br>
+ * The tables are used once the system property {@value #FILE_PROPERTY} names such a file. The header is checked when
+ * the file is mapped, the checksum of a table on its first use, so the pages of tables never used are never read. A
+ * file that is missing or of another version is left aside with a warning logged, as is a damaged table, and the
+ * tables left aside are built as if none was configured.
+ * <br>
+ * Date: 19.10.2026
+ *
+ * @author Manuel
+ *
+ */
+public final class PrecomputedTables {
+    /**
+     * System property naming the file of the tables.
+     */
+    public static final String FILE_PROPERTY = "com.yotilla.poker.tables";
+
+    static final int HEADER_SIZE = 24;
+
+    /**
+     * Number of the table of strengths.
+     */
+    static final int STRENGTHS = 0;
+
+    /**
+     * Number of the table of the amount of hands of each strength.
+     */
+    static final int OCCURRENCES = 1;
+
+    /**
+     * Number of the table of the amount of hands weaker than each strength.
+     */
+    static final int WEAKER = 2;
+
+    // "PKRT"
+    private static final int MAGIC = 0x504B5254;
+    private static final short VERSION = 2;
+    private static final int TABLES = 3;
+    private static final int CHECKSUM_OFFSET = 12;
+
+    private static final Logger LOGGER = Logger.getLogger(PrecomputedTables.class.getName());
+
+    private final Path file;
+    private final ByteBuffer content;
+
+    // bit of each table whose checksum matched, guarded by this
+    private int verified;
+
+    private PrecomputedTables(final Path file, final ByteBuffer content) {
+        this.file = file;
+        this.content = content;
+    }
+
+    /**
+     * Build the tables and save them, replacing the file at once, so JVMs mapping the file before keep their copy.
+     *
+     * @param file file to write
+     * @throws IOException if the file cannot be written
+     */
+    public static void build(final Path file) throws IOException {
+        HandClassTable classes = new HandClassTable(HandClassTable.enumerate());
+        HandStrengthTable table = HandStrengthTable.compute(classes);
+        ByteBuffer content = ByteBuffer.allocate(size());
+
+        content.position(HEADER_SIZE);
+        content.asIntBuffer().put(classes.strengths());
+        content.position(HEADER_SIZE + HandClassTable.HAND_CLASSES * Integer.BYTES);
+        content.asIntBuffer().put(table.occurrences().duplicate().rewind());
+        content.position(HEADER_SIZE + 2 * HandClassTable.HAND_CLASSES * Integer.BYTES);
+        content.asIntBuffer().put(table.weaker().duplicate().rewind());
+
+        content.position(0);
+        content.putInt(MAGIC)
+                .putShort(VERSION)
+                .putShort((short) 0)
+                .putInt(HandClassTable.HAND_CLASSES);
+
+        for (int number = 0; number < TABLES; number++) {
+            content.putInt(checksum(content, number));
+        }
+
+        content.position(0);
+
+        Path absolute = file.toAbsolutePath();
+        Path temporary = Files.createTempFile(absolute.getParent(), absolute.getFileName().toString(), ".tmp");
+
+        try {
+            try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.WRITE)) {
+                while (content.hasRemaining()) {
+                    channel.write(content);
+                }
+
+                channel.force(true);
+            }
+
+            Files.move(temporary, absolute, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    /**
+     * Map the tables of a file, checking its header, but not yet its checksum.
+     *
+     * @param file file written by {@link #build(Path)}
+     * @return the mapped tables
+     * @throws IOException if the file cannot be read, or holds no tables of this version
+     */
+    public static PrecomputedTables open(final Path file) throws IOException {
+        ByteBuffer content;
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() != size()) {
+                throw new IOException(String.format("%s holds %d bytes instead of %d.", file, channel.size(),
+                        size()));
+            }
+
+            content = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+
+        if (content.getInt(0) != MAGIC || content.getShort(4) != VERSION
+                || content.getInt(8) != HandClassTable.HAND_CLASSES) {
+            throw new IOException(String.format("%s holds no precomputed tables of version %d.", file, VERSION));
+        }
+
+        return new PrecomputedTables(file, content);
+    }
+
+    /**
+     * Compare the checksum of every table with the one it was saved with. Each table is read on its first check only.
+     *
+     * @throws IOException if a table is damaged
+     */
+    public void verify() throws IOException {
+        for (int table = 0; table < TABLES; table++) {
+            verify(table);
+        }
+    }
+
+    private synchronized void verify(final int table) throws IOException {
+        if ((verified & 1 << table) != 0) {
+            return;
+        }
+
+        if (checksum(content, table) != content.getInt(CHECKSUM_OFFSET + table * Integer.BYTES)) {
+            throw new IOException(String.format("The checksum of table %d of %s does not match.", table, file));
+        }
+
+        verified |= 1 << table;
+    }
+
+    /**
+     * Verify the tables about to be used, logging a warning if one of them is damaged.
+     *
+     * @param tables numbers of the tables, e.g. {@link #STRENGTHS}
+     * @return true if the tables may be used
+     */
+    boolean isIntact(final int... tables) {
+        try {
+            for (int table : tables) {
+                verify(table);
+            }
+
+            return true;
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, String.format("Precomputed tables of %s left aside, building them instead: %s",
+                    file, e.getMessage()));
+            return false;
+        }
+    }
+
+    /**
+     * @return the tables of the file named by {@value #FILE_PROPERTY}, checked but for their checksums, or null if
+     * there are none
+     */
+    static PrecomputedTables configured() {
+        return Configured.TABLES;
+    }
+
+    /**
+     * Map the tables of a file and check its header, logging a warning if they cannot be used. The checksums are
+     * left to the first use of each table, see {@link #isIntact(int...)}.
+     *
+     * @param file file written by {@link #build(Path)}, or null or blank for none
+     * @return the mapped tables, or null if there are none
+     */
+    static PrecomputedTables load(final String file) {
+        if (file == null || file.isBlank()) {
+            return null;
+        }
+
+        try {
+            return open(Path.of(file));
+        } catch (IOException | RuntimeException e) {
+            LOGGER.log(Level.WARNING, String.format("Precomputed tables of %s left aside, building them instead: %s",
+                    file, e.getMessage()));
+            return null;
+        }
+    }
+
+    /**
+     * @return all distinct strengths in ascending order, copied
+     */
+    int[] strengths() {
+        int[] strengths = new int[HandClassTable.HAND_CLASSES];
+        table(STRENGTHS).get(strengths);
+        return strengths;
+    }
+
+    /**
+     * @return amount of hands of exactly the strength at each position
+     */
+    IntBuffer occurrences() {
+        return table(OCCURRENCES);
+    }
+
+    /**
+     * @return amount of hands strictly weaker than the strength at each position
+     */
+    IntBuffer weaker() {
+        return table(WEAKER);
+    }
+
+    private IntBuffer table(final int number) {
+        int start = HEADER_SIZE + number * HandClassTable.HAND_CLASSES * Integer.BYTES;
+        return content.slice(start, HandClassTable.HAND_CLASSES * Integer.BYTES).asIntBuffer();
+    }
+
+    private static int size() {
+        return HEADER_SIZE + TABLES * HandClassTable.HAND_CLASSES * Integer.BYTES;
+    }
+
+    private static int checksum(final ByteBuffer content, final int table) {
+        CRC32C crc = new CRC32C();
+        crc.update(content.slice(HEADER_SIZE + table * HandClassTable.HAND_CLASSES * Integer.BYTES,
+                HandClassTable.HAND_CLASSES * Integer.BYTES));
+        return (int) crc.getValue();
+    }
+
+    private static final class Configured {
+        private static final PrecomputedTables TABLES = load(System.getProperty(FILE_PROPERTY));
+    }
+}
@@ -0,0 +1,291 @@
+package com.yotilla.poker.result;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.CRC32C;
+
+/**
+ * Description:
+ * Saves {@link GameStatistics} in a compact binary form, and reads them back, so a giant simulation may be split into
+ * runs of its own, even in separate processes, and their statistics combined cheaply. A snapshot holds the totals of
+ * its run, not the changes since the one before, so the latest snapshot of a run replaces all earlier ones, and
+ * snapshots of separate runs merge by adding up, in any order and grouping.
+ * <br>
+ * A snapshot starts with a header of {@value #HEADER_SIZE} bytes: A magic number, the format version, the amount of
+ * poker hands, seats and hand classes counted, the size of the counts in bytes, and a CRC-32C checksum of the header
+ * before it and the counts. The counts follow: The games, the wins and the ties of each seat, the frequency and the
+ * winning frequency of each poker hand, and the frequency of each hand class. Each is an unsigned integer of seven
+ * bits per byte, the highest bit set while more bytes follow. Counts still at zero, as are rare hand classes in short
+ * runs, take a single byte, so a snapshot takes less than eight kilobytes for a short run, and about forty for billions
+ * of games.
+ * <br>
+ * {@link StatisticsSnapshotWriter} saves snapshots of a running simulation periodically.
+ * <br>
+ * Date: 19.10.2026
+ *
+ * @author Manuel
+ *
+ */
+public final class StatisticsSnapshot {
+    /**
+     * Bytes ahead of the counts.
+     */
+    public static final int HEADER_SIZE = 24;
+
+    // "PKRS"
+    private static final int MAGIC = 0x504B5253;
+    private static final short VERSION = 2;
+    private static final int CHECKSUM_OFFSET = 20;
+
+    // bytes of the longest count, 64 bits in groups of seven
+    private static final int MAX_COUNT_SIZE = 10;
+    private static final int COUNT_BITS = 7;
+    private static final int MORE_BYTES = 0x80;
+
+    private StatisticsSnapshot() {
+    }
+
+    /**
+     * Take a snapshot of statistics. Counts recorded meanwhile may be left out, see {@link GameStatistics}.
+     *
+     * @param statistics statistics to save
+     * @return the snapshot, from position zero to its limit
+     */
+    public static ByteBuffer encode(final GameStatistics statistics) {
+        Objects.requireNonNull(statistics, "Statistics must not be null.");
+
+        LongAdder[][] counters = statistics.counters();
+        int amount = 0;
+
+        for (LongAdder[] group : counters) {
+            amount += group.length;
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + amount * MAX_COUNT_SIZE);
+        buffer.position(HEADER_SIZE);
+
+        for (LongAdder[] group : counters) {
+            for (LongAdder counter : group) {
+                putCount(buffer, counter.sum());
+            }
+        }
+
+        int size = buffer.position() - HEADER_SIZE;
+        buffer.flip();
+        buffer.putInt(MAGIC)
+                .putShort(VERSION)
+                .putShort((short) PokerHandRanking.values().length)
+                .putInt(statistics.getSeats())
+                .putInt(HandClassTable.HAND_CLASSES)
+                .putInt(size)
+                .putInt(checksum(buffer, 0, size));
+
+        return buffer.position(0);
+    }
+
+    /**
+     * Read a snapshot from the position of a buffer, and move the position behind it, so snapshots may follow each
+     * other, e.g. in a stream received from other processes.
+     *
+     * @param buffer buffer holding a snapshot at its position
+     * @return statistics of the snapshot, with as many seats as were saved
+     * @throws IOException if the buffer holds no complete snapshot of this version, or a damaged one
+     */
+    public static GameStatistics decode(final ByteBuffer buffer) throws IOException {
+        Objects.requireNonNull(buffer, "Buffer must not be null.");
+
+        if (buffer.remaining() < HEADER_SIZE) {
+            throw new IOException(String.format("A statistics snapshot takes at least %d bytes, got: %d", HEADER_SIZE,
+                    buffer.remaining()));
+        }
+
+        int start = buffer.position();
+
+        if (buffer.getInt(start) != MAGIC || buffer.getShort(start + 4) != VERSION) {
+            throw new IOException(String.format("No statistics snapshot of version %d.", VERSION));
+        }
+
+        int rankings = buffer.getShort(start + 6);
+        int seats = buffer.getInt(start + 8);
+        int classes = buffer.getInt(start + 12);
+        int size = buffer.getInt(start + 16);
+
+        if (rankings != PokerHandRanking.values().length || classes != HandClassTable.HAND_CLASSES || seats < 1) {
+            throw new IOException(String.format("Unsupported statistics snapshot of %d poker hands, %d seats and %d "
+                    + "hand classes.", rankings, seats, classes));
+        }
+
+        if (size < 0 || size > buffer.remaining() - HEADER_SIZE) {
+            throw new IOException(String.format("The statistics snapshot is cut off: %d bytes of counts announced, "
+                    + "%d left.", size, buffer.remaining() - HEADER_SIZE));
+        }
+
+        if (checksum(buffer, start, size) != buffer.getInt(start + CHECKSUM_OFFSET)) {
+            throw new IOException("The checksum of the statistics snapshot does not match its header and counts.");
+        }
+
+        // each count takes a byte at least, so the seats cannot claim more memory than the snapshot takes
+        long amount = 1 + 2L * seats + 2L * rankings + classes;
+
+        if (amount > size) {
+            throw new IOException(String.format("The statistics snapshot announces %d counts in %d bytes.", amount,
+                    size));
+        }
+
+        ByteBuffer counts = buffer.slice(start + HEADER_SIZE, size);
+
+        GameStatistics statistics = new GameStatistics(seats);
+
+        try {
+            for (LongAdder[] group : statistics.counters()) {
+                for (LongAdder counter : group) {
+                    counter.add(getCount(counts));
+                }
+            }
+        } catch (BufferUnderflowException e) {
+            throw new IOException("The statistics snapshot holds fewer counts than announced.", e);
+        }
+
+        if (counts.hasRemaining()) {
+            throw new IOException("The statistics snapshot holds more counts than announced.");
+        }
+
+        buffer.position(start + HEADER_SIZE + size);
+        return statistics;
+    }
+
+    /**
+     * Save a snapshot, replacing the file at once, so readers never see half a snapshot, and a crash keeps the one
+     * before.
+     *
+     * @param statistics statistics to save
+     * @param file       file to write
+     * @throws IOException if the file cannot be written
+     */
+    public static void write(final GameStatistics statistics, final Path file) throws IOException {
+        ByteBuffer content = encode(statistics);
+        Path absolute = file.toAbsolutePath();
+        Path temporary = Files.createTempFile(absolute.getParent(), absolute.getFileName().toString(), ".tmp");
+
+        try {
+            try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.WRITE)) {
+                while (content.hasRemaining()) {
+                    channel.write(content);
+                }
+
+                channel.force(true);
+            }
+
+            Files.move(temporary, absolute, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    /**
+     * @param file file written by {@link #write(GameStatistics, Path)}
+     * @return statistics of the snapshot
+     * @throws IOException if the file cannot be read, or holds anything but one intact snapshot
+     */
+    public static GameStatistics read(final Path file) throws IOException {
+        ByteBuffer content = ByteBuffer.wrap(Files.readAllBytes(file));
+        GameStatistics statistics;
+
+        try {
+            statistics = decode(content);
+        } catch (IOException e) {
+            throw new IOException(String.format("%s: %s", file, e.getMessage()), e);
+        }
+
+        if (content.hasRemaining()) {
+            throw new IOException(String.format("%s holds %d bytes behind the statistics snapshot.", file,
+                    content.remaining()));
+        }
+
+        return statistics;
+    }
+
+    /**
+     * Add up the snapshots of several runs.
+     *
+     * @param files files written by {@link #write(GameStatistics, Path)}
+     * @return statistics of all runs, with as many seats as the run of the most
+     * @throws IOException if a file cannot be read, or holds no intact snapshot
+     */
+    public static GameStatistics merge(final Collection<Path> files) throws IOException {
+        Objects.requireNonNull(files, "Files must not be null.");
+
+        if (files.isEmpty()) {
+            throw new IllegalArgumentException("At least one snapshot is required.");
+        }
+
+        List<GameStatistics> runs = new ArrayList<>(files.size());
+        int seats = 1;
+
+        for (Path file : files) {
+            GameStatistics run = read(file);
+            seats = Math.max(seats, run.getSeats());
+            runs.add(run);
+        }
+
+        GameStatistics merged = new GameStatistics(seats);
+
+        for (GameStatistics run : runs) {
+            merged.merge(run);
+        }
+
+        return merged;
+    }
+
+    private static void putCount(final ByteBuffer buffer, final long count) {
+        long rest = count;
+
+        while ((rest & ~(MORE_BYTES - 1L)) != 0) {
+            buffer.put((byte) (rest | MORE_BYTES));
+            rest >>>= COUNT_BITS;
+        }
+
+        buffer.put((byte) rest);
+    }
+
+    private static long getCount(final ByteBuffer buffer) throws IOException {
+        long count = 0;
+
+        for (int shift = 0; ; shift += COUNT_BITS) {
+            byte next = buffer.get();
+
+            // the last byte holds the highest bit only
+            if (shift == (MAX_COUNT_SIZE - 1) * COUNT_BITS && (next & 0xFF) > 1) {
+                throw new IOException(String.format("A count of the statistics snapshot exceeds %d bits.",
+                        Long.SIZE));
+            }
+
+            count |= (long) (next & (MORE_BYTES - 1)) << shift;
+
+            if ((next & MORE_BYTES) == 0) {
+                return count;
+            }
+        }
+    }
+
+    /**
+     * @return checksum of the header ahead of the checksum, and the counts, of the snapshot at the start
+     */
+    private static int checksum(final ByteBuffer buffer, final int start, final int size) {
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.slice(start, CHECKSUM_OFFSET));
+        crc.update(buffer.slice(start + HEADER_SIZE, size));
+        return (int) crc.getValue();
+    }
+}
@@ -0,0 +1,91 @@
+package com.yotilla.poker.result;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Description:
+ * Saves a {@link StatisticsSnapshot} of statistics periodically while a simulation records into them, so a long run
+ * that breaks off keeps its statistics up to the last period, and others may look at them meanwhile. Each snapshot
+ * replaces the one before at once. A snapshot that fails is tried again a period later.
+ * <br>
+ * Closing the writer stops the periodic snapshots and saves a last one, holding every game recorded up to then.
+ * <br>
+ * Date: 19.10.2026
+ *
+ * @author Manuel
+ *
+ */
+public class StatisticsSnapshotWriter implements Closeable {
+    private final GameStatistics statistics;
+    private final Path file;
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+    private volatile IOException failure;
+
+    /**
+     * @param statistics statistics to save
+     * @param file       file to write, replaced with each snapshot
+     * @param period     time between the end of one snapshot and the start of the next
+     */
+    public StatisticsSnapshotWriter(final GameStatistics statistics, final Path file, final Duration period) {
+        this.statistics = Objects.requireNonNull(statistics, "Statistics must not be null.");
+        this.file = Objects.requireNonNull(file, "File must not be null.");
+        Objects.requireNonNull(period, "Period must not be null.");
+
+        if (period.isNegative() || period.isZero()) {
+            throw new IllegalArgumentException(String.format("The period must be positive, got: %s", period));
+        }
+
+        executor.scheduleWithFixedDelay(this::write, period.toNanos(), period.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * @return why the latest periodic snapshot failed, with any unexpected exception as its cause, null if it was saved
+     */
+    public IOException getFailure() {
+        return failure;
+    }
+
+    private void write() {
+        try {
+            StatisticsSnapshot.write(statistics, file);
+            failure = null;
+        } catch (IOException e) {
+            failure = e;
+        } catch (RuntimeException e) {
+            // thrown on, it would cancel the periodic snapshots without a word
+            failure = new IOException(String.format("The statistics snapshot of %s failed unexpectedly.", file), e);
+        }
+    }
+
+    /**
+     * Stop the periodic snapshots, waiting for one in progress, and save the last one.
+     *
+     * @throws IOException if the last snapshot cannot be saved
+     */
+    @Override
+    public void close() throws IOException {
+        if (executor.isShutdown()) {
+            return;
+        }
+
+        // periodic tasks do not run after a shutdown
+        executor.shutdown();
+
+        try {
+            executor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for a statistics snapshot.", e);
+        }
+
+        StatisticsSnapshot.write(statistics, file);
+        failure = null;
+    }
+}
@@ -0,0 +1,302 @@
+package com.yotilla.poker.result.evaluator;
+
+import com.yotilla.poker.card.Card;
+import com.yotilla.poker.card.CardSuit;
+import com.yotilla.poker.card.HandOfCards;
+import com.yotilla.poker.result.PokerHand;
+import com.yotilla.poker.result.PokerHandRanking;
+
+import java.util.Collection;
+import java.util.Objects;
+
+/**
+ * Description:
+ * Finds the best five-card poker hand among any five or more cards in a single pass.
+ * The cards are encoded as a 52-bit mask, one bit per {@link Card#index()}, so each suit
+ * occupies thirteen bits ordered from two to ace. Rankings are then detected with a handful of
+ * bit operations on the suit masks instead of walking the evaluator chain once per five-card combination.
+ * <br>
+ * This is the evaluation path for seven cards in Texas Hold'em. It agrees with the evaluator chain on
+ * five-card hands.
+ * <br>
+ * Date: 19.10.2026
+ *
+ * @author Manuel
+ *
+ */
+public class CardMaskEvaluator implements PokerHandEvaluator {
+    // A poker hand consists of five cards.
+    static final int POKER_HAND_SIZE = 5;
+
+    private static final int SUIT_BITS = Card.SUIT_SIZE;
+    private static final int SUIT_MASK = (1 << SUIT_BITS) - 1;
+    private static final int ACE = SUIT_BITS - 1;
+    private static final int VALUE_BITS = 4;
+
+    // rank 0 is the two, whose numerical value is 2.
+    private static final int RANK_TO_VALUE = 2;
+
+    /**
+     * Encode cards as a card mask.
+     *
+     * @param cards cards to encode
+     * @return card mask
+     */
+    public static long toMask(final Collection<Card> cards) {
+        Objects.requireNonNull(cards, "Cards must not be null.");
+
+        long mask = 0L;
+
+        for (Card card : cards) {
+            mask |= 1L << card.index();
+        }
+
+        return mask;
+    }
+
+    /**
+     * Encode a hand of cards as a card mask.
+     *
+     * @param hand hand to encode
+     * @return card mask
+     */
+    public static long toMask(final HandOfCards hand) {
+        Objects.requireNonNull(hand, "Hand must not be null.");
+        return toMask(hand.getCards());
+    }
+
+    /**
+     * Evaluates the best five cards of this hand.
+     *
+     * @param hand Hand of cards provided
+     * @return poker hand, or null if the hand is null
+     */
+    @Override
+    public PokerHand evaluate(final HandOfCards hand) {
+        if (hand == null) {
+            return null;
+        }
+
+        return evaluate(toMask(hand));
+    }
+
+    /**
+     * Evaluates the best five cards of this card mask.
+     *
+     * @param cardMask cards, encoded as by {@link #toMask(Collection)}
+     * @return poker hand
+     * @throws IllegalArgumentException if the mask holds less than five cards
+     */
+    public PokerHand evaluate(final long cardMask) {
+        return PokerHand.ofStrength(evaluateStrength(cardMask));
+    }
+
+    /**
+     * Evaluates the best five cards of this card mask to their strength, as defined by {@link PokerHand#strength()}.
+     *
+     * @param cardMask cards, encoded as by {@link #toMask(Collection)}
+     * @return strength of the best poker hand
+     * @throws IllegalArgumentException if the mask holds less than five cards or bits beyond the deck
+     */
+    public int evaluateStrength(final long cardMask) {
+        if (Long.bitCount(cardMask) < POKER_HAND_SIZE || (cardMask >>> Card.INDEX_RANGE) != 0) {
+            throw new IllegalArgumentException(
+                    String.format("A card mask must hold at least %d valid cards: %x", POKER_HAND_SIZE, cardMask));
+        }
+
+        return evaluateStrength(suitMask(cardMask, CardSuit.CLUBS), suitMask(cardMask, CardSuit.DIAMONDS),
+                suitMask(cardMask, CardSuit.HEARTS), suitMask(cardMask, CardSuit.SPADES), true);
+    }
+
+    /**
+     * Evaluates five or more cards by their ranks alone, ignoring flushes. Instead of suits, the mask holds
+     * occurrences: The first block of thirteen bits holds each rank present, the second block each rank present
+     * at least twice, and so on. This is the cheaper path for combinations that cannot be a flush anyway.
+     *
+     * @param occurrenceMask ranks, encoded as by {@link #addOccurrence(long, int)}
+     * @return strength of the best poker hand, disregarding flushes
+     */
+    static int evaluateRankStrength(final long occurrenceMask) {
+        return evaluateStrength(suitMask(occurrenceMask, CardSuit.CLUBS), suitMask(occurrenceMask, CardSuit.DIAMONDS),
+                suitMask(occurrenceMask, CardSuit.HEARTS), suitMask(occurrenceMask, CardSuit.SPADES), false);
+    }
+
+    /**
+     * Add one more card of this rank to an occurrence mask, as read by {@link #evaluateRankStrength(long)}.
+     *
+     * @param occurrenceMask ranks so far
+     * @param rank           rank to add, 0 for the two up to 12 for the ace
+     * @return occurrence mask holding the rank once more
+     */
+    static long addOccurrence(final long occurrenceMask, final int rank) {
+        long bit = 1L << rank;
+
+        while ((occurrenceMask & bit) != 0) {
+            bit <<= SUIT_BITS;
+        }
+
+        return occurrenceMask | bit;
+    }
+
+    private static int evaluateStrength(final int clubs, final int diamonds, final int hearts, final int spades,
+                                        final boolean withFlushes) {
+        // Straight flushes beat everything, so look for them first.
+        int straightFlushHigh = !withFlushes ? -1 : Math.max(
+                Math.max(straightFlushHigh(clubs), straightFlushHigh(diamonds)),
+                Math.max(straightFlushHigh(hearts), straightFlushHigh(spades)));
+
+        if (straightFlushHigh == ACE) {
+            return leftAlign(PokerHandRanking.ROYAL_FLUSH.getScore(), 0);
+        }
+
+        if (straightFlushHigh >= 0) {
+            return leftAlign(append(PokerHandRanking.STRAIGHT_FLUSH.getScore(), straightFlushHigh), 1);
+        }
+
+        // Count the cards per rank by adding up the four suit masks bit by bit.
+        // ones, twos and fours are the binary digits of the count per rank.
+        int ones = clubs ^ diamonds;
+        int twos = clubs & diamonds;
+        int carry = ones & hearts;
+        ones ^= hearts;
+        int fours = twos & carry;
+        twos ^= carry;
+        carry = ones & spades;
+        ones ^= spades;
+        fours |= twos & carry;
+        twos ^= carry;
+
+        int anyRank = clubs | diamonds | hearts | spades;
+        int triples = twos & ones;
+        int pairs = twos & ~ones;
+
+        if (fours != 0) {
+            int quad = highestRank(fours);
+            int strength = append(PokerHandRanking.FOUR_OF_A_KIND.getScore(), quad);
+            return leftAlign(append(strength, highestRank(anyRank & ~(1 << quad))), 2);
+        }
+
+        if (triples != 0) {
+            int triple = highestRank(triples);
+            int pairCandidates = pairs | (triples & ~(1 << triple));
+
+            if (pairCandidates != 0) {
+                int strength = append(PokerHandRanking.FULL_HOUSE.getScore(), triple);
+                return leftAlign(append(strength, highestRank(pairCandidates)), 2);
+            }
+        }
+
+        int flush = !withFlushes ? 0 : Math.max(Math.max(flushStrength(clubs), flushStrength(diamonds)),
+                Math.max(flushStrength(hearts), flushStrength(spades)));
+
+        if (flush > 0) {
+            return flush;
+        }
+
+        int straightHigh = straightHigh(anyRank);
+
+        if (straightHigh >= 0) {
+            return leftAlign(append(PokerHandRanking.STRAIGHT.getScore(), straightHigh), 1);
+        }
+
+        if (triples != 0) {
+            int triple = highestRank(triples);
+            int strength = append(PokerHandRanking.THREE_OF_A_KIND.getScore(), triple);
+            return leftAlign(appendHighest(strength, anyRank & ~(1 << triple), 2), 3);
+        }
+
+        if (Integer.bitCount(pairs) >= 2) {
+            int highPair = highestRank(pairs);
+            int lowPair = highestRank(pairs & ~(1 << highPair));
+            int strength = append(append(PokerHandRanking.TWO_PAIRS.getScore(), highPair), lowPair);
+            return leftAlign(append(strength, highestRank(anyRank & ~(1 << highPair) & ~(1 << lowPair))), 3);
+        }
+
+        if (pairs != 0) {
+            int pair = highestRank(pairs);
+            int strength = append(PokerHandRanking.ONE_PAIR.getScore(), pair);
+            return leftAlign(appendHighest(strength, anyRank & ~(1 << pair), 3), 4);
+        }
+
+        return appendHighest(PokerHandRanking.HIGH_CARD.getScore(), anyRank, POKER_HAND_SIZE);
+    }
+
+    /**
+     * @param cardMask cards, encoded as by {@link #toMask(Collection)}
+     * @return the thirteen rank bits of all ranks present in the card mask
+     */
+    static int toRankMask(final long cardMask) {
+        return suitMask(cardMask, CardSuit.CLUBS) | suitMask(cardMask, CardSuit.DIAMONDS)
+                | suitMask(cardMask, CardSuit.HEARTS) | suitMask(cardMask, CardSuit.SPADES);
+    }
+
+    /**
+     * @return the thirteen rank bits of one suit within the card mask
+     */
+    static int suitMask(final long cardMask, final CardSuit suit) {
+        return (int) (cardMask >>> (suit.ordinal() * SUIT_BITS)) & SUIT_MASK;
+    }
+
+    /**
+     * Find the highest rank that leads five consecutive ranks in this rank mask.
+     * An ace may also start a straight below the two.
+     *
+     * @param rankMask ranks, one bit each
+     * @return highest rank of the best straight, -1 if there is none
+     */
+    static int straightHigh(final int rankMask) {
+        // Shift all ranks up by one and let the ace re-enter at the bottom.
+        int shifted = (rankMask << 1) | (rankMask >>> ACE);
+        int runs = shifted & (shifted >>> 1) & (shifted >>> 2) & (shifted >>> 3) & (shifted >>> 4);
+
+        if (runs == 0) {
+            return -1;
+        }
+
+        // A run starting at bit i of the shifted mask ends at rank i + 3 of the original mask.
+        return highestRank(runs) + 3;
+    }
+
+    private static int straightFlushHigh(final int suitMask) {
+        return Integer.bitCount(suitMask) >= POKER_HAND_SIZE ? straightHigh(suitMask) : -1;
+    }
+
+    private static int flushStrength(final int suitMask) {
+        if (Integer.bitCount(suitMask) < POKER_HAND_SIZE) {
+            return 0;
+        }
+
+        return appendHighest(PokerHandRanking.FLUSH.getScore(), suitMask, POKER_HAND_SIZE);
+    }
+
+    static int highestRank(final int rankMask) {
+        return Integer.SIZE - 1 - Integer.numberOfLeadingZeros(rankMask);
+    }
+
+    private static int append(final int strength, final int rank) {
+        return strength << VALUE_BITS | (rank + RANK_TO_VALUE);
+    }
+
+    /**
+     * Append the highest ranks from the rank mask to the strength, highest first.
+     */
+    private static int appendHighest(final int strength, final int rankMask, final int amount) {
+        int result = strength;
+        int remaining = rankMask;
+
+        for (int i = 0; i < amount; i++) {
+            int rank = highestRank(remaining);
+            result = append(result, rank);
+            remaining &= ~(1 << rank);
+        }
+
+        return result;
+    }
+
+    /**
+     * Shift a strength holding only some card values up, so it lines up with five-value strengths.
+     */
+    private static int leftAlign(final int strength, final int appendedValues) {
+        return strength << VALUE_BITS * (POKER_HAND_SIZE - appendedValues);
+    }
+}
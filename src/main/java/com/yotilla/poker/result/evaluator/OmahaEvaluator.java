@@ -0,0 +1,267 @@
+package com.yotilla.poker.result.evaluator;
+
+import com.yotilla.poker.card.Card;
+import com.yotilla.poker.card.CardSuit;
+import com.yotilla.poker.card.HandOfCards;
+import com.yotilla.poker.result.PokerHand;
+import com.yotilla.poker.result.PokerHandRanking;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Description:
+ * Finds the best Omaha hand: Exactly two of the hole cards plus exactly three of the community cards.
+ * <br>
+ * Four hole cards and five community cards make 60 combinations. Rather than evaluating every one of them, the
+ * evaluator splits them up: A flush is only possible where two suited hole cards meet three community cards of the
+ * same suit, so only these combinations are evaluated as cards. All others are evaluated by their ranks alone, and
+ * combinations sharing the same ranks are evaluated once. The community cards are prepared once per board and
+ * reused for every player.
+ * <br>
+ * Date: 19.10.2026
+ *
+ * @author Manuel
+ *
+ */
+public class OmahaEvaluator {
+    /**
+     * Amount of hole cards a player must use.
+     */
+    public static final int HOLE_CARDS_USED = 2;
+
+    /**
+     * Amount of community cards a player must use.
+     */
+    public static final int COMMUNITY_CARDS_USED = 3;
+
+    private static final int SUITS = CardSuit.values().length;
+
+    // Lowest possible strengths of these rankings. They bound what the rank-only combinations can still achieve.
+    private static final int FLUSH_STRENGTH =
+            new PokerHand(PokerHandRanking.FLUSH, List.of(), List.of()).strength();
+    private static final int STRAIGHT_FLUSH_STRENGTH =
+            new PokerHand(PokerHandRanking.STRAIGHT_FLUSH, List.of(), List.of()).strength();
+
+    private final CardMaskEvaluator cardMaskEvaluator;
+
+    public OmahaEvaluator(final CardMaskEvaluator cardMaskEvaluator) {
+        this.cardMaskEvaluator = cardMaskEvaluator;
+    }
+
+    /**
+     * Evaluate the best Omaha hand of a player.
+     *
+     * @param holeCards      the player's hole cards
+     * @param communityCards the board
+     * @return poker hand, or null if either hand is null
+     * @throws IllegalArgumentException if there are less than two hole cards or three community cards
+     */
+    public PokerHand evaluate(final HandOfCards holeCards, final HandOfCards communityCards) {
+        if (holeCards == null || communityCards == null) {
+            return null;
+        }
+
+        Combinations board = prepareCommunityCards(CardMaskEvaluator.toMask(communityCards));
+        return PokerHand.ofStrength(evaluateStrength(CardMaskEvaluator.toMask(holeCards), board));
+    }
+
+    /**
+     * Prepare the community cards once, so they can be reused for each player at the table.
+     *
+     * @param communityCardMask community cards, encoded as by {@link CardMaskEvaluator#toMask(HandOfCards)}
+     * @return all combinations of three community cards
+     * @throws IllegalArgumentException if there are less than three community cards
+     */
+    public Combinations prepareCommunityCards(final long communityCardMask) {
+        return new Combinations(communityCardMask, COMMUNITY_CARDS_USED);
+    }
+
+    /**
+     * Evaluate the best combination of two hole cards and three community cards.
+     *
+     * @param holeCardMask   hole cards, encoded as by {@link CardMaskEvaluator#toMask(HandOfCards)}
+     * @param communityCards prepared community cards
+     * @return strength of the best poker hand, as defined by {@link PokerHand#strength()}
+     * @throws IllegalArgumentException if there are less than two hole cards
+     */
+    public int evaluateStrength(final long holeCardMask, final Combinations communityCards) {
+        if (Long.bitCount(holeCardMask) < HOLE_CARDS_USED) {
+            throw new IllegalArgumentException(
+                    String.format("At least %d hole cards are required: %x", HOLE_CARDS_USED, holeCardMask));
+        }
+
+        int best = 0;
+        boolean holeCardsPaired = false;
+
+        // Flushes first: Suited hole cards meet community cards of the very same suit.
+        for (long first = holeCardMask; first != 0; first &= first - 1) {
+            int firstIndex = Long.numberOfTrailingZeros(first);
+
+            for (long second = first & (first - 1); second != 0; second &= second - 1) {
+                int secondIndex = Long.numberOfTrailingZeros(second);
+                int suit = firstIndex / Card.SUIT_SIZE;
+
+                holeCardsPaired |= firstIndex % Card.SUIT_SIZE == secondIndex % Card.SUIT_SIZE;
+
+                if (suit == secondIndex / Card.SUIT_SIZE) {
+                    long holeMask = (1L << firstIndex) | (1L << secondIndex);
+
+                    for (long communityMask : communityCards.suited[suit]) {
+                        best = Math.max(best, cardMaskEvaluator.evaluateStrength(holeMask | communityMask));
+                    }
+                }
+            }
+        }
+
+        // Without a pair among the cards, nothing but a flush or better beats a straight.
+        if (best >= STRAIGHT_FLUSH_STRENGTH || best >= FLUSH_STRENGTH && !communityCards.paired && !holeCardsPaired) {
+            return best;
+        }
+
+        // Everything else depends on the ranks only.
+        for (long first = holeCardMask; first != 0; first &= first - 1) {
+            int firstRank = Long.numberOfTrailingZeros(first) % Card.SUIT_SIZE;
+
+            for (long second = first & (first - 1); second != 0; second &= second - 1) {
+                int secondRank = Long.numberOfTrailingZeros(second) % Card.SUIT_SIZE;
+
+                for (long communityRanks : communityCards.ranks) {
+                    long occurrences = CardMaskEvaluator.addOccurrence(
+                            CardMaskEvaluator.addOccurrence(communityRanks, firstRank), secondRank);
+                    best = Math.max(best, CardMaskEvaluator.evaluateRankStrength(occurrences));
+                }
+            }
+        }
+
+        return best;
+    }
+
+    /**
+     * Evaluate every combination of two hole cards and three community cards on its own.
+     * This is the straightforward reference for {@link #evaluateStrength(long, Combinations)}.
+     *
+     * @param holeCardMask      hole cards, encoded as by {@link CardMaskEvaluator#toMask(HandOfCards)}
+     * @param communityCardMask community cards, encoded as by {@link CardMaskEvaluator#toMask(HandOfCards)}
+     * @return strength of the best poker hand, as defined by {@link PokerHand#strength()}
+     */
+    public int evaluateStrengthNaive(final long holeCardMask, final long communityCardMask) {
+        int best = 0;
+
+        for (long holeMask : subsets(holeCardMask, HOLE_CARDS_USED)) {
+            for (long communityMask : subsets(communityCardMask, COMMUNITY_CARDS_USED)) {
+                best = Math.max(best, cardMaskEvaluator.evaluateStrength(holeMask | communityMask));
+            }
+        }
+
+        return best;
+    }
+
+    /**
+     * All subsets of a card mask holding exactly this many cards.
+     */
+    static long[] subsets(final long cardMask, final int size) {
+        int cards = Long.bitCount(cardMask);
+
+        if (cards < size) {
+            throw new IllegalArgumentException(
+                    String.format("At least %d cards are required, got %d.", size, cards));
+        }
+
+        long[] result = new long[binomial(cards, size)];
+        collectSubsets(cardMask, size, 0L, result, 0);
+        return result;
+    }
+
+    private static int collectSubsets(final long remaining, final int missing, final long chosen,
+                                      final long[] result, final int filled) {
+        if (missing == 0) {
+            result[filled] = chosen;
+            return filled + 1;
+        }
+
+        int count = filled;
+
+        for (long bits = remaining; Long.bitCount(bits) >= missing; bits &= bits - 1) {
+            long lowest = bits & -bits;
+            count = collectSubsets(bits & ~lowest, missing - 1, chosen | lowest, result, count);
+        }
+
+        return count;
+    }
+
+    private static int binomial(final int n, final int k) {
+        int result = 1;
+
+        for (int i = 1; i <= k; i++) {
+            result = result * (n - k + i) / i;
+        }
+
+        return result;
+    }
+
+    /**
+     * All combinations of a fixed amount of cards out of the community cards, prepared for evaluation:
+     * Once as distinct occurrence masks of their ranks, see {@link CardMaskEvaluator#evaluateRankStrength(long)},
+     * and once as card masks of the combinations that lie within a single suit.
+     */
+    public static final class Combinations {
+        private final long[] ranks;
+        private final long[][] suited;
+        private final boolean paired;
+
+        private Combinations(final long cardMask, final int size) {
+            long[] subsets = subsets(cardMask, size);
+            long[] distinctRanks = new long[subsets.length];
+            int distinct = 0;
+
+            suited = new long[SUITS][];
+            int[] suitedCount = new int[suited.length];
+            long[][] suitedCandidates = new long[suited.length][subsets.length];
+
+            for (long subset : subsets) {
+                long occurrences = 0L;
+                int suitBits = 0;
+
+                for (long bits = subset; bits != 0; bits &= bits - 1) {
+                    int index = Long.numberOfTrailingZeros(bits);
+                    occurrences = CardMaskEvaluator.addOccurrence(occurrences, index % Card.SUIT_SIZE);
+                    suitBits |= 1 << (index / Card.SUIT_SIZE);
+                }
+
+                if (!contains(distinctRanks, distinct, occurrences)) {
+                    distinctRanks[distinct++] = occurrences;
+                }
+
+                if (Integer.bitCount(suitBits) == 1) {
+                    int suit = Integer.numberOfTrailingZeros(suitBits);
+                    suitedCandidates[suit][suitedCount[suit]++] = subset;
+                }
+            }
+
+            ranks = Arrays.copyOf(distinctRanks, distinct);
+            paired = Integer.bitCount(CardMaskEvaluator.toRankMask(cardMask)) < Long.bitCount(cardMask);
+
+            for (int suit = 0; suit < suited.length; suit++) {
+                suited[suit] = Arrays.copyOf(suitedCandidates[suit], suitedCount[suit]);
+            }
+        }
+
+        private static boolean contains(final long[] values, final int length, final long value) {
+            for (int i = 0; i < length; i++) {
+                if (values[i] == value) {
+                    return true;
+                }
+            }
+
+            return false;
+        }
+
+        /**
+         * @return amount of combinations that differ in their ranks
+         */
+        public int getDistinctRankCombinations() {
+            return ranks.length;
+        }
+    }
+}
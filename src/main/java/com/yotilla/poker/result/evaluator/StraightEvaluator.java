@@ -33,6 +33,11 @@ public class StraightEvaluator implements PokerHandEvaluator {
             List<Card> workingCopy = copyHandOfCards(hand).getCards();
             workingCopy.sort(Comparator.naturalOrder());
 
+            // a straight consists of distinct values only. Pairs would otherwise pass the gap check below.
+            if (workingCopy.stream().map(Card::cardValue).distinct().count() != workingCopy.size()) {
+                return null;
+            }
+
             // special case: If the hand contains an ace, it can be the starting or the ending card.
             accountForAceBeginningStraight(workingCopy);
 
@@ -0,0 +1,113 @@
+package com.yotilla.poker.simulation;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * Description: The outcome of an equity simulation: Each player's share of the pot, on average, along with how
+ * precisely it is known, how many trials it took and why the simulation stopped.
+ * <br>
+ * Date: 19.10.2026
+ *
+ * @author Manuel
+ *
+ */
+public final class EquityResult {
+    /**
+     * Why a simulation stopped.
+     */
+    public enum StopReason {
+        /**
+         * Every confidence interval became narrower than requested.
+         */
+        PRECISION_REACHED,
+
+        /**
+         * The time budget ran out first.
+         */
+        TIME_BUDGET_EXHAUSTED,
+
+        /**
+         * The maximum amount of trials was reached first.
+         */
+        TRIAL_LIMIT_REACHED
+    }
+
+    private final double[] equities;
+    private final double[] precisions;
+    private final long trials;
+    private final StopReason stopReason;
+    private final Duration elapsed;
+
+    EquityResult(final double[] equities, final double[] precisions, final long trials,
+                 final StopReason stopReason, final Duration elapsed) {
+        this.equities = equities.clone();
+        this.precisions = precisions.clone();
+        this.trials = trials;
+        this.stopReason = stopReason;
+        this.elapsed = elapsed;
+    }
+
+    /**
+     * @return amount of players
+     */
+    public int getPlayers() {
+        return equities.length;
+    }
+
+    /**
+     * @param player position of the player, as passed to the simulation
+     * @return the player's average share of the pot, between 0 and 1. Split pots count in parts.
+     */
+    public double getEquity(final int player) {
+        return equities[player];
+    }
+
+    /**
+     * @param player position of the player, as passed to the simulation
+     * @return half width of the confidence interval around the player's equity
+     */
+    public double getPrecision(final int player) {
+        return precisions[player];
+    }
+
+    /**
+     * @return the widest half width among all players
+     */
+    public double getPrecision() {
+        return Arrays.stream(precisions).max().orElse(0.0);
+    }
+
+    /**
+     * @return amount of trials run
+     */
+    public long getTrials() {
+        return trials;
+    }
+
+    /**
+     * @return why the simulation stopped
+     */
+    public StopReason getStopReason() {
+        return stopReason;
+    }
+
+    /**
+     * @return wall clock time the simulation took
+     */
+    public Duration getElapsed() {
+        return elapsed;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+
+        for (int player = 0; player < equities.length; player++) {
+            sb.append(String.format("Player %d: %.4f +/- %.4f%n", player + 1, equities[player], precisions[player]));
+        }
+
+        sb.append(String.format("%d trials in %d ms, %s.", trials, elapsed.toMillis(), stopReason));
+        return sb.toString();
+    }
+}
@@ -0,0 +1,314 @@
+package com.yotilla.poker.simulation;
+
+import com.yotilla.poker.GameVariant;
+import com.yotilla.poker.card.Card;
+import com.yotilla.poker.result.evaluator.CardMaskEvaluator;
+import com.yotilla.poker.result.evaluator.OmahaEvaluator;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+
+/**
+ * Description: Estimates each player's equity, i.e. the share of the pot they win on average, by dealing the unknown
+ * cards at random over and over. Any cards may be known in advance: Some or all hole cards of each player, and some or
+ * all of the community cards. The rest is filled up from the remaining deck in every trial.
+ * <br>
+ * Rather than running a fixed amount of trials, the simulation follows a {@link StoppingRule}: It tracks the variance of
+ * every player's equity and stops once all of them are known precisely enough, or once the time is up. Precision is
+ * judged about every {@value #CHECK_INTERVAL} trials, so neither the clock nor the variance is looked at per trial.
+ * <br>
+ * The unknown cards are drawn uniformly by default. A {@link SamplingStrategy} may spread the draws more evenly and
+ * reach the same precision with fewer trials.
+ * <br>
+ * The simulator holds a random number generator and scratch space, so it is not thread-safe. Use one per thread.
+ * <br>
+ * Date: 19.10.2026
+ *
+ * @author Manuel
+ *
+ */
+public class EquitySimulator {
+    /**
+     * Trials between two looks at precision and time.
+     */
+    public static final int CHECK_INTERVAL = 256;
+
+    private final CardMaskEvaluator cardMaskEvaluator;
+    private final OmahaEvaluator omahaEvaluator;
+    private final Random random;
+
+    // cards left to draw from
+    private final int[] deck = new int[Card.INDEX_RANGE];
+
+    public EquitySimulator(final CardMaskEvaluator cardMaskEvaluator, final Random random) {
+        this.cardMaskEvaluator = Objects.requireNonNull(cardMaskEvaluator, "Evaluator must not be null.");
+        this.omahaEvaluator = new OmahaEvaluator(cardMaskEvaluator);
+        this.random = Objects.requireNonNull(random, "Random must not be null.");
+    }
+
+    /**
+     * Simulate the equity of every player, drawing the unknown cards uniformly at random.
+     *
+     * @param variant        the game played
+     * @param holeCards      known hole cards of each player, from none up to all of them
+     * @param communityCards known community cards, from none up to all of them
+     * @param stoppingRule   when to stop
+     * @return equity of every player, in the order of the hole cards
+     * @throws IllegalArgumentException if there are no players, too many cards or cards known twice
+     */
+    public EquityResult simulate(final GameVariant variant, final List<? extends Collection<Card>> holeCards,
+                                 final Collection<Card> communityCards, final StoppingRule stoppingRule) {
+        return simulate(variant, holeCards, communityCards, stoppingRule, SamplingStrategy.UNIFORM);
+    }
+
+    /**
+     * Simulate the equity of every player, drawing the unknown cards by the given strategy.
+     *
+     * @param variant          the game played
+     * @param holeCards        known hole cards of each player, from none up to all of them
+     * @param communityCards   known community cards, from none up to all of them
+     * @param stoppingRule     when to stop
+     * @param samplingStrategy how to draw the unknown cards
+     * @return equity of every player, in the order of the hole cards
+     * @throws IllegalArgumentException if there are no players, too many cards or cards known twice
+     */
+    public EquityResult simulate(final GameVariant variant, final List<? extends Collection<Card>> holeCards,
+                                 final Collection<Card> communityCards, final StoppingRule stoppingRule,
+                                 final SamplingStrategy samplingStrategy) {
+        Objects.requireNonNull(samplingStrategy, "Sampling strategy must not be null.");
+        Objects.requireNonNull(variant, "Variant must not be null.");
+        Objects.requireNonNull(holeCards, "Hole cards must not be null.");
+        Objects.requireNonNull(communityCards, "Community cards must not be null.");
+        Objects.requireNonNull(stoppingRule, "Stopping rule must not be null.");
+
+        if (holeCards.isEmpty()) {
+            throw new IllegalArgumentException("An equity simulation needs at least one player.");
+        }
+
+        Deal deal = new Deal(variant, holeCards, communityCards);
+        SamplingStrategy.CardSampler sampler = samplingStrategy.sampler(random, deal.deckSize, deal.missingCards);
+        int players = holeCards.size();
+        int groupSize = sampler.groupSize();
+        long checkInterval = roundUp(CHECK_INTERVAL, groupSize);
+        long minTrials = Math.min(stoppingRule.maxTrials(), roundUp(stoppingRule.minTrials(), groupSize));
+
+        // shares won in total, within the current group, and summed up over completed group averages
+        double[] totals = new double[players];
+        double[] groupShares = new double[players];
+        double[] groupSums = new double[players];
+        double[] groupSquareSums = new double[players];
+        double[] precisions = new double[players];
+        int[] strengths = new int[players];
+        int[] drawn = new int[deal.missingCards];
+        long trials = 0;
+        long groups = 0;
+        int inGroup = 0;
+        long start = System.nanoTime();
+        long budget = stoppingRule.timeBudgetNanos();
+        EquityResult.StopReason stopReason;
+
+        while (true) {
+            // the first look at precision takes place right after the minimum amount of trials
+            long limit = trials < minTrials ? minTrials : stoppingRule.maxTrials();
+            long batch = Math.min(checkInterval, limit - trials);
+
+            for (long i = 0; i < batch; i++) {
+                sampler.draw(drawn);
+                runTrial(deal, drawn, strengths, groupShares);
+
+                if (++inGroup == groupSize) {
+                    closeGroup(groupShares, inGroup, totals, groupSums, groupSquareSums);
+                    inGroup = 0;
+                    groups++;
+                }
+            }
+
+            trials += batch;
+            boolean precise = trials >= minTrials;
+
+            for (int player = 0; player < players; player++) {
+                precisions[player] = halfWidth(groupSums[player], groupSquareSums[player], groups,
+                        stoppingRule.confidenceFactor());
+                precise &= precisions[player] < stoppingRule.epsilon();
+            }
+
+            if (precise) {
+                stopReason = EquityResult.StopReason.PRECISION_REACHED;
+                break;
+            }
+
+            if (trials >= stoppingRule.maxTrials()) {
+                stopReason = EquityResult.StopReason.TRIAL_LIMIT_REACHED;
+                break;
+            }
+
+            if (System.nanoTime() - start >= budget) {
+                stopReason = EquityResult.StopReason.TIME_BUDGET_EXHAUSTED;
+                break;
+            }
+        }
+
+        // an incomplete last group still counts towards the equity, though not towards the precision.
+        double[] equities = new double[players];
+
+        for (int player = 0; player < players; player++) {
+            equities[player] = (totals[player] + groupShares[player]) / trials;
+        }
+
+        return new EquityResult(equities, precisions, trials, stopReason, Duration.ofNanos(System.nanoTime() - start));
+    }
+
+    private void runTrial(final Deal deal, final int[] drawn, final int[] strengths, final double[] groupShares) {
+        int next = 0;
+        long board = deal.communityCards;
+
+        for (int i = 0; i < deal.missingCommunityCards; i++) {
+            board |= 1L << deck[drawn[next++]];
+        }
+
+        OmahaEvaluator.Combinations omahaBoard = deal.variant == GameVariant.OMAHA
+                ? deal.omahaBoard != null ? deal.omahaBoard : omahaEvaluator.prepareCommunityCards(board)
+                : null;
+
+        int best = 0;
+        int winners = 0;
+
+        for (int player = 0; player < strengths.length; player++) {
+            long hole = deal.holeCards[player];
+
+            for (int i = 0; i < deal.missingHoleCards[player]; i++) {
+                hole |= 1L << deck[drawn[next++]];
+            }
+
+            int strength = omahaBoard != null
+                    ? omahaEvaluator.evaluateStrength(hole, omahaBoard)
+                    : cardMaskEvaluator.evaluateStrength(hole | board);
+            strengths[player] = strength;
+
+            if (strength > best) {
+                best = strength;
+                winners = 1;
+            } else if (strength == best) {
+                winners++;
+            }
+        }
+
+        double share = 1.0 / winners;
+
+        for (int player = 0; player < strengths.length; player++) {
+            if (strengths[player] == best) {
+                groupShares[player] += share;
+            }
+        }
+    }
+
+    /**
+     * Round up to whole groups of trials.
+     */
+    private static long roundUp(final long trials, final int groupSize) {
+        return (trials + groupSize - 1) / groupSize * groupSize;
+    }
+
+    private static void closeGroup(final double[] groupShares, final int trials, final double[] totals,
+                                   final double[] groupSums, final double[] groupSquareSums) {
+        for (int player = 0; player < groupShares.length; player++) {
+            double average = groupShares[player] / trials;
+            totals[player] += groupShares[player];
+            groupSums[player] += average;
+            groupSquareSums[player] += average * average;
+            groupShares[player] = 0.0;
+        }
+    }
+
+    /**
+     * Half width of the confidence interval around a mean, from the sum and the sum of squares of the samples.
+     */
+    static double halfWidth(final double sum, final double squareSum, final long samples,
+                            final double confidenceFactor) {
+        if (samples < 2) {
+            return Double.POSITIVE_INFINITY;
+        }
+
+        double variance = Math.max(0.0, (squareSum - sum * sum / samples) / (samples - 1));
+        return confidenceFactor * Math.sqrt(variance / samples);
+    }
+
+    /**
+     * The known cards of a simulation, as card masks, and the deck the rest is drawn from.
+     */
+    private final class Deal {
+        private final GameVariant variant;
+        private final long[] holeCards;
+        private final int[] missingHoleCards;
+        private final long communityCards;
+        private final int missingCommunityCards;
+        private final int missingCards;
+        private final int deckSize;
+
+        // prepared once if the board is known completely
+        private final OmahaEvaluator.Combinations omahaBoard;
+
+        Deal(final GameVariant variant, final List<? extends Collection<Card>> holeCards,
+             final Collection<Card> communityCards) {
+            this.variant = variant;
+            this.holeCards = new long[holeCards.size()];
+            this.missingHoleCards = new int[holeCards.size()];
+
+            long known = CardMaskEvaluator.toMask(communityCards);
+            int knownCards = communityCards.size();
+            int missing = variant.getCommunityCards() - communityCards.size();
+
+            if (missing < 0) {
+                throw new IllegalArgumentException(String.format("%s deals %d community cards, got %d.",
+                        variant, variant.getCommunityCards(), communityCards.size()));
+            }
+
+            this.communityCards = known;
+            this.missingCommunityCards = missing;
+
+            for (int player = 0; player < holeCards.size(); player++) {
+                Collection<Card> cards = Objects.requireNonNull(holeCards.get(player), "Hole cards must not be null.");
+
+                if (cards.size() > variant.getHoleCards()) {
+                    throw new IllegalArgumentException(String.format("%s deals %d hole cards, player %d holds %d.",
+                            variant, variant.getHoleCards(), player + 1, cards.size()));
+                }
+
+                this.holeCards[player] = CardMaskEvaluator.toMask(cards);
+                this.missingHoleCards[player] = variant.getHoleCards() - cards.size();
+                known |= this.holeCards[player];
+                knownCards += cards.size();
+                missing += missingHoleCards[player];
+            }
+
+            if (Long.bitCount(known) != knownCards) {
+                throw new IllegalArgumentException("A card must not be known twice.");
+            }
+
+            // ordered by rank, so both ends of the deck hold opposite cards. See SamplingStrategy.ANTITHETIC.
+            int size = 0;
+
+            for (int rank = 0; rank < Card.SUIT_SIZE; rank++) {
+                for (int index = rank; index < Card.INDEX_RANGE; index += Card.SUIT_SIZE) {
+                    if ((known & (1L << index)) == 0) {
+                        deck[size++] = index;
+                    }
+                }
+            }
+
+            if (size < missing) {
+                throw new IllegalArgumentException(String.format(
+                        "Only %d cards left in the deck, %d are needed.", size, missing));
+            }
+
+            this.deckSize = size;
+            this.missingCards = missing;
+            this.omahaBoard = variant == GameVariant.OMAHA && missingCommunityCards == 0
+                    ? omahaEvaluator.prepareCommunityCards(this.communityCards)
+                    : null;
+        }
+    }
+}
@@ -0,0 +1,295 @@
+package com.yotilla.poker.simulation;
+
+import java.util.Random;
+
+/**
+ * Description: How the unknown cards of an equity simulation are drawn. All strategies draw every card equally often
+ * on average, so they all estimate the same equity. They differ in how far apart their trials are spread, and thereby
+ * in how many trials it takes to reach a given precision.
+ * <br>
+ * Some strategies only draw independently per group of trials: A round of strata, an antithetic pair, a block of
+ * quasi-random points. The simulator judges precision by the variance between group averages, not between single
+ * trials, so the confidence interval stays honest.
+ * <br>
+ * Date: 19.10.2026
+ *
+ * @author Manuel
+ *
+ */
+public enum SamplingStrategy {
+    /**
+     * Plain Monte Carlo: Every trial is an independent, uniform draw.
+     */
+    UNIFORM {
+        @Override
+        CardSampler sampler(final Random random, final int deckSize, final int cards) {
+            return new UniformSampler(random, deckSize, cards);
+        }
+    },
+
+    /**
+     * Every card of the deck is drawn first exactly once per round of trials, in random order. The other cards are
+     * drawn uniformly. The first card drawn is the first missing community card, or the first missing hole card if
+     * there is no board.
+     */
+    STRATIFIED {
+        @Override
+        CardSampler sampler(final Random random, final int deckSize, final int cards) {
+            return new StratifiedSampler(random, deckSize, cards);
+        }
+    },
+
+    /**
+     * Trials come in pairs: The second trial mirrors the first one, swapping each card drawn for its counterpart at
+     * the opposite end of the deck, ordered by rank. High cards are answered by low cards, so the errors of the two
+     * trials tend to cancel out.
+     */
+    ANTITHETIC {
+        @Override
+        CardSampler sampler(final Random random, final int deckSize, final int cards) {
+            return new AntitheticSampler(random, deckSize, cards);
+        }
+    },
+
+    /**
+     * Draws follow a low-discrepancy sequence instead of random numbers, spread more evenly across all draws than
+     * independent ones. Each block of {@value QuasiRandomSampler#BLOCK_SIZE} points is shifted at random, so the
+     * blocks are independent of each other.
+     */
+    QUASI_RANDOM {
+        @Override
+        CardSampler sampler(final Random random, final int deckSize, final int cards) {
+            return new QuasiRandomSampler(random, deckSize, cards);
+        }
+    };
+
+    /**
+     * @param random   source of randomness
+     * @param deckSize amount of cards to draw from
+     * @param cards    amount of cards to draw per trial
+     * @return a fresh sampler for one simulation
+     */
+    abstract CardSampler sampler(Random random, int deckSize, int cards);
+
+    /**
+     * Draws the positions of the unknown cards within the deck, one trial at a time.
+     */
+    abstract static class CardSampler {
+        final Random random;
+        final int cards;
+
+        // permutation of all deck positions, the first ones being drawn
+        private final int[] permutation;
+
+        // where each position currently sits within the permutation
+        private final int[] where;
+
+        CardSampler(final Random random, final int deckSize, final int cards) {
+            this.random = random;
+            this.cards = cards;
+            this.permutation = new int[deckSize];
+            this.where = new int[deckSize];
+            reset();
+        }
+
+        /**
+         * @return amount of consecutive trials that together make one independent sample
+         */
+        abstract int groupSize();
+
+        /**
+         * Draw the next trial.
+         *
+         * @param drawn receives the distinct deck positions drawn, one per card
+         */
+        abstract void draw(int[] drawn);
+
+        /**
+         * Draw the remaining cards uniformly by a partial Fisher-Yates shuffle.
+         */
+        final void shuffleFrom(final int first, final int[] drawn) {
+            for (int i = first; i < cards; i++) {
+                swap(i, i + random.nextInt(permutation.length - i));
+            }
+
+            copyDrawn(drawn);
+        }
+
+        /**
+         * Hand out the positions at the front of the permutation.
+         */
+        final void copyDrawn(final int[] drawn) {
+            System.arraycopy(permutation, 0, drawn, 0, cards);
+        }
+
+        /**
+         * Put this deck position first.
+         */
+        final void moveToFront(final int position) {
+            swap(0, where[position]);
+        }
+
+        final void swap(final int i, final int j) {
+            int first = permutation[i];
+            int second = permutation[j];
+            permutation[i] = second;
+            permutation[j] = first;
+            where[second] = i;
+            where[first] = j;
+        }
+
+        final void reset() {
+            for (int i = 0; i < permutation.length; i++) {
+                permutation[i] = i;
+                where[i] = i;
+            }
+        }
+
+        final int deckSize() {
+            return permutation.length;
+        }
+    }
+
+    private static final class UniformSampler extends CardSampler {
+        UniformSampler(final Random random, final int deckSize, final int cards) {
+            super(random, deckSize, cards);
+        }
+
+        @Override
+        int groupSize() {
+            return 1;
+        }
+
+        @Override
+        void draw(final int[] drawn) {
+            shuffleFrom(0, drawn);
+        }
+    }
+
+    private static final class StratifiedSampler extends CardSampler {
+        private final int[] strata;
+        private int next;
+
+        StratifiedSampler(final Random random, final int deckSize, final int cards) {
+            super(random, deckSize, cards);
+            strata = new int[cards > 0 ? deckSize : 0];
+
+            for (int i = 0; i < strata.length; i++) {
+                strata[i] = i;
+            }
+
+            next = strata.length;
+        }
+
+        @Override
+        int groupSize() {
+            return Math.max(1, strata.length);
+        }
+
+        @Override
+        void draw(final int[] drawn) {
+            if (strata.length == 0) {
+                return;
+            }
+
+            if (next == strata.length) {
+                // a new round visits every stratum once, in random order
+                for (int i = strata.length - 1; i > 0; i--) {
+                    int j = random.nextInt(i + 1);
+                    int stratum = strata[i];
+                    strata[i] = strata[j];
+                    strata[j] = stratum;
+                }
+
+                next = 0;
+            }
+
+            moveToFront(strata[next++]);
+            shuffleFrom(1, drawn);
+        }
+    }
+
+    private static final class AntitheticSampler extends CardSampler {
+        private final int[] previous;
+        private boolean mirror;
+
+        AntitheticSampler(final Random random, final int deckSize, final int cards) {
+            super(random, deckSize, cards);
+            previous = new int[cards];
+        }
+
+        @Override
+        int groupSize() {
+            return 2;
+        }
+
+        @Override
+        void draw(final int[] drawn) {
+            if (mirror) {
+                for (int i = 0; i < cards; i++) {
+                    drawn[i] = deckSize() - 1 - previous[i];
+                }
+            } else {
+                shuffleFrom(0, drawn);
+                System.arraycopy(drawn, 0, previous, 0, cards);
+            }
+
+            mirror = !mirror;
+        }
+    }
+
+    private static final class QuasiRandomSampler extends CardSampler {
+        /**
+         * Points per randomly shifted block.
+         */
+        static final int BLOCK_SIZE = 64;
+
+        // step of the additive recurrence per dimension, after Roberts' generalized golden ratio
+        private final double[] steps;
+        private final double[] point;
+        private int index = BLOCK_SIZE;
+
+        QuasiRandomSampler(final Random random, final int deckSize, final int cards) {
+            super(random, deckSize, cards);
+            steps = new double[cards];
+            point = new double[cards];
+
+            double ratio = 2.0;
+
+            for (int i = 0; i < 32; i++) {
+                ratio = Math.pow(1.0 + ratio, 1.0 / (cards + 1));
+            }
+
+            for (int i = 0; i < cards; i++) {
+                steps[i] = Math.pow(1.0 / ratio, i + 1) % 1.0;
+            }
+        }
+
+        @Override
+        int groupSize() {
+            return BLOCK_SIZE;
+        }
+
+        @Override
+        void draw(final int[] drawn) {
+            if (index == BLOCK_SIZE) {
+                for (int i = 0; i < cards; i++) {
+                    point[i] = random.nextDouble();
+                }
+
+                index = 0;
+            }
+
+            reset();
+
+            // each coordinate picks one of the cards left, just like a Fisher-Yates shuffle would.
+            for (int i = 0; i < cards; i++) {
+                point[i] = (point[i] + steps[i]) % 1.0;
+                swap(i, i + (int) (point[i] * (deckSize() - i)));
+            }
+
+            index++;
+            copyDrawn(drawn);
+        }
+    }
+}
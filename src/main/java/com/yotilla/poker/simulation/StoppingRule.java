@@ -0,0 +1,77 @@
+package com.yotilla.poker.simulation;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Description: Decides when an equity simulation has run long enough. A simulation stops as soon as the confidence
+ * interval of every player's equity is narrower than epsilon on either side, once the time budget is used up, or once
+ * the maximum amount of trials is reached, whichever comes first. It never stops before the minimum amount of trials.
+ * <br>
+ * Date: 19.10.2026
+ *
+ * @param epsilon          half width every confidence interval must fall below, 0 to never stop on precision
+ * @param confidenceFactor standard errors per half width, e.g. 1.96 for 95 percent confidence
+ * @param timeBudget       wall clock time the simulation may take
+ * @param minTrials        trials to run at least, so the variance estimate can settle
+ * @param maxTrials        trials to run at most
+ * @author Manuel
+ */
+public record StoppingRule(double epsilon, double confidenceFactor, Duration timeBudget, long minTrials,
+                           long maxTrials) {
+
+    /**
+     * Standard errors per half width of a 95 percent confidence interval.
+     */
+    public static final double CONFIDENCE_95 = 1.96;
+
+    /**
+     * Trials before precision is first judged.
+     */
+    public static final long DEFAULT_MIN_TRIALS = 1_000;
+
+    // longest time budget the simulation clock can measure
+    private static final Duration UNLIMITED = Duration.ofNanos(Long.MAX_VALUE);
+
+    /**
+     * @throws IllegalArgumentException if a limit is out of range
+     */
+    public StoppingRule {
+        Objects.requireNonNull(timeBudget, "Time budget must not be null.");
+
+        if (epsilon < 0 || confidenceFactor <= 0 || timeBudget.isNegative() || minTrials < 1
+                || maxTrials < minTrials) {
+            throw new IllegalArgumentException(String.format(
+                    "Invalid stopping rule: epsilon %f, confidence factor %f, time budget %s, trials %d to %d.",
+                    epsilon, confidenceFactor, timeBudget, minTrials, maxTrials));
+        }
+    }
+
+    /**
+     * Stop once every equity is known to within epsilon with 95 percent confidence, or once the time is up.
+     *
+     * @param epsilon    half width every confidence interval must fall below
+     * @param timeBudget wall clock time the simulation may take
+     * @return stopping rule
+     */
+    public static StoppingRule precision(final double epsilon, final Duration timeBudget) {
+        return new StoppingRule(epsilon, CONFIDENCE_95, timeBudget, DEFAULT_MIN_TRIALS, Long.MAX_VALUE);
+    }
+
+    /**
+     * Run exactly this many trials, regardless of precision and time.
+     *
+     * @param trials amount of trials
+     * @return stopping rule
+     */
+    public static StoppingRule fixedTrials(final long trials) {
+        return new StoppingRule(0.0, CONFIDENCE_95, UNLIMITED, trials, trials);
+    }
+
+    /**
+     * @return the time budget in nanoseconds, capped at the longest budget measurable
+     */
+    long timeBudgetNanos() {
+        return timeBudget.compareTo(UNLIMITED) >= 0 ? Long.MAX_VALUE : timeBudget.toNanos();
+    }
+}
@@ -0,0 +1,103 @@
+package com.yotilla.poker.tournament;
+
+/**
+ * Description: How the finishing positions of each entrant are distributed over many tournaments of the same
+ * structure. One tournament takes every position exactly once, so only repeated tournaments tell whether an entrant
+ * finishes better or worse than the rest, e.g. because of where the seating put them.
+ * <br>
+ * Positions are counted in equally wide ranges, e.g. per tenth of the field, the best positions first. Results may be
+ * added from several threads.
+ * <br>
+ * Date: 19.10.2026
+ *
+ * @author Manuel
+ *
+ */
+public final class PositionDistribution {
+    private final int entrants;
+    private final int buckets;
+    private final long[][] counts;
+    private final long[] positionSums;
+    private int tournaments;
+
+    /**
+     * @param entrants entrants of each tournament
+     * @param buckets  amount of equally wide ranges of positions
+     */
+    public PositionDistribution(final int entrants, final int buckets) {
+        if (entrants < 2) {
+            throw new IllegalArgumentException(String.format("At least two entrants are required, got: %d",
+                    entrants));
+        }
+
+        if (buckets < 1 || buckets > entrants) {
+            throw new IllegalArgumentException(String.format("Between one and %d buckets are required, got: %d",
+                    entrants, buckets));
+        }
+
+        this.entrants = entrants;
+        this.buckets = buckets;
+        this.counts = new long[entrants][buckets];
+        this.positionSums = new long[entrants];
+    }
+
+    /**
+     * Count where each entrant of a tournament finished.
+     *
+     * @param result result of a tournament with as many entrants as counted here
+     */
+    public synchronized void add(final TournamentResult result) {
+        int size = result.getEntrants().size();
+
+        if (size != entrants) {
+            throw new IllegalArgumentException(String.format("A tournament of %d entrants does not count among %d.",
+                    size, entrants));
+        }
+
+        for (int entrant = 0; entrant < entrants; entrant++) {
+            int position = result.getPosition(entrant);
+            counts[entrant][bucketOf(position)]++;
+            positionSums[entrant] += position;
+        }
+
+        tournaments++;
+    }
+
+    /**
+     * @param position finishing position, 1 for the winner
+     * @return range of positions it falls into
+     */
+    int bucketOf(final int position) {
+        return (int) ((long) (position - 1) * buckets / entrants);
+    }
+
+    /**
+     * @return amount of tournaments counted
+     */
+    public synchronized int getTournaments() {
+        return tournaments;
+    }
+
+    /**
+     * @return amount of ranges of positions
+     */
+    public int getBuckets() {
+        return buckets;
+    }
+
+    /**
+     * @param entrant number of the entrant, in the order of entry
+     * @return amount of tournaments in which the entrant finished in each range of positions, the best first
+     */
+    public synchronized long[] getDistribution(final int entrant) {
+        return counts[entrant].clone();
+    }
+
+    /**
+     * @param entrant number of the entrant, in the order of entry
+     * @return average finishing position of the entrant, 0 if no tournament was counted
+     */
+    public synchronized double getMeanPosition(final int entrant) {
+        return tournaments > 0 ? (double) positionSums[entrant] / tournaments : 0;
+    }
+}
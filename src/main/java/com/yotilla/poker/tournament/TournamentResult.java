@@ -0,0 +1,117 @@
+package com.yotilla.poker.tournament;
+
+import com.yotilla.poker.Player;
+import com.yotilla.poker.result.GameStatistics;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Description: The outcome of a tournament: Where each entrant finished, how long they lasted, and how much was
+ * played until a winner was found.
+ * <br>
+ * Entrants are numbered from 0 in the order they entered, positions from 1 for the winner.
+ * <br>
+ * Date: 19.10.2026
+ *
+ * @author Manuel
+ *
+ */
+public final class TournamentResult {
+    private final List<Player> entrants;
+    private final int[] positions;
+    private final int[] eliminationRounds;
+    private final int rounds;
+    private final long handsPlayed;
+    private final GameStatistics statistics;
+    private final Duration elapsed;
+
+    TournamentResult(final List<Player> entrants, final int[] positions, final int[] eliminationRounds,
+                     final int rounds, final long handsPlayed, final GameStatistics statistics,
+                     final Duration elapsed) {
+        this.entrants = List.copyOf(entrants);
+        this.positions = positions.clone();
+        this.eliminationRounds = eliminationRounds.clone();
+        this.rounds = rounds;
+        this.handsPlayed = handsPlayed;
+        this.statistics = statistics;
+        this.elapsed = elapsed;
+    }
+
+    /**
+     * @return all entrants, in the order they entered
+     */
+    public List<Player> getEntrants() {
+        return entrants;
+    }
+
+    /**
+     * @param entrant number of the entrant
+     * @return finishing position, 1 for the winner
+     */
+    public int getPosition(final int entrant) {
+        return positions[entrant];
+    }
+
+    /**
+     * @return the entrants by finishing position, the winner first
+     */
+    public List<Player> getStandings() {
+        Player[] standings = new Player[positions.length];
+
+        for (int entrant = 0; entrant < positions.length; entrant++) {
+            standings[positions[entrant] - 1] = entrants.get(entrant);
+        }
+
+        return List.of(standings);
+    }
+
+    /**
+     * @return the winner
+     */
+    public Player getWinner() {
+        return getStandings().getFirst();
+    }
+
+    /**
+     * @param entrant number of the entrant
+     * @return round in which the entrant was eliminated, counted from 1, or 0 for the winner
+     */
+    public int getEliminationRound(final int entrant) {
+        return eliminationRounds[entrant];
+    }
+
+    /**
+     * @return rounds played. Each round plays one hand at every table at once.
+     */
+    public int getRounds() {
+        return rounds;
+    }
+
+    /**
+     * @return hands played over all tables
+     */
+    public long getHandsPlayed() {
+        return handsPlayed;
+    }
+
+    /**
+     * @return statistics of all hands played
+     */
+    public GameStatistics getStatistics() {
+        return statistics;
+    }
+
+    /**
+     * @return wall clock time the tournament took
+     */
+    public Duration getElapsed() {
+        return elapsed;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s won among %d entrants after %d hands in %d rounds, %d ms.",
+                getWinner().getName(), positions.length, handsPlayed, rounds, elapsed.toMillis());
+    }
+}
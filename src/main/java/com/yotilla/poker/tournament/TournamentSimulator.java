@@ -0,0 +1,280 @@
+package com.yotilla.poker.tournament;
+
+import com.yotilla.poker.Dealer;
+import com.yotilla.poker.Player;
+import com.yotilla.poker.card.DeckOfCards;
+import com.yotilla.poker.error.DeckException;
+import com.yotilla.poker.error.HandExceededException;
+import com.yotilla.poker.error.PokerParseException;
+import com.yotilla.poker.result.GameResult;
+import com.yotilla.poker.result.GameStatistics;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Description: Plays a multi-table tournament to the end. The entrants are seated at random across as few tables as
+ * hold them, and every round plays one hand at each table at once, on a pool of threads, each hand through its own
+ * {@link Dealer} into statistics shared by all tables.
+ * <br>
+ * Betting is reduced to the antes of the {@link TournamentStructure}: Every player puts in the ante or what is left of
+ * their stack, so short stacks go all-in and the pots are split into side pots by {@link GameResult#distributePots}.
+ * The button moves on by one seat every hand, and the odd chips of split pots go to the players left of it.
+ * <br>
+ * After each round, busted players are eliminated. Players busted in the same round finish in the order of their
+ * stacks before the hand, larger stacks first, and by order of entry among equal stacks. Then the tables are
+ * rebalanced: Tables are broken up as soon as the remaining players fit at fewer, and players move from the fullest
+ * table to the emptiest one until no two tables differ by more than one player.
+ * <br>
+ * Date: 19.10.2026
+ *
+ * @author Manuel
+ *
+ */
+public class TournamentSimulator {
+    private final int threads;
+    private final Random random;
+
+    /**
+     * @param threads amount of tables played at once
+     * @param random  source of the seating. The cards are shuffled by each dealer's deck.
+     */
+    public TournamentSimulator(final int threads, final Random random) {
+        if (threads < 1) {
+            throw new IllegalArgumentException(String.format("At least one thread is required, got: %d", threads));
+        }
+
+        this.threads = threads;
+        this.random = Objects.requireNonNull(random, "Random must not be null.");
+    }
+
+    /**
+     * Play a tournament until one player holds all the chips.
+     *
+     * @param structure how the tournament is set up
+     * @return where each entrant finished
+     */
+    public TournamentResult play(final TournamentStructure structure) {
+        Objects.requireNonNull(structure, "Tournament structure must not be null.");
+
+        long start = System.nanoTime();
+        GameStatistics statistics = new GameStatistics(structure.seatsPerTable());
+        List<Player> players = new ArrayList<>(structure.entrants());
+        List<Entrant> remaining = new ArrayList<>(structure.entrants());
+
+        for (int number = 0; number < structure.entrants(); number++) {
+            Player player = new Player("Player " + (number + 1));
+            players.add(player);
+            remaining.add(new Entrant(number, player, structure.startingStack()));
+        }
+
+        Collections.shuffle(remaining, random);
+
+        List<List<Entrant>> tables = new ArrayList<>();
+        int tableCount = tablesFor(remaining.size(), structure.seatsPerTable());
+
+        for (int table = 0; table < tableCount; table++) {
+            tables.add(new ArrayList<>());
+        }
+
+        for (int i = 0; i < remaining.size(); i++) {
+            tables.get(i % tableCount).add(remaining.get(i));
+        }
+
+        int[] positions = new int[structure.entrants()];
+        int[] eliminationRounds = new int[structure.entrants()];
+        int left = structure.entrants();
+        int round = 0;
+        long handsPlayed = 0;
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(Math.min(threads, tableCount))) {
+            while (left > 1) {
+                int ante = structure.anteOf(round);
+                int button = round;
+                List<Callable<Void>> hands = new ArrayList<>(tables.size());
+
+                for (List<Entrant> table : tables) {
+                    hands.add(() -> {
+                        playHand(table, structure, ante, button, statistics);
+                        return null;
+                    });
+                }
+
+                await(executor.invokeAll(hands));
+                handsPlayed += tables.size();
+                round++;
+
+                List<Entrant> busted = new ArrayList<>();
+
+                for (List<Entrant> table : tables) {
+                    table.removeIf(entrant -> entrant.stack == 0 && busted.add(entrant));
+                }
+
+                busted.sort(Comparator.comparingInt((Entrant entrant) -> entrant.stackBefore).reversed()
+                        .thenComparingInt(entrant -> entrant.number));
+
+                for (int i = 0; i < busted.size(); i++) {
+                    Entrant entrant = busted.get(i);
+                    positions[entrant.number] = left - busted.size() + 1 + i;
+                    eliminationRounds[entrant.number] = round;
+                }
+
+                left -= busted.size();
+                rebalance(tables, structure.seatsPerTable());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("The tournament was interrupted.", e);
+        }
+
+        for (List<Entrant> table : tables) {
+            for (Entrant entrant : table) {
+                positions[entrant.number] = 1;
+            }
+        }
+
+        return new TournamentResult(players, positions, eliminationRounds, round, handsPlayed, statistics,
+                Duration.ofNanos(System.nanoTime() - start));
+    }
+
+    /**
+     * Play tournaments of the same structure one after another, and count where each entrant finished. The entrants
+     * are seated anew for every tournament.
+     *
+     * @param structure   how each tournament is set up
+     * @param tournaments amount of tournaments to play
+     * @param buckets     amount of equally wide ranges of positions counted
+     * @return finishing positions of each entrant over all tournaments
+     */
+    public PositionDistribution play(final TournamentStructure structure, final int tournaments, final int buckets) {
+        Objects.requireNonNull(structure, "Tournament structure must not be null.");
+
+        if (tournaments < 1) {
+            throw new IllegalArgumentException(String.format("At least one tournament is required, got: %d",
+                    tournaments));
+        }
+
+        PositionDistribution distribution = new PositionDistribution(structure.entrants(), buckets);
+
+        for (int tournament = 0; tournament < tournaments; tournament++) {
+            distribution.add(play(structure));
+        }
+
+        return distribution;
+    }
+
+    /**
+     * Deal, evaluate and settle one hand at one table. Only ever runs on one table at a time.
+     */
+    private static void playHand(final List<Entrant> table, final TournamentStructure structure, final int ante,
+                                 final int button, final GameStatistics statistics) {
+        Dealer dealer = new Dealer(new DeckOfCards(), structure.variant(), statistics);
+        int size = table.size();
+        List<Player> players = new ArrayList<>(size);
+        int[] contributions = new int[size];
+        List<Entrant> seated = new ArrayList<>(size);
+
+        try {
+            if (structure.variant().hasCommunityCards()) {
+                dealer.parseInputAndDealCommunityCards(null);
+            }
+
+            // starting left of the button
+            for (int seat = 0; seat < size; seat++) {
+                Entrant entrant = table.get((button + seat) % size);
+                dealer.parseInputAndDealHand(null, entrant.player);
+                dealer.evaluatePlayerHand(entrant.player);
+
+                seated.add(entrant);
+                players.add(entrant.player);
+                contributions[seat] = Math.min(entrant.stack, ante);
+            }
+        } catch (PokerParseException | HandExceededException | DeckException e) {
+            throw new IllegalStateException("A full deck could not be dealt to one table.", e);
+        }
+
+        long[] payouts = dealer.determineGameResult(players).distributePots(contributions);
+
+        for (int seat = 0; seat < size; seat++) {
+            Entrant entrant = seated.get(seat);
+            entrant.stackBefore = entrant.stack;
+            entrant.stack += (int) payouts[seat] - contributions[seat];
+            entrant.player.muckHand();
+        }
+    }
+
+    private static void await(final List<Future<Void>> hands) throws InterruptedException {
+        for (Future<Void> hand : hands) {
+            try {
+                hand.get();
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("A hand could not be played.", e.getCause());
+            }
+        }
+    }
+
+    private static int tablesFor(final int players, final int seatsPerTable) {
+        return Math.max(1, (players + seatsPerTable - 1) / seatsPerTable);
+    }
+
+    /**
+     * Break up tables until the players fit at no fewer, then even out the tables to differ by one player at most.
+     *
+     * @param tables        players at each table, changed in place. Tables left empty are removed.
+     * @param seatsPerTable most players at one table
+     * @param <T>           player type
+     */
+    static <T> void rebalance(final List<List<T>> tables, final int seatsPerTable) {
+        tables.removeIf(List::isEmpty);
+
+        int players = tables.stream().mapToInt(List::size).sum();
+        Comparator<List<T>> bySize = Comparator.comparingInt(List::size);
+
+        while (tables.size() > tablesFor(players, seatsPerTable)) {
+            List<T> broken = Collections.min(tables, bySize);
+            tables.remove(broken);
+
+            for (T player : broken) {
+                Collections.min(tables, bySize).add(player);
+            }
+        }
+
+        while (!tables.isEmpty()) {
+            List<T> fullest = Collections.max(tables, bySize);
+            List<T> emptiest = Collections.min(tables, bySize);
+
+            if (fullest.size() - emptiest.size() <= 1) {
+                return;
+            }
+
+            emptiest.add(fullest.removeLast());
+        }
+    }
+
+    /**
+     * A player in the tournament, with their chips. Only touched by the thread playing their table.
+     */
+    private static final class Entrant {
+        private final int number;
+        private final Player player;
+        private int stack;
+        private int stackBefore;
+
+        private Entrant(final int number, final Player player, final int stack) {
+            this.number = number;
+            this.player = player;
+            this.stack = stack;
+            this.stackBefore = stack;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.yotilla.poker.tournament;
+
+import com.yotilla.poker.GameVariant;
+import com.yotilla.poker.card.Card;
+
+import java.util.Objects;
+
+/**
+ * Description: How a tournament is set up: The game played, how many entrants there are and how many of them fit at
+ * one table, the chips each of them starts with, and how the antes rise. Every player puts in the ante each hand, or
+ * what is left of their stack, and the ante doubles every level, until only one player is left.
+ * <br>
+ * Date: 19.10.2026
+ *
+ * @param variant        game played at every table
+ * @param entrants       amount of players entering
+ * @param seatsPerTable  most players at one table
+ * @param startingStack  chips each player starts with
+ * @param initialAnte    ante of the first level
+ * @param handsPerLevel  hands played at each table before the ante doubles
+ * @author Manuel
+ */
+public record TournamentStructure(GameVariant variant, int entrants, int seatsPerTable, int startingStack,
+                                  int initialAnte, int handsPerLevel) {
+
+    /**
+     * Usual amount of seats at a table.
+     */
+    public static final int DEFAULT_SEATS_PER_TABLE = 9;
+
+    /**
+     * @throws IllegalArgumentException if a value is out of range, more players share a table than one deck can deal
+     *                                  to, or there are more chips in play than a stack can hold
+     */
+    public TournamentStructure {
+        Objects.requireNonNull(variant, "Game variant must not be null.");
+
+        int seatsPerDeck = (Card.INDEX_RANGE - variant.getCommunityCards()) / variant.getHoleCards();
+
+        if (entrants < 2 || seatsPerTable < 2 || seatsPerTable > seatsPerDeck || startingStack < 1
+                || initialAnte < 1 || handsPerLevel < 1 || (long) entrants * startingStack > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException(String.format("Invalid tournament: %d entrants, %d seats per table of "
+                            + "%s, stacks of %d, ante %d, %d hands per level.", entrants, seatsPerTable, variant,
+                    startingStack, initialAnte, handsPerLevel));
+        }
+    }
+
+    /**
+     * A tournament at tables of {@value #DEFAULT_SEATS_PER_TABLE}, starting with antes of a hundredth of the stack,
+     * doubling every ten hands.
+     *
+     * @param variant  game played
+     * @param entrants amount of players entering
+     * @return tournament structure
+     */
+    public static TournamentStructure of(final GameVariant variant, final int entrants) {
+        return new TournamentStructure(variant, entrants, DEFAULT_SEATS_PER_TABLE, 10_000, 100, 10);
+    }
+
+    /**
+     * @param hand hand of the tournament, counted at each table from 0
+     * @return ante of that hand
+     */
+    int anteOf(final int hand) {
+        int doublings = Math.min(hand / handsPerLevel, Integer.SIZE - 2);
+        return (int) Math.min(Integer.MAX_VALUE, (long) initialAnte << doublings);
+    }
+}
@@ -0,0 +1,91 @@
+package com.yotilla.poker.util;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintStream;
+import java.io.Writer;
+
+/**
+ * Description:
+ * A writer to standard out that collects its output in a large buffer and hands it on in chunks.
+ * Meant for batch runs that render many results, e.g. through {@code GameResult.writeRanks}, where passing every line
+ * through a logger or an auto-flushing print stream would cost more than the rendering itself.
+ * <br>
+ * Closing the sink flushes it, but leaves standard out open. Output written to {@code System.out} directly in the
+ * meantime may show up before the buffered output, so flush first.
+ * <br>
+ * Date: 19.10.2026
+ *
+ * @author Manuel
+ *
+ */
+public class ConsoleSink extends Writer {
+    /**
+     * Characters collected before they are handed on.
+     */
+    public static final int DEFAULT_BUFFER_SIZE = 1 << 16;
+
+    private final PrintStream stream;
+    private final BufferedWriter out;
+
+    /**
+     * Create a sink to the current standard out with the default buffer size.
+     */
+    public ConsoleSink() {
+        this(DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Create a sink to the current standard out.
+     *
+     * @param bufferSize characters collected before they are handed on
+     */
+    public ConsoleSink(final int bufferSize) {
+        this.stream = System.out;
+        this.out = new BufferedWriter(new OutputStreamWriter(stream, stream.charset()), bufferSize);
+    }
+
+    @Override
+    public void write(final int c) throws IOException {
+        out.write(c);
+    }
+
+    @Override
+    public void write(final char[] chars, final int offset, final int length) throws IOException {
+        out.write(chars, offset, length);
+    }
+
+    @Override
+    public void write(final String text, final int offset, final int length) throws IOException {
+        out.write(text, offset, length);
+    }
+
+    @Override
+    public Writer append(final CharSequence text) throws IOException {
+        out.append(text);
+        return this;
+    }
+
+    @Override
+    public Writer append(final char c) throws IOException {
+        out.write(c);
+        return this;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        out.flush();
+        stream.flush();
+    }
+
+    /**
+     * Flush, but keep standard out open.
+     *
+     * @throws IOException if flushing fails
+     */
+    @Override
+    public void close() throws IOException {
+        flush();
+    }
+}
@@ -14,7 +14,7 @@ import java.util.Comparator;
 public interface NullSafeComparator<T> extends Comparator<T> {
     /**
      * Compares the two objects null - safe, where null is considered less than
-     * anything else. Two null values are considered equal.<br>
+     * anything else. Two null values are considered equal, just like the same object twice.<br>
      * When overriding this method be aware that you will not profit from null
      * safety.
      * <p>
@@ -22,7 +22,7 @@ public interface NullSafeComparator<T> extends Comparator<T> {
      */
     @Override
     public default int compare(T oneObject, T otherObject) {
-        if (oneObject == null && otherObject == null) {
+        if (oneObject == otherObject) {
             return 0;
         } else if (oneObject != null && otherObject == null) {
             return 1;
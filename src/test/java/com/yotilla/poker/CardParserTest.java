@@ -7,9 +7,13 @@ import com.yotilla.poker.error.PokerParseException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class CardParserTest {
@@ -58,4 +62,48 @@ class CardParserTest {
         assertEquals(new Card(CardSuit.SPADES, CardValue.JACK), cards.get(3), "Cards must match after parse.");
         assertEquals(new Card(CardSuit.CLUBS, CardValue.ACE), cards.get(4), "Cards must match after parse.");
     }
+
+    @Test
+    void parsedCardsAreCanonical() throws PokerParseException {
+        assertSame(Card.ofIndex(new Card(CardSuit.SPADES, CardValue.ACE).index()), sut.parseCard("as"),
+                "Codes are case-insensitive and the shared card is returned.");
+        assertEquals(List.of(new Card(CardSuit.CLUBS, CardValue.TEN)), sut.parseCards("Tc  "),
+                "Trailing spaces are ignored.");
+        assertThrows(PokerParseException.class, () -> sut.parseCards("2D  3C"), "Exception expected on two spaces");
+        assertThrows(PokerParseException.class, () -> sut.parseCards(" 2D"), "Exception expected on leading space");
+    }
+
+    @Test
+    void parseIndicesFromCharactersAndBytes() throws PokerParseException {
+        String input = "2D 3C QH JS AC";
+        int[] expected = sut.parseCards(input).stream().mapToInt(Card::index).toArray();
+        int[] indices = new int[7];
+
+        assertEquals(5, sut.parseCards(new StringBuilder(input), indices), "Five cards from characters.");
+        assertArrayEquals(expected, Arrays.copyOf(indices, 5), "Indices must match the cards.");
+
+        byte[] line = ("x" + input + "\n").getBytes(StandardCharsets.US_ASCII);
+        indices = new int[5];
+
+        assertEquals(5, sut.parseCards(line, 1, line.length - 1, indices), "Five cards from bytes.");
+        assertArrayEquals(expected, indices, "Indices must match the cards.");
+    }
+
+    @Test
+    void parseIndicesThrowsExceptionOnInvalidInput() {
+        int[] indices = new int[2];
+        byte[] umlaut = "2\u00c4".getBytes(StandardCharsets.ISO_8859_1);
+
+        assertThrows(PokerParseException.class, () -> sut.parseCards("", indices), "Exception expected on empty");
+        assertThrows(PokerParseException.class, () -> sut.parseCards("2D 3C 4H", indices),
+                "Exception expected on more cards than fit");
+        assertThrows(PokerParseException.class, () -> sut.parseCards("2D 3\u00c4", indices),
+                "Exception expected on non-ASCII characters");
+        assertThrows(PokerParseException.class, () -> sut.parseCards(umlaut, 0, umlaut.length, indices),
+                "Exception expected on non-ASCII bytes");
+        assertThrows(PokerParseException.class, () -> sut.parseCards("2D 3CH", indices),
+                "Exception expected on three characters");
+        assertThrows(IndexOutOfBoundsException.class, () -> sut.parseCards(umlaut, 1, 3, indices),
+                "Exception expected on a range beyond the bytes");
+    }
 }
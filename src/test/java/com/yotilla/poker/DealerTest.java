@@ -4,15 +4,26 @@ import com.yotilla.poker.card.*;
 import com.yotilla.poker.error.DeckException;
 import com.yotilla.poker.error.HandExceededException;
 import com.yotilla.poker.error.PokerParseException;
+import com.yotilla.poker.history.HandHistory;
+import com.yotilla.poker.history.HandHistoryReader;
+import com.yotilla.poker.history.HandHistoryWriter;
 import com.yotilla.poker.result.GameResult;
+import com.yotilla.poker.result.GameStatistics;
 import com.yotilla.poker.result.PokerHand;
 import com.yotilla.poker.result.PokerHandRanking;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mockito;
 
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -312,4 +323,246 @@ class DealerTest {
         assertTrue(result.getPotSplit().contains(playerTwoSpy), "Pot should have been split between all players.");
         assertTrue(result.getPotSplit().contains(playerThreeSpy), "Pot should have been split between all players.");
     }
+
+    /**
+     * holdemDealsTwoHoleCardsAndFiveCommunityCards
+     *
+     * @throws PokerParseException   in case of an error
+     * @throws HandExceededException in case of too many cards
+     * @throws DeckException         if a card was already drawn.
+     */
+    @Test
+    void holdemDealsTwoHoleCardsAndFiveCommunityCards()
+            throws PokerParseException, HandExceededException, DeckException {
+        Dealer holdemDealer = new Dealer(new DeckOfCards(), GameVariant.TEXAS_HOLDEM);
+        Player player = new Player(PLAYER_1_NAME);
+
+        // both hole cards given, as a random one could be a card of the board
+        holdemDealer.parseInputAndDealHand("AS KS", player);
+        holdemDealer.parseInputAndDealCommunityCards("AH AD");
+
+        assertEquals(2, player.getHand().getAmountOfCards(), "Hold'em players hold two cards.");
+        assertEquals(5, holdemDealer.getCommunityCards().getAmountOfCards(), "The board holds five cards.");
+
+        holdemDealer.evaluatePlayerHand(player);
+
+        assertTrue(player.getPokerHand().ranking().getScore() >= PokerHandRanking.THREE_OF_A_KIND.getScore(),
+                "Three aces among seven cards make at least three of a kind.");
+    }
+
+    /**
+     * holdemRejectsMoreThanTwoHoleCards
+     */
+    @Test
+    void holdemRejectsMoreThanTwoHoleCards() {
+        Dealer holdemDealer = new Dealer(new DeckOfCards(), GameVariant.TEXAS_HOLDEM);
+        Player player = new Player(PLAYER_1_NAME);
+
+        assertThrows(HandExceededException.class, () -> holdemDealer.parseInputAndDealHand("AS KS QS", player),
+                "Exception expected on three hole cards.");
+    }
+
+    /**
+     * holdemEvaluationRequiresCommunityCards
+     *
+     * @throws PokerParseException   in case of an error
+     * @throws HandExceededException in case of too many cards
+     * @throws DeckException         if a card was already drawn.
+     */
+    @Test
+    void holdemEvaluationRequiresCommunityCards() throws PokerParseException, HandExceededException, DeckException {
+        Dealer holdemDealer = new Dealer(new DeckOfCards(), GameVariant.TEXAS_HOLDEM);
+        Player player = new Player(PLAYER_1_NAME);
+        holdemDealer.parseInputAndDealHand("AS KS", player);
+
+        assertThrows(PokerParseException.class, () -> holdemDealer.evaluatePlayerHand(player),
+                "Exception expected when evaluating without a board.");
+    }
+
+    /**
+     * reservedCardsAreNotDealtAtRandom
+     *
+     * @throws HandExceededException in case of too many cards
+     * @throws DeckException         if a card was already drawn.
+     */
+    @Test
+    void reservedCardsAreNotDealtAtRandom() throws HandExceededException, DeckException {
+        int[] cards = {CardParser.cardIndex('A', 'S'), CardParser.cardIndex('A', 'H')};
+
+        for (int game = 0; game < 100; game++) {
+            Dealer holdemDealer = new Dealer(new DeckOfCards(), GameVariant.TEXAS_HOLDEM);
+            Player player = new Player(PLAYER_1_NAME);
+
+            holdemDealer.reserveCards(cards, 0, cards.length);
+            holdemDealer.dealCommunityCards(cards, 0, 0);
+            holdemDealer.dealHand(cards, 0, cards.length, player);
+
+            assertEquals(List.of(Card.ofIndex(cards[0]), Card.ofIndex(cards[1])), player.getHand().getCards(),
+                    "The reserved cards are dealt where they are named.");
+            assertTrue(Collections.disjoint(player.getHand().getCards(), holdemDealer.getCommunityCards().getCards()),
+                    "The random board leaves the reserved cards out.");
+        }
+
+        Dealer holdemDealer = new Dealer(new DeckOfCards(), GameVariant.TEXAS_HOLDEM);
+        assertThrows(DeckException.class, () -> holdemDealer.reserveCards(new int[]{cards[0], cards[0]}, 0, 2),
+                "A card is reserved once.");
+    }
+
+    /**
+     * namedBoardIsNotDealtToRandomHands
+     *
+     * @throws PokerParseException   in case of an error
+     * @throws HandExceededException in case of too many cards
+     * @throws DeckException         if a card was already drawn.
+     */
+    @Test
+    void namedBoardIsNotDealtToRandomHands() throws PokerParseException, HandExceededException, DeckException {
+        for (int game = 0; game < 100; game++) {
+            Dealer holdemDealer = new Dealer(new DeckOfCards(), GameVariant.TEXAS_HOLDEM);
+            List<Player> players = new ArrayList<>();
+
+            holdemDealer.parseInputAndReserveCards("AS KS QS JS TS");
+
+            for (int i = 0; i < 9; i++) {
+                Player player = new Player(PLAYER_1_NAME + i);
+                holdemDealer.parseInputAndDealHand(i == 0 ? "AH" : null, player);
+                players.add(player);
+            }
+
+            holdemDealer.parseInputAndDealCommunityCards("AS KS QS JS TS");
+
+            for (Player player : players) {
+                assertTrue(Collections.disjoint(player.getHand().getCards(),
+                        holdemDealer.getCommunityCards().getCards()), "The random hands leave the board out.");
+            }
+        }
+
+        Dealer holdemDealer = new Dealer(new DeckOfCards(), GameVariant.TEXAS_HOLDEM);
+        assertThrows(DeckException.class, () -> holdemDealer.parseInputAndReserveCards("AS AS"),
+                "A card is reserved once.");
+    }
+
+    /**
+     * fiveCardGameHasNoCommunityCards
+     */
+    @Test
+    void fiveCardGameHasNoCommunityCards() {
+        assertThrows(IllegalStateException.class, () -> sut.parseInputAndDealCommunityCards(null),
+                "Five card games are played without a board.");
+    }
+
+    /**
+     * omahaUsesExactlyTwoHoleCards
+     *
+     * @throws PokerParseException   in case of an error
+     * @throws HandExceededException in case of too many cards
+     * @throws DeckException         if a card was already drawn.
+     */
+    @Test
+    void omahaUsesExactlyTwoHoleCards() throws PokerParseException, HandExceededException, DeckException {
+        Dealer omahaDealer = new Dealer(new DeckOfCards(), GameVariant.OMAHA);
+        Player player = new Player(PLAYER_1_NAME);
+
+        omahaDealer.parseInputAndDealHand("AS KS QS JS", player);
+        omahaDealer.parseInputAndDealCommunityCards("TS 2H 3H 4D 5D");
+        omahaDealer.evaluatePlayerHand(player);
+
+        assertEquals(4, player.getHand().getAmountOfCards(), "Omaha players hold four cards.");
+        assertEquals(PokerHandRanking.HIGH_CARD, player.getPokerHand().ranking(),
+                "Only two of the four spades play: Neither a royal flush nor a straight.");
+        assertEquals(List.of(CardValue.ACE, CardValue.KING, CardValue.TEN, CardValue.FIVE, CardValue.FOUR),
+                player.getPokerHand().rankCards(), "Ace and king plus the three highest community cards.");
+    }
+
+    /**
+     * dealtGamesAreRecordedWithTheirSeed
+     *
+     * @param directory directory of the hand history
+     * @throws Exception in case of an error
+     */
+    @Test
+    void dealtGamesAreRecordedWithTheirSeed(@TempDir final Path directory) throws Exception {
+        List<Player> players = List.of(new Player(PLAYER_1_NAME), new Player(PLAYER_2_NAME),
+                new Player(PLAYER_3_NAME));
+
+        try (HandHistoryWriter history = new HandHistoryWriter(directory)) {
+            Dealer dealer = new Dealer(new DeckOfCards(7L), GameVariant.TEXAS_HOLDEM, null, history);
+            dealer.parseInputAndDealHand(null, players.get(0));
+            // the second player is skipped, e.g. for an invalid hand
+            dealer.parseInputAndDealHand("AS", players.get(2));
+            dealer.parseInputAndDealCommunityCards(null);
+            dealer.evaluatePlayerHand(players.get(0));
+            dealer.evaluatePlayerHand(players.get(2));
+            dealer.determineGameResult(players);
+        }
+
+        HandHistory game = new HandHistoryReader(directory).get(1);
+        assertEquals(7L, game.seed(), "The seed of the deck is recorded.");
+        assertTrue(game.isSkipped(1), "The player skipped is recorded as such.");
+        assertEquals(players.get(2).getPokerHand().classId(), game.classIds()[2], "The hands are recorded.");
+
+        // the same seed deals the same cards again
+        Dealer dealer = new Dealer(new DeckOfCards(game.seed()), GameVariant.TEXAS_HOLDEM);
+        Player first = new Player(PLAYER_1_NAME);
+        Player third = new Player(PLAYER_3_NAME);
+        dealer.parseInputAndDealHand(null, first);
+        dealer.parseInputAndDealHand("AS", third);
+        dealer.parseInputAndDealCommunityCards(null);
+
+        assertEquals(players.get(0).getHand().getCards(), first.getHand().getCards(), "The game is dealt again.");
+        assertEquals(players.get(2).getHand().getCards(), third.getHand().getCards(), "The game is dealt again.");
+    }
+
+    /**
+     * dealersRecordIntoSharedStatistics
+     *
+     * @throws Exception in case of an error on any thread
+     */
+    @Test
+    void dealersRecordIntoSharedStatistics() throws Exception {
+        GameStatistics statistics = new GameStatistics(3);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<Callable<Void>> tasks = new ArrayList<>();
+
+        for (int task = 0; task < 4; task++) {
+            tasks.add(() -> {
+                for (int game = 0; game < 500; game++) {
+                    Dealer dealer = new Dealer(new DeckOfCards(), GameVariant.TEXAS_HOLDEM, statistics);
+                    dealer.parseInputAndDealCommunityCards(null);
+                    List<Player> players = List.of(new Player(PLAYER_1_NAME), new Player(PLAYER_2_NAME),
+                            new Player(PLAYER_3_NAME));
+
+                    for (Player player : players) {
+                        dealer.parseInputAndDealHand(null, player);
+                        dealer.evaluatePlayerHand(player);
+                    }
+
+                    dealer.determineGameResult(players);
+                }
+                return null;
+            });
+        }
+
+        try {
+            for (Future<Void> future : executor.invokeAll(tasks)) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        long hands = 0;
+        long winningHands = 0;
+
+        for (PokerHandRanking ranking : PokerHandRanking.values()) {
+            hands += statistics.getFrequency(ranking);
+            winningHands += statistics.getWinningFrequency(ranking);
+        }
+
+        assertEquals(2_000, statistics.getGames(), "Every game is counted exactly once.");
+        assertEquals(6_000, hands, "Every hand is counted exactly once.");
+        assertEquals(2_000, winningHands, "Every game has one winning hand.");
+        assertTrue(statistics.getWins(0) > 500 && statistics.getWins(2) > 500, "The seats win about alike.");
+    }
 }
+
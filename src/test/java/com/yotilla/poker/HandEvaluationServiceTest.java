@@ -1,15 +1,25 @@
 package com.yotilla.poker;
 
+import com.yotilla.poker.card.Card;
 import com.yotilla.poker.card.CardSuit;
 import com.yotilla.poker.card.CardValue;
 import com.yotilla.poker.card.HandOfCards;
 import com.yotilla.poker.error.HandExceededException;
 import com.yotilla.poker.result.PokerHand;
 import com.yotilla.poker.result.PokerHandRanking;
+import com.yotilla.poker.result.evaluator.CardMaskEvaluator;
+import com.yotilla.poker.result.evaluator.OmahaEvaluator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
@@ -73,4 +83,66 @@ class HandEvaluationServiceTest {
         assertEquals(CardValue.FOUR, result.rankCards().get(3), "Rank card 4, four.");
         assertEquals(CardValue.TWO, result.rankCards().get(4), "Rank card 5, two.");
     }
+
+    @Test
+    void recognizesBestFiveOfSeven() throws HandExceededException {
+        HandOfCards holeCards = new HandOfCards();
+        holeCards.addCards(new Card(CardSuit.HEARTS, CardValue.NINE), new Card(CardSuit.HEARTS, CardValue.TWO));
+
+        HandOfCards communityCards = new HandOfCards();
+        communityCards.addCards(new Card(CardSuit.HEARTS, CardValue.FIVE), new Card(CardSuit.HEARTS, CardValue.JACK),
+                new Card(CardSuit.SPADES, CardValue.JACK), new Card(CardSuit.HEARTS, CardValue.KING),
+                new Card(CardSuit.DIAMONDS, CardValue.THREE));
+
+        PokerHand result = sut.evaluate(holeCards, communityCards);
+
+        assertEquals(PokerHandRanking.FLUSH, result.ranking(), "Flush expected.");
+        assertEquals(List.of(CardValue.KING, CardValue.JACK, CardValue.NINE, CardValue.FIVE, CardValue.TWO),
+                result.rankCards(), "The five hearts make up the rank cards.");
+    }
+
+    @Test
+    void omahaIsEvaluatedBySharedServiceOnManyThreads() throws Exception {
+        OmahaEvaluator omahaEvaluator = new OmahaEvaluator(new CardMaskEvaluator());
+        List<Callable<Integer>> tasks = new ArrayList<>();
+
+        for (int thread = 0; thread < 4; thread++) {
+            long seed = thread;
+            tasks.add(() -> {
+                Random random = new Random(seed);
+                int mismatches = 0;
+
+                for (int game = 0; game < 2_000; game++) {
+                    List<Card> deck = new ArrayList<>();
+
+                    for (int card = 0; card < Card.INDEX_RANGE; card++) {
+                        deck.add(Card.ofIndex(card));
+                    }
+
+                    Collections.shuffle(deck, random);
+                    HandOfCards board = handOf(deck.subList(0, 5));
+                    HandOfCards holeCards = handOf(deck.subList(5, 9));
+
+                    PokerHand expected = omahaEvaluator.evaluate(holeCards, board);
+                    mismatches += sut.evaluateOmaha(holeCards, board) == expected ? 0 : 1;
+                    mismatches += sut.evaluateOmaha(holeCards, sut.prepareOmahaCommunityCards(board)) == expected
+                            ? 0 : 1;
+                }
+
+                return mismatches;
+            });
+        }
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(4)) {
+            for (Future<Integer> mismatches : executor.invokeAll(tasks)) {
+                assertEquals(0, mismatches.get(), "Every thread gets the hands of its own boards.");
+            }
+        }
+    }
+
+    private static HandOfCards handOf(final List<Card> cards) throws HandExceededException {
+        HandOfCards hand = new HandOfCards();
+        hand.addCards(cards.toArray(new Card[0]));
+        return hand;
+    }
 }
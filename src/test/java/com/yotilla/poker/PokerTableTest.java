@@ -2,19 +2,33 @@ package com.yotilla.poker;
 
 import com.yotilla.poker.card.CardValue;
 import com.yotilla.poker.card.DeckOfCards;
+import com.yotilla.poker.history.HandHistory;
+import com.yotilla.poker.history.HandHistoryReader;
+import com.yotilla.poker.history.HandHistoryWriter;
 import com.yotilla.poker.result.GameResult;
 import com.yotilla.poker.result.PokerHandRanking;
 import com.yotilla.poker.util.LogPrinter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.ArgumentCaptor;
 import org.mockito.invocation.InvocationOnMock;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.List;
 import java.util.logging.Logger;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.*;
 
 class PokerTableTest {
@@ -96,9 +110,116 @@ class PokerTableTest {
         assertEquals(CardValue.NINE, winner2.getPokerHand().rankCards().getFirst());
     }
 
+    @Test
+    void namedBoardIsKeptOutOfRandomHands() {
+        for (int game = 0; game < 50; game++) {
+            Dealer holdemDealer = spy(new Dealer(new DeckOfCards(), GameVariant.TEXAS_HOLDEM));
+            new PokerTable(logPrinter, holdemDealer).playPoker(new String[]{"", "", "", "", "", "", "", "", ""},
+                    "AS KS QS JS TS");
+
+            verify(holdemDealer).determineGameResult(anyList());
+        }
+    }
+
     @Test
     void nullInputIsHandledGracefully() {
         assertDoesNotThrow(() -> sut.playPoker(null));
         verify(logPrinter).print("No hands have been dealt. Quitting.");
     }
+
+    @Test
+    void gamesAreReadFromAFile(@TempDir Path directory) throws IOException {
+        Path file = Files.writeString(directory.resolve("games.txt"), "JC AC KC QC TC | 6C 5S 7H 9C 8D\n\n2D ZZ\n");
+
+        PokerTable.playFile(logPrinter, GameVariant.FIVE_CARD, file, null);
+        verify(logPrinter).print(argThat(summary -> summary.startsWith("1 games played, 1 lines skipped")));
+
+        PokerTable.playFile(logPrinter, GameVariant.FIVE_CARD, directory.resolve("missing.txt"), null);
+        PokerTable.playFile(logPrinter, GameVariant.FIVE_CARD, file, "xml");
+        verify(logPrinter, times(1)).print(anyString());
+
+        PokerTable.playFile(logPrinter, GameVariant.FIVE_CARD, file, PokerTable.CSV_FORMAT);
+        PokerTable.playFile(logPrinter, GameVariant.FIVE_CARD, file, PokerTable.NDJSON_FORMAT);
+        verify(logPrinter, times(3)).print(argThat(summary -> summary.startsWith("1 games played, 1 lines skipped")));
+
+        PokerTable.playFile(logPrinter, GameVariant.FIVE_CARD, file, null, 2);
+        PokerTable.playFile(logPrinter, GameVariant.FIVE_CARD, file, PokerTable.CSV_FORMAT, 2);
+        PokerTable.playFile(logPrinter, GameVariant.FIVE_CARD, file, null, 0);
+        verify(logPrinter, times(4)).print(argThat(summary -> summary.startsWith("1 games played, 1 lines skipped")));
+    }
+
+    @Test
+    void playedGamesAreRecordedIntoTheHistory(@TempDir Path directory) throws IOException {
+        Path history = directory.resolve("history");
+        Path file = Files.writeString(directory.resolve("games.txt"), "JC AC KC QC TC | 6C 5S 7H 9C 8D\n2D ZZ\n");
+
+        try (HandHistoryWriter writer = new HandHistoryWriter(history)) {
+            Dealer historyDealer = new Dealer(new DeckOfCards(), GameVariant.FIVE_CARD, null, writer);
+            new PokerTable(logPrinter, historyDealer).playPoker(new String[]{"JC AC KC QC TC", "ZZ", "6C 5S 7H 9C 8D"});
+            PokerTable.playFile(logPrinter, GameVariant.FIVE_CARD, file, null, 2, writer);
+        }
+
+        HandHistoryReader reader = new HandHistoryReader(history);
+        HandHistory game = reader.get(1);
+        assertEquals(2, reader.getLastId(), "Both games played are recorded.");
+        assertTrue(game.isSkipped(1), "Invalid hands are recorded as skipped.");
+        assertTrue(game.isWinner(0), "The royal flush wins.");
+        assertFalse(reader.get(2).isSkipped(1), "The game of the file is recorded.");
+    }
+
+    @Test
+    void gamesArePipedThrough() {
+        String games = "JC AC KC QC TC | 6C 5S 7H 9C 8D\n2D ZZ\n";
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        PokerTable.playPipe(logPrinter, GameVariant.FIVE_CARD, null, channelOf(games), Channels.newChannel(out));
+        assertTrue(out.toString(StandardCharsets.UTF_8).startsWith("1\tPlayer 1 wins.\n2\tSkipped: "),
+                "Each line gets its result.");
+        verify(logPrinter).print(argThat(summary -> summary.startsWith("1 games played, 1 lines skipped")));
+
+        out.reset();
+        PokerTable.playPipe(logPrinter, GameVariant.FIVE_CARD, PokerTable.CSV_FORMAT, channelOf(games),
+                Channels.newChannel(out));
+        assertTrue(out.toString(StandardCharsets.UTF_8).startsWith("game,players,"), "Records come as CSV.");
+
+        out.reset();
+        PokerTable.playPipe(logPrinter, GameVariant.FIVE_CARD, "xml", channelOf(games), Channels.newChannel(out));
+        assertEquals(0, out.size(), "Unknown formats play nothing.");
+        verify(logPrinter, times(2)).print(anyString());
+    }
+
+    @Test
+    void conflictingOptionsAreRejected() {
+        assertTrue(PokerTable.areCompatible(logPrinter, null, false, null, null, "AS KS QS", true), "Hands.");
+        assertTrue(PokerTable.areCompatible(logPrinter, "games.txt", false, "4", null, null, false), "A file.");
+        assertTrue(PokerTable.areCompatible(logPrinter, "games.txt", false, null, "csv", null, false), "Records.");
+        assertTrue(PokerTable.areCompatible(logPrinter, null, true, null, "ndjson", null, false), "A pipe.");
+
+        assertFalse(PokerTable.areCompatible(logPrinter, "games.txt", true, null, null, null, false), "File or pipe.");
+        assertFalse(PokerTable.areCompatible(logPrinter, null, true, "4", null, null, false), "Piped on one thread.");
+        assertFalse(PokerTable.areCompatible(logPrinter, null, false, "4", null, null, true), "Hands on one thread.");
+        assertFalse(PokerTable.areCompatible(logPrinter, null, false, null, "csv", null, true), "Hands as text.");
+        assertFalse(PokerTable.areCompatible(logPrinter, "games.txt", false, null, null, "AS", false), "Board read.");
+        assertFalse(PokerTable.areCompatible(logPrinter, null, true, null, null, "AS", false), "Board per line.");
+        assertFalse(PokerTable.areCompatible(logPrinter, null, true, null, null, null, true), "Hands per line.");
+    }
+
+    @Test
+    void lookupTablesAreSavedAndVerified(@TempDir Path directory) {
+        Path file = directory.resolve("poker.tables");
+
+        PokerTable.buildTables(logPrinter, file);
+        verify(logPrinter).print(argThat(message -> message.startsWith("Saved the lookup tables to ")));
+
+        PokerTable.verifyTables(logPrinter, file);
+        verify(logPrinter).print("The lookup tables of " + file + " are intact.");
+
+        PokerTable.verifyTables(logPrinter, directory.resolve("missing.tables"));
+        PokerTable.buildTables(logPrinter, directory.resolve("missing").resolve("poker.tables"));
+        verify(logPrinter, times(2)).print(anyString());
+    }
+
+    private static ReadableByteChannel channelOf(final String input) {
+        return Channels.newChannel(new ByteArrayInputStream(input.getBytes(StandardCharsets.US_ASCII)));
+    }
 }
@@ -0,0 +1,197 @@
+package com.yotilla.poker.archive;
+
+import com.yotilla.poker.GameVariant;
+import com.yotilla.poker.card.Card;
+import com.yotilla.poker.result.evaluator.CardMaskEvaluator;
+import com.yotilla.poker.result.evaluator.OmahaEvaluator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Description:
+ *
+ * <br>
+ * Date: 19.10.2026
+ *
+ * @author Manuel
+ *
+ */
+class GameArchiveReaderTest {
+    @TempDir
+    Path directory;
+
+    /**
+     * gamesAreReadBackAsWritten
+     *
+     * @throws IOException error case
+     */
+    @Test
+    void gamesAreReadBackAsWritten() throws IOException {
+        for (GameVariant variant : GameVariant.values()) {
+            for (ArchiveEncoding encoding : ArchiveEncoding.values()) {
+                Path file = directory.resolve(variant + "-" + encoding + ".games");
+                List<long[]> games = writeRandomGames(file, variant, encoding, 1000);
+
+                // a window this small is moved on every few games
+                try (GameArchiveReader sut = new GameArchiveReader(file, 200)) {
+                    assertEquals(variant, sut.getVariant(), "The variant is kept.");
+                    assertEquals(encoding, sut.getEncoding(), "The encoding is kept.");
+                    assertEquals(games.size(), sut.getGames(), "The games are counted.");
+
+                    for (long[] game : games) {
+                        assertTrue(sut.next(), "Every game is read.");
+                        assertEquals(game.length - 1, sut.players(), "The players are read.");
+                        assertEquals(game[0], sut.boardMask(), "The board is read.");
+
+                        for (int player = 0; player < sut.players(); player++) {
+                            assertEquals(game[player + 1], sut.handMask(player), "The hands are read.");
+                            assertEquals(expectedStrength(variant, game, player), sut.strength(player),
+                                    "Hands are evaluated like they are by the evaluators.");
+                        }
+                    }
+
+                    assertFalse(sut.next(), "No more games.");
+                }
+            }
+        }
+    }
+
+    /**
+     * invalidArchivesAreRejected
+     *
+     * @throws IOException error case
+     */
+    @Test
+    void invalidArchivesAreRejected() throws IOException {
+        Path empty = Files.createFile(directory.resolve("empty.games"));
+        Path text = Files.writeString(directory.resolve("text.games"), "2D 9C AS AH AC | 3D 6D 7D TD QD\n");
+        Path truncated = directory.resolve("truncated.games");
+        writeRandomGames(truncated, GameVariant.TEXAS_HOLDEM, ArchiveEncoding.PACKED, 10);
+
+        try (FileChannel channel = FileChannel.open(truncated, StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - 1);
+        }
+
+        Path corrupt = directory.resolve("corrupt.games");
+        writeRandomGames(corrupt, GameVariant.FIVE_CARD, ArchiveEncoding.MASK, 1);
+
+        try (FileChannel channel = FileChannel.open(corrupt, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{11}), ArchiveHeader.SIZE);
+        }
+
+        assertThrows(IOException.class, () -> new GameArchiveReader(empty), "Empty files hold no header.");
+        assertThrows(IOException.class, () -> new GameArchiveReader(text), "Text files hold no header.");
+        assertThrows(IOException.class, () -> readAll(truncated), "Truncated records are noticed.");
+        assertThrows(IOException.class, () -> readAll(corrupt), "More players than a deck deals to.");
+    }
+
+    /**
+     * invalidCardsAreRejected
+     *
+     * @throws IOException error case
+     */
+    @Test
+    void invalidCardsAreRejected() throws IOException {
+        int cards = ArchiveHeader.SIZE + 1;
+
+        // the first packed card of the board becomes index 63
+        Path outOfRange = directory.resolve("out-of-range.games");
+        writeRandomGames(outOfRange, GameVariant.TEXAS_HOLDEM, ArchiveEncoding.PACKED, 1);
+        overwrite(outOfRange, cards, ByteBuffer.wrap(new byte[]{(byte) 0xFF}));
+
+        // the first two packed cards of the board become index 0
+        Path twice = directory.resolve("twice.games");
+        writeRandomGames(twice, GameVariant.TEXAS_HOLDEM, ArchiveEncoding.PACKED, 1);
+        overwrite(twice, cards, ByteBuffer.wrap(new byte[]{0, 0}));
+
+        // the first hand takes the two lowest cards of the board
+        Path overlapping = directory.resolve("overlapping.games");
+        long board = writeRandomGames(overlapping, GameVariant.TEXAS_HOLDEM, ArchiveEncoding.MASK, 1).getFirst()[0];
+        long lowest = board & -board;
+        long secondLowest = board & ~lowest & -(board & ~lowest);
+        overwrite(overlapping, cards + Long.BYTES, ByteBuffer.allocate(Long.BYTES).putLong(0, lowest | secondLowest));
+
+        // the first hand holds four cards
+        Path four = directory.resolve("four.games");
+        writeRandomGames(four, GameVariant.FIVE_CARD, ArchiveEncoding.MASK, 1);
+        overwrite(four, cards, ByteBuffer.allocate(Long.BYTES).putLong(0, 0xFL));
+
+        assertThrows(IOException.class, () -> readAll(outOfRange), "Cards beyond the deck are noticed.");
+        assertThrows(IOException.class, () -> readAll(twice), "Cards named twice are noticed.");
+        assertThrows(IOException.class, () -> readAll(overlapping), "Cards dealt twice are noticed.");
+        assertThrows(IOException.class, () -> readAll(four), "Hands of too few cards are noticed.");
+    }
+
+    private static void overwrite(final Path file, final long position, final ByteBuffer bytes) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.write(bytes, position);
+        }
+    }
+
+    private static void readAll(final Path file) throws IOException {
+        try (GameArchiveReader sut = new GameArchiveReader(file)) {
+            while (sut.next()) {
+                assertTrue(sut.players() > 0, "Every game has players.");
+            }
+        }
+    }
+
+    /**
+     * @return the board and hands of each game
+     */
+    static List<long[]> writeRandomGames(final Path file, final GameVariant variant, final ArchiveEncoding encoding,
+                                         final int amount) throws IOException {
+        Random random = new Random(42);
+        int maxPlayers = (Card.INDEX_RANGE - variant.getCommunityCards()) / variant.getHoleCards();
+        List<long[]> games = new ArrayList<>();
+
+        try (GameArchiveWriter writer = new GameArchiveWriter(file, variant, encoding)) {
+            for (int i = 0; i < amount; i++) {
+                long[] game = new long[1 + 1 + random.nextInt(maxPlayers)];
+                long dealt = 0L;
+
+                for (int hand = 0; hand < game.length; hand++) {
+                    int cards = hand == 0 ? variant.getCommunityCards() : variant.getHoleCards();
+
+                    while (Long.bitCount(game[hand]) < cards) {
+                        long card = 1L << random.nextInt(Card.INDEX_RANGE);
+
+                        if ((dealt & card) == 0) {
+                            game[hand] |= card;
+                            dealt |= card;
+                        }
+                    }
+                }
+
+                long[] hands = new long[maxPlayers];
+                System.arraycopy(game, 1, hands, 0, game.length - 1);
+                writer.write(game[0], hands, game.length - 1);
+                games.add(game);
+            }
+        }
+
+        return games;
+    }
+
+    private static int expectedStrength(final GameVariant variant, final long[] game, final int player) {
+        CardMaskEvaluator evaluator = new CardMaskEvaluator();
+
+        return switch (variant) {
+            case FIVE_CARD -> evaluator.evaluate(game[player + 1]).strength();
+            case TEXAS_HOLDEM -> evaluator.evaluate(game[player + 1] | game[0]).strength();
+            case OMAHA -> new OmahaEvaluator(evaluator).evaluateStrengthNaive(game[player + 1], game[0]);
+        };
+    }
+}
@@ -0,0 +1,79 @@
+package com.yotilla.poker.archive;
+
+import com.yotilla.poker.GameVariant;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Description:
+ *
+ * <br>
+ * Date: 19.10.2026
+ *
+ * @author Manuel
+ *
+ */
+class GameArchiveWriterTest {
+    @TempDir
+    Path directory;
+
+    /**
+     * recordsTakeTheirEncodedSize
+     *
+     * @throws IOException error case
+     */
+    @Test
+    void recordsTakeTheirEncodedSize() throws IOException {
+        Path masks = directory.resolve("masks.games");
+        Path packed = directory.resolve("packed.games");
+        GameArchiveReaderTest.writeRandomGames(masks, GameVariant.FIVE_CARD, ArchiveEncoding.MASK, 5000);
+        GameArchiveReaderTest.writeRandomGames(packed, GameVariant.FIVE_CARD, ArchiveEncoding.PACKED, 5000);
+
+        assertEquals(17, ArchiveEncoding.MASK.recordSize(GameVariant.FIVE_CARD, 2), "Two masks and the players.");
+        assertEquals(9, ArchiveEncoding.PACKED.recordSize(GameVariant.FIVE_CARD, 2), "Ten cards in 60 bits.");
+        assertEquals(8, ArchiveEncoding.PACKED.recordSize(GameVariant.TEXAS_HOLDEM, 2), "Nine cards in 54 bits.");
+        assertTrue(Files.size(packed) * 2 < Files.size(masks), "Five-card hands are packed to less than half.");
+
+        ArchiveHeader header = ArchiveHeader.readFrom(ByteBuffer.wrap(Files.readAllBytes(packed)));
+        assertEquals(new ArchiveHeader(GameVariant.FIVE_CARD, ArchiveEncoding.PACKED, 5000), header,
+                "The header counts the games.");
+    }
+
+    /**
+     * invalidGamesAreRejected
+     *
+     * @throws IOException error case
+     */
+    @Test
+    void invalidGamesAreRejected() throws IOException {
+        Path file = directory.resolve("holdem.games");
+
+        try (GameArchiveWriter sut = new GameArchiveWriter(file, GameVariant.TEXAS_HOLDEM, ArchiveEncoding.MASK)) {
+            long board = 0b11111L;
+            long[] hands = {0b11L << 5, 0b11L << 7, 0b11L << 4};
+
+            sut.write(board, hands, 2);
+
+            assertThrows(IllegalArgumentException.class, () -> sut.write(board, hands, 0), "No players.");
+            assertThrows(IllegalArgumentException.class, () -> sut.write(board, new long[24], 24),
+                    "Too many players.");
+            assertThrows(IndexOutOfBoundsException.class, () -> sut.write(board, hands, 4), "Not that many hands.");
+            assertThrows(IllegalArgumentException.class, () -> sut.write(board >> 1, hands, 2), "Four on the board.");
+            assertThrows(IllegalArgumentException.class, () -> sut.write(board, hands, 3), "A card held twice.");
+            assertThrows(IllegalArgumentException.class, () -> sut.write(board, new long[]{0b11L << 51}, 1),
+                    "No card beyond the deck.");
+            assertEquals(1, sut.getGames(), "Only the valid game is written.");
+        }
+
+        try (GameArchiveReader reader = new GameArchiveReader(file)) {
+            assertEquals(1, reader.getGames(), "Only the valid game is written.");
+        }
+    }
+}
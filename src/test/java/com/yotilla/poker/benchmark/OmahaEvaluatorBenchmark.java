@@ -0,0 +1,96 @@
+package com.yotilla.poker.benchmark;
+
+import com.yotilla.poker.result.evaluator.CardMaskEvaluator;
+import com.yotilla.poker.result.evaluator.OmahaEvaluator;
+
+import java.util.Random;
+
+/**
+ * Description:
+ * Compares the pruned Omaha evaluation against evaluating all 60 combinations per player.
+ * Not a unit test. Run its main method from the test classpath, e.g. from the IDE.
+ * <br>
+ * Date: 19.10.2026
+ *
+ * @author Manuel
+ *
+ */
+public class OmahaEvaluatorBenchmark {
+    private static final int DEALS = 20_000;
+    private static final int PLAYERS = 6;
+    private static final int ROUNDS = 10;
+
+    public static void main(String[] args) {
+        OmahaEvaluator evaluator = new OmahaEvaluator(new CardMaskEvaluator());
+        long[][] deals = deal(new Random(42));
+
+        for (int round = 1; round <= ROUNDS; round++) {
+            long start = System.nanoTime();
+            long naiveChecksum = runNaive(evaluator, deals);
+            long naive = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            long prunedChecksum = runPruned(evaluator, deals);
+            long pruned = System.nanoTime() - start;
+
+            if (naiveChecksum != prunedChecksum) {
+                throw new IllegalStateException("Naive and pruned evaluation disagree.");
+            }
+
+            System.out.printf("Round %2d: naive %6d ns/player, pruned %6d ns/player%n", round,
+                    naive / (DEALS * PLAYERS), pruned / (DEALS * PLAYERS));
+        }
+    }
+
+    private static long runNaive(final OmahaEvaluator evaluator, final long[][] deals) {
+        long checksum = 0;
+
+        for (long[] deal : deals) {
+            for (int player = 1; player <= PLAYERS; player++) {
+                checksum += evaluator.evaluateStrengthNaive(deal[player], deal[0]);
+            }
+        }
+
+        return checksum;
+    }
+
+    private static long runPruned(final OmahaEvaluator evaluator, final long[][] deals) {
+        long checksum = 0;
+
+        for (long[] deal : deals) {
+            OmahaEvaluator.Combinations board = evaluator.prepareCommunityCards(deal[0]);
+
+            for (int player = 1; player <= PLAYERS; player++) {
+                checksum += evaluator.evaluateStrength(deal[player], board);
+            }
+        }
+
+        return checksum;
+    }
+
+    /**
+     * Deal a board of five and four hole cards per player. Index 0 holds the board.
+     */
+    private static long[][] deal(final Random random) {
+        long[][] deals = new long[DEALS][PLAYERS + 1];
+
+        for (long[] deal : deals) {
+            long used = 0L;
+
+            for (int hand = 0; hand <= PLAYERS; hand++) {
+                int cards = hand == 0 ? 5 : 4;
+
+                while (Long.bitCount(deal[hand]) < cards) {
+                    long card = 1L << random.nextInt(52);
+
+                    if ((used & card) == 0) {
+                        used |= card;
+                        deal[hand] |= card;
+                    }
+                }
+            }
+        }
+
+        return deals;
+    }
+}
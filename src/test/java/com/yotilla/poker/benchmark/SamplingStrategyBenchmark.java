@@ -0,0 +1,122 @@
+package com.yotilla.poker.benchmark;
+
+import com.yotilla.poker.GameVariant;
+import com.yotilla.poker.card.Card;
+import com.yotilla.poker.result.evaluator.CardMaskEvaluator;
+import com.yotilla.poker.simulation.EquityResult;
+import com.yotilla.poker.simulation.EquitySimulator;
+import com.yotilla.poker.simulation.SamplingStrategy;
+import com.yotilla.poker.simulation.StoppingRule;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static com.yotilla.poker.card.CardSuit.*;
+import static com.yotilla.poker.card.CardValue.*;
+
+/**
+ * Description:
+ * Statistical harness comparing the sampling strategies against plain Monte Carlo. Each strategy estimates the same
+ * equity many times over with a fixed amount of trials, and the variance between these estimates shows how precise
+ * a single simulation of that size really is. A variance ratio below one means fewer trials for the same precision.
+ * Not part of the test suite, run it from the IDE or with exec:java.
+ * <br>
+ * Date: 19.10.2026
+ *
+ * @author Manuel
+ *
+ */
+public class SamplingStrategyBenchmark {
+    private static final int RUNS = 200;
+    private static final int TRIALS = 1_024;
+    private static final double EPSILON = 0.005;
+
+    /**
+     * A spot to estimate the equity of.
+     *
+     * @param name           name to print
+     * @param variant        game played
+     * @param holeCards      known hole cards per player
+     * @param communityCards known community cards
+     */
+    public record Scenario(String name, GameVariant variant, List<List<Card>> holeCards, List<Card> communityCards) {
+    }
+
+    /**
+     * Spread of the first player's equity over repeated simulations of one strategy.
+     *
+     * @param mean     average estimate
+     * @param variance variance between the estimates
+     */
+    public record Spread(double mean, double variance) {
+    }
+
+    public static void main(String[] args) {
+        List<Scenario> scenarios = List.of(
+                new Scenario("Aces against kings, preflop", GameVariant.TEXAS_HOLDEM,
+                        List.of(List.of(new Card(SPADES, ACE), new Card(HEARTS, ACE)),
+                                List.of(new Card(CLUBS, KING), new Card(DIAMONDS, KING))), List.of()),
+                new Scenario("Flush draw against top pair, on the flop", GameVariant.TEXAS_HOLDEM,
+                        List.of(List.of(new Card(HEARTS, SEVEN), new Card(HEARTS, EIGHT)),
+                                List.of(new Card(SPADES, ACE), new Card(CLUBS, QUEEN))),
+                        List.of(new Card(HEARTS, ACE), new Card(HEARTS, TWO), new Card(DIAMONDS, NINE))),
+                new Scenario("Three random five-card hands", GameVariant.FIVE_CARD,
+                        List.of(List.of(), List.of(), List.of()), List.of()),
+                new Scenario("Pocket queens against two random Omaha hands", GameVariant.OMAHA,
+                        List.of(List.of(new Card(SPADES, QUEEN), new Card(HEARTS, QUEEN)), List.of(), List.of()),
+                        List.of()));
+
+        for (Scenario scenario : scenarios) {
+            System.out.printf("%s%n", scenario.name());
+            Map<SamplingStrategy, Spread> spreads = compare(scenario, RUNS, TRIALS, new Random(42));
+            double uniform = spreads.get(SamplingStrategy.UNIFORM).variance();
+
+            for (SamplingStrategy strategy : SamplingStrategy.values()) {
+                Spread spread = spreads.get(strategy);
+                EquityResult adaptive = new EquitySimulator(new CardMaskEvaluator(), new Random(7)).simulate(
+                        scenario.variant(), scenario.holeCards(), scenario.communityCards(),
+                        StoppingRule.precision(EPSILON, Duration.ofSeconds(30)), strategy);
+
+                System.out.printf("  %-13s equity %.4f, variance %.3e, ratio %.2f, %7d trials to +/-%.3f%n",
+                        strategy, spread.mean(), spread.variance(), spread.variance() / uniform,
+                        adaptive.getTrials(), EPSILON);
+            }
+        }
+    }
+
+    /**
+     * Run every strategy repeatedly on the same scenario.
+     *
+     * @param scenario spot to estimate
+     * @param runs     simulations per strategy
+     * @param trials   trials per simulation
+     * @param random   source of the simulations' seeds
+     * @return spread of the first player's equity per strategy
+     */
+    public static Map<SamplingStrategy, Spread> compare(final Scenario scenario, final int runs, final int trials,
+                                                        final Random random) {
+        Map<SamplingStrategy, Spread> spreads = new EnumMap<>(SamplingStrategy.class);
+
+        for (SamplingStrategy strategy : SamplingStrategy.values()) {
+            double sum = 0.0;
+            double squareSum = 0.0;
+
+            for (int run = 0; run < runs; run++) {
+                EquitySimulator simulator = new EquitySimulator(new CardMaskEvaluator(), new Random(random.nextLong()));
+                double equity = simulator.simulate(scenario.variant(), scenario.holeCards(),
+                        scenario.communityCards(), StoppingRule.fixedTrials(trials), strategy).getEquity(0);
+
+                sum += equity;
+                squareSum += equity * equity;
+            }
+
+            double mean = sum / runs;
+            spreads.put(strategy, new Spread(mean, (squareSum - sum * mean) / (runs - 1)));
+        }
+
+        return spreads;
+    }
+}
@@ -149,6 +149,25 @@ class DeckOfCardsTest {
                 "After drawing one card, said card should have been removed from the deck.");
     }
 
+    /**
+     * decksOfTheSameSeedShuffleAlike
+     *
+     * @throws DeckException error case
+     */
+    @Test
+    void decksOfTheSameSeedShuffleAlike() throws DeckException {
+        DeckOfCards deck = new DeckOfCards(42L);
+        DeckOfCards sameSeed = new DeckOfCards(42L);
+        deck.shuffleDeck();
+        sameSeed.shuffleDeck();
+
+        assertEquals(42L, deck.getSeed(), "The seed is kept.");
+
+        while (!deck.isEmpty()) {
+            assertEquals(deck.drawNextCard(), sameSeed.drawNextCard(), "The same seed shuffles the same way.");
+        }
+    }
+
     /**
      * drawNextThrowsExceptionOnAnEmptyDeck
      *
@@ -0,0 +1,169 @@
+package com.yotilla.poker.draw;
+
+import com.yotilla.poker.card.Card;
+import com.yotilla.poker.card.HandOfCards;
+import com.yotilla.poker.error.HandExceededException;
+import com.yotilla.poker.result.HandStrengthTable;
+import com.yotilla.poker.result.PokerHandRanking;
+import com.yotilla.poker.result.evaluator.CardMaskEvaluator;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static com.yotilla.poker.card.CardSuit.*;
+import static com.yotilla.poker.card.CardValue.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Description:
+ *
+ * <br>
+ * Date: 19.10.2026
+ *
+ * @author Manuel
+ *
+ */
+class DiscardOptimizerTest {
+    private final DiscardOptimizer sut = new DiscardOptimizer(new CardMaskEvaluator(),
+            HandStrengthTable.getInstance()::percentile, DiscardOptimizer.DEFAULT_ENUMERATION_LIMIT,
+            DiscardOptimizer.DEFAULT_SAMPLES, DiscardOptimizer.DEFAULT_CACHE_SIZE, new Random(42));
+
+    /**
+     * incompleteHandsAreRejected
+     *
+     * @throws HandExceededException error case
+     */
+    @Test
+    void incompleteHandsAreRejected() throws HandExceededException {
+        HandOfCards hand = hand(new Card(SPADES, ACE), new Card(HEARTS, ACE));
+
+        assertThrows(IllegalArgumentException.class, () -> sut.optimize(hand, List.of()),
+                "Only complete hands can be drawn to.");
+    }
+
+    /**
+     * allChoicesAreRated
+     *
+     * @throws HandExceededException error case
+     */
+    @Test
+    void allChoicesAreRated() throws HandExceededException {
+        HandOfCards hand = hand(new Card(SPADES, ACE), new Card(HEARTS, ACE), new Card(CLUBS, SEVEN),
+                new Card(DIAMONDS, FOUR), new Card(SPADES, TWO));
+
+        List<DrawOutcome> outcomes = sut.evaluateAll(hand, List.of());
+
+        assertEquals(DiscardOptimizer.DISCARD_CHOICES, outcomes.size(), "Every card is either kept or discarded.");
+        assertTrue(outcomes.getFirst().getDiscards().isEmpty(), "The first choice stands pat.");
+        assertEquals(hand.getCards(), outcomes.getLast().getDiscards(), "The last choice discards everything.");
+
+        for (DrawOutcome outcome : outcomes) {
+            double total = 0.0;
+
+            for (PokerHandRanking ranking : PokerHandRanking.values()) {
+                total += outcome.getProbability(ranking);
+            }
+
+            assertEquals(1.0, total, 1e-9, "The final rankings of " + outcome + " must add up.");
+        }
+    }
+
+    /**
+     * madeStraightStandsPat
+     *
+     * @throws HandExceededException error case
+     */
+    @Test
+    void madeStraightStandsPat() throws HandExceededException {
+        HandOfCards hand = hand(new Card(SPADES, FOUR), new Card(DIAMONDS, FIVE), new Card(CLUBS, SIX),
+                new Card(HEARTS, SEVEN), new Card(SPADES, EIGHT));
+
+        DrawOutcome best = sut.optimize(hand, List.of());
+
+        assertTrue(best.getDiscards().isEmpty(), "A straight is not to be broken up.");
+        assertEquals(1.0, best.getProbability(PokerHandRanking.STRAIGHT), "Standing pat keeps the straight.");
+        assertTrue(best.isExact(), "There is nothing to sample when standing pat.");
+    }
+
+    /**
+     * oneCardDrawIsEnumerated
+     *
+     * @throws HandExceededException error case
+     */
+    @Test
+    void oneCardDrawIsEnumerated() throws HandExceededException {
+        HandOfCards hand = hand(new Card(HEARTS, TWO), new Card(HEARTS, FIVE), new Card(HEARTS, NINE),
+                new Card(HEARTS, KING), new Card(CLUBS, THREE));
+
+        DrawOutcome flushDraw = sut.evaluateAll(hand, List.of()).get(0b10000);
+
+        assertEquals(List.of(new Card(CLUBS, THREE)), flushDraw.getDiscards(), "The club goes.");
+        assertTrue(flushDraw.isExact(), "47 replacement cards are enumerated.");
+        assertEquals(47, flushDraw.getTrials(), "One trial per card left in the deck.");
+        assertEquals(9.0 / 47, flushDraw.getProbability(PokerHandRanking.FLUSH), 1e-9, "Nine hearts are left.");
+    }
+
+    /**
+     * deadCardsAreNotDrawn
+     *
+     * @throws HandExceededException error case
+     */
+    @Test
+    void deadCardsAreNotDrawn() throws HandExceededException {
+        HandOfCards hand = hand(new Card(HEARTS, TWO), new Card(HEARTS, FIVE), new Card(HEARTS, NINE),
+                new Card(HEARTS, KING), new Card(CLUBS, THREE));
+
+        DrawOutcome flushDraw = sut.evaluateAll(hand, List.of(new Card(HEARTS, ACE), new Card(HEARTS, TEN)))
+                .get(0b10000);
+
+        assertEquals(45, flushDraw.getTrials(), "Two cards less to draw from.");
+        assertEquals(7.0 / 45, flushDraw.getProbability(PokerHandRanking.FLUSH), 1e-9, "Seven hearts are left.");
+    }
+
+    /**
+     * largeDrawsAreSampled
+     *
+     * @throws HandExceededException error case
+     */
+    @Test
+    void largeDrawsAreSampled() throws HandExceededException {
+        HandOfCards hand = hand(new Card(SPADES, ACE), new Card(HEARTS, ACE), new Card(CLUBS, SEVEN),
+                new Card(DIAMONDS, FOUR), new Card(SPADES, TWO));
+
+        DrawOutcome keepTheAces = sut.evaluateAll(hand, List.of()).get(0b11100);
+
+        assertFalse(keepTheAces.isExact(), "16215 replacement draws exceed the enumeration limit.");
+        assertEquals(DiscardOptimizer.DEFAULT_SAMPLES, keepTheAces.getTrials(), "The default amount is sampled.");
+        assertEquals(0.0, keepTheAces.getProbability(PokerHandRanking.HIGH_CARD), "The aces stay paired.");
+        assertEquals(0.71, keepTheAces.getProbability(PokerHandRanking.ONE_PAIR), 0.05,
+                "Drawing three to a pair improves it about 29 percent of the time.");
+    }
+
+    /**
+     * suitsDoNotMatter
+     *
+     * @throws HandExceededException error case
+     */
+    @Test
+    void suitsDoNotMatter() throws HandExceededException {
+        HandOfCards hand = hand(new Card(SPADES, ACE), new Card(HEARTS, ACE), new Card(CLUBS, SEVEN),
+                new Card(DIAMONDS, FOUR), new Card(SPADES, TWO));
+        HandOfCards renamed = hand(new Card(CLUBS, ACE), new Card(DIAMONDS, ACE), new Card(HEARTS, SEVEN),
+                new Card(SPADES, FOUR), new Card(CLUBS, TWO));
+
+        List<DrawOutcome> outcomes = sut.evaluateAll(hand, List.of());
+        List<DrawOutcome> renamedOutcomes = sut.evaluateAll(renamed, List.of());
+
+        for (int choice = 0; choice < DiscardOptimizer.DISCARD_CHOICES; choice++) {
+            assertEquals(outcomes.get(choice).getExpectedValue(), renamedOutcomes.get(choice).getExpectedValue(),
+                    "Renaming the suits must not change " + outcomes.get(choice));
+        }
+    }
+
+    private static HandOfCards hand(final Card... cards) throws HandExceededException {
+        HandOfCards hand = new HandOfCards();
+        hand.addCards(cards);
+        return hand;
+    }
+}
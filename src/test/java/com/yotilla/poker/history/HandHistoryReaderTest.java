@@ -0,0 +1,214 @@
+package com.yotilla.poker.history;
+
+import com.yotilla.poker.GameVariant;
+import com.yotilla.poker.card.Card;
+import com.yotilla.poker.result.HandClassTable;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Description:
+ *
+ * <br>
+ * Date: 19.10.2026
+ *
+ * @author Manuel
+ *
+ */
+class HandHistoryReaderTest {
+    @TempDir
+    Path directory;
+
+    /**
+     * gamesAreFoundByIdAndTime
+     *
+     * @throws IOException error case
+     */
+    @Test
+    void gamesAreFoundByIdAndTime() throws IOException {
+        TickingClock clock = new TickingClock();
+        List<HandHistory> games;
+
+        // small segments, each holding a few index entries
+        try (HandHistoryWriter writer = new HandHistoryWriter(directory, 1 << 14, clock)) {
+            games = appendRandomGames(writer, clock, 3000);
+        }
+
+        HandHistoryReader sut = new HandHistoryReader(directory);
+        assertEquals(1, sut.getFirstId(), "Ids start at 1.");
+        assertEquals(games.size(), sut.getLastId(), "Every game is found.");
+
+        for (HandHistory game : games) {
+            assertEquals(game, sut.get(game.id()), "Games are found by id.");
+        }
+
+        assertNull(sut.get(0), "No game before the first.");
+        assertNull(sut.get(games.size() + 1), "No game after the last.");
+
+        long first = games.get(0).timestamp();
+        long last = games.get(games.size() - 1).timestamp();
+        Random random = new Random(7);
+
+        for (int i = 0; i < 50; i++) {
+            long from = first - 5 + random.nextLong(last - first + 10);
+            long to = from + random.nextInt(200);
+            List<HandHistory> expected = games.stream()
+                    .filter(game -> game.timestamp() >= from && game.timestamp() <= to)
+                    .toList();
+
+            assertEquals(expected, sut.findByTime(Instant.ofEpochMilli(from), Instant.ofEpochMilli(to)),
+                    "Games are found by time.");
+        }
+
+        List<HandHistory> range = new ArrayList<>();
+        sut.forEach(1000, 1099, range::add);
+        assertEquals(games.subList(999, 1099), range, "Games are read by a range of ids.");
+    }
+
+    /**
+     * damagedHistoriesAreReadAsFarAsTheyGo
+     *
+     * @throws IOException error case
+     */
+    @Test
+    void damagedHistoriesAreReadAsFarAsTheyGo() throws IOException {
+        assertEquals(0, new HandHistoryReader(directory).getLastId(), "An empty directory holds no games.");
+
+        TickingClock clock = new TickingClock();
+        List<HandHistory> games;
+
+        try (HandHistoryWriter writer = new HandHistoryWriter(directory, 1 << 14, clock)) {
+            games = appendRandomGames(writer, clock, 1000);
+        }
+
+        long lastBaseId;
+
+        try (var files = Files.list(directory)) {
+            lastBaseId = files.mapToLong(HistorySegment::baseIdOf).max().orElseThrow();
+        }
+
+        // a crash cut off the last record, and lost the index of the first segment
+        try (FileChannel channel = FileChannel.open(HistorySegment.dataFile(directory, lastBaseId),
+                StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - 1);
+        }
+
+        Files.delete(HistorySegment.indexFile(directory, 1));
+
+        HandHistoryReader sut = new HandHistoryReader(directory);
+        assertEquals(games.size() - 1, sut.getLastId(), "The cut off record ends the history.");
+        assertEquals(games.get(500), sut.get(501), "Games are found without an index, too.");
+        assertNull(sut.get(games.size()), "The cut off game is gone.");
+
+        // a crash right after the next segment was created
+        Files.write(HistorySegment.dataFile(directory, games.size() + 1), new byte[HistorySegment.HEADER_SIZE - 1]);
+        assertEquals(games.size() - 1, new HandHistoryReader(directory).getLastId(), "The cut off header is no game.");
+
+        Path next = HistorySegment.dataFile(directory, lastBaseId + 1000);
+        Files.writeString(next, "2D 9C AS AH AC | 3D 6D 7D TD QD");
+        assertThrows(IOException.class, () -> new HandHistoryReader(directory), "Segments need a header.");
+
+        ByteBuffer header = ByteBuffer.allocate(HistorySegment.HEADER_SIZE);
+        HistorySegment.writeHeader(header, lastBaseId + 1000);
+        Files.write(next, header.array());
+        assertThrows(IOException.class, () -> new HandHistoryReader(directory), "Only the last may be cut off.");
+    }
+
+    /**
+     * Append random games of random variants, the clock ticking a few milliseconds now and then.
+     *
+     * @return the games as they should be read back
+     */
+    static List<HandHistory> appendRandomGames(final HandHistoryWriter writer, final TickingClock clock,
+                                               final int amount) throws IOException {
+        Random random = new Random(42);
+        List<HandHistory> games = new ArrayList<>();
+
+        for (int i = 0; i < amount; i++) {
+            GameVariant variant = GameVariant.values()[random.nextInt(GameVariant.values().length)];
+            int players = 1 + random.nextInt(6);
+            long[] handMasks = new long[players];
+            int[] classIds = new int[players];
+            long boardMask = 0L;
+            long dealt = 0L;
+
+            for (int hand = -1; hand < players; hand++) {
+                int cards = hand < 0 ? variant.getCommunityCards() : variant.getHoleCards();
+                long mask = 0L;
+
+                while (Long.bitCount(mask) < cards) {
+                    long card = 1L << random.nextInt(Card.INDEX_RANGE);
+
+                    if ((dealt & card) == 0) {
+                        mask |= card;
+                        dealt |= card;
+                    }
+                }
+
+                if (hand < 0) {
+                    boardMask = mask;
+                } else {
+                    handMasks[hand] = mask;
+                    classIds[hand] = random.nextInt(HandClassTable.HAND_CLASSES + 1);
+                }
+            }
+
+            if (random.nextInt(4) == 0) {
+                clock.tick(random.nextInt(5));
+            }
+
+            long seed = random.nextLong();
+            long id = writer.append(seed, variant, boardMask, handMasks, classIds, players);
+            games.add(new HandHistory(id, clock.millis(), seed, variant, boardMask, handMasks, classIds));
+        }
+
+        return games;
+    }
+
+    /**
+     * A clock standing still until told to tick.
+     */
+    static final class TickingClock extends Clock {
+        private volatile long millis = 1_790_000_000_000L;
+
+        void tick(final long by) {
+            millis += by;
+        }
+
+        @Override
+        public long millis() {
+            return millis;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(final ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.yotilla.poker.history;
+
+import com.yotilla.poker.GameVariant;
+import com.yotilla.poker.HandEvaluationService;
+import com.yotilla.poker.card.Card;
+import com.yotilla.poker.card.HandOfCards;
+import com.yotilla.poker.result.HandClassTable;
+import com.yotilla.poker.result.PokerHand;
+import com.yotilla.poker.result.evaluator.CardMaskEvaluator;
+import com.yotilla.poker.result.evaluator.OmahaEvaluator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Description:
+ *
+ * <br>
+ * Date: 19.10.2026
+ *
+ * @author Manuel
+ *
+ */
+class HandHistoryReplayTest {
+    private static final int GAMES = 2 * HandHistoryReplay.CHUNK_SIZE + 100;
+
+    @TempDir
+    Path directory;
+
+    /**
+     * storedGamesReplayTheSame
+     *
+     * @throws IOException error case
+     */
+    @Test
+    void storedGamesReplayTheSame() throws IOException {
+        appendEvaluatedGames(directory);
+
+        ReplayReport report = new HandHistoryReplay(3, HandEvaluationService::new)
+                .replay(new HandHistoryReader(directory));
+        assertEquals(GAMES, report.games(), "Every game is replayed.");
+        assertEquals(List.of(), report.mismatches(), "The evaluators agree with the stored games.");
+        assertTrue(report.toString().startsWith(GAMES + " games replayed, 0 evaluated differently, 0 won by others"));
+    }
+
+    /**
+     * changedEvaluationsAreReportedInOrder
+     *
+     * @throws IOException error case
+     */
+    @Test
+    void changedEvaluationsAreReportedInOrder() throws IOException {
+        appendEvaluatedGames(directory);
+
+        // every Texas Hold'em hand turns into seven high
+        ReplayReport report = new HandHistoryReplay(2, () -> new HandEvaluationService() {
+            @Override
+            public PokerHand evaluate(final HandOfCards holeCards, final HandOfCards communityCards) {
+                return PokerHand.ofClassId(HandClassTable.HAND_CLASSES);
+            }
+        }).replay(new HandHistoryReader(directory));
+
+        assertFalse(report.mismatches().isEmpty(), "Texas Hold'em games changed.");
+        long previous = 0;
+
+        for (ReplayMismatch mismatch : report.mismatches()) {
+            assertEquals(GameVariant.TEXAS_HOLDEM, mismatch.game().variant(), "Only Texas Hold'em changed.");
+            assertTrue(mismatch.game().id() > previous, "Mismatches come in order.");
+            assertTrue(mismatch.toString().startsWith("Game " + mismatch.game().id()));
+            previous = mismatch.game().id();
+
+            for (int player = 0; player < mismatch.game().players(); player++) {
+                assertEquals(mismatch.game().isSkipped(player) ? 0 : HandClassTable.HAND_CLASSES,
+                        mismatch.classIds()[player], "The replayed class ids are reported, none for those skipped.");
+            }
+        }
+
+        assertTrue(report.winnersChanged() > 0, "Split pots instead of winners.");
+        assertTrue(report.winnersChanged() < report.mismatches().size(), "Split pots stay split pots.");
+        Path empty = Files.createDirectory(directory.resolve("empty"));
+        assertEquals(0, new HandHistoryReplay().replay(new HandHistoryReader(empty)).games(), "Nothing to replay.");
+        assertThrows(IllegalArgumentException.class, () -> new HandHistoryReplay(0, HandEvaluationService::new),
+                "Somebody has to replay.");
+    }
+
+    /**
+     * Append random games of every variant, evaluated by the card mask evaluators, with a player skipped now and then.
+     */
+    private static void appendEvaluatedGames(final Path directory) throws IOException {
+        Random random = new Random(42);
+        CardMaskEvaluator cardMaskEvaluator = new CardMaskEvaluator();
+        OmahaEvaluator omahaEvaluator = new OmahaEvaluator(cardMaskEvaluator);
+
+        try (HandHistoryWriter writer = new HandHistoryWriter(directory)) {
+            for (int game = 0; game < GAMES; game++) {
+                GameVariant variant = GameVariant.values()[game % GameVariant.values().length];
+                int players = 1 + random.nextInt(4);
+                long[] handMasks = new long[players];
+                int[] classIds = new int[players];
+                long boardMask = deal(random, variant.getCommunityCards(), 0L);
+                long dealt = boardMask;
+
+                for (int player = 0; player < players; player++) {
+                    if (random.nextInt(8) == 0) {
+                        continue;
+                    }
+
+                    handMasks[player] = deal(random, variant.getHoleCards(), dealt);
+                    dealt |= handMasks[player];
+
+                    int strength = switch (variant) {
+                        case FIVE_CARD -> cardMaskEvaluator.evaluateStrength(handMasks[player]);
+                        case TEXAS_HOLDEM -> cardMaskEvaluator.evaluateStrength(handMasks[player] | boardMask);
+                        case OMAHA -> omahaEvaluator.evaluateStrength(handMasks[player],
+                                omahaEvaluator.prepareCommunityCards(boardMask));
+                    };
+                    classIds[player] = PokerHand.ofStrength(strength).classId();
+                }
+
+                writer.append(game, variant, boardMask, handMasks, classIds, players);
+            }
+        }
+    }
+
+    private static long deal(final Random random, final int cards, final long dealt) {
+        long mask = 0L;
+
+        while (Long.bitCount(mask) < cards) {
+            long card = 1L << random.nextInt(Card.INDEX_RANGE);
+
+            if (((dealt | mask) & card) == 0) {
+                mask |= card;
+            }
+        }
+
+        return mask;
+    }
+}
@@ -0,0 +1,211 @@
+package com.yotilla.poker.history;
+
+import com.yotilla.poker.Dealer;
+import com.yotilla.poker.GameVariant;
+import com.yotilla.poker.Player;
+import com.yotilla.poker.card.DeckOfCards;
+import com.yotilla.poker.error.DeckException;
+import com.yotilla.poker.error.HandExceededException;
+import com.yotilla.poker.error.PokerParseException;
+import com.yotilla.poker.result.GameResult;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Description:
+ *
+ * <br>
+ * Date: 19.10.2026
+ *
+ * @author Manuel
+ *
+ */
+class HandHistoryWriterTest {
+    private static final long[] HANDS = {0b11L << 10, 0b11L << 20};
+    private static final long BOARD = 0b11111L;
+
+    @TempDir
+    Path directory;
+
+    private Dealer dealer;
+
+    /**
+     * segmentsRollOverAndWritersCarryOn
+     *
+     * @throws IOException error case
+     */
+    @Test
+    void segmentsRollOverAndWritersCarryOn() throws IOException {
+        HandHistoryReaderTest.TickingClock clock = new HandHistoryReaderTest.TickingClock();
+
+        try (HandHistoryWriter sut = new HandHistoryWriter(directory, 1 << 12, clock)) {
+            HandHistoryReaderTest.appendRandomGames(sut, clock, 500);
+            sut.flush();
+            assertEquals(500, new HandHistoryReader(directory).getLastId(), "Flushed games are written.");
+        }
+
+        try (Stream<Path> files = Files.list(directory)) {
+            assertTrue(files.filter(file -> HistorySegment.baseIdOf(file) > 0).count() > 3, "Segments roll over.");
+        }
+
+        long lastTimestamp = new HandHistoryReader(directory).get(500).timestamp();
+
+        // the clock went back in the meantime
+        try (HandHistoryWriter sut = new HandHistoryWriter(directory, 1 << 12, Clock.fixed(Instant.EPOCH,
+                clock.getZone()))) {
+            assertEquals(501, sut.append(1L, GameVariant.TEXAS_HOLDEM, BOARD, HANDS, new int[]{1, 2}, 2),
+                    "Ids carry on.");
+        }
+
+        HandHistory game = new HandHistoryReader(directory).get(501);
+        assertEquals(lastTimestamp, game.timestamp(), "Times never decrease.");
+        assertArrayEquals(HANDS, game.handMasks(), "The hands are kept.");
+        assertTrue(game.isWinner(0), "The lower class id wins.");
+        assertFalse(game.isWinner(1), "The higher class id loses.");
+    }
+
+    /**
+     * writersCarryOnAfterACrashWhileRolling
+     *
+     * @throws IOException error case
+     */
+    @Test
+    void writersCarryOnAfterACrashWhileRolling() throws IOException {
+        HandHistoryReaderTest.TickingClock clock = new HandHistoryReaderTest.TickingClock();
+
+        try (HandHistoryWriter sut = new HandHistoryWriter(directory, 1 << 12, clock)) {
+            HandHistoryReaderTest.appendRandomGames(sut, clock, 100);
+        }
+
+        // the next segment was created, but its header never reached the file
+        Files.write(HistorySegment.dataFile(directory, 101), new byte[0]);
+        Files.write(HistorySegment.indexFile(directory, 101), new byte[0]);
+
+        try (HandHistoryWriter sut = new HandHistoryWriter(directory, 1 << 12, clock)) {
+            assertEquals(101, sut.append(1L, GameVariant.TEXAS_HOLDEM, BOARD, HANDS, new int[]{1, 2}, 2),
+                    "Ids carry on.");
+        }
+
+        assertArrayEquals(HANDS, new HandHistoryReader(directory).get(101).handMasks(), "The segment is rewritten.");
+
+        // the very first segment, cut off the same way
+        Path first = Files.createDirectory(directory.resolve("first"));
+        Files.write(HistorySegment.dataFile(first, 1), new byte[0]);
+
+        try (HandHistoryWriter sut = new HandHistoryWriter(first)) {
+            assertEquals(1, sut.append(1L, GameVariant.TEXAS_HOLDEM, BOARD, HANDS, new int[]{1, 2}, 2),
+                    "Ids start over.");
+        }
+
+        assertEquals(Files.size(HistorySegment.dataFile(first, 1)), HistorySegment.HEADER_SIZE
+                + HistorySegment.recordSize(GameVariant.TEXAS_HOLDEM, 2, 2), "The header and the game.");
+    }
+
+    /**
+     * playersAreRecordedWithTheirHands
+     *
+     * @throws Exception error case
+     */
+    @Test
+    void playersAreRecordedWithTheirHands() throws Exception {
+        List<Player> players = List.of(new Player("Player 1"), new Player("Player 2"));
+        GameResult result = play(players);
+
+        try (HandHistoryWriter sut = new HandHistoryWriter(directory)) {
+            assertEquals(1, sut.append(42L, GameVariant.TEXAS_HOLDEM, dealer.getCommunityCards(), players));
+        }
+
+        HandHistory game = new HandHistoryReader(directory).get(1);
+        assertEquals(42L, game.seed(), "The seed is kept.");
+        assertEquals(GameVariant.TEXAS_HOLDEM, game.variant(), "The variant is kept.");
+        assertEquals(5, Long.bitCount(game.boardMask()), "The board is kept.");
+
+        for (int player = 0; player < players.size(); player++) {
+            assertEquals(players.get(player).getPokerHand().classId(), game.classIds()[player],
+                    "The hands are evaluated.");
+            assertEquals(result.getWinner() == players.get(player), game.isWinner(player), "The winner is told.");
+        }
+    }
+
+    /**
+     * skippedPlayersAreRecordedWithoutCards
+     *
+     * @throws IOException error case
+     */
+    @Test
+    void skippedPlayersAreRecordedWithoutCards() throws IOException {
+        long[] hands = {HANDS[0], 0L, HANDS[1]};
+
+        try (HandHistoryWriter sut = new HandHistoryWriter(directory)) {
+            assertEquals(1, sut.append(1L, GameVariant.TEXAS_HOLDEM, BOARD, hands, new int[]{1, 0, 2}, 3));
+            assertEquals(2, sut.append(2L, GameVariant.TEXAS_HOLDEM, BOARD, new long[2], new int[2], 2));
+        }
+
+        HandHistory game = new HandHistoryReader(directory).get(1);
+        assertArrayEquals(hands, game.handMasks(), "The hands are kept.");
+        assertArrayEquals(new int[]{1, 0, 2}, game.classIds(), "The class ids are kept.");
+        assertTrue(game.isSkipped(1), "The second player was skipped.");
+        assertFalse(game.isSkipped(2), "The third player was not.");
+        assertTrue(game.isWinner(0), "The skipped player does not count.");
+
+        HandHistory nobodyDealt = new HandHistoryReader(directory).get(2);
+        assertTrue(nobodyDealt.isSkipped(0) && nobodyDealt.isSkipped(1), "Both players were skipped.");
+        assertEquals(BOARD, nobodyDealt.boardMask(), "The board is kept.");
+    }
+
+    private GameResult play(final List<Player> players) throws PokerParseException, HandExceededException,
+            DeckException {
+        dealer = new Dealer(new DeckOfCards(), GameVariant.TEXAS_HOLDEM);
+        dealer.parseInputAndDealHand("AS AH", players.get(0));
+        dealer.parseInputAndDealHand("2C 7D", players.get(1));
+        dealer.parseInputAndDealCommunityCards("AC KD 9S 4H 3C");
+
+        for (Player player : players) {
+            dealer.evaluatePlayerHand(player);
+        }
+
+        return dealer.determineGameResult(players);
+    }
+
+    /**
+     * invalidGamesAreRejected
+     *
+     * @throws IOException error case
+     */
+    @Test
+    void invalidGamesAreRejected() throws IOException {
+        int[] classIds = {1, 2};
+        HandHistoryWriter sut = new HandHistoryWriter(directory);
+
+        assertThrows(IllegalArgumentException.class, () -> sut.append(0L, GameVariant.TEXAS_HOLDEM, BOARD, HANDS,
+                classIds, 0), "Somebody has to play.");
+        assertThrows(IllegalArgumentException.class, () -> sut.append(0L, GameVariant.TEXAS_HOLDEM, BOARD << 10,
+                HANDS, classIds, 2), "Cards are dealt once.");
+        assertThrows(IllegalArgumentException.class, () -> sut.append(0L, GameVariant.OMAHA, BOARD, HANDS,
+                classIds, 2), "Omaha hands hold four cards.");
+        assertThrows(IllegalArgumentException.class, () -> sut.append(0L, GameVariant.TEXAS_HOLDEM, BOARD, HANDS,
+                new int[]{1, 7463}, 2), "Class ids end with seven high.");
+        assertThrows(IllegalArgumentException.class, () -> sut.append(0L, GameVariant.TEXAS_HOLDEM, BOARD,
+                new long[]{HANDS[0], 0L}, classIds, 2), "Players skipped hold no hand.");
+        assertThrows(IndexOutOfBoundsException.class, () -> sut.append(0L, GameVariant.TEXAS_HOLDEM, BOARD, HANDS,
+                classIds, 3), "Three hands are missing one.");
+
+        sut.close();
+        sut.close();
+        assertThrows(IOException.class, () -> sut.append(0L, GameVariant.TEXAS_HOLDEM, BOARD, HANDS, classIds, 2),
+                "Closed histories take no more games.");
+        assertThrows(IOException.class, sut::flush, "Closed histories have nothing to flush.");
+        assertThrows(IllegalArgumentException.class, () -> new HandHistoryWriter(directory, 16,
+                Clock.systemUTC()), "Segments hold more than their header.");
+    }
+}
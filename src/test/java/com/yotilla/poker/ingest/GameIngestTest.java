@@ -0,0 +1,320 @@
+package com.yotilla.poker.ingest;
+
+import com.yotilla.poker.GameVariant;
+import com.yotilla.poker.result.CsvResultSink;
+import com.yotilla.poker.result.GameStatistics;
+import com.yotilla.poker.result.PokerHandRanking;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.Pipe;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Description:
+ *
+ * <br>
+ * Date: 19.10.2026
+ *
+ * @author Manuel
+ *
+ */
+class GameIngestTest {
+    private static final String[] GAMES = {
+            "2D 9C AS AH AC | 3D 6D 7D TD QD",
+            "JC AC KC QC TC|6C 5S 7H 9C 8D|KD KH KS 2H 2C",
+            "2H 3D 5S 9C KD | 2C 3H 4S 8C AH | 2S 8S AS QS 3S",
+            "4H 4D 5S 5C KD | 4C 4S 5H 5D KH"};
+    private static final String[] RESULTS = {
+            "Player 2 wins.",
+            "Player 1 wins.",
+            "Player 3 wins.",
+            "Players Player 1, Player 2 split the pot."};
+
+    @TempDir
+    Path directory;
+
+    /**
+     * gamesArePlayedInOrderAcrossBatches
+     *
+     * @throws IOException error case
+     */
+    @Test
+    void gamesArePlayedInOrderAcrossBatches() throws IOException {
+        int games = GameIngest.BATCH_SIZE * GameIngest.BATCHES * 2 + 17;
+        List<String> lines = new ArrayList<>();
+        List<String> expected = new ArrayList<>();
+
+        for (int game = 0; game < games; game++) {
+            lines.add(GAMES[game % GAMES.length]);
+            expected.add((game + 1) + "\t" + RESULTS[game % GAMES.length]);
+        }
+
+        GameStatistics statistics = new GameStatistics();
+        StringBuilder out = new StringBuilder();
+        IngestSummary summary = new GameIngest(GameVariant.FIVE_CARD, '|', statistics)
+                .ingest(write(lines), out);
+
+        assertEquals(games, summary.games(), "Every game is played.");
+        assertEquals(0, summary.skipped(), "No line is skipped.");
+        assertEquals(expected, out.toString().lines().toList(), "Results are written in the order read.");
+        assertEquals(games, statistics.getGames(), "Every game is recorded.");
+        assertEquals(games / GAMES.length, statistics.getWinningFrequency(PokerHandRanking.ROYAL_FLUSH),
+                "Every second game is won by a royal flush.");
+    }
+
+    /**
+     * resultsAreFlushedWhileThePipeStaysOpen
+     *
+     * @throws Exception error case
+     */
+    @Test
+    void resultsAreFlushedWhileThePipeStaysOpen() throws Exception {
+        Pipe pipe = Pipe.open();
+        BlockingQueue<String> flushed = new LinkedBlockingQueue<>();
+        StringWriter out = new StringWriter() {
+            @Override
+            public void flush() {
+                flushed.add(toString());
+            }
+        };
+        GameIngest sut = new GameIngest(GameVariant.FIVE_CARD);
+        CompletableFuture<IngestSummary> summary = CompletableFuture.supplyAsync(() -> {
+            try {
+                return sut.ingest(pipe.source(), out);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+
+        pipe.sink().write(ByteBuffer.wrap((GAMES[0] + "\n").getBytes(StandardCharsets.US_ASCII)));
+        assertEquals("1\t" + RESULTS[0] + "\n", flushed.poll(10, TimeUnit.SECONDS),
+                "The game is played before more input follows.");
+
+        pipe.sink().write(ByteBuffer.wrap((GAMES[1] + "\n").getBytes(StandardCharsets.US_ASCII)));
+        pipe.sink().close();
+        assertEquals(2, summary.get(10, TimeUnit.SECONDS).games(), "Both games are played.");
+        assertTrue(out.toString().endsWith("2\t" + RESULTS[1] + "\n"), "The second game follows.");
+    }
+
+    /**
+     * recordsAreWrittenIntoSinks
+     *
+     * @throws IOException error case
+     */
+    @Test
+    void recordsAreWrittenIntoSinks() throws IOException {
+        List<String> lines = List.of(GAMES[0], "2D 9C AS AH ZZ", GAMES[3]);
+        StringWriter out = new StringWriter();
+
+        IngestSummary summary = new GameIngest(GameVariant.FIVE_CARD).ingest(write(lines), new CsvResultSink(out));
+        List<String> rows = out.toString().lines().toList();
+
+        assertEquals(2, summary.games(), "Two valid games.");
+        assertEquals(1, summary.skipped(), "Invalid lines are counted only.");
+        assertEquals(3, rows.size(), "The header and two games.");
+        assertTrue(rows.get(1).startsWith("1,Player 1;Player 2,2D 9C AS AH AC;3D 6D 7D TD QD,"), "Numbered by line.");
+        assertTrue(rows.get(2).endsWith(",Player 1;Player 2"), "The pot is split.");
+
+        out.getBuffer().setLength(0);
+        new GameIngest(GameVariant.TEXAS_HOLDEM).ingest(write(List.of("AC KD KH 2C 3D | AS AH | KS KC")),
+                new CsvResultSink(out));
+        assertTrue(out.toString().lines().toList().get(1)
+                        .startsWith("1,Player 1;Player 2,AS AH;KS KC,AC KD KH 2C 3D,FULL_HOUSE;FOUR_OF_A_KIND,"),
+                "The board is written along with the hole cards.");
+    }
+
+    /**
+     * invalidLinesAreSkipped
+     *
+     * @throws IOException error case
+     */
+    @Test
+    void invalidLinesAreSkipped() throws IOException {
+        List<String> lines = List.of(GAMES[0], "", "   ", "2D 9C AS AH ZZ | 3D 6D 7D TD QD",
+                "2D 9C AS AH AC | 2D 6D 7D TD QD", "2D 9C AS AH AC 3D", "|", GAMES[1]);
+        StringBuilder out = new StringBuilder();
+
+        IngestSummary summary = new GameIngest(GameVariant.FIVE_CARD).ingest(write(lines), out);
+        List<String> written = out.toString().lines().toList();
+
+        assertEquals(3, summary.games(), "Two valid games, and one of random hands.");
+        assertEquals(3, summary.skipped(), "Blank lines are no games.");
+        assertEquals("1\t" + RESULTS[0], written.get(0), "Valid games are played.");
+        assertTrue(written.get(1).startsWith("4\tSkipped: Parse error: Card not recognized: ZZ"),
+                "Unknown cards are named.");
+        assertTrue(written.get(2).startsWith("5\tSkipped: "), "Cards are dealt once.");
+        assertTrue(written.get(3).startsWith("6\tSkipped: "), "Hands hold five cards.");
+        assertTrue(written.get(4).startsWith("7\tPlayer"), "Empty hands are dealt at random.");
+        assertEquals("8\t" + RESULTS[1], written.get(5), "Valid games are played.");
+    }
+
+    /**
+     * theBoardComesFirst
+     *
+     * @throws IOException error case
+     */
+    @Test
+    void theBoardComesFirst() throws IOException {
+        List<String> lines = List.of("2C 7H KD QS JS", "; AS AH; ;");
+        StringBuilder out = new StringBuilder();
+
+        IngestSummary summary = new GameIngest(GameVariant.TEXAS_HOLDEM, ';', null).ingest(write(lines), out);
+        List<String> written = out.toString().lines().toList();
+
+        assertEquals(1, summary.skipped(), "A board alone is no game.");
+        assertEquals("1\tSkipped: No hands in this game.", written.get(0), "A board alone is no game.");
+        assertTrue(written.get(1).startsWith("2\tPlayer"), "The board and a hand are dealt at random.");
+
+        summary = new GameIngest(GameVariant.TEXAS_HOLDEM).ingest(write(List.of("2C 7H KD QS JS | 9C 9D | AS AH")),
+                out);
+        assertEquals(1, summary.games(), "One game.");
+        assertTrue(out.toString().endsWith("1\tPlayer 2 wins.\n"), "The aces win.");
+    }
+
+    /**
+     * failuresArePassedOn
+     */
+    @Test
+    void failuresArePassedOn() {
+        GameIngest sut = new GameIngest(GameVariant.FIVE_CARD);
+        ReadableByteChannel failing = new ReadableByteChannel() {
+            @Override
+            public int read(final ByteBuffer destination) throws IOException {
+                throw new IOException("Disk on fire.");
+            }
+
+            @Override
+            public boolean isOpen() {
+                return true;
+            }
+
+            @Override
+            public void close() {
+                // nothing to close
+            }
+        };
+
+        IOException e = assertThrows(IOException.class, () -> sut.ingest(failing, new StringBuilder()),
+                "Read errors are passed on.");
+        assertEquals("Disk on fire.", e.getMessage(), "The cause is kept.");
+        assertThrows(IOException.class, () -> sut.ingest(directory.resolve("missing.txt"), new StringBuilder()),
+                "Missing files cannot be read.");
+        assertThrows(IOException.class, () -> sut.ingest(write(List.of("2D ".repeat(LineReader.DEFAULT_BUFFER_SIZE))),
+                new StringBuilder()), "Lines must fit into the buffer.");
+        assertThrows(IllegalArgumentException.class, () -> new GameIngest(GameVariant.OMAHA, 'X', null),
+                "Letters are no delimiters.");
+        assertThrows(IllegalArgumentException.class, () -> new GameIngest(GameVariant.OMAHA, ' ', null),
+                "Spaces are no delimiters.");
+    }
+
+    /**
+     * outputFailuresStopTheReader
+     *
+     * @throws IOException error case
+     */
+    @Test
+    void outputFailuresStopTheReader() throws IOException {
+        List<String> lines = new ArrayList<>();
+
+        for (int game = 0; game < GameIngest.BATCH_SIZE * GameIngest.BATCHES * 4; game++) {
+            lines.add(GAMES[0]);
+        }
+
+        Path file = write(lines);
+        Writer failing = new Writer() {
+            @Override
+            public void write(final char[] chars, final int offset, final int length) throws IOException {
+                throw new IOException("Output closed.");
+            }
+
+            @Override
+            public void flush() {
+                // nothing to flush
+            }
+
+            @Override
+            public void close() {
+                // nothing to close
+            }
+        };
+
+        assertThrows(IOException.class, () -> new GameIngest(GameVariant.FIVE_CARD).ingest(file, failing),
+                "Write errors are passed on, and the reader gives up.");
+    }
+
+    /**
+     * rangesArePlayedInParallelInTheOrderOfTheFile
+     *
+     * @throws IOException error case
+     */
+    @Test
+    void rangesArePlayedInParallelInTheOrderOfTheFile() throws IOException {
+        StringBuilder content = new StringBuilder();
+
+        for (int line = 0; line < GameIngest.BATCH_SIZE * 3 + 5; line++) {
+            // blank and invalid lines, and line breaks of both kinds
+            String game = line % 7 == 3 ? "" : line % 11 == 5 ? "2D 9C AS AH ZZ" : GAMES[line % GAMES.length];
+            content.append(game).append(line % 2 == 0 ? "\n" : "\r\n");
+        }
+
+        content.append(GAMES[1]);
+        Path file = Files.writeString(directory.resolve("games.txt"), content, StandardCharsets.US_ASCII);
+        StringBuilder expected = new StringBuilder();
+        IngestSummary sequential = new GameIngest(GameVariant.FIVE_CARD).ingest(file, expected);
+
+        for (long chunkSize : new long[]{1, 97, 4096, GameIngest.CHUNK_SIZE}) {
+            StringBuilder out = new StringBuilder();
+            GameStatistics statistics = new GameStatistics();
+            IngestSummary summary = new GameIngest(GameVariant.FIVE_CARD, '|', statistics)
+                    .ingest(file, out, 3, chunkSize);
+
+            assertEquals(expected.toString(), out.toString(), "Results are written in the order of the lines.");
+            assertEquals(sequential.games(), summary.games(), "Every game is played once.");
+            assertEquals(sequential.skipped(), summary.skipped(), "Every invalid line is skipped once.");
+            assertEquals(sequential.games(), statistics.getGames(), "Every game is recorded once.");
+        }
+    }
+
+    /**
+     * parallelIngestChecksItsArguments
+     *
+     * @throws IOException error case
+     */
+    @Test
+    void parallelIngestChecksItsArguments() throws IOException {
+        GameIngest sut = new GameIngest(GameVariant.FIVE_CARD);
+        Path empty = write(List.of());
+        StringBuilder out = new StringBuilder();
+
+        assertEquals(0, sut.ingest(empty, out, 2).games(), "An empty file holds no games.");
+        assertEquals("", out.toString(), "Nothing is written.");
+        assertThrows(IllegalArgumentException.class, () -> sut.ingest(empty, out, 0), "Threads are required.");
+        assertThrows(IllegalArgumentException.class, () -> sut.ingest(empty, out, 2, 0), "Chunks hold bytes.");
+        assertThrows(IOException.class, () -> sut.ingest(directory.resolve("missing.txt"), out, 2),
+                "Missing files cannot be read.");
+        assertThrows(IOException.class, () -> sut.ingest(write(List.of(GAMES[0],
+                "2D ".repeat(LineReader.DEFAULT_BUFFER_SIZE))), out, 2, 16), "Lines must fit into the buffer.");
+    }
+
+    private Path write(final List<String> lines) throws IOException {
+        Path file = Files.createTempFile(directory, "games", ".txt");
+        return Files.write(file, lines, StandardCharsets.US_ASCII);
+    }
+}
@@ -0,0 +1,86 @@
+package com.yotilla.poker.ingest;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Description:
+ *
+ * <br>
+ * Date: 19.10.2026
+ *
+ * @author Manuel
+ *
+ */
+class LineReaderTest {
+
+    /**
+     * linesAreSplitAcrossRefills
+     *
+     * @throws IOException error case
+     */
+    @Test
+    void linesAreSplitAcrossRefills() throws IOException {
+        String input = "2D 9C AS\r\n\nAH AC KD QD\nJS";
+
+        assertEquals(List.of("1:2D 9C AS", "2:", "3:AH AC KD QD", "4:JS"), readAll(input, 12),
+                "Small buffers are refilled.");
+        assertEquals(readAll(input, LineReader.DEFAULT_BUFFER_SIZE), readAll(input, 12),
+                "The buffer size does not matter.");
+        assertEquals(List.of("1:2D", "2:"), readAll("2D\n\r\n", 4), "Empty lines count, the last line feed ends.");
+        assertEquals(List.of(), readAll("", 4), "No lines.");
+    }
+
+    /**
+     * tooLongLinesAreRejected
+     */
+    @Test
+    void tooLongLinesAreRejected() {
+        IOException e = assertThrows(IOException.class, () -> readAll("2D\n2D 9C AS\n", 4),
+                "Lines must fit into the buffer.");
+        assertTrue(e.getMessage().contains("Line 2"), "The line is named.");
+        assertThrows(IllegalArgumentException.class, () -> new LineReader(Channels.newChannel(
+                new ByteArrayInputStream(new byte[0])), 0), "No empty buffers.");
+    }
+
+    /**
+     * bufferedLinesAreTold
+     *
+     * @throws IOException error case
+     */
+    @Test
+    void bufferedLinesAreTold() throws IOException {
+        try (LineReader sut = new LineReader(Channels.newChannel(
+                new ByteArrayInputStream("2D\n9C\nAS".getBytes(StandardCharsets.US_ASCII))))) {
+            assertFalse(sut.hasBufferedLine(), "Nothing read yet.");
+            assertTrue(sut.nextLine());
+            assertTrue(sut.hasBufferedLine(), "The second line is read along with the first.");
+            assertTrue(sut.nextLine());
+            assertFalse(sut.hasBufferedLine(), "The last line might go on.");
+            assertTrue(sut.nextLine());
+            assertFalse(sut.hasBufferedLine(), "The input ended.");
+        }
+    }
+
+    private static List<String> readAll(final String input, final int bufferSize) throws IOException {
+        List<String> lines = new ArrayList<>();
+
+        try (LineReader sut = new LineReader(Channels.newChannel(
+                new ByteArrayInputStream(input.getBytes(StandardCharsets.US_ASCII))), bufferSize)) {
+            while (sut.nextLine()) {
+                lines.add(sut.lineNumber() + ":" + new String(sut.bytes(), sut.start(), sut.end() - sut.start(),
+                        StandardCharsets.US_ASCII));
+            }
+        }
+
+        return lines;
+    }
+}
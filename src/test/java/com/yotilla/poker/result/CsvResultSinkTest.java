@@ -0,0 +1,237 @@
+package com.yotilla.poker.result;
+
+import com.yotilla.poker.CardParser;
+import com.yotilla.poker.HandEvaluationService;
+import com.yotilla.poker.Player;
+import com.yotilla.poker.card.HandOfCards;
+import com.yotilla.poker.error.HandExceededException;
+import com.yotilla.poker.error.PokerParseException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.StringWriter;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Description:
+ *
+ * <br>
+ * Date: 19.10.2026
+ *
+ * @author Manuel
+ *
+ */
+class CsvResultSinkTest {
+    @TempDir
+    Path directory;
+
+    /**
+     * oneRowPerGame
+     *
+     * @throws Exception error case
+     */
+    @Test
+    void oneRowPerGame() throws Exception {
+        StringWriter out = new StringWriter();
+
+        try (CsvResultSink sut = new CsvResultSink(out)) {
+            sut.write(1, result(player("Player 1", "2D 9C AS AH AC"), player("Player 2", "3D 6D 7D TD QD")));
+            sut.write(12, result(player("Jane, \"JD\" Doe", "3D KC KS AH AC"), player("John", "3H KH KD AS AD")));
+        }
+
+        assertEquals(List.of(CsvResultSink.HEADER,
+                        "1,Player 1;Player 2,2D 9C AS AH AC;3D 6D 7D TD QD,,THREE_OF_A_KIND;FLUSH,"
+                                + classIds("2D 9C AS AH AC", "3D 6D 7D TD QD") + ",Player 2",
+                        "12,\"Jane, \"\"JD\"\" Doe;John\",3D KC KS AH AC;3H KH KD AS AD,,TWO_PAIRS;TWO_PAIRS,"
+                                + classIds("3D KC KS AH AC", "3H KH KD AS AD") + ",\"Jane, \"\"JD\"\" Doe;John\""),
+                out.toString().lines().toList(), "Cells of names are quoted as a whole as needed.");
+    }
+
+    /**
+     * namesAreReadBack
+     *
+     * @throws Exception error case
+     */
+    @Test
+    void namesAreReadBack() throws Exception {
+        StringWriter out = new StringWriter();
+
+        try (CsvResultSink sut = new CsvResultSink(out)) {
+            sut.write(1, result(player("Ann", "2D 9C AS AH AC"), player("Doe, Jane", "3D 6D 7D TD QD"),
+                    player("A;B\\C", "4C 4H 7S 8S JC")));
+        }
+
+        List<String> rows = out.toString().lines().toList();
+        List<String> row = fields(rows.get(1));
+
+        assertEquals(fields(CsvResultSink.HEADER).size(), row.size(), "A column per header.");
+        assertEquals("1", row.get(0), "The game.");
+        assertEquals(List.of("Ann", "Doe, Jane", "A;B\\C"), names(row.get(1)), "The players.");
+        assertEquals("2D 9C AS AH AC;3D 6D 7D TD QD;4C 4H 7S 8S JC", row.get(2), "The hands.");
+        assertEquals("", row.get(3), "No board.");
+        assertEquals(List.of("Doe, Jane"), names(row.get(6)), "The winners.");
+    }
+
+    /**
+     * boardIsWritten
+     *
+     * @throws Exception error case
+     */
+    @Test
+    void boardIsWritten() throws Exception {
+        StringWriter out = new StringWriter();
+        HandOfCards board = cards("AC KD KH 2C 3D");
+        Player jane = player("Jane", "AS AH", board);
+        Player john = player("John", "KS KC", board);
+
+        try (CsvResultSink sut = new CsvResultSink(out)) {
+            sut.write(1, board, result(jane, john));
+        }
+
+        List<String> row = fields(out.toString().lines().toList().get(1));
+
+        assertEquals(3, List.of(CsvResultSink.HEADER.split(",")).indexOf("board"), "The board follows the hands.");
+        assertEquals("AS AH;KS KC", row.get(2), "The hole cards.");
+        assertEquals("AC KD KH 2C 3D", row.get(3), "The board.");
+        assertEquals("FULL_HOUSE;FOUR_OF_A_KIND", row.get(4), "The rankings of hole cards and board.");
+        assertEquals(jane.getPokerHand().classId() + ";" + john.getPokerHand().classId(), row.get(5),
+                "The class ids of hole cards and board.");
+        assertEquals("John", row.get(6), "The winner.");
+    }
+
+    /**
+     * rowsAreWrittenToChannels
+     *
+     * @throws Exception error case
+     */
+    @Test
+    void rowsAreWrittenToChannels() throws Exception {
+        Path file = directory.resolve("results.csv");
+        Path empty = directory.resolve("empty.csv");
+        GameResult result = result(player("Player 1", "2D 9C AS AH AC"));
+
+        try (CsvResultSink sut = new CsvResultSink(FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE))) {
+            for (int game = 1; game <= 10_000; game++) {
+                sut.write(game, result);
+            }
+        }
+
+        try (CsvResultSink sut = new CsvResultSink(FileChannel.open(empty, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE))) {
+            sut.flush();
+        }
+
+        List<String> rows = Files.readAllLines(file, StandardCharsets.UTF_8);
+        assertEquals(10_001, rows.size(), "The header and every game.");
+        assertTrue(rows.getLast().startsWith("10000,Player 1,2D 9C AS AH AC,,THREE_OF_A_KIND,"), "The last game.");
+        assertEquals(List.of(CsvResultSink.HEADER), Files.readAllLines(empty), "The header only.");
+    }
+
+    static Player player(final String name, final String cards) throws PokerParseException, HandExceededException {
+        HandOfCards hand = new HandOfCards();
+        hand.setCards(new CardParser().parseCards(cards));
+
+        Player player = new Player(name);
+        player.dealHand(hand);
+        player.setPokerHand(new HandEvaluationService().evaluate(hand));
+        return player;
+    }
+
+    /**
+     * A player of a game with community cards.
+     */
+    static Player player(final String name, final String holeCards, final HandOfCards board)
+            throws PokerParseException, HandExceededException {
+        Player player = new Player(name);
+        player.dealHand(cards(holeCards));
+        player.setPokerHand(new HandEvaluationService().evaluate(player.getHand(), board));
+        return player;
+    }
+
+    static HandOfCards cards(final String cards) throws PokerParseException, HandExceededException {
+        HandOfCards hand = new HandOfCards();
+        hand.setCards(new CardParser().parseCards(cards));
+        return hand;
+    }
+
+    static GameResult result(final Player... players) {
+        GameResult result = new GameResult();
+
+        for (Player player : players) {
+            result.addToRanks(player);
+        }
+
+        return result;
+    }
+
+    /**
+     * Split a row of RFC 4180 CSV into its fields.
+     */
+    private static List<String> fields(final String row) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < row.length(); i++) {
+            char c = row.charAt(i);
+
+            if (quoted && c == '"' && i + 1 < row.length() && row.charAt(i + 1) == '"') {
+                field.append(c);
+                i++;
+            } else if (c == '"') {
+                quoted = !quoted;
+            } else if (c == ',' && !quoted) {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+
+        fields.add(field.toString());
+        return fields;
+    }
+
+    /**
+     * Split a cell of names at the unescaped separators.
+     */
+    private static List<String> names(final String cell) {
+        List<String> names = new ArrayList<>();
+        StringBuilder name = new StringBuilder();
+
+        for (int i = 0; i < cell.length(); i++) {
+            char c = cell.charAt(i);
+
+            if (c == '\\') {
+                name.append(cell.charAt(++i));
+            } else if (c == ';') {
+                names.add(name.toString());
+                name.setLength(0);
+            } else {
+                name.append(c);
+            }
+        }
+
+        names.add(name.toString());
+        return names;
+    }
+
+    private static String classIds(final String... hands) throws PokerParseException, HandExceededException {
+        StringBuilder ids = new StringBuilder();
+
+        for (String hand : hands) {
+            ids.append(ids.isEmpty() ? "" : ";").append(player("", hand).getPokerHand().classId());
+        }
+
+        return ids.toString();
+    }
+}
@@ -1,19 +1,22 @@
 package com.yotilla.poker.result;
 
+import com.yotilla.poker.HandEvaluationService;
 import com.yotilla.poker.Player;
 import com.yotilla.poker.TestUtils;
 import com.yotilla.poker.card.CardSuit;
 import com.yotilla.poker.card.CardValue;
+import com.yotilla.poker.card.DeckOfCards;
 import com.yotilla.poker.card.HandOfCards;
+import com.yotilla.poker.error.DeckException;
 import com.yotilla.poker.error.HandExceededException;
 import com.yotilla.poker.error.PokerParseException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
-import java.util.Collections;
-import java.util.Iterator;
-import java.util.List;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.*;
 
 import static com.yotilla.poker.card.CardSuit.*;
 import static com.yotilla.poker.card.CardValue.*;
@@ -341,4 +344,274 @@ class GameResultTest {
         assertEquals(expected, sut.printRanks(), "printed rank result does not meet expectations.");
 
     }
+
+    /**
+     * rankingAgreesWithTheComparator
+     *
+     * @throws HandExceededException error case
+     * @throws DeckException         error case
+     */
+    @Test
+    void rankingAgreesWithTheComparator() throws HandExceededException, DeckException {
+        HandEvaluationService evaluationService = new HandEvaluationService();
+
+        for (int game = 0; game < 200; game++) {
+            DeckOfCards deck = new DeckOfCards();
+            deck.shuffleDeck();
+
+            GameResult result = new GameResult();
+            SortedMap<PokerHand, List<Player>> expected = new TreeMap<>(new PokerHandComparator().reversed());
+
+            for (int seat = 0; seat < 10; seat++) {
+                HandOfCards hand = new HandOfCards();
+
+                for (int card = 0; card < HandOfCards.HAND_SIZE; card++) {
+                    hand.addCard(deck.drawNextCard());
+                }
+
+                Player player = new Player("Player " + seat);
+                player.dealHand(hand);
+                player.setPokerHand(evaluationService.evaluate(hand));
+
+                result.addToRanks(player);
+                expected.computeIfAbsent(player.getPokerHand(), key -> new ArrayList<>()).add(player);
+            }
+
+            List<Player> winners = expected.get(expected.firstKey());
+            assertEquals(winners.size() == 1 ? winners.getFirst() : null, result.getWinner(),
+                    "The winner is tracked alike.");
+            assertEquals(winners.size() > 1 ? winners : List.of(), result.getPotSplit(),
+                    "The pot split is tracked alike.");
+
+            assertEquals(new ArrayList<>(expected.keySet()), new ArrayList<>(result.getRanking().keySet()),
+                    "Hands must be ranked alike.");
+            assertEquals(new ArrayList<>(expected.values()), new ArrayList<>(result.getRanking().values()),
+                    "Players must be ranked alike.");
+        }
+    }
+
+    /**
+     * incompleteHandsAreRankedByTheComparator
+     */
+    @Test
+    void incompleteHandsAreRankedByTheComparator() {
+        // The comparator only looks at as many rank cards as both hands hold.
+        PokerHand janesHand = new PokerHand(TWO_PAIRS, List.of(KING), List.of(THREE));
+        PokerHand johnsHand = new PokerHand(TWO_PAIRS, List.of(KING, QUEEN), List.of(TWO));
+        Mockito.when(playerJaneMock.getPokerHand()).thenReturn(janesHand);
+        Mockito.when(playerJohnMock.getPokerHand()).thenReturn(johnsHand);
+
+        sut.addToRanks(playerJaneMock);
+        sut.addToRanks(playerJohnMock);
+
+        assertEquals(playerJaneMock, sut.getWinner(), "Jane's kicker beats John's.");
+        assertEquals(2, sut.getRanking().size(), "Two distinct ranks.");
+    }
+
+    /**
+     * winnersAreTrackedWhilePlayersAreAdded
+     */
+    @Test
+    void winnersAreTrackedWhilePlayersAreAdded() {
+        Player jane = new Player("Jane");
+        jane.setPokerHand(new PokerHand(ONE_PAIR, List.of(TEN), List.of(QUEEN, FIVE, THREE)));
+        Player john = new Player("John");
+        john.setPokerHand(new PokerHand(FLUSH, List.of(KING, TEN, SEVEN, FOUR, TWO), List.of()));
+        Player jim = new Player("Jim");
+        jim.setPokerHand(new PokerHand(FLUSH, List.of(KING, TEN, SEVEN, FOUR, TWO), List.of()));
+
+        sut.addToRanks(jane);
+        assertEquals(jane, sut.getWinner(), "Jane leads on her own.");
+
+        sut.addToRanks(john);
+        assertEquals(john, sut.getWinner(), "John's flush takes over.");
+
+        sut.addToRanks(jim);
+        assertNull(sut.getWinner(), "Jim ties with John.");
+        assertEquals(List.of(john, jim), sut.getPotSplit(), "They split in order of addition.");
+        assertEquals("Players John, Jim split the pot.", sut.printFinalResult(), "Final result of the tie.");
+        assertEquals(2, sut.getRanking().size(), "The full ranking is still at hand.");
+    }
+
+    /**
+     * rankingIsKeptUpToDate
+     */
+    @Test
+    void rankingIsKeptUpToDate() {
+        Player jane = new Player("Jane");
+        jane.setPokerHand(new PokerHand(ONE_PAIR, List.of(TEN), List.of(QUEEN, FIVE, THREE)));
+        Player john = new Player("John");
+        john.setPokerHand(new PokerHand(FLUSH, List.of(KING, TEN, SEVEN, FOUR, TWO), List.of()));
+        Player jim = new Player("Jim");
+        jim.setPokerHand(new PokerHand(FLUSH, List.of(KING, TEN, SEVEN, FOUR, TWO), List.of()));
+
+        sut.addToRanks(jane);
+        SortedMap<PokerHand, List<Player>> ranking = sut.getRanking();
+        assertSame(ranking, sut.getRanking(), "The ranking is built once.");
+
+        sut.addToRanks(john);
+        sut.addToRanks(jim);
+
+        assertSame(ranking, sut.getRanking(), "The ranking is still the same.");
+        assertEquals(List.of(List.of(john, jim), List.of(jane)), new ArrayList<>(ranking.values()),
+                "Later players join the ranking held on to.");
+    }
+
+    /**
+     * writeRanksStreamsWhatPrintRanksPrints
+     *
+     * @throws HandExceededException error case
+     * @throws IOException           error case
+     */
+    @Test
+    void writeRanksStreamsWhatPrintRanksPrints() throws HandExceededException, IOException {
+        HandOfCards janesCards = TestUtils.getHandSpy(List.of(HEARTS, SPADES, SPADES, DIAMONDS, DIAMONDS),
+                List.of(EIGHT, NINE, TEN, JACK, QUEEN));
+        Mockito.when(playerJaneMock.getHand()).thenReturn(janesCards);
+        Mockito.when(playerJaneMock.getPokerHand()).thenReturn(
+                TestUtils.getPokerHand(ONE_PAIR, List.of(TEN), List.of(QUEEN, FIVE, THREE)));
+
+        HandOfCards johnsCards = TestUtils.getHandSpy(List.of(HEARTS, SPADES, CLUBS, DIAMONDS, HEARTS),
+                List.of(TEN, TEN, TWO, FOUR, KING));
+        Mockito.when(playerJohnMock.getHand()).thenReturn(johnsCards);
+        Mockito.when(playerJohnMock.getPokerHand()).thenReturn(
+                TestUtils.getPokerHand(ONE_PAIR, List.of(TEN), List.of(KING, FOUR, TWO)));
+
+        sut.addToRanks(playerJaneMock);
+        sut.addToRanks(playerJohnMock);
+
+        StringWriter writer = new StringWriter();
+        sut.writeRanks(writer);
+        sut.writeFinalResult(writer);
+
+        assertEquals(sut.printRanks() + sut.printFinalResult(), writer.toString(), "Both ways render alike.");
+        assertEquals("""
+                1\tJohn Doe\tTH TS 2C 4D KH\tONE_PAIR, TEN. Kickers: KING, FOUR, TWO.
+                2\tJane Doe\t8H 9S TS JD QD\tONE_PAIR, TEN. Kickers: QUEEN, FIVE, THREE.
+                John Doe wins.""", writer.toString(), "John's king kicker wins.");
+    }
+
+    /**
+     * shortStackOnlyWinsTheMainPot
+     */
+    @Test
+    void shortStackOnlyWinsTheMainPot() {
+        sut.addToRanks(playerWith(FOUR_OF_A_KIND, List.of(TWO), List.of(THREE)));
+        sut.addToRanks(playerWith(ONE_PAIR, List.of(ACE), List.of(KING, QUEEN, JACK)));
+        sut.addToRanks(playerWith(HIGH_CARD, List.of(ACE, KING, QUEEN, JACK, NINE), List.of()));
+
+        assertArrayEquals(new long[]{300, 400, 0}, sut.distributePots(new int[]{100, 300, 300}),
+                "The quads win 3 x 100, the pair wins the side pot of 2 x 200.");
+        assertArrayEquals(new long[]{400, 500, 0}, sut.distributePots(new int[]{100, 300, 300}, new int[]{200}, 1),
+                "A folded player feeds both pots.");
+        assertArrayEquals(new long[]{400, 900, 0}, sut.distributePots(new int[]{100, 300, 300}, new int[]{600}, 1),
+                "Chips beyond every player's contribution go to the next pot down.");
+    }
+
+    /**
+     * oddChipsGoInSeatOrder
+     */
+    @Test
+    void oddChipsGoInSeatOrder() {
+        sut.addToRanks(playerWith(HIGH_CARD, List.of(SEVEN, FIVE, FOUR, THREE, TWO), List.of()));
+        sut.addToRanks(playerWith(FLUSH, List.of(KING, TEN, SEVEN, FOUR, TWO), List.of()));
+        sut.addToRanks(playerWith(FLUSH, List.of(KING, TEN, SEVEN, FOUR, TWO), List.of()));
+
+        assertArrayEquals(new long[]{0, 6, 5}, sut.distributePots(new int[]{1, 5, 5}),
+                "The second seat gets the odd chip.");
+        assertArrayEquals(new long[]{0, 20, 15}, sut.distributePots(new int[]{5, 15, 15}, new int[]{0}, 5),
+                "Split in chips of five, the odd one to the second seat.");
+        assertArrayEquals(new long[]{0, 18, 15}, sut.distributePots(new int[]{1, 16, 16}, new int[0], 5),
+                "Chips smaller than the unit go to the second seat as well.");
+    }
+
+    /**
+     * potsAgreeWithResolvingEachPotOnItsOwn
+     */
+    @Test
+    void potsAgreeWithResolvingEachPotOnItsOwn() {
+        Random random = new Random(42);
+        PokerHandComparator comparator = new PokerHandComparator();
+        CardValue[] values = {TWO, FIVE, NINE, KING};
+
+        for (int game = 0; game < 200; game++) {
+            GameResult result = new GameResult();
+            int players = 2 + random.nextInt(8);
+            int[] contributions = new int[players];
+            int[] folded = new int[random.nextInt(3)];
+
+            for (int position = 0; position < players; position++) {
+                // few distinct hands and stacks, so ties and equal all-ins are common
+                result.addToRanks(playerWith(ONE_PAIR, List.of(values[random.nextInt(values.length)]),
+                        List.of(ACE, QUEEN, JACK)));
+                contributions[position] = 10 * (1 + random.nextInt(4)) + random.nextInt(2);
+            }
+
+            for (int i = 0; i < folded.length; i++) {
+                folded[i] = random.nextInt(20);
+            }
+
+            long[] expected = new long[players];
+            int previous = 0;
+            int top = Arrays.stream(contributions).max().orElseThrow();
+
+            // resolve each pot on its own: one per distinct contribution level
+            for (int level : Arrays.stream(contributions).distinct().sorted().toArray()) {
+                long pot = 0;
+                List<Integer> contestants = new ArrayList<>();
+
+                for (int position = 0; position < players; position++) {
+                    pot += Math.max(0, Math.min(contributions[position], level) - previous);
+
+                    if (contributions[position] >= level) {
+                        contestants.add(position);
+                    }
+                }
+
+                for (int chips : folded) {
+                    // chips beyond every player's contribution go to the top pot
+                    pot += Math.max(0, (level == top ? chips : Math.min(chips, level)) - previous);
+                }
+
+                PokerHand best = contestants.stream().map(position -> result.handAt(position))
+                        .max(comparator).orElseThrow();
+                List<Integer> winners = contestants.stream()
+                        .filter(position -> comparator.compare(result.handAt(position), best) == 0).toList();
+
+                for (int i = 0; i < winners.size(); i++) {
+                    expected[winners.get(i)] += pot / winners.size() + (i < pot % winners.size() ? 1 : 0);
+                }
+
+                previous = level;
+            }
+            assertArrayEquals(expected, result.distributePots(contributions, folded, 1),
+                    "Game " + game + ": " + Arrays.toString(contributions) + " " + Arrays.toString(folded));
+        }
+    }
+
+    /**
+     * invalidPotsAreRejected
+     */
+    @Test
+    void invalidPotsAreRejected() {
+        sut.addToRanks(playerWith(ONE_PAIR, List.of(ACE), List.of(KING, QUEEN, JACK)));
+
+        assertThrows(IllegalArgumentException.class, () -> sut.distributePots(new int[]{1, 2}),
+                "One contribution per player.");
+        assertThrows(IllegalArgumentException.class, () -> sut.distributePots(new int[]{-1}),
+                "No negative contributions.");
+        assertThrows(IllegalArgumentException.class, () -> sut.distributePots(new int[]{1}, new int[0], 0),
+                "The chip unit must be positive.");
+        assertThrows(IllegalArgumentException.class,
+                () -> new GameResult().distributePots(new int[0], new int[]{10}, 1), "Nobody left to win.");
+        assertArrayEquals(new long[0], new GameResult().distributePots(new int[0]), "Nothing to distribute.");
+    }
+
+    private static Player playerWith(final PokerHandRanking ranking, final List<CardValue> rankCards,
+                                     final List<CardValue> kickerCards) {
+        Player player = new Player(ranking.name());
+        player.setPokerHand(new PokerHand(ranking, rankCards, kickerCards));
+        return player;
+    }
 }
+
@@ -0,0 +1,113 @@
+package com.yotilla.poker.result;
+
+import com.yotilla.poker.Player;
+import com.yotilla.poker.card.CardValue;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static com.yotilla.poker.card.CardValue.*;
+import static com.yotilla.poker.result.PokerHandRanking.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Description:
+ *
+ * <br>
+ * Date: 19.10.2026
+ *
+ * @author Manuel
+ *
+ */
+class GameStatisticsTest {
+    private final GameStatistics sut = new GameStatistics(3);
+
+    /**
+     * winsTiesAndHandsAreCounted
+     */
+    @Test
+    void winsTiesAndHandsAreCounted() {
+        sut.record(game(pair(TEN), pair(KING), pair(NINE)));
+        sut.record(game(pair(ACE), flush(), flush()));
+
+        assertEquals(2, sut.getGames(), "Two games.");
+        assertEquals(1, sut.getWins(1), "The second seat won the first game alone.");
+        assertEquals(0, sut.getWins(0), "The first seat never won.");
+        assertEquals(1, sut.getTies(1), "The second seat split the second game ...");
+        assertEquals(1, sut.getTies(2), "... with the third seat.");
+        assertEquals(4, sut.getFrequency(ONE_PAIR), "Four pairs were held.");
+        assertEquals(2, sut.getFrequency(FLUSH), "Two flushes were held.");
+        assertEquals(1, sut.getWinningFrequency(ONE_PAIR), "A pair won the first game.");
+        assertEquals(1, sut.getWinningFrequency(FLUSH), "The split pot counts once.");
+    }
+
+    /**
+     * mergeAddsUp
+     */
+    @Test
+    void mergeAddsUp() {
+        GameStatistics other = new GameStatistics(2);
+        other.record(game(pair(ACE), pair(KING)));
+        sut.record(game(pair(ACE), pair(KING)));
+
+        sut.merge(other);
+
+        assertEquals(2, sut.getGames(), "Games add up.");
+        assertEquals(2, sut.getWins(0), "Wins add up.");
+        assertEquals(4, sut.getFrequency(ONE_PAIR), "Hands add up.");
+        assertThrows(IllegalArgumentException.class, () -> other.merge(sut), "Three seats don't fit into two.");
+    }
+
+    /**
+     * handClassesAreCounted
+     */
+    @Test
+    void handClassesAreCounted() {
+        sut.record(game(PokerHand.ofClassId(1), PokerHand.ofClassId(HandClassTable.HAND_CLASSES), pair(TEN)));
+        sut.record(game(PokerHand.ofClassId(1), PokerHand.ofClassId(1)));
+
+        GameStatistics other = new GameStatistics(2);
+        other.record(game(PokerHand.ofClassId(42), PokerHand.ofClassId(1)));
+        sut.merge(other);
+
+        assertEquals(4, sut.getClassFrequency(1), "Royal flushes of three games.");
+        assertEquals(1, sut.getClassFrequency(42), "Merged from the other statistics.");
+        assertEquals(1, sut.getClassFrequency(HandClassTable.HAND_CLASSES), "The weakest high card.");
+        assertEquals(0, sut.getClassFrequency(2), "Never held.");
+        assertThrows(IllegalArgumentException.class, () -> sut.getClassFrequency(0), "Class ids start at one.");
+        assertThrows(IllegalArgumentException.class, () -> sut.getClassFrequency(HandClassTable.HAND_CLASSES + 1),
+                "There are no more classes.");
+    }
+
+    /**
+     * tooManyPlayersAreRejected
+     */
+    @Test
+    void tooManyPlayersAreRejected() {
+        GameResult result = game(pair(TWO), pair(FOUR), pair(SIX), pair(EIGHT));
+
+        assertThrows(IllegalArgumentException.class, () -> sut.record(result), "Four players on three seats.");
+        assertThrows(IllegalArgumentException.class, () -> new GameStatistics(0), "No seats.");
+        assertEquals(0, sut.getGames(), "Nothing was recorded.");
+    }
+
+    static GameResult game(final PokerHand... hands) {
+        GameResult result = new GameResult();
+
+        for (PokerHand hand : hands) {
+            Player player = new Player("Player " + result.size());
+            player.setPokerHand(hand);
+            result.addToRanks(player);
+        }
+
+        return result;
+    }
+
+    private static PokerHand pair(final CardValue value) {
+        return new PokerHand(ONE_PAIR, List.of(value), List.of(SEVEN, FIVE, THREE));
+    }
+
+    private static PokerHand flush() {
+        return new PokerHand(FLUSH, List.of(KING, TEN, SEVEN, FOUR, TWO), List.of());
+    }
+}
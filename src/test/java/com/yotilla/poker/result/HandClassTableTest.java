@@ -0,0 +1,96 @@
+package com.yotilla.poker.result;
+
+import com.yotilla.poker.card.CardValue;
+import com.yotilla.poker.result.evaluator.CardMaskEvaluator;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Description:
+ *
+ * <br>
+ * Date: 19.10.2026
+ *
+ * @author Manuel
+ *
+ */
+class HandClassTableTest {
+    private final HandClassTable sut = HandClassTable.getInstance();
+
+    /**
+     * classIds
+     */
+    @Test
+    void classIds() {
+        PokerHand royalFlush = new PokerHand(PokerHandRanking.ROYAL_FLUSH, List.of(), List.of());
+        PokerHand kingHighStraightFlush = new PokerHand(PokerHandRanking.STRAIGHT_FLUSH, List.of(CardValue.KING),
+                List.of());
+        PokerHand sevenHigh = new PokerHand(PokerHandRanking.HIGH_CARD,
+                List.of(CardValue.SEVEN, CardValue.FIVE, CardValue.FOUR, CardValue.THREE, CardValue.TWO), List.of());
+
+        assertEquals(1, royalFlush.classId(), "The royal flush is the strongest class.");
+        assertEquals(2, kingHighStraightFlush.classId(), "Followed by the king high straight flush.");
+        assertEquals(HandClassTable.HAND_CLASSES, sevenHigh.classId(), "Seven high is the weakest class.");
+        assertEquals(0, new PokerHand(PokerHandRanking.ONE_PAIR, List.of(CardValue.ACE), List.of()).classId(),
+                "A pair without kickers is no five-card hand.");
+        assertEquals(sevenHigh, PokerHand.ofClassId(HandClassTable.HAND_CLASSES), "Looked up by its id.");
+        assertThrows(IllegalArgumentException.class, () -> PokerHand.ofClassId(0), "Ids start at one.");
+        assertThrows(IllegalArgumentException.class, () -> sut.strengthOf(HandClassTable.HAND_CLASSES + 1),
+                "Ids end at the amount of classes.");
+    }
+
+    /**
+     * classIdsRoundTrip
+     */
+    @Test
+    void classIdsRoundTrip() {
+        for (int classId = 1; classId <= HandClassTable.HAND_CLASSES; classId++) {
+            PokerHand hand = PokerHand.ofClassId(classId);
+
+            assertEquals(classId, hand.classId(), "Round trip of " + hand);
+            assertEquals(sut.strengthOf(classId), hand.strength(), "Strength of " + hand);
+
+            if (classId > 1) {
+                assertTrue(sut.strengthOf(classId - 1) > hand.strength(), "Lower ids are stronger: " + hand);
+            }
+        }
+    }
+
+    /**
+     * classesMatchAllFiveCardHands
+     */
+    @Test
+    void classesMatchAllFiveCardHands() {
+        HandStrengthTable allHands = HandStrengthTable.getInstance();
+        long total = 0;
+
+        for (int classId = 1; classId <= HandClassTable.HAND_CLASSES; classId++) {
+            int occurrences = allHands.getOccurrences(sut.strengthOf(classId));
+
+            assertTrue(occurrences > 0, "Every class is dealt: " + sut.handOf(classId));
+            total += occurrences;
+        }
+
+        assertEquals(HandStrengthTable.FIVE_CARD_HANDS, total, "Every five-card hand falls into a class.");
+    }
+
+    /**
+     * evaluatorsShareInstances
+     */
+    @Test
+    void evaluatorsShareInstances() {
+        CardMaskEvaluator evaluator = new CardMaskEvaluator();
+        PokerHand pair = new PokerHand(PokerHandRanking.ONE_PAIR, List.of(CardValue.ACE),
+                List.of(CardValue.KING, CardValue.QUEEN, CardValue.JACK));
+        PokerHand incomplete = new PokerHand(PokerHandRanking.ONE_PAIR, List.of(CardValue.ACE), List.of());
+
+        assertSame(evaluator.evaluate(0b1_1111_0000_0000L), evaluator.evaluate(0b1_1111_0000_0000L << 13),
+                "Royal flushes of any suit are one and the same.");
+        assertSame(sut.handOf(pair.classId()), PokerHand.intern(pair), "Interned to the shared instance.");
+        assertSame(incomplete, PokerHand.intern(incomplete), "Incomplete hands stay as they are.");
+        assertNull(PokerHand.intern(null), "Null stays null.");
+    }
+}
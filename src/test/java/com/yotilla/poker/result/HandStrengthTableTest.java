@@ -0,0 +1,59 @@
+package com.yotilla.poker.result;
+
+import com.yotilla.poker.card.CardValue;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Description:
+ *
+ * <br>
+ * Date: 19.10.2026
+ *
+ * @author Manuel
+ *
+ */
+class HandStrengthTableTest {
+    private final HandStrengthTable sut = HandStrengthTable.getInstance();
+
+    /**
+     * distinctStrengths
+     */
+    @Test
+    void distinctStrengths() {
+        assertEquals(7462, sut.size(), "There are 7462 distinct five-card hands.");
+    }
+
+    /**
+     * occurrences
+     */
+    @Test
+    void occurrences() {
+        PokerHand royalFlush = new PokerHand(PokerHandRanking.ROYAL_FLUSH, List.of(), List.of());
+        PokerHand acesFull = new PokerHand(PokerHandRanking.FULL_HOUSE, List.of(CardValue.ACE, CardValue.KING),
+                List.of());
+
+        assertEquals(4, sut.getOccurrences(royalFlush.strength()), "One royal flush per suit.");
+        assertEquals(24, sut.getOccurrences(acesFull.strength()), "Four ways to pick the aces, six for the kings.");
+        assertEquals(0, sut.getOccurrences(0), "Nothing has no strength.");
+    }
+
+    /**
+     * percentile
+     */
+    @Test
+    void percentile() {
+        PokerHand royalFlush = new PokerHand(PokerHandRanking.ROYAL_FLUSH, List.of(), List.of());
+        PokerHand sevenHigh = new PokerHand(PokerHandRanking.HIGH_CARD,
+                List.of(CardValue.SEVEN, CardValue.FIVE, CardValue.FOUR, CardValue.THREE, CardValue.TWO), List.of());
+
+        assertEquals(1.0 - 2.0 / HandStrengthTable.FIVE_CARD_HANDS, sut.percentile(royalFlush.strength()), 1e-12,
+                "A royal flush beats everything but ties the other three.");
+        assertTrue(sut.percentile(sevenHigh.strength()) < 1e-3, "Seven high is the weakest hand.");
+        assertEquals(0.0, sut.percentile(0), "Below the weakest hand.");
+        assertEquals(1.0, sut.percentile(Integer.MAX_VALUE), "Above the strongest hand.");
+    }
+}
@@ -0,0 +1,110 @@
+package com.yotilla.poker.result;
+
+import com.yotilla.poker.card.Card;
+import com.yotilla.poker.result.evaluator.CardMaskEvaluator;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static com.yotilla.poker.card.CardValue.*;
+import static com.yotilla.poker.result.PokerHandRanking.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Description:
+ *
+ * <br>
+ * Date: 19.10.2026
+ *
+ * @author Manuel
+ *
+ */
+class HeadToHeadMatrixTest {
+    private final PokerHandComparator comparator = new PokerHandComparator();
+
+    /**
+     * matrixAgreesWithTheComparator
+     */
+    @Test
+    void matrixAgreesWithTheComparator() {
+        CardMaskEvaluator evaluator = new CardMaskEvaluator();
+        Random random = new Random(42);
+        List<PokerHand> hands = new ArrayList<>();
+
+        for (int i = 0; i < 300; i++) {
+            long cards = 0L;
+
+            while (Long.bitCount(cards) < 5) {
+                cards |= 1L << random.nextInt(Card.INDEX_RANGE);
+            }
+
+            hands.add(evaluator.evaluate(cards));
+        }
+
+        assertAgreesWithTheComparator(hands);
+    }
+
+    /**
+     * incompleteHandsAreLeveledByTheComparator
+     */
+    @Test
+    void incompleteHandsAreLeveledByTheComparator() {
+        List<PokerHand> hands = List.of(
+                new PokerHand(TWO_PAIRS, List.of(KING), List.of(THREE)),
+                new PokerHand(TWO_PAIRS, List.of(KING, QUEEN), List.of(TWO)),
+                new PokerHand(ONE_PAIR, List.of(ACE), List.of(KING, QUEEN, JACK)),
+                new PokerHand(ONE_PAIR, List.of(ACE), List.of(KING, QUEEN, JACK)));
+
+        HeadToHeadMatrix sut = assertAgreesWithTheComparator(hands);
+
+        assertEquals(1, sut.outcome(0, 1), "The comparator only looks at as many rank cards as both hands hold.");
+        assertEquals(1, sut.getTies(2), "The pairs of aces tie.");
+        assertEquals(2, sut.getLosses(3), "They lose to both two pairs.");
+    }
+
+    /**
+     * emptyAndInvalidInput
+     */
+    @Test
+    void emptyAndInvalidInput() {
+        HeadToHeadMatrix empty = new HeadToHeadMatrix(List.of());
+        List<PokerHand> withNull = new ArrayList<>();
+        withNull.add(null);
+
+        assertEquals(0, empty.size(), "No hands.");
+        assertEquals(0, empty.toMatrix().length, "No rows.");
+        assertThrows(NullPointerException.class, () -> new HeadToHeadMatrix(withNull), "No null hands.");
+    }
+
+    private HeadToHeadMatrix assertAgreesWithTheComparator(final List<PokerHand> hands) {
+        HeadToHeadMatrix sut = new HeadToHeadMatrix(hands);
+        byte[][] matrix = sut.toMatrix();
+
+        assertEquals(hands.size(), sut.size(), "One row per hand.");
+
+        for (int hand = 0; hand < hands.size(); hand++) {
+            int wins = 0;
+            int ties = 0;
+            int losses = 0;
+
+            for (int other = 0; other < hands.size(); other++) {
+                int expected = Integer.signum(comparator.compare(hands.get(hand), hands.get(other)));
+                assertEquals(expected, matrix[hand][other], hands.get(hand) + " against " + hands.get(other));
+
+                if (other != hand) {
+                    wins += expected > 0 ? 1 : 0;
+                    ties += expected == 0 ? 1 : 0;
+                    losses += expected < 0 ? 1 : 0;
+                }
+            }
+
+            assertEquals(wins, sut.getWins(hand), "Wins of " + hands.get(hand));
+            assertEquals(ties, sut.getTies(hand), "Ties of " + hands.get(hand));
+            assertEquals(losses, sut.getLosses(hand), "Losses of " + hands.get(hand));
+        }
+
+        return sut;
+    }
+}
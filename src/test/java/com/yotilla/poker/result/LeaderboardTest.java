@@ -0,0 +1,148 @@
+package com.yotilla.poker.result;
+
+import com.yotilla.poker.Player;
+import com.yotilla.poker.card.Card;
+import com.yotilla.poker.result.evaluator.CardMaskEvaluator;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static com.yotilla.poker.card.CardValue.*;
+import static com.yotilla.poker.result.PokerHandRanking.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Description:
+ *
+ * <br>
+ * Date: 19.10.2026
+ *
+ * @author Manuel
+ *
+ */
+class LeaderboardTest {
+
+    /**
+     * leaderboardAgreesWithRebuiltResults
+     */
+    @Test
+    void leaderboardAgreesWithRebuiltResults() {
+        CardMaskEvaluator evaluator = new CardMaskEvaluator();
+        Random random = new Random(42);
+        Leaderboard sut = new Leaderboard();
+        List<Player> seated = new ArrayList<>();
+
+        for (int step = 0; step < 2000; step++) {
+            int action = random.nextInt(3);
+
+            if (seated.isEmpty() || action == 0 && seated.size() < 30) {
+                Player player = new Player("Player " + step);
+                player.setPokerHand(evaluator.evaluate(randomHand(random)));
+                sut.add(player);
+                seated.add(player);
+            } else if (action == 1) {
+                Player player = seated.remove(random.nextInt(seated.size()));
+                assertTrue(sut.remove(player), "Seated players are removed.");
+            } else {
+                Player player = seated.get(random.nextInt(seated.size()));
+                player.setPokerHand(evaluator.evaluate(randomHand(random)));
+                sut.update(player);
+            }
+
+            assertAgreesWithRebuiltResult(sut, seated);
+        }
+    }
+
+    /**
+     * tiedLeadersShareTheFirstRank
+     */
+    @Test
+    void tiedLeadersShareTheFirstRank() {
+        Player jane = playerWith("Jane", new PokerHand(FLUSH, List.of(KING, TEN, SEVEN, FOUR, TWO), List.of()));
+        Player john = playerWith("John", new PokerHand(FLUSH, List.of(KING, TEN, SEVEN, FOUR, TWO), List.of()));
+        Player jim = playerWith("Jim", new PokerHand(ONE_PAIR, List.of(TEN), List.of(QUEEN, FIVE, THREE)));
+        Leaderboard sut = new Leaderboard();
+
+        sut.add(jim);
+        assertSame(jim, sut.getLeader(), "Jim leads on his own.");
+
+        sut.add(jane);
+        sut.add(john);
+
+        assertNull(sut.getLeader(), "Jane and John tie.");
+        assertEquals(List.of(jane, john), sut.getLeaders(), "Both lead, in order of addition.");
+        assertEquals(1, sut.getRank(john), "They share the first rank.");
+        assertEquals(2, sut.getRank(jim), "Jim comes right behind.");
+
+        assertTrue(sut.remove(jane), "Jane folds.");
+        assertSame(john, sut.getLeader(), "John leads on his own.");
+        assertFalse(sut.remove(jane), "Jane folded already.");
+        assertEquals(0, sut.getRank(jane), "Jane is not ranked anymore.");
+        assertEquals(2, sut.size(), "John and Jim are left.");
+    }
+
+    /**
+     * emptyAndInvalidInput
+     */
+    @Test
+    void emptyAndInvalidInput() {
+        Leaderboard sut = new Leaderboard();
+        Player jane = playerWith("Jane", new PokerHand(HIGH_CARD, List.of(ACE, KING, QUEEN, JACK, NINE), List.of()));
+        Player incomplete = playerWith("John", new PokerHand(TWO_PAIRS, List.of(KING), List.of(THREE)));
+
+        assertNull(sut.getLeader(), "Nobody leads.");
+        assertEquals(List.of(), sut.getLeaders(), "Nobody leads.");
+        assertEquals(0, sut.toGameResult().size(), "Nobody is ranked.");
+
+        sut.add(jane);
+
+        assertThrows(IllegalArgumentException.class, () -> sut.add(jane), "Jane is on the leaderboard already.");
+        assertThrows(IllegalArgumentException.class, () -> sut.add(incomplete), "No five-card hand.");
+        assertThrows(IllegalArgumentException.class, () -> sut.add(new Player("Jim")), "No hand at all.");
+        assertThrows(NullPointerException.class, () -> sut.add(null), "No null players.");
+        assertEquals(1, sut.size(), "Only Jane was added.");
+
+        jane.setPokerHand(incomplete.getPokerHand());
+        assertThrows(IllegalArgumentException.class, () -> sut.update(jane), "No five-card hand to update to.");
+        assertEquals(1, sut.getRank(jane), "Jane keeps her place.");
+        assertSame(jane, sut.getLeader(), "Jane still leads.");
+    }
+
+    private static void assertAgreesWithRebuiltResult(final Leaderboard sut, final List<Player> seated) {
+        GameResult expected = new GameResult();
+        seated.forEach(expected::addToRanks);
+
+        assertEquals(seated.size(), sut.size(), "Every seated player is on the leaderboard.");
+        assertEquals(expected.getWinner(), sut.getLeader(), "The leader is the winner.");
+        assertEquals(seated.isEmpty() ? 0 : expected.getRanking().values().iterator().next().size(),
+                sut.getLeaders().size(), "The leaders share the best hand.");
+
+        int rank = 1;
+
+        for (List<Player> players : expected.getRanking().values()) {
+            for (Player player : players) {
+                assertEquals(rank, sut.getRank(player), "Ranks agree for " + player.getName());
+            }
+
+            rank++;
+        }
+    }
+
+    private static long randomHand(final Random random) {
+        long cards = 0L;
+
+        while (Long.bitCount(cards) < 5) {
+            cards |= 1L << random.nextInt(Card.INDEX_RANGE);
+        }
+
+        return cards;
+    }
+
+    private static Player playerWith(final String name, final PokerHand hand) {
+        Player player = new Player(name);
+        player.setPokerHand(hand);
+        return player;
+    }
+}
@@ -0,0 +1,73 @@
+package com.yotilla.poker.result;
+
+import com.yotilla.poker.Player;
+import com.yotilla.poker.card.HandOfCards;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringWriter;
+import java.util.List;
+
+import static com.yotilla.poker.result.CsvResultSinkTest.cards;
+import static com.yotilla.poker.result.CsvResultSinkTest.player;
+import static com.yotilla.poker.result.CsvResultSinkTest.result;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Description:
+ *
+ * <br>
+ * Date: 19.10.2026
+ *
+ * @author Manuel
+ *
+ */
+class NdjsonResultSinkTest {
+
+    /**
+     * oneObjectPerLine
+     *
+     * @throws Exception error case
+     */
+    @Test
+    void oneObjectPerLine() throws Exception {
+        StringWriter out = new StringWriter();
+        int trips = player("", "2D 9C AS AH AC").getPokerHand().classId();
+        int flush = player("", "3D 6D 7D TD QD").getPokerHand().classId();
+
+        try (NdjsonResultSink sut = new NdjsonResultSink(out)) {
+            sut.write(1, result(player("Player 1", "2D 9C AS AH AC"), player("Player \"2\"\t\\", "3D 6D 7D TD QD")));
+            sut.write(2, result(player("Player 1", "2D 9C AS AH AC")));
+        }
+
+        assertEquals(List.of("{\"game\":1,\"board\":\"\",\"players\":["
+                        + "{\"name\":\"Player 1\",\"hand\":\"2D 9C AS AH AC\",\"ranking\":\"THREE_OF_A_KIND\","
+                        + "\"classId\":" + trips + "},"
+                        + "{\"name\":\"Player \\\"2\\\"\\u0009\\\\\",\"hand\":\"3D 6D 7D TD QD\",\"ranking\":\"FLUSH\","
+                        + "\"classId\":" + flush + "}],"
+                        + "\"winners\":[\"Player \\\"2\\\"\\u0009\\\\\"]}",
+                "{\"game\":2,\"board\":\"\",\"players\":[{\"name\":\"Player 1\",\"hand\":\"2D 9C AS AH AC\","
+                        + "\"ranking\":\"THREE_OF_A_KIND\",\"classId\":" + trips + "}],\"winners\":[\"Player 1\"]}"),
+                out.toString().lines().toList(), "Strings are escaped.");
+    }
+
+    /**
+     * boardIsWritten
+     *
+     * @throws Exception error case
+     */
+    @Test
+    void boardIsWritten() throws Exception {
+        StringWriter out = new StringWriter();
+        HandOfCards board = cards("AC KD KH 2C 3D");
+        Player jane = player("Jane", "AS AH", board);
+
+        try (NdjsonResultSink sut = new NdjsonResultSink(out)) {
+            sut.write(1, board, result(jane));
+        }
+
+        assertEquals("{\"game\":1,\"board\":\"AC KD KH 2C 3D\",\"players\":["
+                        + "{\"name\":\"Jane\",\"hand\":\"AS AH\",\"ranking\":\"FULL_HOUSE\","
+                        + "\"classId\":" + jane.getPokerHand().classId() + "}],\"winners\":[\"Jane\"]}\n",
+                out.toString(), "The board comes ahead of the hole cards.");
+    }
+}
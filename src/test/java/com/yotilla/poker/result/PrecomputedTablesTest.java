@@ -0,0 +1,192 @@
+package com.yotilla.poker.result;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Description:
+ *
+ * <br>
+ * Date: 19.10.2026
+ *
+ * @author Manuel
+ *
+ */
+class PrecomputedTablesTest {
+    @TempDir
+    Path directory;
+
+    /**
+     * savedTablesMatchTheBuiltOnes
+     *
+     * @throws IOException error case
+     */
+    @Test
+    void savedTablesMatchTheBuiltOnes() throws IOException {
+        Path file = directory.resolve("poker.tables");
+        PrecomputedTables.build(file);
+        PrecomputedTables.build(file);
+
+        PrecomputedTables sut = PrecomputedTables.open(file);
+        sut.verify();
+        sut.verify();
+
+        HandClassTable classes = HandClassTable.getInstance();
+        HandStrengthTable strengths = HandStrengthTable.getInstance();
+        int[] saved = sut.strengths();
+        IntBuffer occurrences = sut.occurrences();
+        IntBuffer weaker = sut.weaker();
+
+        assertArrayEquals(classes.strengths(), saved, "The strengths are saved.");
+
+        for (int i = 0; i < saved.length; i++) {
+            assertEquals(strengths.getOccurrences(saved[i]), occurrences.get(i), "The occurrences are saved.");
+            assertEquals(i == 0 ? 0 : weaker.get(i - 1) + occurrences.get(i - 1), weaker.get(i),
+                    "The weaker hands are saved.");
+        }
+
+        try (var files = Files.list(directory)) {
+            assertEquals(1, files.count(), "No temporary files are left.");
+        }
+    }
+
+    /**
+     * mappedTablesMatchTheEnumeratedOnes
+     *
+     * @throws IOException error case
+     */
+    @Test
+    void mappedTablesMatchTheEnumeratedOnes() throws IOException {
+        Path file = directory.resolve("poker.tables");
+        PrecomputedTables.build(file);
+
+        PrecomputedTables tables = PrecomputedTables.load(file.toString());
+        assertNotNull(tables, "The tables are used.");
+        assertTrue(tables.isIntact(PrecomputedTables.STRENGTHS, PrecomputedTables.OCCURRENCES,
+                PrecomputedTables.WEAKER), "The tables are intact.");
+
+        HandClassTable classes = new HandClassTable(tables.strengths());
+        HandStrengthTable strengths = HandStrengthTable.of(classes, tables);
+        HandClassTable enumeratedClasses = HandClassTable.getInstance();
+        HandStrengthTable enumeratedStrengths = HandStrengthTable.getInstance();
+
+        assertEquals(enumeratedStrengths.size(), strengths.size(), "As many strengths.");
+
+        for (int classId = 1; classId <= HandClassTable.HAND_CLASSES; classId++) {
+            int strength = classes.strengthOf(classId);
+
+            assertEquals(enumeratedClasses.strengthOf(classId), strength, "The strength of the class.");
+            assertEquals(classId, enumeratedClasses.classIdOf(strength), "The class of the strength.");
+            assertEquals(enumeratedClasses.handOf(classId).ranking(), classes.handOf(classId).ranking(),
+                    "The poker hand of the class.");
+            assertEquals(enumeratedStrengths.getOccurrences(strength), strengths.getOccurrences(strength),
+                    "The occurrences of the strength.");
+            assertEquals(enumeratedStrengths.percentile(strength), strengths.percentile(strength),
+                    "The percentile of the strength.");
+            assertEquals(enumeratedStrengths.percentile(strength + 1), strengths.percentile(strength + 1),
+                    "The percentile between strengths.");
+        }
+    }
+
+    /**
+     * unusableTablesAreLogged
+     *
+     * @throws IOException error case
+     */
+    @Test
+    void unusableTablesAreLogged() throws IOException {
+        Path file = directory.resolve("poker.tables");
+        PrecomputedTables.build(file);
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{1, 2, 3}), PrecomputedTables.HEADER_SIZE + 1000);
+        }
+
+        Path missing = directory.resolve("missing.tables");
+        Logger logger = Logger.getLogger(PrecomputedTables.class.getName());
+        List<LogRecord> records = new ArrayList<>();
+        Handler handler = new Handler() {
+            @Override
+            public void publish(final LogRecord record) {
+                records.add(record);
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        logger.addHandler(handler);
+
+        try {
+            assertNull(PrecomputedTables.load(null), "None configured.");
+            assertNull(PrecomputedTables.load(" "), "None configured.");
+            assertTrue(records.isEmpty(), "Nothing to warn about.");
+
+            PrecomputedTables damaged = PrecomputedTables.load(file.toString());
+            assertNotNull(damaged, "The checksums are left to the first use.");
+            assertTrue(damaged.isIntact(PrecomputedTables.OCCURRENCES, PrecomputedTables.WEAKER),
+                    "The tables beside the damaged one are used.");
+            assertTrue(records.isEmpty(), "Nothing to warn about yet.");
+            assertFalse(damaged.isIntact(PrecomputedTables.STRENGTHS), "The damaged table is left aside.");
+            assertNull(PrecomputedTables.load(missing.toString()), "Missing.");
+        } finally {
+            logger.removeHandler(handler);
+        }
+
+        assertEquals(2, records.size(), "A warning each.");
+        assertEquals(Level.WARNING, records.get(0).getLevel(), "A warning.");
+        assertTrue(records.get(0).getMessage().contains(file.toString()), "The file is named.");
+        assertTrue(records.get(0).getMessage().contains("checksum"), "The reason is named.");
+        assertEquals(Level.WARNING, records.get(1).getLevel(), "A warning.");
+        assertTrue(records.get(1).getMessage().contains(missing.toString()), "The file is named.");
+    }
+
+    /**
+     * damagedTablesAreRejected
+     *
+     * @throws IOException error case
+     */
+    @Test
+    void damagedTablesAreRejected() throws IOException {
+        Path file = directory.resolve("poker.tables");
+        PrecomputedTables.build(file);
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{1, 2, 3}), PrecomputedTables.HEADER_SIZE + 1000);
+        }
+
+        PrecomputedTables damaged = PrecomputedTables.open(file);
+        assertThrows(IOException.class, damaged::verify, "The checksum tells.");
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{9}), 5);
+        }
+
+        assertThrows(IOException.class, () -> PrecomputedTables.open(file), "Other versions are rejected.");
+
+        Path text = Files.writeString(directory.resolve("text.tables"), "2D 9C AS AH AC");
+        assertThrows(IOException.class, () -> PrecomputedTables.open(text), "Too short.");
+        assertThrows(IOException.class, () -> PrecomputedTables.open(directory.resolve("missing.tables")),
+                "Missing.");
+    }
+}
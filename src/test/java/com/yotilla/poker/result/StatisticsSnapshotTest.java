@@ -0,0 +1,210 @@
+package com.yotilla.poker.result;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.CRC32C;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Description:
+ *
+ * <br>
+ * Date: 19.10.2026
+ *
+ * @author Manuel
+ *
+ */
+class StatisticsSnapshotTest {
+    @TempDir
+    Path directory;
+
+    /**
+     * snapshotsHoldEveryCount
+     *
+     * @throws IOException error case
+     */
+    @Test
+    void snapshotsHoldEveryCount() throws IOException {
+        GameStatistics statistics = new GameStatistics(4);
+        recordRandomGames(statistics, 4, 2_000, 1L);
+
+        ByteBuffer snapshot = StatisticsSnapshot.encode(statistics);
+        GameStatistics decoded = StatisticsSnapshot.decode(snapshot);
+
+        assertSameCounts(statistics, decoded);
+        assertEquals(4, decoded.getSeats(), "The seats are kept.");
+        assertFalse(snapshot.hasRemaining(), "The whole snapshot is read.");
+        assertTrue(snapshot.limit() < 8 * 1024, "Counts take a byte or two each in a short run.");
+
+        GameStatistics empty = StatisticsSnapshot.decode(StatisticsSnapshot.encode(new GameStatistics()));
+        assertSameCounts(new GameStatistics(), empty);
+    }
+
+    /**
+     * snapshotsFollowEachOther
+     *
+     * @throws IOException error case
+     */
+    @Test
+    void snapshotsFollowEachOther() throws IOException {
+        GameStatistics first = new GameStatistics(2);
+        GameStatistics second = new GameStatistics(3);
+        recordRandomGames(first, 2, 100, 2L);
+        recordRandomGames(second, 3, 200, 3L);
+
+        ByteBuffer firstSnapshot = StatisticsSnapshot.encode(first);
+        ByteBuffer secondSnapshot = StatisticsSnapshot.encode(second);
+        ByteBuffer stream = ByteBuffer.allocate(firstSnapshot.limit() + secondSnapshot.limit())
+                .put(firstSnapshot)
+                .put(secondSnapshot)
+                .flip();
+
+        assertSameCounts(first, StatisticsSnapshot.decode(stream));
+        assertSameCounts(second, StatisticsSnapshot.decode(stream));
+        assertFalse(stream.hasRemaining(), "Both snapshots are read.");
+    }
+
+    /**
+     * snapshotsMergeInAnyOrder
+     *
+     * @throws IOException error case
+     */
+    @Test
+    void snapshotsMergeInAnyOrder() throws IOException {
+        GameStatistics all = new GameStatistics(5);
+        Path[] runs = new Path[3];
+        int[] seats = {3, 5, 2};
+
+        for (int run = 0; run < runs.length; run++) {
+            GameStatistics statistics = new GameStatistics(seats[run]);
+            recordRandomGames(statistics, seats[run], 500 * (run + 1), run);
+            recordRandomGames(all, seats[run], 500 * (run + 1), run);
+            runs[run] = directory.resolve("run" + run + ".stats");
+            StatisticsSnapshot.write(statistics, runs[run]);
+        }
+
+        GameStatistics merged = StatisticsSnapshot.merge(List.of(runs));
+        assertSameCounts(all, merged);
+        assertEquals(5, merged.getSeats(), "The seats of the largest run.");
+
+        Path firstTwo = directory.resolve("first-two.stats");
+        StatisticsSnapshot.write(StatisticsSnapshot.merge(List.of(runs[1], runs[0])), firstTwo);
+        assertSameCounts(all, StatisticsSnapshot.merge(List.of(runs[2], firstTwo)));
+
+        try (var files = Files.list(directory)) {
+            assertEquals(4, files.count(), "No temporary files are left.");
+        }
+    }
+
+    /**
+     * damagedSnapshotsAreRejected
+     *
+     * @throws IOException error case
+     */
+    @Test
+    void damagedSnapshotsAreRejected() throws IOException {
+        GameStatistics statistics = new GameStatistics(3);
+        recordRandomGames(statistics, 3, 100, 4L);
+        ByteBuffer snapshot = StatisticsSnapshot.encode(statistics);
+        int size = snapshot.limit();
+
+        ByteBuffer flipped = ByteBuffer.allocate(size).put(snapshot.duplicate()).flip();
+        flipped.put(size - 1, (byte) (flipped.get(size - 1) ^ 1));
+        assertThrows(IOException.class, () -> StatisticsSnapshot.decode(flipped), "The checksum fails.");
+
+        assertThrows(IOException.class, () -> StatisticsSnapshot.decode(snapshot.duplicate().limit(size - 1)),
+                "Cut off.");
+        assertThrows(IOException.class, () -> StatisticsSnapshot.decode(snapshot.duplicate().limit(10)),
+                "Cut off within the header.");
+        assertThrows(IOException.class, () -> StatisticsSnapshot.decode(ByteBuffer.allocate(size)), "No magic.");
+
+        Path trailing = Files.write(directory.resolve("trailing.stats"),
+                ByteBuffer.allocate(size + 1).put(snapshot.duplicate()).array());
+        assertThrows(IOException.class, () -> StatisticsSnapshot.read(trailing), "One snapshot per file.");
+        assertThrows(IOException.class, () -> StatisticsSnapshot.read(directory.resolve("missing.stats")),
+                "Missing files cannot be read.");
+        assertThrows(IllegalArgumentException.class, () -> StatisticsSnapshot.merge(List.of()),
+                "Nothing to merge.");
+    }
+
+    /**
+     * damagedHeadersAndCountsAreRejected
+     *
+     * @throws IOException error case
+     */
+    @Test
+    void damagedHeadersAndCountsAreRejected() throws IOException {
+        ByteBuffer snapshot = StatisticsSnapshot.encode(new GameStatistics(1));
+        int size = snapshot.limit();
+
+        ByteBuffer seats = ByteBuffer.allocate(size).put(snapshot.duplicate()).flip();
+        seats.putInt(8, Integer.MAX_VALUE);
+        assertThrows(IOException.class, () -> StatisticsSnapshot.decode(seats.duplicate()),
+                "The checksum covers the header.");
+        assertThrows(IOException.class, () -> StatisticsSnapshot.decode(seal(seats)),
+                "More seats than the counts hold.");
+
+        // every count a single zero byte, the games first
+        ByteBuffer largest = ByteBuffer.allocate(size + 9)
+                .put(snapshot.duplicate().limit(StatisticsSnapshot.HEADER_SIZE))
+                .put(new byte[]{-1, -1, -1, -1, -1, -1, -1, -1, -1, 1})
+                .put(snapshot.duplicate().position(StatisticsSnapshot.HEADER_SIZE + 1))
+                .flip();
+        largest.putInt(16, size + 9 - StatisticsSnapshot.HEADER_SIZE);
+        assertEquals(-1L, StatisticsSnapshot.decode(seal(largest)).getGames(), "All 64 bits are read.");
+
+        largest.put(StatisticsSnapshot.HEADER_SIZE + 9, (byte) 2);
+        assertThrows(IOException.class, () -> StatisticsSnapshot.decode(seal(largest)), "Beyond 64 bits.");
+    }
+
+    /**
+     * Put the checksum a snapshot would have been encoded with.
+     */
+    private static ByteBuffer seal(final ByteBuffer snapshot) {
+        CRC32C crc = new CRC32C();
+        crc.update(snapshot.slice(0, 20));
+        crc.update(snapshot.slice(StatisticsSnapshot.HEADER_SIZE, snapshot.limit() - StatisticsSnapshot.HEADER_SIZE));
+        return snapshot.duplicate().putInt(20, (int) crc.getValue());
+    }
+
+    /**
+     * Record games of random hand classes, between two players and the seats given.
+     */
+    static void recordRandomGames(final GameStatistics statistics, final int seats, final int games,
+                                  final long seed) {
+        Random random = new Random(seed);
+
+        for (int game = 0; game < games; game++) {
+            PokerHand[] hands = new PokerHand[2 + random.nextInt(seats - 1)];
+
+            for (int player = 0; player < hands.length; player++) {
+                hands[player] = PokerHand.ofClassId(1 + random.nextInt(HandClassTable.HAND_CLASSES));
+            }
+
+            statistics.record(GameStatisticsTest.game(hands));
+        }
+    }
+
+    static void assertSameCounts(final GameStatistics expected, final GameStatistics actual) {
+        LongAdder[][] expectedCounters = expected.counters();
+        LongAdder[][] actualCounters = actual.counters();
+
+        for (int group = 0; group < expectedCounters.length; group++) {
+            for (int i = 0; i < Math.max(expectedCounters[group].length, actualCounters[group].length); i++) {
+                // seats beyond the ones of a run count nothing
+                long expectedCount = i < expectedCounters[group].length ? expectedCounters[group][i].sum() : 0;
+                long actualCount = i < actualCounters[group].length ? actualCounters[group][i].sum() : 0;
+                assertEquals(expectedCount, actualCount, String.format("Counter %d of group %d.", i, group));
+            }
+        }
+    }
+}
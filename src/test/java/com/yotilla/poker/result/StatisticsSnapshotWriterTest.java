@@ -0,0 +1,102 @@
+package com.yotilla.poker.result;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Description:
+ *
+ * <br>
+ * Date: 19.10.2026
+ *
+ * @author Manuel
+ *
+ */
+class StatisticsSnapshotWriterTest {
+    @TempDir
+    Path directory;
+
+    /**
+     * snapshotsAreSavedWhileRecording
+     *
+     * @throws Exception error case
+     */
+    @Test
+    void snapshotsAreSavedWhileRecording() throws Exception {
+        Path file = directory.resolve("run.stats");
+        GameStatistics statistics = new GameStatistics(3);
+        StatisticsSnapshotWriter sut = new StatisticsSnapshotWriter(statistics, file, Duration.ofMillis(5));
+
+        for (int round = 0; round < 1_000 && !Files.exists(file); round++) {
+            StatisticsSnapshotTest.recordRandomGames(statistics, 3, 10, round);
+            Thread.sleep(1);
+        }
+
+        assertTrue(Files.exists(file), "A snapshot is saved periodically.");
+        assertTrue(StatisticsSnapshot.read(file).getGames() <= statistics.getGames(), "No more games than recorded.");
+
+        StatisticsSnapshotTest.recordRandomGames(statistics, 3, 10, -1L);
+        sut.close();
+        sut.close();
+
+        StatisticsSnapshotTest.assertSameCounts(statistics, StatisticsSnapshot.read(file));
+        assertNull(sut.getFailure(), "Every snapshot was saved.");
+    }
+
+    /**
+     * failuresAreReported
+     *
+     * @throws Exception error case
+     */
+    @Test
+    void failuresAreReported() throws Exception {
+        Path file = directory.resolve("missing").resolve("run.stats");
+        StatisticsSnapshotWriter sut = new StatisticsSnapshotWriter(new GameStatistics(), file, Duration.ofMillis(1));
+
+        for (int round = 0; round < 1_000 && sut.getFailure() == null; round++) {
+            Thread.sleep(1);
+        }
+
+        assertNotNull(sut.getFailure(), "The directory is missing.");
+        assertThrows(IOException.class, sut::close, "The last snapshot fails as well.");
+        assertThrows(IllegalArgumentException.class,
+                () -> new StatisticsSnapshotWriter(new GameStatistics(), file, Duration.ZERO), "No period.");
+    }
+
+    /**
+     * unexpectedFailuresKeepTheSnapshotsGoing
+     *
+     * @throws Exception error case
+     */
+    @Test
+    void unexpectedFailuresKeepTheSnapshotsGoing() throws Exception {
+        Path file = directory.resolve("run.stats");
+        GameStatistics statistics = Mockito.spy(new GameStatistics());
+        Mockito.doThrow(new IllegalStateException("Broken")).doCallRealMethod().when(statistics).counters();
+        // a period long enough to see the failure before the next snapshot clears it
+        StatisticsSnapshotWriter sut = new StatisticsSnapshotWriter(statistics, file, Duration.ofMillis(50));
+
+        for (int round = 0; round < 1_000 && sut.getFailure() == null; round++) {
+            Thread.sleep(1);
+        }
+
+        assertNotNull(sut.getFailure(), "The unexpected failure is reported.");
+        assertTrue(sut.getFailure().getCause() instanceof IllegalStateException, "Along with its cause.");
+
+        for (int round = 0; round < 1_000 && !Files.exists(file); round++) {
+            Thread.sleep(1);
+        }
+
+        assertTrue(Files.exists(file), "The next snapshot is saved.");
+        sut.close();
+        assertNull(sut.getFailure(), "The failure is over.");
+    }
+}
@@ -0,0 +1,154 @@
+package com.yotilla.poker.resultevaluator;
+
+import com.yotilla.poker.HandEvaluationService;
+import com.yotilla.poker.card.Card;
+import com.yotilla.poker.card.HandOfCards;
+import com.yotilla.poker.error.DeckException;
+import com.yotilla.poker.error.HandExceededException;
+import com.yotilla.poker.result.PokerHand;
+import com.yotilla.poker.result.PokerHandRanking;
+import com.yotilla.poker.result.evaluator.CardMaskEvaluator;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static com.yotilla.poker.card.CardSuit.*;
+import static com.yotilla.poker.card.CardValue.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Description:
+ *
+ * <br>
+ * Date: 19.10.2026
+ *
+ * @author Manuel
+ *
+ */
+class CardMaskEvaluatorTest extends AbstractEvaluatorTest {
+    private final CardMaskEvaluator sut = new CardMaskEvaluator();
+
+    /**
+     * evaluateIsNullSafe
+     */
+    @Test
+    void evaluateIsNullSafe() {
+        assertNull(sut.evaluate((HandOfCards) null), "When analyzing null, result should be null");
+    }
+
+    /**
+     * lessThanFiveCardsAreRejected
+     */
+    @Test
+    void lessThanFiveCardsAreRejected() {
+        long fourCards = CardMaskEvaluator.toMask(List.of(new Card(SPADES, ACE), new Card(HEARTS, ACE),
+                new Card(CLUBS, KING), new Card(CLUBS, QUEEN)));
+
+        assertThrows(IllegalArgumentException.class, () -> sut.evaluate(fourCards),
+                "A poker hand needs at least five cards.");
+    }
+
+    /**
+     * royalFlushAmongSevenCards
+     */
+    @Test
+    void royalFlushAmongSevenCards() {
+        PokerHand result = evaluate(new Card(HEARTS, ACE), new Card(HEARTS, KING), new Card(HEARTS, QUEEN),
+                new Card(HEARTS, JACK), new Card(HEARTS, TEN), new Card(HEARTS, NINE), new Card(SPADES, ACE));
+
+        assertEquals(PokerHandRanking.ROYAL_FLUSH, result.ranking(), "Royal flush expected.");
+    }
+
+    /**
+     * flushBeatsStraightAmongSevenCards
+     */
+    @Test
+    void flushBeatsStraightAmongSevenCards() {
+        PokerHand result = evaluate(new Card(CLUBS, FOUR), new Card(DIAMONDS, FIVE), new Card(CLUBS, SIX),
+                new Card(CLUBS, SEVEN), new Card(SPADES, EIGHT), new Card(CLUBS, KING), new Card(CLUBS, TWO));
+
+        assertEquals(PokerHandRanking.FLUSH, result.ranking(), "The flush must win over the straight.");
+        assertEquals(List.of(KING, SEVEN, SIX, FOUR, TWO), result.rankCards(), "The flush cards are the rank cards.");
+    }
+
+    /**
+     * wheelIsLedByTheFive
+     */
+    @Test
+    void wheelIsLedByTheFive() {
+        PokerHand result = evaluate(new Card(CLUBS, ACE), new Card(DIAMONDS, TWO), new Card(HEARTS, THREE),
+                new Card(CLUBS, FOUR), new Card(SPADES, FIVE), new Card(CLUBS, KING), new Card(DIAMONDS, KING));
+
+        assertEquals(PokerHandRanking.STRAIGHT, result.ranking(), "Straight expected.");
+        assertEquals(List.of(FIVE), result.rankCards(), "The ace acts as 'one', so the five leads the straight.");
+    }
+
+    /**
+     * bestTwoPairsOfThree
+     */
+    @Test
+    void bestTwoPairsOfThree() {
+        PokerHand result = evaluate(new Card(CLUBS, TWO), new Card(DIAMONDS, TWO), new Card(HEARTS, NINE),
+                new Card(CLUBS, NINE), new Card(SPADES, QUEEN), new Card(CLUBS, QUEEN), new Card(DIAMONDS, SEVEN));
+
+        assertEquals(PokerHandRanking.TWO_PAIRS, result.ranking(), "Two pairs expected.");
+        assertEquals(List.of(QUEEN, NINE), result.rankCards(), "The two highest pairs count.");
+        assertEquals(List.of(SEVEN), result.kickerCards(), "The seven beats the third pair as a kicker.");
+    }
+
+    /**
+     * twoTriplesMakeAFullHouse
+     */
+    @Test
+    void twoTriplesMakeAFullHouse() {
+        PokerHand result = evaluate(new Card(CLUBS, FIVE), new Card(DIAMONDS, FIVE), new Card(HEARTS, FIVE),
+                new Card(CLUBS, JACK), new Card(SPADES, JACK), new Card(HEARTS, JACK), new Card(DIAMONDS, ACE));
+
+        assertEquals(PokerHandRanking.FULL_HOUSE, result.ranking(), "Full house expected.");
+        assertEquals(List.of(JACK, FIVE), result.rankCards(), "Jacks full of fives.");
+    }
+
+    /**
+     * strengthRoundTripsThroughThePokerHand
+     */
+    @Test
+    void strengthRoundTripsThroughThePokerHand() {
+        long cardMask = CardMaskEvaluator.toMask(List.of(new Card(CLUBS, EIGHT), new Card(DIAMONDS, EIGHT),
+                new Card(HEARTS, ACE), new Card(CLUBS, SIX), new Card(SPADES, THREE)));
+
+        int strength = sut.evaluateStrength(cardMask);
+        PokerHand result = PokerHand.ofStrength(strength);
+
+        assertEquals(PokerHandRanking.ONE_PAIR, result.ranking(), "Pair expected.");
+        assertEquals(List.of(ACE, SIX, THREE), result.kickerCards(), "Kickers in descending order.");
+        assertEquals(strength, result.strength(), "The strength must survive the round trip.");
+    }
+
+    /**
+     * agreesWithTheEvaluatorChainOnFiveCards
+     *
+     * @throws HandExceededException error case
+     * @throws DeckException         error case
+     */
+    @Test
+    void agreesWithTheEvaluatorChainOnFiveCards() throws HandExceededException, DeckException {
+        HandEvaluationService chain = new HandEvaluationService();
+
+        for (int game = 0; game < 500; game++) {
+            setUp();
+            deck.shuffleDeck();
+
+            HandOfCards hand = new HandOfCards();
+
+            while (hand.getAmountOfCards() < HandOfCards.HAND_SIZE) {
+                hand.addCard(deck.drawNextCard());
+            }
+
+            assertEquals(chain.evaluate(hand), sut.evaluate(hand), "Both evaluators must agree on " + hand.getCards());
+        }
+    }
+
+    private PokerHand evaluate(final Card... cards) {
+        return sut.evaluate(CardMaskEvaluator.toMask(List.of(cards)));
+    }
+}
@@ -0,0 +1,137 @@
+package com.yotilla.poker.resultevaluator;
+
+import com.yotilla.poker.card.Card;
+import com.yotilla.poker.card.HandOfCards;
+import com.yotilla.poker.error.DeckException;
+import com.yotilla.poker.error.HandExceededException;
+import com.yotilla.poker.result.PokerHand;
+import com.yotilla.poker.result.PokerHandRanking;
+import com.yotilla.poker.result.evaluator.CardMaskEvaluator;
+import com.yotilla.poker.result.evaluator.OmahaEvaluator;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static com.yotilla.poker.card.CardSuit.*;
+import static com.yotilla.poker.card.CardValue.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Description:
+ *
+ * <br>
+ * Date: 19.10.2026
+ *
+ * @author Manuel
+ *
+ */
+class OmahaEvaluatorTest extends AbstractEvaluatorTest {
+    private final OmahaEvaluator sut = new OmahaEvaluator(new CardMaskEvaluator());
+
+    /**
+     * evaluateIsNullSafe
+     */
+    @Test
+    void evaluateIsNullSafe() {
+        assertNull(sut.evaluate(null, new HandOfCards()), "When analyzing null, result should be null");
+        assertNull(sut.evaluate(new HandOfCards(), null), "When analyzing null, result should be null");
+    }
+
+    /**
+     * oneSuitedHoleCardMakesNoFlush
+     *
+     * @throws HandExceededException error case
+     */
+    @Test
+    void oneSuitedHoleCardMakesNoFlush() throws HandExceededException {
+        PokerHand result = sut.evaluate(
+                hand(new Card(HEARTS, ACE), new Card(CLUBS, KING), new Card(DIAMONDS, NINE), new Card(SPADES, TWO)),
+                hand(new Card(HEARTS, THREE), new Card(HEARTS, SEVEN), new Card(HEARTS, JACK), new Card(HEARTS, QUEEN),
+                        new Card(CLUBS, FOUR)));
+
+        assertEquals(PokerHandRanking.HIGH_CARD, result.ranking(), "Two hole cards must be used, no flush.");
+        assertEquals(List.of(ACE, KING, QUEEN, JACK, SEVEN), result.rankCards(), "Best two plus best three.");
+    }
+
+    /**
+     * fourOfAKindOnBoardIsNoFourOfAKind
+     *
+     * @throws HandExceededException error case
+     */
+    @Test
+    void fourOfAKindOnBoardIsNoFourOfAKind() throws HandExceededException {
+        PokerHand result = sut.evaluate(
+                hand(new Card(HEARTS, ACE), new Card(CLUBS, KING), new Card(DIAMONDS, NINE), new Card(SPADES, TWO)),
+                hand(new Card(HEARTS, SIX), new Card(CLUBS, SIX), new Card(DIAMONDS, SIX), new Card(SPADES, SIX),
+                        new Card(CLUBS, FOUR)));
+
+        assertEquals(PokerHandRanking.THREE_OF_A_KIND, result.ranking(), "Only three community cards count.");
+        assertEquals(List.of(ACE, KING), result.kickerCards(), "The two best hole cards kick.");
+    }
+
+    /**
+     * suitedHoleCardsMakeAStraightFlush
+     *
+     * @throws HandExceededException error case
+     */
+    @Test
+    void suitedHoleCardsMakeAStraightFlush() throws HandExceededException {
+        PokerHand result = sut.evaluate(
+                hand(new Card(SPADES, NINE), new Card(SPADES, TEN), new Card(HEARTS, NINE), new Card(DIAMONDS, NINE)),
+                hand(new Card(SPADES, SIX), new Card(SPADES, SEVEN), new Card(SPADES, EIGHT), new Card(CLUBS, NINE),
+                        new Card(CLUBS, FOUR)));
+
+        assertEquals(PokerHandRanking.STRAIGHT_FLUSH, result.ranking(), "Straight flush expected.");
+        assertEquals(List.of(TEN), result.rankCards(), "Ten high.");
+    }
+
+    /**
+     * agreesWithEvaluatingAllCombinations
+     *
+     * @throws DeckException error case
+     */
+    @Test
+    void agreesWithEvaluatingAllCombinations() throws DeckException {
+        for (int game = 0; game < 500; game++) {
+            setUp();
+            deck.shuffleDeck();
+
+            long board = 0L;
+            for (int i = 0; i < 5; i++) {
+                board |= 1L << deck.drawNextCard().index();
+            }
+
+            OmahaEvaluator.Combinations communityCards = sut.prepareCommunityCards(board);
+
+            for (int player = 0; player < 4; player++) {
+                long hole = 0L;
+                for (int i = 0; i < 4; i++) {
+                    hole |= 1L << deck.drawNextCard().index();
+                }
+
+                assertEquals(sut.evaluateStrengthNaive(hole, board),
+                        sut.evaluateStrength(hole, communityCards),
+                        "Pruned and naive evaluation must agree.");
+            }
+        }
+    }
+
+    /**
+     * pairedBoardSharesRankCombinations
+     */
+    @Test
+    void pairedBoardSharesRankCombinations() {
+        long board = CardMaskEvaluator.toMask(List.of(new Card(HEARTS, SIX), new Card(CLUBS, SIX),
+                new Card(DIAMONDS, SEVEN), new Card(SPADES, SEVEN), new Card(CLUBS, FOUR)));
+
+        // Ten combinations, yet only five distinct ranks: 667, 664, 677, 774 and 674.
+        assertEquals(5, sut.prepareCommunityCards(board).getDistinctRankCombinations(),
+                "Combinations of equal ranks are evaluated once.");
+    }
+
+    private static HandOfCards hand(final Card... cards) throws HandExceededException {
+        HandOfCards hand = new HandOfCards();
+        hand.addCards(cards);
+        return hand;
+    }
+}
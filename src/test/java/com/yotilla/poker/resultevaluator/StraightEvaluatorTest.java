@@ -153,4 +153,25 @@ class StraightEvaluatorTest extends AbstractEvaluatorTest {
                 "Straight contains an Ace, but this in this special case, the ace acts as 'one', so the ranking card is the five. The result should reflect that.");
         assertTrue(result.kickerCards().isEmpty(), "A Straight does not leave room for kicker cards.");
     }
+
+    /**
+     * pairedHandIsNoStraight
+     *
+     * @throws HandExceededException error case
+     * @throws DeckException         error case
+     */
+    @Test
+    void pairedHandIsNoStraight() throws HandExceededException, DeckException {
+        HandOfCards hand = new HandOfCards();
+
+        // No gap between the values, but a pair of twos.
+        hand.addCard(deck.drawCard(CardSuit.CLUBS, CardValue.TWO));
+        hand.addCard(deck.drawCard(CardSuit.DIAMONDS, CardValue.TWO));
+        hand.addCard(deck.drawCard(CardSuit.SPADES, CardValue.THREE));
+        hand.addCard(deck.drawCard(CardSuit.CLUBS, CardValue.FOUR));
+        hand.addCard(deck.drawCard(CardSuit.DIAMONDS, CardValue.FIVE));
+
+        PokerHand result = new StraightEvaluator().evaluate(hand);
+        assertNull(result, "A pair must not count towards a straight.");
+    }
 }
@@ -0,0 +1,132 @@
+package com.yotilla.poker.simulation;
+
+import com.yotilla.poker.GameVariant;
+import com.yotilla.poker.card.Card;
+import com.yotilla.poker.result.evaluator.CardMaskEvaluator;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Random;
+
+import static com.yotilla.poker.card.CardSuit.*;
+import static com.yotilla.poker.card.CardValue.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Description:
+ *
+ * <br>
+ * Date: 19.10.2026
+ *
+ * @author Manuel
+ *
+ */
+class EquitySimulatorTest {
+    private static final Duration TEN_SECONDS = Duration.ofSeconds(10);
+
+    private final EquitySimulator sut = new EquitySimulator(new CardMaskEvaluator(), new Random(42));
+
+    /**
+     * acesAgainstKingsStopsOncePrecise
+     */
+    @Test
+    void acesAgainstKingsStopsOncePrecise() {
+        EquityResult result = sut.simulate(GameVariant.TEXAS_HOLDEM,
+                List.of(List.of(new Card(SPADES, ACE), new Card(HEARTS, ACE)),
+                        List.of(new Card(CLUBS, KING), new Card(DIAMONDS, KING))),
+                List.of(), StoppingRule.precision(0.01, TEN_SECONDS));
+
+        assertEquals(EquityResult.StopReason.PRECISION_REACHED, result.getStopReason(), "Ten seconds are plenty.");
+        assertTrue(result.getPrecision() < 0.01, "The requested precision is reached: " + result);
+        assertEquals(0.82, result.getEquity(0), 0.03, "Aces are about a four to one favourite.");
+        assertEquals(1.0, result.getEquity(0) + result.getEquity(1), 1e-9, "The whole pot is shared.");
+        assertTrue(result.getTrials() < 20_000, "A precision of one percent takes a few thousand trials.");
+    }
+
+    /**
+     * fixedTrialsRunExactly
+     */
+    @Test
+    void fixedTrialsRunExactly() {
+        EquityResult result = sut.simulate(GameVariant.FIVE_CARD, List.of(List.of(), List.of(), List.of()),
+                List.of(), StoppingRule.fixedTrials(1_000));
+
+        assertEquals(EquityResult.StopReason.TRIAL_LIMIT_REACHED, result.getStopReason(), "No early stop.");
+        assertEquals(1_000, result.getTrials(), "Exactly as many trials as requested.");
+        assertEquals(1.0, result.getEquity(0) + result.getEquity(1) + result.getEquity(2), 1e-9,
+                "The whole pot is shared.");
+    }
+
+    /**
+     * timeBudgetStopsTheSimulation
+     */
+    @Test
+    void timeBudgetStopsTheSimulation() {
+        EquityResult result = sut.simulate(GameVariant.OMAHA, List.of(List.of(), List.of()), List.of(),
+                StoppingRule.precision(1e-6, Duration.ofMillis(50)));
+
+        assertEquals(EquityResult.StopReason.TIME_BUDGET_EXHAUSTED, result.getStopReason(),
+                "A precision of a millionth takes way longer than the budget.");
+        assertTrue(result.getTrials() > 0, "Trials were run nonetheless.");
+        assertTrue(result.getPrecision() > 1e-6, "The precision reached is reported.");
+    }
+
+    /**
+     * knownCardsDecideEveryTrial
+     */
+    @Test
+    void knownCardsDecideEveryTrial() {
+        EquityResult result = sut.simulate(GameVariant.TEXAS_HOLDEM,
+                List.of(List.of(new Card(SPADES, TWO), new Card(HEARTS, THREE)),
+                        List.of(new Card(CLUBS, FOUR), new Card(DIAMONDS, FIVE))),
+                List.of(new Card(SPADES, ACE), new Card(SPADES, KING), new Card(SPADES, QUEEN),
+                        new Card(SPADES, JACK), new Card(SPADES, TEN)),
+                StoppingRule.precision(0.01, TEN_SECONDS));
+
+        assertEquals(0.5, result.getEquity(0), "The royal flush on the board splits the pot.");
+        assertEquals(0.0, result.getPrecision(), "There is nothing left to chance.");
+        assertEquals(StoppingRule.DEFAULT_MIN_TRIALS, result.getTrials(), "Stopped after the minimum amount.");
+    }
+
+    /**
+     * partiallyKnownOmahaHands
+     */
+    @Test
+    void partiallyKnownOmahaHands() {
+        EquityResult result = sut.simulate(GameVariant.OMAHA,
+                List.of(List.of(new Card(SPADES, ACE), new Card(HEARTS, ACE)), List.of()),
+                List.of(new Card(CLUBS, ACE), new Card(DIAMONDS, ACE), new Card(CLUBS, TWO)),
+                StoppingRule.fixedTrials(2_000));
+
+        assertEquals(1.0, result.getEquity(0), 0.02, "Only a rare straight flush beats four aces.");
+    }
+
+    /**
+     * invalidDealsAreRejected
+     */
+    @Test
+    void invalidDealsAreRejected() {
+        StoppingRule rule = StoppingRule.fixedTrials(1);
+        Card ace = new Card(SPADES, ACE);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> sut.simulate(GameVariant.TEXAS_HOLDEM, List.of(), List.of(), rule), "No players.");
+        assertThrows(IllegalArgumentException.class,
+                () -> sut.simulate(GameVariant.TEXAS_HOLDEM, List.of(List.of(ace), List.of(ace)), List.of(), rule),
+                "The same card twice.");
+        assertThrows(IllegalArgumentException.class,
+                () -> sut.simulate(GameVariant.FIVE_CARD, List.of(List.of()), List.of(ace), rule),
+                "Five-card draw has no board.");
+        assertThrows(IllegalArgumentException.class,
+                () -> sut.simulate(GameVariant.TEXAS_HOLDEM,
+                        List.of(List.of(ace, new Card(SPADES, KING), new Card(SPADES, QUEEN))), List.of(), rule),
+                "Three hole cards in Texas Hold'em.");
+        assertThrows(IllegalArgumentException.class,
+                () -> sut.simulate(GameVariant.FIVE_CARD, List.of(List.of(), List.of(), List.of(), List.of(),
+                        List.of(), List.of(), List.of(), List.of(), List.of(), List.of(), List.of()), List.of(), rule),
+                "55 cards are more than a deck holds.");
+        assertThrows(IllegalArgumentException.class, () -> new StoppingRule(-1.0, 1.96, TEN_SECONDS, 1, 1),
+                "Negative precision.");
+    }
+}
@@ -0,0 +1,126 @@
+package com.yotilla.poker.simulation;
+
+import com.yotilla.poker.GameVariant;
+import com.yotilla.poker.benchmark.SamplingStrategyBenchmark;
+import com.yotilla.poker.card.Card;
+import com.yotilla.poker.result.evaluator.CardMaskEvaluator;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static com.yotilla.poker.card.CardSuit.*;
+import static com.yotilla.poker.card.CardValue.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Description:
+ *
+ * <br>
+ * Date: 19.10.2026
+ *
+ * @author Manuel
+ *
+ */
+class SamplingStrategyTest {
+    private static final List<List<Card>> FLUSH_DRAW_AGAINST_TOP_PAIR = List.of(
+            List.of(new Card(HEARTS, SEVEN), new Card(HEARTS, EIGHT)),
+            List.of(new Card(SPADES, ACE), new Card(CLUBS, QUEEN)));
+    private static final List<Card> FLOP = List.of(new Card(HEARTS, ACE), new Card(HEARTS, TWO),
+            new Card(DIAMONDS, NINE));
+
+    private final CardMaskEvaluator evaluator = new CardMaskEvaluator();
+
+    /**
+     * stratifiedRiverIsExact
+     */
+    @Test
+    void stratifiedRiverIsExact() {
+        List<Card> turn = List.of(FLOP.get(0), FLOP.get(1), FLOP.get(2), new Card(CLUBS, THREE));
+        EquitySimulator sut = new EquitySimulator(evaluator, new Random(42));
+
+        EquityResult result = sut.simulate(GameVariant.TEXAS_HOLDEM, FLUSH_DRAW_AGAINST_TOP_PAIR, turn,
+                StoppingRule.precision(0.001, Duration.ofSeconds(10)), SamplingStrategy.STRATIFIED);
+
+        assertEquals(EquityResult.StopReason.PRECISION_REACHED, result.getStopReason(), "Precise right away.");
+        assertEquals(0.0, result.getPrecision(), 1e-6, "Every round of strata visits each river once.");
+        assertEquals(exactEquity(turn), result.getEquity(0), 1e-9, "Whole rounds of strata are exact.");
+    }
+
+    /**
+     * allStrategiesAreUnbiased
+     */
+    @Test
+    void allStrategiesAreUnbiased() {
+        double exact = exactEquity(FLOP);
+
+        for (SamplingStrategy strategy : SamplingStrategy.values()) {
+            EquitySimulator sut = new EquitySimulator(evaluator, new Random(42));
+            EquityResult result = sut.simulate(GameVariant.TEXAS_HOLDEM, FLUSH_DRAW_AGAINST_TOP_PAIR, FLOP,
+                    StoppingRule.fixedTrials(20_480), strategy);
+
+            // four standard errors
+            assertEquals(exact, result.getEquity(0), 2 * result.getPrecision(),
+                    strategy + " must hit the exact equity: " + result);
+        }
+    }
+
+    /**
+     * stratifiedAndQuasiRandomReduceVariance
+     */
+    @Test
+    void stratifiedAndQuasiRandomReduceVariance() {
+        SamplingStrategyBenchmark.Scenario scenario = new SamplingStrategyBenchmark.Scenario("Flush draw",
+                GameVariant.TEXAS_HOLDEM, FLUSH_DRAW_AGAINST_TOP_PAIR, FLOP);
+
+        Map<SamplingStrategy, SamplingStrategyBenchmark.Spread> spreads =
+                SamplingStrategyBenchmark.compare(scenario, 100, 512, new Random(42));
+        double uniform = spreads.get(SamplingStrategy.UNIFORM).variance();
+
+        assertTrue(spreads.get(SamplingStrategy.STRATIFIED).variance() < uniform,
+                "Stratifying over the turn reduces the variance: " + spreads);
+        assertTrue(spreads.get(SamplingStrategy.QUASI_RANDOM).variance() < uniform,
+                "Quasi-random draws reduce the variance: " + spreads);
+    }
+
+    /**
+     * Equity of the first player, evaluating every way to complete the board.
+     */
+    private double exactEquity(final List<Card> communityCards) {
+        long board = CardMaskEvaluator.toMask(communityCards);
+        long known = board;
+
+        for (List<Card> holeCards : FLUSH_DRAW_AGAINST_TOP_PAIR) {
+            known |= CardMaskEvaluator.toMask(holeCards);
+        }
+
+        long deck = ~known & ((1L << Card.INDEX_RANGE) - 1);
+        double shares = 0.0;
+        int boards = 0;
+
+        for (long turn = deck; turn != 0; turn &= turn - 1) {
+            long turnCard = turn & -turn;
+
+            if (communityCards.size() == 4) {
+                shares += share(board | turnCard);
+                boards++;
+                continue;
+            }
+
+            for (long river = turn & (turn - 1); river != 0; river &= river - 1) {
+                shares += share(board | turnCard | (river & -river));
+                boards++;
+            }
+        }
+
+        return shares / boards;
+    }
+
+    private double share(final long board) {
+        int first = evaluator.evaluateStrength(CardMaskEvaluator.toMask(FLUSH_DRAW_AGAINST_TOP_PAIR.get(0)) | board);
+        int second = evaluator.evaluateStrength(CardMaskEvaluator.toMask(FLUSH_DRAW_AGAINST_TOP_PAIR.get(1)) | board);
+        return first > second ? 1.0 : first == second ? 0.5 : 0.0;
+    }
+}
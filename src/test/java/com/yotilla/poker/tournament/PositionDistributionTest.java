@@ -0,0 +1,102 @@
+package com.yotilla.poker.tournament;
+
+import com.yotilla.poker.GameVariant;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Description:
+ *
+ * <br>
+ * Date: 19.10.2026
+ *
+ * @author Manuel
+ *
+ */
+class PositionDistributionTest {
+    private static final TournamentStructure STRUCTURE = new TournamentStructure(GameVariant.TEXAS_HOLDEM, 10, 4,
+            1_000, 50, 3);
+
+    private final TournamentSimulator simulator = new TournamentSimulator(2, new Random(7));
+
+    /**
+     * positionsAreCountedPerEntrantAndRange
+     */
+    @Test
+    void positionsAreCountedPerEntrantAndRange() {
+        PositionDistribution sut = new PositionDistribution(10, 3);
+        List<TournamentResult> results = new ArrayList<>();
+
+        for (int tournament = 0; tournament < 6; tournament++) {
+            TournamentResult result = simulator.play(STRUCTURE);
+            results.add(result);
+            sut.add(result);
+        }
+
+        // ten positions in three ranges: 1 to 4, 5 to 7, 8 to 10
+        long[][] expected = new long[10][3];
+        double[] sums = new double[10];
+
+        for (TournamentResult result : results) {
+            for (int entrant = 0; entrant < 10; entrant++) {
+                int position = result.getPosition(entrant);
+                expected[entrant][position <= 4 ? 0 : position <= 7 ? 1 : 2]++;
+                sums[entrant] += position;
+            }
+        }
+
+        long[] totals = new long[3];
+
+        for (int entrant = 0; entrant < 10; entrant++) {
+            assertArrayEquals(expected[entrant], sut.getDistribution(entrant), "Entrant " + entrant + " by range.");
+            assertEquals(sums[entrant] / 6, sut.getMeanPosition(entrant), 1e-9, "Average position.");
+
+            for (int bucket = 0; bucket < 3; bucket++) {
+                totals[bucket] += sut.getDistribution(entrant)[bucket];
+            }
+        }
+
+        assertArrayEquals(new long[]{24, 18, 18}, totals, "The ranges are as wide as the positions they hold.");
+        assertEquals(6, sut.getTournaments(), "Six tournaments.");
+    }
+
+    /**
+     * repeatedTournamentsAreCounted
+     */
+    @Test
+    void repeatedTournamentsAreCounted() {
+        PositionDistribution sut = simulator.play(STRUCTURE, 4, 2);
+
+        assertEquals(4, sut.getTournaments(), "Four tournaments.");
+        assertEquals(2, sut.getBuckets(), "Two ranges.");
+
+        for (int entrant = 0; entrant < 10; entrant++) {
+            long[] distribution = sut.getDistribution(entrant);
+            assertEquals(4, distribution[0] + distribution[1], "Every tournament counts once per entrant.");
+            assertTrue(sut.getMeanPosition(entrant) >= 1 && sut.getMeanPosition(entrant) <= 10, "A position.");
+        }
+
+        assertEquals(0, new PositionDistribution(10, 2).getMeanPosition(0), "Nothing counted yet.");
+    }
+
+    /**
+     * invalidDistributionsAreRejected
+     */
+    @Test
+    void invalidDistributionsAreRejected() {
+        TournamentResult result = simulator.play(STRUCTURE);
+
+        assertThrows(IllegalArgumentException.class, () -> new PositionDistribution(11, 2).add(result),
+                "The tournament had ten entrants.");
+        assertThrows(IllegalArgumentException.class, () -> new PositionDistribution(10, 0), "No ranges.");
+        assertThrows(IllegalArgumentException.class, () -> new PositionDistribution(10, 11),
+                "More ranges than positions.");
+        assertThrows(IllegalArgumentException.class, () -> new PositionDistribution(1, 1), "One entrant.");
+        assertThrows(IllegalArgumentException.class, () -> simulator.play(STRUCTURE, 0, 2), "No tournaments.");
+    }
+}
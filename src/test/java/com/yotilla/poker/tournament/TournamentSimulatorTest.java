@@ -0,0 +1,108 @@
+package com.yotilla.poker.tournament;
+
+import com.yotilla.poker.GameVariant;
+import com.yotilla.poker.result.PokerHandRanking;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Description:
+ *
+ * <br>
+ * Date: 19.10.2026
+ *
+ * @author Manuel
+ *
+ */
+class TournamentSimulatorTest {
+    private final TournamentSimulator sut = new TournamentSimulator(4, new Random(42));
+
+    /**
+     * tournamentIsPlayedToTheEnd
+     */
+    @Test
+    void tournamentIsPlayedToTheEnd() {
+        TournamentStructure structure = new TournamentStructure(GameVariant.TEXAS_HOLDEM, 500, 9, 1_000, 10, 5);
+        TournamentResult result = sut.play(structure);
+
+        int[] positions = IntStream.range(0, 500).map(result::getPosition).sorted().toArray();
+        assertArrayEquals(IntStream.rangeClosed(1, 500).toArray(), positions, "Every position is taken once.");
+        assertEquals(1, result.getPosition(result.getEntrants().indexOf(result.getWinner())), "The winner is first.");
+        assertEquals(result.getWinner(), result.getStandings().getFirst(), "The standings start with the winner.");
+
+        for (int entrant = 0; entrant < 500; entrant++) {
+            for (int other = 0; other < 500; other++) {
+                if (result.getPosition(entrant) < result.getPosition(other) && result.getPosition(entrant) > 1) {
+                    assertTrue(result.getEliminationRound(entrant) >= result.getEliminationRound(other),
+                            "Better positions last at least as long.");
+                }
+            }
+        }
+
+        long hands = Arrays.stream(PokerHandRanking.values()).mapToLong(result.getStatistics()::getWinningFrequency)
+                .sum();
+        assertEquals(result.getHandsPlayed(), result.getStatistics().getGames(), "Every hand is recorded.");
+        assertEquals(result.getHandsPlayed(), hands, "Every hand has a winning hand.");
+        assertTrue(result.getHandsPlayed() >= result.getRounds(), "At least one table per round.");
+    }
+
+    /**
+     * tablesAreBrokenAndBalanced
+     */
+    @Test
+    void tablesAreBrokenAndBalanced() {
+        List<List<Integer>> tables = new ArrayList<>();
+        int player = 0;
+
+        for (int size : new int[]{9, 9, 2, 1, 0}) {
+            List<Integer> table = new ArrayList<>();
+
+            for (int seat = 0; seat < size; seat++) {
+                table.add(player++);
+            }
+
+            tables.add(table);
+        }
+
+        TournamentSimulator.rebalance(tables, 9);
+
+        assertEquals(List.of(7, 7, 7), tables.stream().map(List::size).toList(), "21 players fit at three tables.");
+        assertEquals(IntStream.range(0, 21).boxed().toList(),
+                tables.stream().flatMap(List::stream).sorted().toList(), "Nobody got lost.");
+
+        List<List<Integer>> lastTwo = new ArrayList<>(List.of(new ArrayList<>(List.of(1)),
+                new ArrayList<>(List.of(2))));
+        TournamentSimulator.rebalance(lastTwo, 9);
+        assertEquals(1, lastTwo.size(), "Heads-up at a single table.");
+
+        List<List<Integer>> none = new ArrayList<>(Collections.singletonList(new ArrayList<>()));
+        TournamentSimulator.rebalance(none, 9);
+        assertTrue(none.isEmpty(), "No tables for no players.");
+    }
+
+    /**
+     * invalidSetupsAreRejected
+     */
+    @Test
+    void invalidSetupsAreRejected() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new TournamentStructure(GameVariant.FIVE_CARD, 100, 11, 1_000, 10, 5),
+                "Eleven five-card hands take more than a deck.");
+        assertThrows(IllegalArgumentException.class,
+                () -> new TournamentStructure(GameVariant.TEXAS_HOLDEM, 1, 9, 1_000, 10, 5), "One entrant.");
+        assertThrows(IllegalArgumentException.class,
+                () -> new TournamentStructure(GameVariant.TEXAS_HOLDEM, 100_000, 9, 100_000, 10, 5),
+                "More chips than a stack holds.");
+        assertThrows(IllegalArgumentException.class, () -> new TournamentSimulator(0, new Random()), "No threads.");
+        assertEquals(10, TournamentStructure.of(GameVariant.OMAHA, 20).anteOf(0) / 10,
+                "The default ante is a hundredth of the stack.");
+    }
+}
@@ -0,0 +1,77 @@
+package com.yotilla.poker.util;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Description:
+ *
+ * <br>
+ * Date: 19.10.2026
+ *
+ * @author Manuel
+ *
+ */
+class ConsoleSinkTest {
+    private final ByteArrayOutputStream captured = new ByteArrayOutputStream();
+    private PrintStream originalOut;
+
+    /**
+     * Capture standard out.
+     */
+    @BeforeEach
+    void setUp() {
+        originalOut = System.out;
+        System.setOut(new PrintStream(captured, false, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Restore standard out.
+     */
+    @AfterEach
+    void tearDown() {
+        System.setOut(originalOut);
+    }
+
+    /**
+     * outputIsBufferedUntilFlushed
+     *
+     * @throws IOException error case
+     */
+    @Test
+    void outputIsBufferedUntilFlushed() throws IOException {
+        ConsoleSink sut = new ConsoleSink();
+
+        sut.append("Player 1").append(' ').write("wins.");
+        assertEquals(0, captured.size(), "Nothing is handed on before the buffer is flushed.");
+
+        sut.flush();
+        assertEquals("Player 1 wins.", captured.toString(StandardCharsets.UTF_8), "Everything after the flush.");
+    }
+
+    /**
+     * closeKeepsStandardOutOpen
+     *
+     * @throws IOException error case
+     */
+    @Test
+    void closeKeepsStandardOutOpen() throws IOException {
+        try (ConsoleSink sut = new ConsoleSink(4)) {
+            sut.write("Board:\t");
+            sut.write('A');
+        }
+
+        System.out.print("S");
+        System.out.flush();
+
+        assertEquals("Board:\tAS", captured.toString(StandardCharsets.UTF_8), "Standard out still works.");
+    }
+}